@@ -0,0 +1,102 @@
+/**
+ * @file: NochesHabitacionInicializador.java
+ * @author: (c) 2026 MARCO
+ * @created: 18 oct. 2026 11:40:26
+ */
+package com.equipo02.hotel.config;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.equipo02.hotel.repositories.NocheHabitacionRepository;
+import com.equipo02.hotel.repositories.OcupacionHabitacion;
+import com.equipo02.hotel.repositories.ReservaRepository;
+import com.equipo02.hotel.util.Fechas;
+
+/**
+ * Completa la tabla noche_habitacion con las asignaciones que ya existían en habitacion_reserva
+ * antes de que se introdujera la tabla. Solo actúa cuando la tabla está vacía, y solo ocupa las noches
+ * de las reservas activas.
+ *
+ * Si los datos antiguos tienen reservas superpuestas, se conserva la primera fila insertada
+ * (INSERT IGNORE) y el resto queda registrado en el log.
+ */
+@Component
+public class NochesHabitacionInicializador {
+
+    private static final Logger log = LoggerFactory.getLogger(NochesHabitacionInicializador.class);
+
+    private static final int TAMANO_LOTE = 1000;
+
+    @Autowired
+    private NocheHabitacionRepository nocheHabitacionRepository;
+
+    @Autowired
+    private ReservaRepository reservaRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Rellena noche_habitacion al iniciar la aplicación si todavía no tiene filas.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void completarNoches() {
+        if (nocheHabitacionRepository.count() > 0) {
+            return;
+        }
+        List<Object[]> noches = transactionTemplate.execute(status -> leerNoches());
+        if (noches == null || noches.isEmpty()) {
+            return;
+        }
+        int insertadas = 0;
+        for (int i = 0; i < noches.size(); i += TAMANO_LOTE) {
+            int[] resultado = jdbcTemplate.batchUpdate(
+                    "INSERT IGNORE INTO noche_habitacion (id_habitacion, noche, id_reserva) VALUES (?, ?, ?)",
+                    noches.subList(i, Math.min(i + TAMANO_LOTE, noches.size())));
+            for (int filas : resultado) {
+                insertadas += Math.max(filas, 0);
+            }
+        }
+        if (insertadas < noches.size()) {
+            log.warn("noche_habitacion: {} noches descartadas por reservas superpuestas en los datos existentes",
+                    noches.size() - insertadas);
+        }
+        log.info("noche_habitacion completada con {} noches", insertadas);
+    }
+
+    private List<Object[]> leerNoches() {
+        List<Object[]> noches = new ArrayList<>();
+        try (Stream<OcupacionHabitacion> ocupaciones = reservaRepository.listarOcupaciones()) {
+            ocupaciones.forEach(ocupacion -> {
+                if (ocupacion.getFechaInicio() == null || ocupacion.getFechaFin() == null) {
+                    return;
+                }
+                LocalDate llegada = Fechas.aLocalDate(ocupacion.getFechaInicio());
+                LocalDate salida = Fechas.aLocalDate(ocupacion.getFechaFin());
+                if (!salida.isAfter(llegada)) {
+                    salida = llegada.plusDays(1);
+                }
+                for (LocalDate noche = llegada; noche.isBefore(salida); noche = noche.plusDays(1)) {
+                    noches.add(new Object[] { ocupacion.getIdHabitacion(), java.sql.Date.valueOf(noche),
+                            ocupacion.getIdReserva() });
+                }
+            });
+        }
+        return noches;
+    }
+}
@@ -0,0 +1,42 @@
+/**
+ * @file: SecuenciasInicializador.java
+ * @author: (c) 2026 MARCO
+ * @created: 18 oct. 2026 15:02:37
+ */
+package com.equipo02.hotel.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.equipo02.hotel.domain.Reserva;
+
+/**
+ * Alinea la secuencia reserva_seq con los ids ya existentes en la tabla reserva.
+ *
+ * Las reservas creadas cuando el id era IDENTITY ocupan ids que la secuencia todavía no conoce.
+ * Se ejecuta al terminar de crear los beans, antes de que el servidor acepte peticiones.
+ * SETVAL no retrocede una secuencia, así que es seguro ejecutarlo en cada arranque.
+ */
+@Component
+public class SecuenciasInicializador implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(SecuenciasInicializador.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Long maximo = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id_reserva), 0) FROM reserva", Long.class);
+        if (maximo == null || maximo == 0) {
+            return;
+        }
+        // Hibernate usa los ids (valor - IDS_POR_BLOQUE, valor], así que el siguiente valor debe superar maximo + IDS_POR_BLOQUE.
+        jdbcTemplate.queryForObject("SELECT SETVAL(reserva_seq, ?)", Long.class, maximo + Reserva.IDS_POR_BLOQUE);
+        log.info("reserva_seq alineada con el id máximo {}", maximo);
+    }
+}
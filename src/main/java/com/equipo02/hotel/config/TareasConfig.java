@@ -0,0 +1,77 @@
+/**
+ * @file: TareasConfig.java
+ * @author: (c)2026 Cueva
+ * @created: 18 oct 2026, 17:12:09
+ */
+package com.equipo02.hotel.config;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Habilita las tareas programadas con @Scheduled, como el vencimiento de los bloqueos de habitaciones,
+ * y define el ejecutor con el que algunos servicios lanzan en paralelo consultas independientes.
+ *
+ * Spring Boot solo crea su ejecutor de aplicación si no hay ningún otro Executor, así que aquí se
+ * declara de forma explícita; sin él las respuestas asíncronas de Spring MVC, como las exportaciones
+ * y los lotes de cotización en streaming, usarían un hilo nuevo por petición.
+ */
+@Configuration
+@EnableScheduling
+public class TareasConfig {
+
+	/**
+	 * Ejecutor para consultas independientes de una misma petición. Tiene pocos hilos, menos que las
+	 * conexiones del pool, y si la cola se llena la consulta se ejecuta en el hilo que la pide.
+	 *
+	 * @return El ejecutor de consultas.
+	 */
+	@Bean
+	public Executor consultasExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(4);
+		executor.setMaxPoolSize(4);
+		executor.setQueueCapacity(200);
+		executor.setThreadNamePrefix("consultas-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.initialize();
+		return executor;
+	}
+
+	/**
+	 * Pool en el que se calculan en paralelo los bloques de los lotes de cotización, con un hilo por
+	 * procesador. Separado del pool común para que los lotes no compitan con otros usos de los streams
+	 * paralelos y para que varios lotes a la vez no ocupen más hilos que procesadores.
+	 *
+	 * @return El pool de cotizaciones.
+	 */
+	@Bean
+	public ForkJoinPool cotizacionesPool() {
+		return new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Ejecutor de aplicación de Spring Boot, el que usan las peticiones asíncronas de Spring MVC y
+	 * los métodos @Async. Se construye con las propiedades spring.task.execution.*, con un número
+	 * fijo de hilos.
+	 *
+	 * @param builder El constructor configurado por Spring Boot.
+	 * @return El ejecutor de aplicación.
+	 */
+	@Lazy
+	@Bean(name = { TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+			AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME })
+	public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+		return builder.build();
+	}
+}
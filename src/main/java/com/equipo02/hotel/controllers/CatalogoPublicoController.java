@@ -0,0 +1,59 @@
+/**
+ * @file: CatalogoPublicoController.java
+ * @author: (c)2026 Cueva
+ * @created: 19 oct 2026, 00:34:08
+ */
+package com.equipo02.hotel.controllers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.equipo02.hotel.services.InstantaneaCatalogoService;
+import com.equipo02.hotel.util.InstantaneaCatalogo;
+
+/**
+ * Controlador REST del catálogo público de habitaciones, accesible sin autenticación.
+ * Sirve los bytes ya serializados de la instantánea, sin mapear ni serializar en cada petición.
+ */
+@RestController
+@RequestMapping(value = "/api/publico/habitaciones", headers = "Api-Version=1")
+public class CatalogoPublicoController {
+
+	@Autowired
+	private InstantaneaCatalogoService instantaneaCatalogoService;
+
+	/**
+	 * Devuelve el catálogo de habitaciones. Responde 304 si el cliente ya tiene la versión vigente
+	 * y envía la versión comprimida si el cliente acepta gzip.
+	 *
+	 * @param ifNoneMatch Cabecera If-None-Match de la petición.
+	 * @param acceptEncoding Cabecera Accept-Encoding de la petición.
+	 * @return ResponseEntity con el JSON del catálogo.
+	 */
+	@GetMapping
+	public ResponseEntity<byte[]> obtenerCatalogo(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+			@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+		InstantaneaCatalogo instantanea = instantaneaCatalogoService.actual();
+		boolean vigente = instantanea.coincide(ifNoneMatch);
+		ResponseEntity.BodyBuilder respuesta = ResponseEntity.status(vigente ? HttpStatus.NOT_MODIFIED : HttpStatus.OK)
+				.eTag(instantanea.getEtag())
+				.cacheControl(CacheControl.noCache().cachePublic())
+				.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+		if (vigente) {
+			return respuesta.build();
+		}
+		respuesta.contentType(MediaType.APPLICATION_JSON);
+		if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+			return respuesta.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(instantanea.getGzip());
+		}
+		return respuesta.body(instantanea.getJson());
+	}
+}
@@ -0,0 +1,57 @@
+/**
+ * @file: CotizacionController.java
+ * @author: (c)2026 Cueva
+ * @created: 18 oct 2026, 19:58:03
+ */
+package com.equipo02.hotel.controllers;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.equipo02.hotel.dto.SolicitudCotizacionDTO;
+import com.equipo02.hotel.exception.BadRequestException;
+import com.equipo02.hotel.services.TarifaService;
+import com.equipo02.hotel.util.FormatoExportacion;
+
+/**
+ * Controlador REST para cotizar lotes de estadías, pensado para los canales de venta.
+ */
+@RestController
+@RequestMapping(value = "/api/cotizaciones", headers = "Api-Version=1")
+public class CotizacionController {
+
+	/**
+	 * Número máximo de combinaciones por lote.
+	 */
+	private static final int LOTE_MAXIMO = 50_000;
+
+	@Autowired
+	private TarifaService tarifaService;
+
+	/**
+	 * Cotiza un lote de combinaciones de tipo de habitación y fechas.
+	 * La respuesta es NDJSON, una fila por combinación en el mismo orden del lote, y se escribe
+	 * en streaming a medida que se calculan los bloques.
+	 *
+	 * @param solicitudes Array JSON de combinaciones.
+	 * @return ResponseEntity con el cuerpo en streaming.
+	 * @throws BadRequestException si el lote está vacío o supera el máximo.
+	 */
+	@PostMapping("/lote")
+	public ResponseEntity<StreamingResponseBody> cotizarLote(@RequestBody List<SolicitudCotizacionDTO> solicitudes) {
+		if (solicitudes.isEmpty() || solicitudes.size() > LOTE_MAXIMO) {
+			throw new BadRequestException("El lote debe tener entre 1 y " + LOTE_MAXIMO + " combinaciones");
+		}
+		return ResponseEntity.ok()
+				.contentType(MediaType.parseMediaType(FormatoExportacion.NDJSON.getContentType()))
+				.body(salida -> tarifaService.cotizarLote(solicitudes, salida));
+	}
+}
@@ -9,6 +9,7 @@ import com.equipo02.hotel.domain.Habitacion;
 import com.equipo02.hotel.exception.BadRequestException;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
@@ -20,15 +21,18 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import com.equipo02.hotel.domain.Empleado;
 import com.equipo02.hotel.domain.Reserva;
 import com.equipo02.hotel.dto.EmpleadoDTO;
+import com.equipo02.hotel.dto.PaginaDTO;
 import com.equipo02.hotel.dto.ReservaDTO;
 import com.equipo02.hotel.exception.EntityNotFoundException;
 import com.equipo02.hotel.exception.IllegalOperationException;
 import com.equipo02.hotel.services.EmpleadoService;
 import com.equipo02.hotel.util.ApiResponse;
+import com.equipo02.hotel.util.Paginacion;
 
 import jakarta.validation.Valid;
 
@@ -49,14 +53,17 @@ public class EmpleadoController {
 	private ModelMapper modelMapper;
 	
 	 /**
-     * Método para obtener una lista de todas los empleados.
+     * Método para obtener una página de empleados ordenados por ID.
      * 
-     * @return ResponseEntity que contiene una ApiResponse. La ApiResponse incluye una lista de EmpleadoDTO.
+     * @param cursor El ID del último empleado de la página anterior (0 para la primera página).
+     * @param limit El tamaño de la página.
+     * @return ResponseEntity que contiene una ApiResponse. La ApiResponse incluye una PaginaDTO de EmpleadoDTO.
      * @throws EntityNotFoundException si no se encuentran empleados.
      */
 	@GetMapping
-	public ResponseEntity<?> obtenerTodos() throws EntityNotFoundException {
-		List<Empleado> empleados = empleadoService.listarEmpleados();
+	public ResponseEntity<?> obtenerTodos(@RequestParam(defaultValue = Paginacion.CURSOR_INICIAL) Long cursor,
+			@RequestParam(defaultValue = Paginacion.LIMITE_POR_DEFECTO) int limit) throws EntityNotFoundException {
+		Slice<Empleado> empleados = empleadoService.listarEmpleados(cursor, limit);
 		List<EmpleadoDTO> empleadoDTOS = empleados.stream().map(empleado -> modelMapper.map(empleado, EmpleadoDTO.class)).collect(Collectors.toList());
 
 		for (EmpleadoDTO empleadoDTO : empleadoDTOS) {
@@ -68,7 +75,8 @@ public class EmpleadoController {
 				}
 			}
 		}
-		ApiResponse<List<EmpleadoDTO>> response = new ApiResponse<>(true, "Lista de empleados obtenida con éxito.", empleadoDTOS);
+		PaginaDTO<EmpleadoDTO> pagina = Paginacion.aPagina(empleados, empleadoDTOS, Empleado::getIdEmpleado);
+		ApiResponse<PaginaDTO<EmpleadoDTO>> response = new ApiResponse<>(true, "Lista de empleados obtenida con éxito.", pagina);
 		return ResponseEntity.ok(response);
 	}
 	
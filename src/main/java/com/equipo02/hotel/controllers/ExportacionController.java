@@ -0,0 +1,75 @@
+/**
+ * @file: ExportacionController.java
+ * @author: (c) 2026 MARCO
+ * @created: 18 oct. 2026 14:38:10
+ */
+package com.equipo02.hotel.controllers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.equipo02.hotel.services.ExportacionService;
+import com.equipo02.hotel.util.FormatoExportacion;
+
+/**
+ * Controlador REST que exporta tablas completas en NDJSON o CSV.
+ * La respuesta se escribe en streaming mientras se leen las filas, sin construir la lista completa.
+ */
+@RestController
+@RequestMapping(value = "/api/export", headers = "Api-Version=1")
+public class ExportacionController {
+
+	@Autowired
+	private ExportacionService exportacionService;
+
+	/**
+	 * Exporta todas las reservas con los ids de su huésped, empleado y habitaciones.
+	 *
+	 * @param formato "ndjson" (por defecto) o "csv".
+	 * @return ResponseEntity con el cuerpo en streaming.
+	 */
+	@GetMapping("/reservas")
+	public ResponseEntity<StreamingResponseBody> exportarReservas(@RequestParam(defaultValue = "ndjson") String formato) {
+		FormatoExportacion tipo = FormatoExportacion.de(formato);
+		return respuesta("reservas", tipo, salida -> exportacionService.exportarReservas(salida, tipo));
+	}
+
+	/**
+	 * Exporta todos los huéspedes con el id de su aval.
+	 *
+	 * @param formato "ndjson" (por defecto) o "csv".
+	 * @return ResponseEntity con el cuerpo en streaming.
+	 */
+	@GetMapping("/huespedes")
+	public ResponseEntity<StreamingResponseBody> exportarHuespedes(@RequestParam(defaultValue = "ndjson") String formato) {
+		FormatoExportacion tipo = FormatoExportacion.de(formato);
+		return respuesta("huespedes", tipo, salida -> exportacionService.exportarHuespedes(salida, tipo));
+	}
+
+	/**
+	 * Exporta todas las habitaciones.
+	 *
+	 * @param formato "ndjson" (por defecto) o "csv".
+	 * @return ResponseEntity con el cuerpo en streaming.
+	 */
+	@GetMapping("/habitaciones")
+	public ResponseEntity<StreamingResponseBody> exportarHabitaciones(@RequestParam(defaultValue = "ndjson") String formato) {
+		FormatoExportacion tipo = FormatoExportacion.de(formato);
+		return respuesta("habitaciones", tipo, salida -> exportacionService.exportarHabitaciones(salida, tipo));
+	}
+
+	private ResponseEntity<StreamingResponseBody> respuesta(String nombre, FormatoExportacion formato,
+			StreamingResponseBody cuerpo) {
+		return ResponseEntity.ok()
+				.contentType(MediaType.parseMediaType(formato.getContentType()))
+				.header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + nombre + "." + formato.getExtension() + "\"")
+				.body(cuerpo);
+	}
+}
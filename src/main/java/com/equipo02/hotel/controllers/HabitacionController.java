@@ -7,6 +7,8 @@
  */
 package com.equipo02.hotel.controllers;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -14,6 +16,8 @@ import java.util.stream.Collectors;
 
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
@@ -25,17 +29,31 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.equipo02.hotel.domain.Habitacion;
 import com.equipo02.hotel.domain.Reserva;
+import com.equipo02.hotel.dto.BloqueoDTO;
+import com.equipo02.hotel.dto.BusquedaHabitacionesDTO;
+import com.equipo02.hotel.dto.ConfirmacionBloqueoDTO;
+import com.equipo02.hotel.dto.CotizacionDTO;
 import com.equipo02.hotel.dto.HabitacionDTO;
+import com.equipo02.hotel.dto.HabitacionDisponibleDTO;
+import com.equipo02.hotel.dto.PaginaDTO;
 import com.equipo02.hotel.dto.ReservaDTO;
 import com.equipo02.hotel.exception.BadRequestException;
 import com.equipo02.hotel.exception.EntityNotFoundException;
 import com.equipo02.hotel.exception.IllegalOperationException;
+import com.equipo02.hotel.services.BloqueoService;
+import com.equipo02.hotel.services.CatalogoHabitacionService;
+import com.equipo02.hotel.services.DisponibilidadService;
 import com.equipo02.hotel.services.HabitacionService;
+import com.equipo02.hotel.services.InventarioTipoService;
+import com.equipo02.hotel.services.TarifaService;
 import com.equipo02.hotel.util.ApiResponse;
+import com.equipo02.hotel.util.Fechas;
+import com.equipo02.hotel.util.Paginacion;
 
 import jakarta.validation.Valid;
 
@@ -52,18 +70,42 @@ public class HabitacionController {
 	@Autowired
 	private HabitacionService habitacionService;
 	
+    @Autowired
+    private DisponibilidadService disponibilidadService;
+
+    @Autowired
+    private BloqueoService bloqueoService;
+
+    @Autowired
+    private TarifaService tarifaService;
+
+    @Autowired
+    private InventarioTipoService inventarioTipoService;
+
+    @Autowired
+    private CatalogoHabitacionService catalogoHabitacionService;
+	
     @Autowired
     private ModelMapper modelMapper;
 
     /**
-     * Método para obtener una lista de todas las habitaciones.
+     * Método para obtener una página de habitaciones ordenadas por id.
      * 
-     * @return ResponseEntity que contiene una ApiResponse. La ApiResponse incluye una lista de HabitacionDTO.
+     * @param cursor Id de la última habitación de la página anterior (0 para la primera página).
+     * @param limit Tamaño de la página.
+     * @param tipo Tipo de habitación (opcional).
+     * @param precioMin Precio mínimo por noche (opcional).
+     * @param precioMax Precio máximo por noche (opcional).
+     * @return ResponseEntity que contiene una ApiResponse. La ApiResponse incluye una PaginaDTO de HabitacionDTO.
      * @throws EntityNotFoundException si no se encuentran habitaciones.
      */
     @GetMapping
-	public ResponseEntity<?> listarTodos() throws EntityNotFoundException{
-		List<Habitacion> habitaciones = habitacionService.listarTodos();
+	public ResponseEntity<?> listarTodos(@RequestParam(defaultValue = Paginacion.CURSOR_INICIAL) Long cursor,
+			@RequestParam(defaultValue = Paginacion.LIMITE_POR_DEFECTO) int limit,
+			@RequestParam(required = false) String tipo,
+			@RequestParam(required = false) BigDecimal precioMin,
+			@RequestParam(required = false) BigDecimal precioMax) throws EntityNotFoundException{
+		Slice<Habitacion> habitaciones = habitacionService.listarTodos(cursor, limit, tipo, precioMin, precioMax);
 		List<HabitacionDTO> habitacionesDTOs = habitaciones.stream().map(habitacion -> modelMapper.map(habitacion, HabitacionDTO.class)).collect(Collectors.toList());
         for (HabitacionDTO habitacionDTO : habitacionesDTOs) {
             if (!habitacionDTO.getReservas().isEmpty()) {
@@ -73,9 +115,103 @@ public class HabitacionController {
                 }
             }
         }
-        ApiResponse<List<HabitacionDTO>> response = new ApiResponse<>(true, "Lista de habitaciones obtenida con éxito.", habitacionesDTOs);
+        PaginaDTO<HabitacionDTO> pagina = Paginacion.aPagina(habitaciones, habitacionesDTOs, Habitacion::getIdHabitacion);
+        ApiResponse<PaginaDTO<HabitacionDTO>> response = new ApiResponse<>(true, "Lista de habitaciones obtenida con éxito.", pagina);
 		return ResponseEntity.ok(response);
 	}
+    /**
+     * Método para buscar las habitaciones libres en un rango de fechas.
+     * La consulta se resuelve sobre el índice de disponibilidad en memoria, sin acceder a la base de datos.
+     * 
+     * @param desde Fecha de llegada (inclusive).
+     * @param hasta Fecha de salida (exclusive).
+     * @param tipo Tipo de habitación a filtrar (opcional).
+     * @return ResponseEntity que contiene una ApiResponse con la lista de habitaciones disponibles.
+     * @throws BadRequestException si la fecha de salida no es posterior a la de llegada.
+     */
+    @GetMapping("/disponibles")
+    public ResponseEntity<?> buscarDisponibles(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde,
+    		@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hasta,
+    		@RequestParam(required = false) String tipo) throws BadRequestException {
+    	if (!hasta.isAfter(desde)) {
+    		throw new BadRequestException("La fecha de salida debe ser posterior a la fecha de llegada");
+    	}
+    	List<HabitacionDisponibleDTO> disponibles = disponibilidadService.buscarDisponibles(desde, hasta, tipo);
+    	ApiResponse<List<HabitacionDisponibleDTO>> response = new ApiResponse<>(true, "Habitaciones disponibles obtenidas con éxito.", disponibles);
+    	return ResponseEntity.ok(response);
+    }
+    /**
+     * Método para consultar cuántas habitaciones de un tipo quedan por vender en un rango de fechas.
+     * Se lee de los contadores por tipo y noche, sin recorrer las habitaciones.
+     *
+     * @param tipo Tipo de habitación.
+     * @param desde Fecha de llegada (inclusive).
+     * @param hasta Fecha de salida (exclusive).
+     * @return ResponseEntity que contiene una ApiResponse con el cupo del tipo.
+     * @throws BadRequestException si la fecha de salida no es posterior a la de llegada.
+     */
+    @GetMapping("/cupo")
+    public ResponseEntity<?> consultarCupo(@RequestParam String tipo,
+    		@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde,
+    		@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hasta) throws BadRequestException {
+    	if (!hasta.isAfter(desde)) {
+    		throw new BadRequestException("La fecha de salida debe ser posterior a la fecha de llegada");
+    	}
+    	int cupo = inventarioTipoService.disponibles(tipo, Fechas.aDia(desde), Fechas.aDia(hasta));
+    	ApiResponse<Integer> response = new ApiResponse<>(true, "Cupo obtenido con éxito.", cupo);
+    	return ResponseEntity.ok(response);
+    }
+    /**
+     * Método para buscar habitaciones en el catálogo por tipo, rango de precio, disponibilidad y texto de la descripción.
+     * La búsqueda se resuelve sobre el índice del catálogo en memoria e incluye los conteos por faceta.
+     * 
+     * @param tipo Tipo de habitación (opcional).
+     * @param precioMin Precio mínimo por noche (opcional).
+     * @param precioMax Precio máximo por noche (opcional).
+     * @param disponible Disponibilidad (opcional).
+     * @param q Términos que debe contener la descripción (opcional).
+     * @param cursor Id de la última habitación de la página anterior (0 para la primera página).
+     * @param limit Tamaño de la página.
+     * @return ResponseEntity que contiene una ApiResponse con la página y las facetas.
+     */
+    @GetMapping("/buscar")
+    public ResponseEntity<?> buscar(@RequestParam(required = false) String tipo,
+    		@RequestParam(required = false) BigDecimal precioMin,
+    		@RequestParam(required = false) BigDecimal precioMax,
+    		@RequestParam(required = false) Boolean disponible,
+    		@RequestParam(required = false) String q,
+    		@RequestParam(defaultValue = Paginacion.CURSOR_INICIAL) Long cursor,
+    		@RequestParam(defaultValue = Paginacion.LIMITE_POR_DEFECTO) int limit) {
+    	BusquedaHabitacionesDTO busqueda = catalogoHabitacionService.buscar(tipo, precioMin, precioMax, disponible, q, cursor, limit);
+    	ApiResponse<BusquedaHabitacionesDTO> response = new ApiResponse<>(true, "Búsqueda de habitaciones realizada con éxito.", busqueda);
+    	return ResponseEntity.ok(response);
+    }
+    /**
+     * Método para cotizar una estadía en una habitación.
+     * El precio se calcula en memoria con el calendario de precios de la habitación y sus reglas de tarifa.
+     * 
+     * @param id El ID de la habitación.
+     * @param desde Fecha de llegada (inclusive).
+     * @param hasta Fecha de salida (exclusive).
+     * @return ResponseEntity que contiene una ApiResponse con la cotización.
+     * @throws EntityNotFoundException si la habitación no existe.
+     * @throws BadRequestException si la fecha de salida no es posterior a la de llegada o la estancia
+     *         supera el máximo de noches.
+     */
+    @GetMapping("/{id}/cotizacion")
+    public ResponseEntity<?> cotizar(@PathVariable Long id,
+    		@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde,
+    		@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hasta) throws EntityNotFoundException {
+    	if (!hasta.isAfter(desde)) {
+    		throw new BadRequestException("La fecha de salida debe ser posterior a la fecha de llegada");
+    	}
+    	if (hasta.toEpochDay() - desde.toEpochDay() > Reserva.MAX_NOCHES) {
+    		throw new BadRequestException("La estancia no puede superar " + Reserva.MAX_NOCHES + " noches");
+    	}
+    	CotizacionDTO cotizacion = tarifaService.cotizar(id, desde, hasta);
+    	ApiResponse<CotizacionDTO> response = new ApiResponse<>(true, "Cotización obtenida con éxito.", cotizacion);
+    	return ResponseEntity.ok(response);
+    }
     /**
      * Método para obtener los detalles de una habitación específica por su ID.
      * 
@@ -181,20 +317,118 @@ public class HabitacionController {
     }
 
     /**
-     * Obtiene todas las reservas de una habitación.
+     * Obtiene una página de las reservas de una habitación, paginadas por id de reserva.
      *
      * @param idHabitacion El id de la habitación.
-     * @return ResponseEntity con la lista de reservas de la habitación y un mensaje de éxito.
+     * @param cursor Id de la última reserva de la página anterior (0 para la primera página).
+     * @param limit Tamaño de la página.
+     * @param desde Solo reservas que terminan después de esta fecha (opcional).
+     * @param hasta Solo reservas que empiezan antes de esta fecha (opcional).
+     * @param orden "asc" (por defecto) o "desc".
+     * @return ResponseEntity con la página de reservas de la habitación y un mensaje de éxito.
      * @throws EntityNotFoundException Si la habitación no se encuentra.
+     * @throws BadRequestException si el orden no es válido.
      */
     @GetMapping("/{idHabitacion}/reservas")
-    public ResponseEntity<?> obtenerReservasDeHabitaciones(@PathVariable Long idHabitacion) throws EntityNotFoundException {
-        List<Reserva> reservas = habitacionService.obtenerReservasDeHabitaciones(idHabitacion);
+    public ResponseEntity<?> obtenerReservasDeHabitaciones(@PathVariable Long idHabitacion,
+    		@RequestParam(defaultValue = Paginacion.CURSOR_INICIAL) Long cursor,
+    		@RequestParam(defaultValue = Paginacion.LIMITE_POR_DEFECTO) int limit,
+    		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde,
+    		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hasta,
+    		@RequestParam(defaultValue = "asc") String orden) throws EntityNotFoundException {
+        if (!"asc".equalsIgnoreCase(orden) && !"desc".equalsIgnoreCase(orden)) {
+            throw new BadRequestException("El parámetro orden debe ser asc o desc");
+        }
+        Slice<Reserva> reservas = habitacionService.listarReservasDeHabitacion(idHabitacion, cursor, limit, desde, hasta,
+        		"desc".equalsIgnoreCase(orden));
         List<ReservaDTO> reservasDTOs = reservas.stream().map(reserva -> modelMapper.map(reserva, ReservaDTO.class)).collect(Collectors.toList());
-        ApiResponse<List<ReservaDTO>> response = new ApiResponse<>(true, "Lista de reservas obtenida con éxito.", reservasDTOs);
+        PaginaDTO<ReservaDTO> pagina = Paginacion.aPagina(reservas, reservasDTOs, Reserva::getIdReserva);
+        ApiResponse<PaginaDTO<ReservaDTO>> response = new ApiResponse<>(true, "Lista de reservas obtenida con éxito.", pagina);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Cuenta las reservas de una habitación con los mismos filtros de fechas que el listado.
+     *
+     * @param idHabitacion El id de la habitación.
+     * @param desde Solo reservas que terminan después de esta fecha (opcional).
+     * @param hasta Solo reservas que empiezan antes de esta fecha (opcional).
+     * @return ResponseEntity con el número de reservas.
+     * @throws EntityNotFoundException Si la habitación no se encuentra.
+     */
+    @GetMapping("/{idHabitacion}/reservas/total")
+    public ResponseEntity<?> contarReservasDeHabitacion(@PathVariable Long idHabitacion,
+    		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde,
+    		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hasta) throws EntityNotFoundException {
+        long total = habitacionService.contarReservasDeHabitacion(idHabitacion, desde, hasta);
+        ApiResponse<Long> response = new ApiResponse<>(true, "Número de reservas obtenido con éxito.", total);
         return ResponseEntity.ok(response);
     }
     
+    /**
+     * Bloquea una habitación durante unos minutos mientras se completa una reserva.
+     * El bloqueo se guarda solo en memoria y vence solo si no se confirma.
+     *
+     * @param id El ID de la habitación.
+     * @param desde Fecha de llegada (inclusive).
+     * @param hasta Fecha de salida (exclusive).
+     * @return ResponseEntity con el bloqueo creado y su vencimiento.
+     * @throws EntityNotFoundException si la habitación no existe.
+     * @throws IllegalOperationException si la habitación no está libre en esas fechas.
+     */
+    @PostMapping("/{id}/holds")
+    public ResponseEntity<?> bloquear(@PathVariable Long id,
+    		@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde,
+    		@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hasta)
+    		throws EntityNotFoundException, IllegalOperationException {
+    	if (!hasta.isAfter(desde)) {
+    		throw new BadRequestException("La fecha de salida debe ser posterior a la fecha de llegada");
+    	}
+    	BloqueoDTO bloqueo = bloqueoService.bloquear(id, desde, hasta);
+    	bloqueo.add(linkTo(HabitacionController.class).slash(id).slash("holds").slash(bloqueo.getIdBloqueo()).withSelfRel());
+    	ApiResponse<BloqueoDTO> response = new ApiResponse<>(true, "Habitación bloqueada con éxito.", bloqueo);
+    	return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * Libera un bloqueo antes de que venza.
+     *
+     * @param id El ID de la habitación.
+     * @param idBloqueo El ID del bloqueo.
+     * @return ResponseEntity con un mensaje de éxito.
+     * @throws EntityNotFoundException si el bloqueo no existe o ya venció.
+     */
+    @DeleteMapping("/{id}/holds/{idBloqueo}")
+    public ResponseEntity<?> liberarBloqueo(@PathVariable Long id, @PathVariable long idBloqueo) throws EntityNotFoundException {
+    	bloqueoService.liberar(id, idBloqueo);
+    	ApiResponse<String> response = new ApiResponse<>(true, "Bloqueo liberado con éxito.", null);
+    	return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Convierte un bloqueo en una reserva con las mismas fechas y habitación.
+     *
+     * @param id El ID de la habitación.
+     * @param idBloqueo El ID del bloqueo.
+     * @param confirmacionDTO El huésped y el empleado de la reserva.
+     * @return ResponseEntity con la reserva creada.
+     * @throws EntityNotFoundException si el bloqueo no existe o ya venció.
+     * @throws IllegalOperationException si la reserva no puede guardarse.
+     */
+    @PostMapping("/{id}/holds/{idBloqueo}/confirmar")
+    public ResponseEntity<?> confirmarBloqueo(@PathVariable Long id, @PathVariable long idBloqueo,
+    		@Valid @RequestBody ConfirmacionBloqueoDTO confirmacionDTO, BindingResult result)
+    		throws EntityNotFoundException, IllegalOperationException {
+    	if (result.hasErrors()) {
+    		return validar(result);
+    	}
+    	Reserva reserva = bloqueoService.confirmar(id, idBloqueo, confirmacionDTO.getIdHuesped(), confirmacionDTO.getIdEmpleado());
+    	ReservaDTO reservaDTO = modelMapper.map(reserva, ReservaDTO.class);
+    	reservaDTO.add(linkTo(ReservaController.class).slash(reserva.getIdReserva()).withSelfRel());
+    	ApiResponse<ReservaDTO> response = new ApiResponse<>(true, "Reserva confirmada con éxito.", reservaDTO);
+    	return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
     /**
      * Método para validar los errores de binding result.
      * @param result El objeto BindingResult que contiene los resultados de la validación.
@@ -6,6 +6,8 @@
 
 package com.equipo02.hotel.controllers;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -14,6 +16,7 @@ import java.util.stream.Collectors;
 import com.equipo02.hotel.dto.EmpleadoDTO;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
@@ -25,18 +28,31 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.equipo02.hotel.domain.Habitacion;
 import com.equipo02.hotel.domain.Huesped;
 import com.equipo02.hotel.domain.Reserva;
+import com.equipo02.hotel.dto.CadenaAvalDTO;
+import com.equipo02.hotel.dto.EstadisticaHuespedDTO;
 import com.equipo02.hotel.dto.HabitacionDTO;
+import com.equipo02.hotel.dto.HuespedBusquedaDTO;
 import com.equipo02.hotel.dto.HuespedDTO;
+import com.equipo02.hotel.dto.PaginaDTO;
+import com.equipo02.hotel.dto.PerfilHuespedDTO;
 import com.equipo02.hotel.dto.ReservaDTO;
+import com.equipo02.hotel.dto.ResultadoCargaDTO;
 import com.equipo02.hotel.exception.EntityNotFoundException;
 import com.equipo02.hotel.exception.IllegalOperationException;
+import com.equipo02.hotel.services.BusquedaHuespedService;
+import com.equipo02.hotel.services.CargaHuespedService;
+import com.equipo02.hotel.services.EstadisticaHuespedService;
+import com.equipo02.hotel.services.GrafoAvalService;
 import com.equipo02.hotel.services.HuespedService;
+import com.equipo02.hotel.services.PerfilHuespedService;
 import com.equipo02.hotel.util.ApiResponse;
+import com.equipo02.hotel.util.Paginacion;
 
 import jakarta.validation.Valid;
 
@@ -56,14 +72,32 @@ public class HuespedController {
 	@Autowired
 	private ModelMapper modelMapper;
 
+	@Autowired
+	private CargaHuespedService cargaHuespedService;
+
+	@Autowired
+	private BusquedaHuespedService busquedaHuespedService;
+
+	@Autowired
+	private GrafoAvalService grafoAvalService;
+
+	@Autowired
+	private PerfilHuespedService perfilHuespedService;
+
+	@Autowired
+	private EstadisticaHuespedService estadisticaHuespedService;
+
 	/**
-	 * Obtiene todos los huéspedes.
+	 * Obtiene una página de huéspedes ordenados por ID.
 	 *
+	 * @param cursor El ID del último huésped de la página anterior (0 para la primera página).
+	 * @param limit  El tamaño de la página.
 	 * @return Una ResponseEntity con el resultado de la operación.
 	 */
 	@GetMapping
-	public ResponseEntity<?> obtenerTodos() throws EntityNotFoundException {
-		List<Huesped> huespedes = huespedService.listarHuespedes();
+	public ResponseEntity<?> obtenerTodos(@RequestParam(defaultValue = Paginacion.CURSOR_INICIAL) Long cursor,
+			@RequestParam(defaultValue = Paginacion.LIMITE_POR_DEFECTO) int limit) throws EntityNotFoundException {
+		Slice<Huesped> huespedes = huespedService.listarHuespedes(cursor, limit);
 		List<HuespedDTO> huespedesDTOs = huespedes.stream().map(huesped -> modelMapper.map(huesped, HuespedDTO.class)).collect(Collectors.toList());
 
 		for (HuespedDTO huespedDTO : huespedesDTOs) {
@@ -80,7 +114,38 @@ public class HuespedController {
 			}
 		}
 
-		ApiResponse<List<HuespedDTO>> response = new ApiResponse<>(true, "Lista de huespedes obtenida con éxito", huespedesDTOs);
+		PaginaDTO<HuespedDTO> pagina = Paginacion.aPagina(huespedes, huespedesDTOs, Huesped::getIdHuesped);
+		ApiResponse<PaginaDTO<HuespedDTO>> response = new ApiResponse<>(true, "Lista de huespedes obtenida con éxito", pagina);
+		return ResponseEntity.ok(response);
+	}
+
+	/**
+	 * Busca huéspedes por nombre (términos parciales o con errores), teléfono, correo o DNI.
+	 *
+	 * @param q     El texto buscado, de al menos dos caracteres.
+	 * @param limit El número máximo de resultados.
+	 * @return Una ResponseEntity con los huéspedes encontrados, de mayor a menor puntuación.
+	 */
+	@GetMapping("/buscar")
+	public ResponseEntity<?> buscar(@RequestParam String q, @RequestParam(defaultValue = "20") int limit) {
+		List<HuespedBusquedaDTO> huespedes = busquedaHuespedService.buscar(q, limit);
+		ApiResponse<List<HuespedBusquedaDTO>> response = new ApiResponse<>(true, "Busqueda de huespedes realizada con éxito", huespedes);
+		return ResponseEntity.ok(response);
+	}
+
+	/**
+	 * Obtiene los huéspedes con más noches, estancias o gasto, o con la estancia más reciente.
+	 *
+	 * @param orden "noches", "estancias", "gasto" o "ultimaEstancia".
+	 * @param limit El número máximo de huéspedes.
+	 * @return Una ResponseEntity con las estadísticas de los huéspedes, de mayor a menor valor.
+	 * @throws IllegalOperationException Si las estadísticas aún se están calculando.
+	 */
+	@GetMapping("/estadisticas")
+	public ResponseEntity<?> obtenerMejores(@RequestParam(defaultValue = "gasto") String orden,
+			@RequestParam(defaultValue = "20") int limit) throws IllegalOperationException {
+		List<EstadisticaHuespedDTO> mejores = estadisticaHuespedService.mejores(orden, limit);
+		ApiResponse<List<EstadisticaHuespedDTO>> response = new ApiResponse<>(true, "Mejores huespedes obtenidos con éxito", mejores);
 		return ResponseEntity.ok(response);
 	}
 
@@ -134,6 +199,23 @@ public class HuespedController {
 		return ResponseEntity.status(HttpStatus.CREATED).body(response);
 	}
 
+	/**
+	 * Guarda en bloque los huéspedes de un CSV con cabecera (las columnas de la exportación).
+	 * El cuerpo se lee por partes; las filas inválidas o con DNI ya registrado se rechazan sin detener la carga.
+	 *
+	 * @param cuerpo CSV en UTF-8.
+	 * @return Una ResponseEntity con el número de huéspedes guardados y los errores por fila.
+	 * @throws IOException si falla la lectura del cuerpo.
+	 */
+	@PostMapping(value = "/bulk", consumes = "text/csv")
+	public ResponseEntity<?> guardarLote(InputStream cuerpo) throws IOException {
+		ResultadoCargaDTO resultado = cargaHuespedService.cargar(cuerpo);
+		boolean completa = resultado.getRechazadas() == 0;
+		ApiResponse<ResultadoCargaDTO> response = new ApiResponse<>(completa,
+				completa ? "Huespedes guardados con éxito." : "Carga terminada con filas rechazadas.", resultado);
+		return ResponseEntity.status(HttpStatus.CREATED).body(response);
+	}
+
 	/**
 	 * Actualiza un huésped por su ID.
 	 *
@@ -190,6 +272,50 @@ public class HuespedController {
 		return ResponseEntity.ok(response);
 	}
 
+	/**
+	 * Obtiene la cadena de avales de un huésped: sus avales hacia arriba y sus avalados hacia abajo.
+	 *
+	 * @param id El ID del huésped.
+	 * @return Una ResponseEntity con la cadena de avales.
+	 * @throws EntityNotFoundException   Si el huésped no puede ser encontrado.
+	 * @throws IllegalOperationException Si el grafo de avales aún se está cargando.
+	 */
+	@GetMapping("/{id}/cadena-aval")
+	public ResponseEntity<?> obtenerCadenaAval(@PathVariable Long id) throws EntityNotFoundException, IllegalOperationException {
+		CadenaAvalDTO cadena = grafoAvalService.cadena(id);
+		ApiResponse<CadenaAvalDTO> response = new ApiResponse<>(true, "Cadena de avales obtenida con éxito", cadena);
+		return ResponseEntity.ok(response);
+	}
+
+	/**
+	 * Obtiene el perfil de un huésped: sus datos, su aval y sus reservas con las habitaciones asignadas.
+	 *
+	 * @param id El ID del huésped.
+	 * @return Una ResponseEntity con el perfil del huésped.
+	 * @throws EntityNotFoundException Si el huésped no puede ser encontrado.
+	 */
+	@GetMapping("/{id}/perfil")
+	public ResponseEntity<?> obtenerPerfil(@PathVariable Long id) throws EntityNotFoundException {
+		PerfilHuespedDTO perfil = perfilHuespedService.obtenerPerfil(id);
+		ApiResponse<PerfilHuespedDTO> response = new ApiResponse<>(true, "Perfil del huesped obtenido con éxito", perfil);
+		return ResponseEntity.ok(response);
+	}
+
+	/**
+	 * Obtiene las noches, estancias, gasto y última estancia acumulados de un huésped.
+	 *
+	 * @param id El ID del huésped.
+	 * @return Una ResponseEntity con las estadísticas del huésped.
+	 * @throws EntityNotFoundException   Si el huésped no puede ser encontrado.
+	 * @throws IllegalOperationException Si las estadísticas aún se están calculando.
+	 */
+	@GetMapping("/{id}/estadisticas")
+	public ResponseEntity<?> obtenerEstadisticas(@PathVariable Long id) throws EntityNotFoundException, IllegalOperationException {
+		EstadisticaHuespedDTO estadisticas = estadisticaHuespedService.obtener(id);
+		ApiResponse<EstadisticaHuespedDTO> response = new ApiResponse<>(true, "Estadisticas del huesped obtenidas con éxito", estadisticas);
+		return ResponseEntity.ok(response);
+	}
+
 	/**
 	 * Elimina el aval de un huésped.
 	 *
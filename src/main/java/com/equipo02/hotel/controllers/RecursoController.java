@@ -8,10 +8,13 @@ package com.equipo02.hotel.controllers;
 
 import com.equipo02.hotel.domain.entity.Proveedor;
 import com.equipo02.hotel.domain.entity.Recurso;
+import com.equipo02.hotel.dto.PaginaDTO;
 import com.equipo02.hotel.services.RecursoService;
+import com.equipo02.hotel.util.Paginacion;
 import feign.FeignException;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
@@ -31,14 +34,18 @@ public class RecursoController {
     private RecursoService service;
 
     /**
-     * Método para listar todos los recursos.
-     * Este método devuelve una lista de todos los recursos registrados en el sistema.
+     * Método para listar una página de recursos.
+     * Este método devuelve los recursos con id mayor que el cursor, ordenados por id, y el enlace a la página siguiente.
      *
-     * @return Una respuesta ResponseEntity con la lista de recursos.
+     * @param cursor El ID del último recurso de la página anterior (0 para la primera página).
+     * @param limit El tamaño de la página.
+     * @return Una respuesta ResponseEntity con la página de recursos.
      */
     @GetMapping
-    public ResponseEntity<List<Recurso>> listar() {
-        return ResponseEntity.ok(service.listar());
+    public ResponseEntity<PaginaDTO<Recurso>> listar(@RequestParam(defaultValue = Paginacion.CURSOR_INICIAL) Long cursor,
+                                                     @RequestParam(defaultValue = Paginacion.LIMITE_POR_DEFECTO) int limit) {
+        Slice<Recurso> recursos = service.listar(cursor, limit);
+        return ResponseEntity.ok(Paginacion.aPagina(recursos, recursos.getContent(), Recurso::getIdRecurso));
     }
 
     /**
@@ -0,0 +1,89 @@
+/**
+ * @file: ReporteController.java
+ * @author: (c) 2026 MARCO
+ * @created: 18 oct. 2026 12:47:19
+ */
+package com.equipo02.hotel.controllers;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.equipo02.hotel.dto.EstadisticasCacheDTO;
+import com.equipo02.hotel.dto.FilaOcupacionDTO;
+import com.equipo02.hotel.exception.BadRequestException;
+import com.equipo02.hotel.services.EstadisticasCacheService;
+import com.equipo02.hotel.services.OcupacionService;
+import com.equipo02.hotel.util.ApiResponse;
+
+/**
+ * Controlador REST que expone los reportes del hotel.
+ */
+@RestController
+@RequestMapping(value = "/api/reportes", headers = "Api-Version=1")
+public class ReporteController {
+
+	/**
+	 * Rango máximo de un reporte, en días.
+	 */
+	private static final long DIAS_MAXIMOS = 3660;
+
+	@Autowired
+	private OcupacionService ocupacionService;
+
+	@Autowired
+	private List<EstadisticasCacheService> cachesConEstadisticas;
+
+	/**
+	 * Método para obtener la ocupación del hotel en un rango de fechas.
+	 * El reporte se calcula sobre los bitmaps de ocupación en memoria, sin cargar reservas.
+	 *
+	 * @param desde   Primer día del reporte (inclusive).
+	 * @param hasta   Último día del reporte (exclusive).
+	 * @param agrupar "tipo" para una fila por tipo de habitación o "dia" para una fila por día.
+	 * @return ResponseEntity que contiene una ApiResponse con las filas del reporte.
+	 * @throws BadRequestException si el rango o la agrupación no son válidos.
+	 */
+	@GetMapping("/ocupacion")
+	public ResponseEntity<?> ocupacion(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde,
+			@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hasta,
+			@RequestParam(defaultValue = "tipo") String agrupar) throws BadRequestException {
+		if (!hasta.isAfter(desde)) {
+			throw new BadRequestException("La fecha final debe ser posterior a la fecha inicial");
+		}
+		if (ChronoUnit.DAYS.between(desde, hasta) > DIAS_MAXIMOS) {
+			throw new BadRequestException("El rango del reporte no puede superar los " + DIAS_MAXIMOS + " días");
+		}
+		List<FilaOcupacionDTO> filas;
+		if ("tipo".equalsIgnoreCase(agrupar)) {
+			filas = ocupacionService.ocupacionPorTipo(desde, hasta);
+		} else if ("dia".equalsIgnoreCase(agrupar)) {
+			filas = ocupacionService.ocupacionPorDia(desde, hasta);
+		} else {
+			throw new BadRequestException("El parámetro agrupar debe ser 'tipo' o 'dia'");
+		}
+		ApiResponse<List<FilaOcupacionDTO>> response = new ApiResponse<>(true, "Reporte de ocupación obtenido con éxito.", filas);
+		return ResponseEntity.ok(response);
+	}
+
+	/**
+	 * Método para obtener los contadores de aciertos, fallos y desalojos de las cachés.
+	 *
+	 * @return ResponseEntity que contiene una ApiResponse con una entrada por caché.
+	 */
+	@GetMapping("/cache")
+	public ResponseEntity<?> cache() {
+		List<EstadisticasCacheDTO> estadisticas = cachesConEstadisticas.stream()
+				.flatMap(servicio -> servicio.estadisticasCache().stream()).toList();
+		ApiResponse<List<EstadisticasCacheDTO>> response = new ApiResponse<>(true, "Estadísticas de caché obtenidas con éxito.", estadisticas);
+		return ResponseEntity.ok(response);
+	}
+}
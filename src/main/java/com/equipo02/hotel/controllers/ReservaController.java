@@ -5,12 +5,17 @@
  */
 package com.equipo02.hotel.controllers;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
@@ -22,16 +27,23 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import com.equipo02.hotel.domain.Habitacion;
 import com.equipo02.hotel.domain.Reserva;
 import com.equipo02.hotel.dto.HabitacionDTO;
+import com.equipo02.hotel.dto.PaginaDTO;
 import com.equipo02.hotel.dto.ReservaDTO;
+import com.equipo02.hotel.dto.ReservaGrupoDTO;
+import com.equipo02.hotel.dto.ReservaTipoDTO;
+import com.equipo02.hotel.dto.ResultadoCargaDTO;
 import com.equipo02.hotel.exception.BadRequestException;
 import com.equipo02.hotel.exception.EntityNotFoundException;
 import com.equipo02.hotel.exception.IllegalOperationException;
+import com.equipo02.hotel.services.CargaReservaService;
 import com.equipo02.hotel.services.ReservaService;
 import com.equipo02.hotel.util.ApiResponse;
+import com.equipo02.hotel.util.Paginacion;
 import jakarta.validation.Valid;
 
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
@@ -48,19 +60,31 @@ public class ReservaController {
 	
 	@Autowired
 	private ReservaService reservaService;
+
+	@Autowired
+	private CargaReservaService cargaReservaService;
 	
     @Autowired
     private ModelMapper modelMapper;
     
     /**
-     * Obtiene todas las reservas.
+     * Obtiene una página de reservas ordenadas por id.
      *
-     * @return ResponseEntity con la lista de reservas y un mensaje de éxito.
+     * @param cursor: Id de la última reserva de la página anterior (0 para la primera página).
+     * @param limit: Tamaño de la página.
+     * @param desde: Solo reservas que terminan después de esta fecha (opcional).
+     * @param hasta: Solo reservas que empiezan antes de esta fecha (opcional).
+     * @param estado: Estado de las reservas (opcional).
+     * @return ResponseEntity con la página de reservas, el cursor y el enlace a la página siguiente.
      * @throws EntityNotFoundException si no se encuentran reservas.
      */
     @GetMapping()
-	public ResponseEntity<?> listarTodos() throws EntityNotFoundException {
-        List<Reserva> reservas = reservaService.listarTodos();
+	public ResponseEntity<?> listarTodos(@RequestParam(defaultValue = Paginacion.CURSOR_INICIAL) Long cursor,
+			@RequestParam(defaultValue = Paginacion.LIMITE_POR_DEFECTO) int limit,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hasta,
+			@RequestParam(required = false) Boolean estado) throws EntityNotFoundException {
+        Slice<Reserva> reservas = reservaService.listarTodos(cursor, limit, desde, hasta, estado);
         List<ReservaDTO> reservasDTOs = reservas.stream().map(reserva -> modelMapper.map(reserva, ReservaDTO.class)).collect(Collectors.toList());
 
         for (ReservaDTO reservaDTO : reservasDTOs) {
@@ -80,7 +104,8 @@ public class ReservaController {
                 }
             }
         }
-        ApiResponse<List<ReservaDTO>> response = new ApiResponse<>(true, "Lista de reservas obtenida con éxito.", reservasDTOs);
+        PaginaDTO<ReservaDTO> pagina = Paginacion.aPagina(reservas, reservasDTOs, Reserva::getIdReserva);
+        ApiResponse<PaginaDTO<ReservaDTO>> response = new ApiResponse<>(true, "Lista de reservas obtenida con éxito.", pagina);
         return ResponseEntity.ok(response);
 	}
     /**
@@ -132,7 +157,65 @@ public class ReservaController {
 		ApiResponse<ReservaDTO> response = new ApiResponse<>(true, "Reserva guardada con éxito.", savedReservaDTO);
 		return ResponseEntity.status(HttpStatus.CREATED).body(response);
 	}
-    
+
+    /**
+     * Guarda una reserva de grupo con varias habitaciones en una sola operación.
+     * Las habitaciones se indican por id o como una cantidad de habitaciones de un tipo.
+     *
+     * @param grupoDTO: Las fechas, el huésped, el empleado y las habitaciones.
+     * @return ResponseEntity con el id de la reserva y las habitaciones asignadas.
+     * @throws IllegalOperationException si no hay habitaciones libres suficientes o alguna referencia no existe.
+     */
+    @PostMapping("/grupo")
+    public ResponseEntity<?> guardarReservaGrupo(@Valid @RequestBody ReservaGrupoDTO grupoDTO, BindingResult result) throws IllegalOperationException {
+    	if(result.hasErrors()) {
+			return validar(result);
+		}
+    	Reserva reserva = reservaService.guardarReservaGrupo(grupoDTO);
+    	grupoDTO.setIdReserva(reserva.getIdReserva());
+    	grupoDTO.setHabitaciones(reserva.getHabitaciones().stream().map(Habitacion::getIdHabitacion).collect(Collectors.toList()));
+    	grupoDTO.add(linkTo(ReservaController.class).slash(reserva.getIdReserva()).withSelfRel());
+    	ApiResponse<ReservaGrupoDTO> response = new ApiResponse<>(true, "Reserva de grupo guardada con éxito.", grupoDTO);
+    	return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * Guarda una reserva por tipo de habitación. Se retiene cupo del tipo y la habitación
+     * concreta se asigna más tarde, en segundo plano.
+     *
+     * @param tipoDTO: Las fechas, el huésped, el empleado y el tipo de habitación.
+     * @return ResponseEntity con el id de la reserva creada.
+     * @throws IllegalOperationException si no queda cupo del tipo o alguna referencia no existe.
+     */
+    @PostMapping("/tipo")
+    public ResponseEntity<?> guardarReservaTipo(@Valid @RequestBody ReservaTipoDTO tipoDTO, BindingResult result) throws IllegalOperationException {
+    	if(result.hasErrors()) {
+			return validar(result);
+		}
+    	Reserva reserva = reservaService.guardarReservaTipo(tipoDTO);
+    	tipoDTO.setIdReserva(reserva.getIdReserva());
+    	tipoDTO.add(linkTo(ReservaController.class).slash(reserva.getIdReserva()).withSelfRel());
+    	ApiResponse<ReservaTipoDTO> response = new ApiResponse<>(true, "Reserva por tipo guardada con éxito.", tipoDTO);
+    	return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * Guarda en bloque un array JSON de reservas con sus habitaciones.
+     * El cuerpo se lee por partes; las filas inválidas se rechazan sin detener la carga.
+     *
+     * @param cuerpo: Array JSON de ReservaCargaDTO.
+     * @return ResponseEntity con el número de reservas guardadas y los errores por fila.
+     * @throws IOException si falla la lectura del cuerpo.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<?> guardarLote(InputStream cuerpo) throws IOException {
+    	ResultadoCargaDTO resultado = cargaReservaService.cargar(cuerpo);
+    	boolean completa = resultado.getRechazadas() == 0;
+    	ApiResponse<ResultadoCargaDTO> response = new ApiResponse<>(completa,
+    			completa ? "Reservas guardadas con éxito." : "Carga terminada con filas rechazadas.", resultado);
+    	return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
     /**
      * Actualiza una reserva existente.
      *
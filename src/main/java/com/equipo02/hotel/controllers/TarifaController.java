@@ -0,0 +1,145 @@
+/**
+ * @file: TarifaController.java
+ * @author: (c)2026 Cueva
+ * @created: 18 oct 2026, 19:10:48
+ */
+package com.equipo02.hotel.controllers;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindingResult;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.equipo02.hotel.domain.ReglaTarifa;
+import com.equipo02.hotel.dto.ReglaTarifaDTO;
+import com.equipo02.hotel.exception.EntityNotFoundException;
+import com.equipo02.hotel.exception.IllegalOperationException;
+import com.equipo02.hotel.services.TarifaService;
+import com.equipo02.hotel.util.ApiResponse;
+
+import jakarta.validation.Valid;
+
+/**
+ * Controlador REST para administrar las reglas de tarifa por tipo de habitación.
+ * Cada cambio recalcula los calendarios de precios que usan las cotizaciones.
+ */
+@RestController
+@RequestMapping(value = "/api/tarifas", headers = "Api-Version=1")
+public class TarifaController {
+
+    @Autowired
+    private TarifaService tarifaService;
+
+    @Autowired
+    private ModelMapper modelMapper;
+
+    /**
+     * Lista las reglas de tarifa.
+     *
+     * @param tipo Tipo de habitación a filtrar (opcional).
+     * @return ResponseEntity con la lista de reglas.
+     */
+    @GetMapping
+    public ResponseEntity<?> listarReglas(@RequestParam(required = false) String tipo) {
+        List<ReglaTarifaDTO> reglas = tarifaService.listarReglas(tipo).stream()
+                .map(regla -> modelMapper.map(regla, ReglaTarifaDTO.class)).collect(Collectors.toList());
+        ApiResponse<List<ReglaTarifaDTO>> response = new ApiResponse<>(true, "Lista de reglas de tarifa obtenida con éxito.", reglas);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Obtiene una regla de tarifa por su ID.
+     *
+     * @param id El ID de la regla.
+     * @return ResponseEntity con la regla.
+     * @throws EntityNotFoundException si la regla no existe.
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<?> buscarRegla(@PathVariable Long id) throws EntityNotFoundException {
+        ReglaTarifaDTO regla = modelMapper.map(tarifaService.buscarRegla(id), ReglaTarifaDTO.class);
+        ApiResponse<ReglaTarifaDTO> response = new ApiResponse<>(true, "Regla de tarifa obtenida con éxito.", regla);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Crea una regla de tarifa.
+     *
+     * @param reglaDTO La regla a crear.
+     * @param result El resultado de la validación.
+     * @return ResponseEntity con la regla creada.
+     * @throws IllegalOperationException si la regla no es coherente con su clase.
+     */
+    @PostMapping
+    public ResponseEntity<?> guardarRegla(@Valid @RequestBody ReglaTarifaDTO reglaDTO, BindingResult result) throws IllegalOperationException {
+        if (result.hasErrors()) {
+            return validar(result);
+        }
+        ReglaTarifa regla = tarifaService.guardarRegla(modelMapper.map(reglaDTO, ReglaTarifa.class));
+        ApiResponse<ReglaTarifaDTO> response = new ApiResponse<>(true, "Regla de tarifa guardada con éxito.", modelMapper.map(regla, ReglaTarifaDTO.class));
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * Actualiza una regla de tarifa.
+     *
+     * @param reglaDTO Los nuevos datos de la regla.
+     * @param result El resultado de la validación.
+     * @param id El ID de la regla.
+     * @return ResponseEntity con la regla actualizada.
+     * @throws EntityNotFoundException si la regla no existe.
+     * @throws IllegalOperationException si la regla no es coherente con su clase.
+     */
+    @PutMapping("/{id}")
+    public ResponseEntity<?> actualizarRegla(@Valid @RequestBody ReglaTarifaDTO reglaDTO, BindingResult result, @PathVariable Long id)
+            throws EntityNotFoundException, IllegalOperationException {
+        if (result.hasErrors()) {
+            return validar(result);
+        }
+        ReglaTarifa regla = tarifaService.actualizarRegla(id, modelMapper.map(reglaDTO, ReglaTarifa.class));
+        ApiResponse<ReglaTarifaDTO> response = new ApiResponse<>(true, "Regla de tarifa actualizada con éxito.", modelMapper.map(regla, ReglaTarifaDTO.class));
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Elimina una regla de tarifa.
+     *
+     * @param id El ID de la regla.
+     * @return ResponseEntity con un mensaje de éxito.
+     * @throws EntityNotFoundException si la regla no existe.
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<?> eliminarRegla(@PathVariable Long id) throws EntityNotFoundException {
+        tarifaService.eliminarRegla(id);
+        ApiResponse<String> response = new ApiResponse<>(true, "Regla de tarifa eliminada con éxito.", null);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Método para validar los errores de binding result.
+     * @param result El objeto BindingResult que contiene los resultados de la validación.
+     * @return ResponseEntity que contiene un mapa de los errores.
+     */
+    private ResponseEntity<?> validar(BindingResult result) {
+        Map<String, String> errores = new HashMap<>();
+        result.getFieldErrors().forEach(err -> {
+            errores.put(err.getField(), err.getDefaultMessage());
+        });
+        ApiResponse<Map<String, String>> response = new ApiResponse<>(false, "Errores de validación", errores);
+        return ResponseEntity.badRequest().body(response);
+    }
+}
@@ -0,0 +1,140 @@
+/**
+ * @file: NocheHabitacion.java
+ * @author: (c) 2026 MARCO
+ * @created: 18 oct. 2026 11:05:12
+ */
+package com.equipo02.hotel.domain;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+import org.springframework.data.domain.Persistable;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+
+/**
+ * Clase que representa la ocupación de una habitación durante una noche por una reserva.
+ *
+ * La clave primaria (habitación, noche) garantiza en la base de datos que una habitación
+ * no pueda tener dos reservas la misma noche, aunque la aplicación corra en varias instancias.
+ */
+@Entity
+@IdClass(NocheHabitacion.Clave.class)
+@Table(name = "noche_habitacion", indexes = @Index(name = "idx_noche_habitacion_reserva", columnList = "idReserva"))
+public class NocheHabitacion implements Persistable<NocheHabitacion.Clave> {
+
+    /**
+     * Habitación ocupada.
+     */
+    @Id
+    private Long idHabitacion;
+
+    /**
+     * Noche ocupada (fecha de llegada de esa noche).
+     */
+    @Id
+    private LocalDate noche;
+
+    /**
+     * Reserva que ocupa la habitación esa noche.
+     */
+    private Long idReserva;
+
+    /**
+     * Indica que la fila aún no fue insertada; evita que save() haga un SELECT previo.
+     */
+    @Transient
+    private boolean nueva = true;
+
+    protected NocheHabitacion() {
+    }
+
+    public NocheHabitacion(Long idHabitacion, LocalDate noche, Long idReserva) {
+        this.idHabitacion = idHabitacion;
+        this.noche = noche;
+        this.idReserva = idReserva;
+    }
+
+    @PostLoad
+    @PostPersist
+    void marcarPersistida() {
+        this.nueva = false;
+    }
+
+    @Override
+    public Clave getId() {
+        return new Clave(idHabitacion, noche);
+    }
+
+    @Override
+    public boolean isNew() {
+        return nueva;
+    }
+
+    /**
+     * Métodos getters para acceder a los atributos de la clase NocheHabitacion.
+     */
+    public Long getIdHabitacion() {
+        return idHabitacion;
+    }
+
+    public LocalDate getNoche() {
+        return noche;
+    }
+
+    public Long getIdReserva() {
+        return idReserva;
+    }
+
+    /**
+     * Clave compuesta (habitación, noche).
+     */
+    public static class Clave implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private Long idHabitacion;
+        private LocalDate noche;
+
+        public Clave() {
+        }
+
+        public Clave(Long idHabitacion, LocalDate noche) {
+            this.idHabitacion = idHabitacion;
+            this.noche = noche;
+        }
+
+        public Long getIdHabitacion() {
+            return idHabitacion;
+        }
+
+        public LocalDate getNoche() {
+            return noche;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Clave)) {
+                return false;
+            }
+            Clave otra = (Clave) obj;
+            return Objects.equals(idHabitacion, otra.idHabitacion) && Objects.equals(noche, otra.noche);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(idHabitacion, noche);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/**
+ * @file: ReglaTarifa.java
+ * @author: (c)2026 Cueva
+ * @created: 18 oct 2026, 18:05:37
+ */
+package com.equipo02.hotel.domain;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * Clase que representa una regla de tarifa para un tipo de habitación.
+ *
+ * Cada regla aplica un ajuste porcentual sobre el precio base de la habitación. Las reglas
+ * de temporada y de día de la semana se aplican noche a noche y se acumulan; la regla de
+ * estadía se aplica sobre el total, y solo la de mayor minNoches que cumpla la estadía.
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_regla_tarifa_tipo", columnList = "tipo"))
+public class ReglaTarifa {
+
+	/**
+     * Identificador único de la regla.
+     */
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long idRegla;
+
+	/**
+     * Tipo de habitación al que se aplica.
+     */
+	@Column(nullable = false)
+	private String tipo;
+
+	/**
+     * Clase de regla.
+     */
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false)
+	private TipoReglaTarifa clase;
+
+	/**
+     * Primer día de vigencia (inclusive), o null.
+     */
+	private LocalDate fechaDesde;
+
+	/**
+     * Último día de vigencia (inclusive), o null.
+     */
+	private LocalDate fechaHasta;
+
+	/**
+     * Día de la semana, de 1 (lunes) a 7 (domingo), para las reglas DIA_SEMANA.
+     */
+	private Integer diaSemana;
+
+	/**
+     * Noches mínimas de la estadía, para las reglas ESTADIA.
+     */
+	private Integer minNoches;
+
+	/**
+     * Ajuste en porcentaje: 20 sube un 20 %, -15 baja un 15 %.
+     */
+	@Column(nullable = false, precision = 7, scale = 2)
+	private BigDecimal porcentaje;
+
+	/**
+     * Métodos getters y setters para acceder y modificar los atributos de la clase.
+     */
+	public Long getIdRegla() {
+		return idRegla;
+	}
+
+	public void setIdRegla(Long idRegla) {
+		this.idRegla = idRegla;
+	}
+
+	public String getTipo() {
+		return tipo;
+	}
+
+	public void setTipo(String tipo) {
+		this.tipo = tipo;
+	}
+
+	public TipoReglaTarifa getClase() {
+		return clase;
+	}
+
+	public void setClase(TipoReglaTarifa clase) {
+		this.clase = clase;
+	}
+
+	public LocalDate getFechaDesde() {
+		return fechaDesde;
+	}
+
+	public void setFechaDesde(LocalDate fechaDesde) {
+		this.fechaDesde = fechaDesde;
+	}
+
+	public LocalDate getFechaHasta() {
+		return fechaHasta;
+	}
+
+	public void setFechaHasta(LocalDate fechaHasta) {
+		this.fechaHasta = fechaHasta;
+	}
+
+	public Integer getDiaSemana() {
+		return diaSemana;
+	}
+
+	public void setDiaSemana(Integer diaSemana) {
+		this.diaSemana = diaSemana;
+	}
+
+	public Integer getMinNoches() {
+		return minNoches;
+	}
+
+	public void setMinNoches(Integer minNoches) {
+		this.minNoches = minNoches;
+	}
+
+	public BigDecimal getPorcentaje() {
+		return porcentaje;
+	}
+
+	public void setPorcentaje(BigDecimal porcentaje) {
+		this.porcentaje = porcentaje;
+	}
+}
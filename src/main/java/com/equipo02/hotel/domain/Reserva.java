@@ -19,6 +19,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Temporal;
 import jakarta.persistence.TemporalType;
 
@@ -29,11 +30,25 @@ import jakarta.persistence.TemporalType;
 @JsonIdentityInfo(generator = ObjectIdGenerators.PropertyGenerator.class,property = "idReserva")
 public class Reserva {
 	
+    /**
+     * Tamaño del bloque de ids que Hibernate reserva en cada llamada a la secuencia.
+     */
+    public static final int IDS_POR_BLOQUE = 50;
+
+    /**
+     * Máximo de noches de una estancia. Cada noche de cada habitación es una fila de noche_habitacion,
+     * así que una fecha de salida errónea no puede escribir años de noches.
+     */
+    public static final int MAX_NOCHES = 365;
+
     /**
      * Identificador único de la reserva.
+     * Se genera con una secuencia en bloques para que Hibernate pueda agrupar los INSERT en lotes JDBC,
+     * cosa que IDENTITY impide.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reserva_seq")
+    @SequenceGenerator(name = "reserva_seq", sequenceName = "reserva_seq", allocationSize = IDS_POR_BLOQUE)
     private Long idReserva;
     
     /**
@@ -78,6 +93,12 @@ public class Reserva {
     		inverseJoinColumns = @JoinColumn(name = "idHabitacion"))
     private List<Habitacion> habitaciones = new ArrayList<Habitacion>();
     
+    /**
+     * Tipo de habitación pedido cuando la reserva se hace por tipo y no por habitación.
+     * Mientras la reserva no tenga habitaciones asignadas ocupa cupo de este tipo.
+     */
+    private String tipoSolicitado;
+    
     
     /**
      * Métodos getters y setters para acceder y modificar los atributos de la clase Reserva.
@@ -125,6 +146,12 @@ public class Reserva {
 	public void setHabitaciones(List<Habitacion> habitaciones) {
 		this.habitaciones = habitaciones;
 	}
+	public String getTipoSolicitado() {
+		return tipoSolicitado;
+	}
+	public void setTipoSolicitado(String tipoSolicitado) {
+		this.tipoSolicitado = tipoSolicitado;
+	}
 	
 	
 }
\ No newline at end of file
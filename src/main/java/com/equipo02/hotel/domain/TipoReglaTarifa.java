@@ -0,0 +1,21 @@
+/**
+ * @file: TipoReglaTarifa.java
+ * @author: (c)2026 Cueva
+ * @created: 18 oct 2026, 18:02:10
+ */
+package com.equipo02.hotel.domain;
+
+/**
+ * Clases de reglas de tarifa.
+ */
+public enum TipoReglaTarifa {
+
+	/** Ajusta las noches comprendidas entre fechaDesde y fechaHasta, ambas inclusive. */
+	TEMPORADA,
+
+	/** Ajusta las noches de un día de la semana, opcionalmente dentro de un rango de fechas. */
+	DIA_SEMANA,
+
+	/** Ajusta el total de las estadías de al menos minNoches noches. */
+	ESTADIA
+}
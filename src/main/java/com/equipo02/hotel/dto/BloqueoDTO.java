@@ -0,0 +1,97 @@
+/**
+ * @file: BloqueoDTO.java
+ * @author: (c)2026 Cueva
+ * @created: 18 oct 2026, 17:20:36
+ */
+package com.equipo02.hotel.dto;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import org.springframework.hateoas.RepresentationModel;
+
+/**
+ * DTO de un bloqueo temporal de una habitación mientras se completa una reserva.
+ * Los bloqueos viven solo en memoria y vencen solos.
+ */
+public class BloqueoDTO extends RepresentationModel<BloqueoDTO> {
+
+	/**
+     * Identificador del bloqueo.
+     */
+	private long idBloqueo;
+
+	/**
+     * Habitación bloqueada.
+     */
+	private Long idHabitacion;
+
+	/**
+     * Fecha de llegada.
+     */
+	private LocalDate desde;
+
+	/**
+     * Fecha de salida.
+     */
+	private LocalDate hasta;
+
+	/**
+     * Instante en que vence el bloqueo.
+     */
+	private Instant vence;
+
+	public BloqueoDTO() {
+	}
+
+	public BloqueoDTO(long idBloqueo, Long idHabitacion, LocalDate desde, LocalDate hasta, Instant vence) {
+		this.idBloqueo = idBloqueo;
+		this.idHabitacion = idHabitacion;
+		this.desde = desde;
+		this.hasta = hasta;
+		this.vence = vence;
+	}
+
+	/**
+     * Métodos getters y setters para acceder y modificar los atributos de la clase.
+     */
+	public long getIdBloqueo() {
+		return idBloqueo;
+	}
+
+	public void setIdBloqueo(long idBloqueo) {
+		this.idBloqueo = idBloqueo;
+	}
+
+	public Long getIdHabitacion() {
+		return idHabitacion;
+	}
+
+	public void setIdHabitacion(Long idHabitacion) {
+		this.idHabitacion = idHabitacion;
+	}
+
+	public LocalDate getDesde() {
+		return desde;
+	}
+
+	public void setDesde(LocalDate desde) {
+		this.desde = desde;
+	}
+
+	public LocalDate getHasta() {
+		return hasta;
+	}
+
+	public void setHasta(LocalDate hasta) {
+		this.hasta = hasta;
+	}
+
+	public Instant getVence() {
+		return vence;
+	}
+
+	public void setVence(Instant vence) {
+		this.vence = vence;
+	}
+}
@@ -0,0 +1,98 @@
+/**
+ * @file: BusquedaHabitacionesDTO.java
+ * @author: (c)2026 Cueva
+ * @created: 18 oct 2026, 20:17:40
+ */
+package com.equipo02.hotel.dto;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * DTO con el resultado de una búsqueda en el catálogo de habitaciones: una página de
+ * habitaciones y los conteos por faceta. El conteo de cada faceta aplica todos los filtros
+ * menos el de la propia faceta, para mostrar cuántas habitaciones habría al cambiarlo.
+ */
+public class BusquedaHabitacionesDTO {
+
+	/**
+     * Número total de habitaciones que cumplen todos los filtros.
+     */
+	private int total;
+
+	/**
+     * Página de habitaciones ordenadas por id.
+     */
+	private PaginaDTO<HabitacionCatalogoDTO> pagina;
+
+	/**
+     * Número de habitaciones por tipo.
+     */
+	private Map<String, Integer> tipos;
+
+	/**
+     * Número de habitaciones disponibles y no disponibles.
+     */
+	private Map<Boolean, Integer> disponibilidad;
+
+	/**
+     * Precio mínimo entre las habitaciones encontradas, o null si no hay ninguna.
+     */
+	private BigDecimal precioMin;
+
+	/**
+     * Precio máximo entre las habitaciones encontradas, o null si no hay ninguna.
+     */
+	private BigDecimal precioMax;
+
+	/**
+     * Métodos getters y setters para acceder y modificar los atributos de la clase.
+     */
+	public int getTotal() {
+		return total;
+	}
+
+	public void setTotal(int total) {
+		this.total = total;
+	}
+
+	public PaginaDTO<HabitacionCatalogoDTO> getPagina() {
+		return pagina;
+	}
+
+	public void setPagina(PaginaDTO<HabitacionCatalogoDTO> pagina) {
+		this.pagina = pagina;
+	}
+
+	public Map<String, Integer> getTipos() {
+		return tipos;
+	}
+
+	public void setTipos(Map<String, Integer> tipos) {
+		this.tipos = tipos;
+	}
+
+	public Map<Boolean, Integer> getDisponibilidad() {
+		return disponibilidad;
+	}
+
+	public void setDisponibilidad(Map<Boolean, Integer> disponibilidad) {
+		this.disponibilidad = disponibilidad;
+	}
+
+	public BigDecimal getPrecioMin() {
+		return precioMin;
+	}
+
+	public void setPrecioMin(BigDecimal precioMin) {
+		this.precioMin = precioMin;
+	}
+
+	public BigDecimal getPrecioMax() {
+		return precioMax;
+	}
+
+	public void setPrecioMax(BigDecimal precioMax) {
+		this.precioMax = precioMax;
+	}
+}
@@ -0,0 +1,67 @@
+/**
+ * @file: CadenaAvalDTO.java
+ * @author: (c) 2026 Rodriguez
+ * @created: 19 oct. 2026 14:38:50
+ */
+package com.equipo02.hotel.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO con la cadena de avales de un huésped: quién lo avala, quién avala a su aval, y así hasta el
+ * final, y en sentido contrario a quién avala él y a quién avala este.
+ */
+public class CadenaAvalDTO {
+
+	/**
+     * Identificador del huésped consultado.
+     */
+	private Long idHuesped;
+
+	/**
+     * Ids de los avales, empezando por el del huésped.
+     */
+	private List<Long> avales = new ArrayList<>();
+
+	/**
+     * Ids de los avalados, empezando por el que avala el huésped.
+     */
+	private List<Long> avalados = new ArrayList<>();
+
+	public CadenaAvalDTO() {
+	}
+
+	public CadenaAvalDTO(Long idHuesped, List<Long> avales, List<Long> avalados) {
+		this.idHuesped = idHuesped;
+		this.avales = avales;
+		this.avalados = avalados;
+	}
+
+	/**
+     * Métodos getters y setters para acceder y modificar los atributos de la clase.
+     */
+	public Long getIdHuesped() {
+		return idHuesped;
+	}
+
+	public void setIdHuesped(Long idHuesped) {
+		this.idHuesped = idHuesped;
+	}
+
+	public List<Long> getAvales() {
+		return avales;
+	}
+
+	public void setAvales(List<Long> avales) {
+		this.avales = avales;
+	}
+
+	public List<Long> getAvalados() {
+		return avalados;
+	}
+
+	public void setAvalados(List<Long> avalados) {
+		this.avalados = avalados;
+	}
+}
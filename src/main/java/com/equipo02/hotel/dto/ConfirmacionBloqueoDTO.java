@@ -0,0 +1,45 @@
+/**
+ * @file: ConfirmacionBloqueoDTO.java
+ * @author: (c)2026 Cueva
+ * @created: 18 oct 2026, 17:24:02
+ */
+package com.equipo02.hotel.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * DTO con los datos que faltan para convertir un bloqueo en una reserva.
+ */
+public class ConfirmacionBloqueoDTO {
+
+	/**
+     * Id del huésped que hace la reserva.
+     */
+	@NotNull(message = "no puede ser nulo")
+	private Long idHuesped;
+
+	/**
+     * Id del empleado que registra la reserva.
+     */
+	@NotNull(message = "no puede ser nulo")
+	private Long idEmpleado;
+
+	/**
+     * Métodos getters y setters para acceder y modificar los atributos de la clase.
+     */
+	public Long getIdHuesped() {
+		return idHuesped;
+	}
+
+	public void setIdHuesped(Long idHuesped) {
+		this.idHuesped = idHuesped;
+	}
+
+	public Long getIdEmpleado() {
+		return idEmpleado;
+	}
+
+	public void setIdEmpleado(Long idEmpleado) {
+		this.idEmpleado = idEmpleado;
+	}
+}
@@ -0,0 +1,138 @@
+/**
+ * @file: CotizacionDTO.java
+ * @author: (c)2026 Cueva
+ * @created: 18 oct 2026, 18:40:15
+ */
+package com.equipo02.hotel.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * DTO con el precio de una estadía en una habitación.
+ * Los importes se calculan en céntimos y se convierten a BigDecimal solo al construir el DTO.
+ */
+public class CotizacionDTO {
+
+	/**
+     * Habitación cotizada.
+     */
+	private Long idHabitacion;
+
+	/**
+     * Tipo de la habitación.
+     */
+	private String tipo;
+
+	/**
+     * Fecha de llegada.
+     */
+	private LocalDate desde;
+
+	/**
+     * Fecha de salida.
+     */
+	private LocalDate hasta;
+
+	/**
+     * Número de noches.
+     */
+	private int noches;
+
+	/**
+     * Suma de los precios por noche.
+     */
+	private BigDecimal subtotal;
+
+	/**
+     * Ajuste por duración de la estadía, negativo si es un descuento.
+     */
+	private BigDecimal ajusteEstadia;
+
+	/**
+     * Precio total de la estadía.
+     */
+	private BigDecimal total;
+
+	public CotizacionDTO() {
+	}
+
+	public CotizacionDTO(Long idHabitacion, String tipo, LocalDate desde, LocalDate hasta, int noches, long subtotal,
+			long ajusteEstadia) {
+		this.idHabitacion = idHabitacion;
+		this.tipo = tipo;
+		this.desde = desde;
+		this.hasta = hasta;
+		this.noches = noches;
+		this.subtotal = BigDecimal.valueOf(subtotal, 2);
+		this.ajusteEstadia = BigDecimal.valueOf(ajusteEstadia, 2);
+		this.total = BigDecimal.valueOf(subtotal + ajusteEstadia, 2);
+	}
+
+	/**
+     * Métodos getters y setters para acceder y modificar los atributos de la clase.
+     */
+	public Long getIdHabitacion() {
+		return idHabitacion;
+	}
+
+	public void setIdHabitacion(Long idHabitacion) {
+		this.idHabitacion = idHabitacion;
+	}
+
+	public String getTipo() {
+		return tipo;
+	}
+
+	public void setTipo(String tipo) {
+		this.tipo = tipo;
+	}
+
+	public LocalDate getDesde() {
+		return desde;
+	}
+
+	public void setDesde(LocalDate desde) {
+		this.desde = desde;
+	}
+
+	public LocalDate getHasta() {
+		return hasta;
+	}
+
+	public void setHasta(LocalDate hasta) {
+		this.hasta = hasta;
+	}
+
+	public int getNoches() {
+		return noches;
+	}
+
+	public void setNoches(int noches) {
+		this.noches = noches;
+	}
+
+	public BigDecimal getSubtotal() {
+		return subtotal;
+	}
+
+	public void setSubtotal(BigDecimal subtotal) {
+		this.subtotal = subtotal;
+	}
+
+	public BigDecimal getAjusteEstadia() {
+		return ajusteEstadia;
+	}
+
+	public void setAjusteEstadia(BigDecimal ajusteEstadia) {
+		this.ajusteEstadia = ajusteEstadia;
+	}
+
+	public BigDecimal getTotal() {
+		return total;
+	}
+
+	public void setTotal(BigDecimal total) {
+		this.total = total;
+	}
+}
@@ -0,0 +1,94 @@
+/**
+ * @file: EstadisticaHuespedDTO.java
+ * @author: (c) 2026 Rodriguez
+ * @created: 19 oct. 2026 18:02:44
+ */
+package com.equipo02.hotel.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * DTO con las estadísticas acumuladas de un huésped sobre todas sus reservas.
+ */
+public class EstadisticaHuespedDTO {
+
+	/**
+     * Identificador único del huesped.
+     */
+	private Long idHuesped;
+
+	/**
+     * Noches reservadas en total.
+     */
+	private long noches;
+
+	/**
+     * Número de reservas.
+     */
+	private int estancias;
+
+	/**
+     * Gasto total, al precio base de las habitaciones.
+     */
+	private BigDecimal gasto;
+
+	/**
+     * Fecha de llegada de la estancia más reciente, o null si ninguna tiene fechas.
+     */
+	private LocalDate ultimaEstancia;
+
+	public EstadisticaHuespedDTO() {
+	}
+
+	public EstadisticaHuespedDTO(Long idHuesped, long noches, int estancias, BigDecimal gasto, LocalDate ultimaEstancia) {
+		this.idHuesped = idHuesped;
+		this.noches = noches;
+		this.estancias = estancias;
+		this.gasto = gasto;
+		this.ultimaEstancia = ultimaEstancia;
+	}
+
+	/**
+     * Métodos getters y setters para acceder y modificar los atributos de la clase.
+     */
+	public Long getIdHuesped() {
+		return idHuesped;
+	}
+
+	public void setIdHuesped(Long idHuesped) {
+		this.idHuesped = idHuesped;
+	}
+
+	public long getNoches() {
+		return noches;
+	}
+
+	public void setNoches(long noches) {
+		this.noches = noches;
+	}
+
+	public int getEstancias() {
+		return estancias;
+	}
+
+	public void setEstancias(int estancias) {
+		this.estancias = estancias;
+	}
+
+	public BigDecimal getGasto() {
+		return gasto;
+	}
+
+	public void setGasto(BigDecimal gasto) {
+		this.gasto = gasto;
+	}
+
+	public LocalDate getUltimaEstancia() {
+		return ultimaEstancia;
+	}
+
+	public void setUltimaEstancia(LocalDate ultimaEstancia) {
+		this.ultimaEstancia = ultimaEstancia;
+	}
+}
@@ -0,0 +1,120 @@
+/**
+ * @file: EstadisticasCacheDTO.java
+ * @author: (c)2026 Cueva
+ * @created: 18 oct 2026, 21:12:09
+ */
+package com.equipo02.hotel.dto;
+
+/**
+ * DTO con los contadores de una caché desde que arrancó la aplicación.
+ */
+public class EstadisticasCacheDTO {
+
+	/**
+     * Nombre de la caché.
+     */
+	private String nombre;
+
+	/**
+     * Número aproximado de entradas.
+     */
+	private long tamano;
+
+	/**
+     * Tamaño máximo configurado.
+     */
+	private long maximo;
+
+	/**
+     * Lecturas resueltas desde la caché.
+     */
+	private long aciertos;
+
+	/**
+     * Lecturas que tuvieron que ir a la base de datos.
+     */
+	private long fallos;
+
+	/**
+     * Entradas expulsadas por tamaño.
+     */
+	private long desalojos;
+
+	/**
+     * Proporción de aciertos entre 0 y 1.
+     */
+	private double tasaAciertos;
+
+	public EstadisticasCacheDTO() {
+	}
+
+	public EstadisticasCacheDTO(String nombre, long tamano, long maximo, long aciertos, long fallos, long desalojos,
+			double tasaAciertos) {
+		this.nombre = nombre;
+		this.tamano = tamano;
+		this.maximo = maximo;
+		this.aciertos = aciertos;
+		this.fallos = fallos;
+		this.desalojos = desalojos;
+		this.tasaAciertos = tasaAciertos;
+	}
+
+	/**
+     * Métodos getters y setters para acceder y modificar los atributos de la clase.
+     */
+	public String getNombre() {
+		return nombre;
+	}
+
+	public void setNombre(String nombre) {
+		this.nombre = nombre;
+	}
+
+	public long getTamano() {
+		return tamano;
+	}
+
+	public void setTamano(long tamano) {
+		this.tamano = tamano;
+	}
+
+	public long getMaximo() {
+		return maximo;
+	}
+
+	public void setMaximo(long maximo) {
+		this.maximo = maximo;
+	}
+
+	public long getAciertos() {
+		return aciertos;
+	}
+
+	public void setAciertos(long aciertos) {
+		this.aciertos = aciertos;
+	}
+
+	public long getFallos() {
+		return fallos;
+	}
+
+	public void setFallos(long fallos) {
+		this.fallos = fallos;
+	}
+
+	public long getDesalojos() {
+		return desalojos;
+	}
+
+	public void setDesalojos(long desalojos) {
+		this.desalojos = desalojos;
+	}
+
+	public double getTasaAciertos() {
+		return tasaAciertos;
+	}
+
+	public void setTasaAciertos(double tasaAciertos) {
+		this.tasaAciertos = tasaAciertos;
+	}
+}
@@ -0,0 +1,91 @@
+/**
+ * @file: FilaOcupacionDTO.java
+ * @author: (c) 2026 MARCO
+ * @created: 18 oct. 2026 12:24:10
+ */
+package com.equipo02.hotel.dto;
+
+/**
+ * DTO con una fila del reporte de ocupación: un tipo de habitación o un día.
+ */
+public class FilaOcupacionDTO {
+
+	/**
+     * Tipo de habitación o fecha (ISO) que agrupa la fila.
+     */
+	private String grupo;
+
+	/**
+     * Número de habitaciones consideradas.
+     */
+	private int habitaciones;
+
+	/**
+     * Noches-habitación disponibles en el grupo.
+     */
+	private long nochesDisponibles;
+
+	/**
+     * Noches-habitación ocupadas en el grupo.
+     */
+	private long nochesOcupadas;
+
+	/**
+     * Porcentaje de ocupación (0 - 100).
+     */
+	private double porcentajeOcupacion;
+
+	public FilaOcupacionDTO() {
+	}
+
+	public FilaOcupacionDTO(String grupo, int habitaciones, long nochesDisponibles, long nochesOcupadas) {
+		this.grupo = grupo;
+		this.habitaciones = habitaciones;
+		this.nochesDisponibles = nochesDisponibles;
+		this.nochesOcupadas = nochesOcupadas;
+		this.porcentajeOcupacion = nochesDisponibles == 0 ? 0 : Math.round(nochesOcupadas * 10000.0 / nochesDisponibles) / 100.0;
+	}
+
+	/**
+     * Métodos getters y setters para acceder y modificar los atributos de la clase.
+     */
+	public String getGrupo() {
+		return grupo;
+	}
+
+	public void setGrupo(String grupo) {
+		this.grupo = grupo;
+	}
+
+	public int getHabitaciones() {
+		return habitaciones;
+	}
+
+	public void setHabitaciones(int habitaciones) {
+		this.habitaciones = habitaciones;
+	}
+
+	public long getNochesDisponibles() {
+		return nochesDisponibles;
+	}
+
+	public void setNochesDisponibles(long nochesDisponibles) {
+		this.nochesDisponibles = nochesDisponibles;
+	}
+
+	public long getNochesOcupadas() {
+		return nochesOcupadas;
+	}
+
+	public void setNochesOcupadas(long nochesOcupadas) {
+		this.nochesOcupadas = nochesOcupadas;
+	}
+
+	public double getPorcentajeOcupacion() {
+		return porcentajeOcupacion;
+	}
+
+	public void setPorcentajeOcupacion(double porcentajeOcupacion) {
+		this.porcentajeOcupacion = porcentajeOcupacion;
+	}
+}
@@ -0,0 +1,94 @@
+/**
+ * @file: HabitacionCatalogoDTO.java
+ * @author: (c)2026 Cueva
+ * @created: 18 oct 2026, 20:14:22
+ */
+package com.equipo02.hotel.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO con los campos simples de una habitación tal como los guarda el catálogo en memoria.
+ * El catálogo comparte estas instancias entre hilos, así que no deben modificarse después de indexarlas.
+ */
+public class HabitacionCatalogoDTO {
+
+	/**
+     * Identificador único de la habitación.
+     */
+	private Long idHabitacion;
+
+	/**
+     * Tipo de la habitación.
+     */
+	private String tipo;
+
+	/**
+     * Precio por noche de la habitación.
+     */
+	private BigDecimal precio;
+
+	/**
+     * Descripción de la habitación.
+     */
+	private String descripcion;
+
+	/**
+     * Indica si la habitación está disponible.
+     */
+	private boolean disponible;
+
+	public HabitacionCatalogoDTO() {
+	}
+
+	public HabitacionCatalogoDTO(Long idHabitacion, String tipo, BigDecimal precio, String descripcion, boolean disponible) {
+		this.idHabitacion = idHabitacion;
+		this.tipo = tipo;
+		this.precio = precio;
+		this.descripcion = descripcion;
+		this.disponible = disponible;
+	}
+
+	/**
+     * Métodos getters y setters para acceder y modificar los atributos de la clase.
+     */
+	public Long getIdHabitacion() {
+		return idHabitacion;
+	}
+
+	public void setIdHabitacion(Long idHabitacion) {
+		this.idHabitacion = idHabitacion;
+	}
+
+	public String getTipo() {
+		return tipo;
+	}
+
+	public void setTipo(String tipo) {
+		this.tipo = tipo;
+	}
+
+	public BigDecimal getPrecio() {
+		return precio;
+	}
+
+	public void setPrecio(BigDecimal precio) {
+		this.precio = precio;
+	}
+
+	public String getDescripcion() {
+		return descripcion;
+	}
+
+	public void setDescripcion(String descripcion) {
+		this.descripcion = descripcion;
+	}
+
+	public boolean isDisponible() {
+		return disponible;
+	}
+
+	public void setDisponible(boolean disponible) {
+		this.disponible = disponible;
+	}
+}
@@ -43,7 +43,7 @@ public class HabitacionDTO extends RepresentationModel<HabitacionDTO> {
 	@NotNull(message = "La descripción de la habitación no puede ser nula")
 	 private String descripcion;
     /**
-     * Indica si la habitación está disponible o no.
+     * Indica si la habitación está libre hoy. Se calcula a partir de las reservas y se ignora al guardar.
      */
     private boolean disponible;
     
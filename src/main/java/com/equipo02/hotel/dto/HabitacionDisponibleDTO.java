@@ -0,0 +1,66 @@
+/**
+ * @file: HabitacionDisponibleDTO.java
+ * @author: (c)2026 Cueva
+ * @created: 18 oct 2026, 09:51:33
+ */
+package com.equipo02.hotel.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO con los datos mínimos de una habitación libre en un rango de fechas.
+ * Se construye desde el índice de disponibilidad, sin consultar la base de datos.
+ */
+public class HabitacionDisponibleDTO {
+
+	/**
+     * Identificador único de la habitación.
+     */
+	private Long idHabitacion;
+
+	/**
+     * Tipo de la habitación.
+     */
+	private String tipo;
+
+	/**
+     * Precio por noche de la habitación.
+     */
+	private BigDecimal precio;
+
+	public HabitacionDisponibleDTO() {
+	}
+
+	public HabitacionDisponibleDTO(Long idHabitacion, String tipo, BigDecimal precio) {
+		this.idHabitacion = idHabitacion;
+		this.tipo = tipo;
+		this.precio = precio;
+	}
+
+	/**
+     * Métodos getters y setters para acceder y modificar los atributos de la clase.
+     */
+	public Long getIdHabitacion() {
+		return idHabitacion;
+	}
+
+	public void setIdHabitacion(Long idHabitacion) {
+		this.idHabitacion = idHabitacion;
+	}
+
+	public String getTipo() {
+		return tipo;
+	}
+
+	public void setTipo(String tipo) {
+		this.tipo = tipo;
+	}
+
+	public BigDecimal getPrecio() {
+		return precio;
+	}
+
+	public void setPrecio(BigDecimal precio) {
+		this.precio = precio;
+	}
+}
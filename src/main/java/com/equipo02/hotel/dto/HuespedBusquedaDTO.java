@@ -0,0 +1,106 @@
+/**
+ * @file: HuespedBusquedaDTO.java
+ * @author: (c) 2026 Rodriguez
+ * @created: 19 oct. 2026 11:52:14
+ */
+package com.equipo02.hotel.dto;
+
+/**
+ * DTO con un huésped encontrado por la búsqueda y su puntuación.
+ */
+public class HuespedBusquedaDTO {
+
+	/**
+     * Identificador único del huesped.
+     */
+	private Long idHuesped;
+
+	/**
+     * DNI del huesped.
+     */
+	private String dniHuesped;
+
+	/**
+     * Nombre del huesped.
+     */
+	private String nombreHuesped;
+
+	/**
+     * Teléfono del huesped.
+     */
+	private String telefonoHuesped;
+
+	/**
+     * Correo del huesped.
+     */
+	private String correoHuesped;
+
+	/**
+     * Puntuación de la coincidencia; mayor es mejor.
+     */
+	private double puntuacion;
+
+	public HuespedBusquedaDTO() {
+	}
+
+	public HuespedBusquedaDTO(Long idHuesped, String dniHuesped, String nombreHuesped, String telefonoHuesped,
+			String correoHuesped, double puntuacion) {
+		this.idHuesped = idHuesped;
+		this.dniHuesped = dniHuesped;
+		this.nombreHuesped = nombreHuesped;
+		this.telefonoHuesped = telefonoHuesped;
+		this.correoHuesped = correoHuesped;
+		this.puntuacion = puntuacion;
+	}
+
+	/**
+     * Métodos getters y setters para acceder y modificar los atributos de la clase.
+     */
+	public Long getIdHuesped() {
+		return idHuesped;
+	}
+
+	public void setIdHuesped(Long idHuesped) {
+		this.idHuesped = idHuesped;
+	}
+
+	public String getDniHuesped() {
+		return dniHuesped;
+	}
+
+	public void setDniHuesped(String dniHuesped) {
+		this.dniHuesped = dniHuesped;
+	}
+
+	public String getNombreHuesped() {
+		return nombreHuesped;
+	}
+
+	public void setNombreHuesped(String nombreHuesped) {
+		this.nombreHuesped = nombreHuesped;
+	}
+
+	public String getTelefonoHuesped() {
+		return telefonoHuesped;
+	}
+
+	public void setTelefonoHuesped(String telefonoHuesped) {
+		this.telefonoHuesped = telefonoHuesped;
+	}
+
+	public String getCorreoHuesped() {
+		return correoHuesped;
+	}
+
+	public void setCorreoHuesped(String correoHuesped) {
+		this.correoHuesped = correoHuesped;
+	}
+
+	public double getPuntuacion() {
+		return puntuacion;
+	}
+
+	public void setPuntuacion(double puntuacion) {
+		this.puntuacion = puntuacion;
+	}
+}
@@ -0,0 +1,64 @@
+/**
+ * @file: PaginaDTO.java
+ * @author: (c) 2026 MARCO
+ * @created: 18 oct. 2026 13:05:42
+ */
+package com.equipo02.hotel.dto;
+
+import java.util.List;
+
+import org.springframework.hateoas.RepresentationModel;
+
+/**
+ * DTO que representa una página de resultados paginada por cursor.
+ * El cursor es el id del último elemento devuelto; la página siguiente empieza en el id inmediatamente mayor.
+ *
+ * @param <T> Tipo de los elementos de la página.
+ */
+public class PaginaDTO<T> extends RepresentationModel<PaginaDTO<T>> {
+
+	/** Elementos de la página, ordenados por id. */
+	private List<T> elementos;
+
+	/** Cursor para pedir la página siguiente, o null si no hay más elementos. */
+	private Long siguienteCursor;
+
+	/** Número máximo de elementos solicitados. */
+	private int limite;
+
+	public PaginaDTO() {
+	}
+
+	public PaginaDTO(List<T> elementos, Long siguienteCursor, int limite) {
+		this.elementos = elementos;
+		this.siguienteCursor = siguienteCursor;
+		this.limite = limite;
+	}
+
+	/**
+     * Métodos getters y setters para acceder y modificar los atributos de la clase.
+     */
+	public List<T> getElementos() {
+		return elementos;
+	}
+
+	public void setElementos(List<T> elementos) {
+		this.elementos = elementos;
+	}
+
+	public Long getSiguienteCursor() {
+		return siguienteCursor;
+	}
+
+	public void setSiguienteCursor(Long siguienteCursor) {
+		this.siguienteCursor = siguienteCursor;
+	}
+
+	public int getLimite() {
+		return limite;
+	}
+
+	public void setLimite(int limite) {
+		this.limite = limite;
+	}
+}
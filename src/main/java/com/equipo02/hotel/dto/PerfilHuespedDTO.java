@@ -0,0 +1,283 @@
+/**
+ * @file: PerfilHuespedDTO.java
+ * @author: (c) 2026 Rodriguez
+ * @created: 19 oct. 2026 16:30:12
+ */
+package com.equipo02.hotel.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO con el perfil completo de un huésped: sus datos, su aval y sus reservas con las habitaciones
+ * asignadas, para mostrarlo con una sola petición.
+ */
+public class PerfilHuespedDTO {
+
+	/**
+     * Identificador único del huesped.
+     */
+	private Long idHuesped;
+
+	/**
+     * DNI del huesped.
+     */
+	private String dniHuesped;
+
+	/**
+     * Nombre del huesped.
+     */
+	private String nombreHuesped;
+
+	/**
+     * Dirección del huesped.
+     */
+	private String direccionHuesped;
+
+	/**
+     * Teléfono del huesped.
+     */
+	private String telefonoHuesped;
+
+	/**
+     * Correo del huesped.
+     */
+	private String correoHuesped;
+
+	/**
+     * Aval del huesped, o null si no tiene.
+     */
+	private Aval aval;
+
+	/**
+     * Reservas del huesped, de la más reciente a la más antigua.
+     */
+	private List<ReservaPerfil> reservas = new ArrayList<>();
+
+	/**
+     * Métodos getters y setters para acceder y modificar los atributos de la clase.
+     */
+	public Long getIdHuesped() {
+		return idHuesped;
+	}
+
+	public void setIdHuesped(Long idHuesped) {
+		this.idHuesped = idHuesped;
+	}
+
+	public String getDniHuesped() {
+		return dniHuesped;
+	}
+
+	public void setDniHuesped(String dniHuesped) {
+		this.dniHuesped = dniHuesped;
+	}
+
+	public String getNombreHuesped() {
+		return nombreHuesped;
+	}
+
+	public void setNombreHuesped(String nombreHuesped) {
+		this.nombreHuesped = nombreHuesped;
+	}
+
+	public String getDireccionHuesped() {
+		return direccionHuesped;
+	}
+
+	public void setDireccionHuesped(String direccionHuesped) {
+		this.direccionHuesped = direccionHuesped;
+	}
+
+	public String getTelefonoHuesped() {
+		return telefonoHuesped;
+	}
+
+	public void setTelefonoHuesped(String telefonoHuesped) {
+		this.telefonoHuesped = telefonoHuesped;
+	}
+
+	public String getCorreoHuesped() {
+		return correoHuesped;
+	}
+
+	public void setCorreoHuesped(String correoHuesped) {
+		this.correoHuesped = correoHuesped;
+	}
+
+	public Aval getAval() {
+		return aval;
+	}
+
+	public void setAval(Aval aval) {
+		this.aval = aval;
+	}
+
+	public List<ReservaPerfil> getReservas() {
+		return reservas;
+	}
+
+	public void setReservas(List<ReservaPerfil> reservas) {
+		this.reservas = reservas;
+	}
+
+	/**
+     * Aval de un huésped.
+     */
+	public static class Aval {
+
+		private Long idHuesped;
+
+		private String nombreHuesped;
+
+		public Aval() {
+		}
+
+		public Aval(Long idHuesped, String nombreHuesped) {
+			this.idHuesped = idHuesped;
+			this.nombreHuesped = nombreHuesped;
+		}
+
+		public Long getIdHuesped() {
+			return idHuesped;
+		}
+
+		public void setIdHuesped(Long idHuesped) {
+			this.idHuesped = idHuesped;
+		}
+
+		public String getNombreHuesped() {
+			return nombreHuesped;
+		}
+
+		public void setNombreHuesped(String nombreHuesped) {
+			this.nombreHuesped = nombreHuesped;
+		}
+	}
+
+	/**
+     * Reserva de un huésped con sus habitaciones.
+     */
+	public static class ReservaPerfil {
+
+		private Long idReserva;
+
+		private LocalDate fechaInicio;
+
+		private LocalDate fechaFin;
+
+		private boolean estado;
+
+		/**
+	     * Tipo pedido si la reserva se hizo por tipo; null si se hizo por habitación.
+	     */
+		private String tipoSolicitado;
+
+		private Long idEmpleado;
+
+		private List<HabitacionPerfil> habitaciones = new ArrayList<>();
+
+		public Long getIdReserva() {
+			return idReserva;
+		}
+
+		public void setIdReserva(Long idReserva) {
+			this.idReserva = idReserva;
+		}
+
+		public LocalDate getFechaInicio() {
+			return fechaInicio;
+		}
+
+		public void setFechaInicio(LocalDate fechaInicio) {
+			this.fechaInicio = fechaInicio;
+		}
+
+		public LocalDate getFechaFin() {
+			return fechaFin;
+		}
+
+		public void setFechaFin(LocalDate fechaFin) {
+			this.fechaFin = fechaFin;
+		}
+
+		public boolean isEstado() {
+			return estado;
+		}
+
+		public void setEstado(boolean estado) {
+			this.estado = estado;
+		}
+
+		public String getTipoSolicitado() {
+			return tipoSolicitado;
+		}
+
+		public void setTipoSolicitado(String tipoSolicitado) {
+			this.tipoSolicitado = tipoSolicitado;
+		}
+
+		public Long getIdEmpleado() {
+			return idEmpleado;
+		}
+
+		public void setIdEmpleado(Long idEmpleado) {
+			this.idEmpleado = idEmpleado;
+		}
+
+		public List<HabitacionPerfil> getHabitaciones() {
+			return habitaciones;
+		}
+
+		public void setHabitaciones(List<HabitacionPerfil> habitaciones) {
+			this.habitaciones = habitaciones;
+		}
+	}
+
+	/**
+     * Habitación asignada a una reserva.
+     */
+	public static class HabitacionPerfil {
+
+		private Long idHabitacion;
+
+		private String tipo;
+
+		private BigDecimal precio;
+
+		public HabitacionPerfil() {
+		}
+
+		public HabitacionPerfil(Long idHabitacion, String tipo, BigDecimal precio) {
+			this.idHabitacion = idHabitacion;
+			this.tipo = tipo;
+			this.precio = precio;
+		}
+
+		public Long getIdHabitacion() {
+			return idHabitacion;
+		}
+
+		public void setIdHabitacion(Long idHabitacion) {
+			this.idHabitacion = idHabitacion;
+		}
+
+		public String getTipo() {
+			return tipo;
+		}
+
+		public void setTipo(String tipo) {
+			this.tipo = tipo;
+		}
+
+		public BigDecimal getPrecio() {
+			return precio;
+		}
+
+		public void setPrecio(BigDecimal precio) {
+			this.precio = precio;
+		}
+	}
+}
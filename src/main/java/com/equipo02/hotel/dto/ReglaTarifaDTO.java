@@ -0,0 +1,139 @@
+/**
+ * @file: ReglaTarifaDTO.java
+ * @author: (c)2026 Cueva
+ * @created: 18 oct 2026, 18:36:52
+ */
+package com.equipo02.hotel.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import com.equipo02.hotel.domain.TipoReglaTarifa;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * DTO de una regla de tarifa.
+ */
+public class ReglaTarifaDTO {
+
+	/**
+     * Identificador único de la regla.
+     */
+	private Long idRegla;
+
+	/**
+     * Tipo de habitación al que se aplica.
+     */
+	@NotBlank(message = "El tipo de habitación no puede estar vacío")
+	private String tipo;
+
+	/**
+     * Clase de regla: TEMPORADA, DIA_SEMANA o ESTADIA.
+     */
+	@NotNull(message = "La clase de regla no puede ser nula")
+	private TipoReglaTarifa clase;
+
+	/**
+     * Primer día de vigencia (inclusive).
+     */
+	private LocalDate fechaDesde;
+
+	/**
+     * Último día de vigencia (inclusive).
+     */
+	private LocalDate fechaHasta;
+
+	/**
+     * Día de la semana, de 1 (lunes) a 7 (domingo).
+     */
+	@Min(value = 1, message = "El día de la semana debe estar entre 1 y 7")
+	@Max(value = 7, message = "El día de la semana debe estar entre 1 y 7")
+	private Integer diaSemana;
+
+	/**
+     * Noches mínimas de la estadía.
+     */
+	@Min(value = 1, message = "Las noches mínimas deben ser al menos 1")
+	private Integer minNoches;
+
+	/**
+     * Ajuste en porcentaje sobre el precio base.
+     */
+	@NotNull(message = "El porcentaje no puede ser nulo")
+	@DecimalMin(value = "-99.99", message = "El porcentaje debe ser mayor que -100")
+	@DecimalMax(value = "1000", message = "El porcentaje no puede superar 1000")
+	private BigDecimal porcentaje;
+
+	/**
+     * Métodos getters y setters para acceder y modificar los atributos de la clase.
+     */
+	public Long getIdRegla() {
+		return idRegla;
+	}
+
+	public void setIdRegla(Long idRegla) {
+		this.idRegla = idRegla;
+	}
+
+	public String getTipo() {
+		return tipo;
+	}
+
+	public void setTipo(String tipo) {
+		this.tipo = tipo;
+	}
+
+	public TipoReglaTarifa getClase() {
+		return clase;
+	}
+
+	public void setClase(TipoReglaTarifa clase) {
+		this.clase = clase;
+	}
+
+	public LocalDate getFechaDesde() {
+		return fechaDesde;
+	}
+
+	public void setFechaDesde(LocalDate fechaDesde) {
+		this.fechaDesde = fechaDesde;
+	}
+
+	public LocalDate getFechaHasta() {
+		return fechaHasta;
+	}
+
+	public void setFechaHasta(LocalDate fechaHasta) {
+		this.fechaHasta = fechaHasta;
+	}
+
+	public Integer getDiaSemana() {
+		return diaSemana;
+	}
+
+	public void setDiaSemana(Integer diaSemana) {
+		this.diaSemana = diaSemana;
+	}
+
+	public Integer getMinNoches() {
+		return minNoches;
+	}
+
+	public void setMinNoches(Integer minNoches) {
+		this.minNoches = minNoches;
+	}
+
+	public BigDecimal getPorcentaje() {
+		return porcentaje;
+	}
+
+	public void setPorcentaje(BigDecimal porcentaje) {
+		this.porcentaje = porcentaje;
+	}
+}
@@ -0,0 +1,106 @@
+/**
+ * @file: ReservaCargaDTO.java
+ * @author: (c) 2026 MARCO
+ * @created: 18 oct. 2026 15:10:12
+ */
+package com.equipo02.hotel.dto;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.equipo02.hotel.domain.Reserva;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * DTO de una reserva dentro de una carga masiva. Las relaciones se indican solo por id.
+ */
+public class ReservaCargaDTO {
+
+    /** Fecha de llegada. */
+    @NotNull(message = "La fecha de inicio es obligatoria")
+    private LocalDate fechaInicio;
+
+    /** Fecha de salida. */
+    @NotNull(message = "La fecha de fin es obligatoria")
+    private LocalDate fechaFin;
+
+    /** Estado de la reserva; activa si no se indica. */
+    private Boolean estado;
+
+    /** Id del huésped que hace la reserva. */
+    @NotNull(message = "El huésped es obligatorio")
+    private Long idHuesped;
+
+    /** Id del empleado que registra la reserva. */
+    @NotNull(message = "El empleado es obligatorio")
+    private Long idEmpleado;
+
+    /** Ids de las habitaciones asignadas. */
+    private List<Long> habitaciones = new ArrayList<>();
+
+    /**
+     * Métodos getters y setters para acceder y modificar los atributos de la clase.
+     */
+    public LocalDate getFechaInicio() {
+        return fechaInicio;
+    }
+
+    public void setFechaInicio(LocalDate fechaInicio) {
+        this.fechaInicio = fechaInicio;
+    }
+
+    public LocalDate getFechaFin() {
+        return fechaFin;
+    }
+
+    public void setFechaFin(LocalDate fechaFin) {
+        this.fechaFin = fechaFin;
+    }
+
+    public Boolean getEstado() {
+        return estado;
+    }
+
+    public void setEstado(Boolean estado) {
+        this.estado = estado;
+    }
+
+    public Long getIdHuesped() {
+        return idHuesped;
+    }
+
+    public void setIdHuesped(Long idHuesped) {
+        this.idHuesped = idHuesped;
+    }
+
+    public Long getIdEmpleado() {
+        return idEmpleado;
+    }
+
+    public void setIdEmpleado(Long idEmpleado) {
+        this.idEmpleado = idEmpleado;
+    }
+
+    public List<Long> getHabitaciones() {
+        return habitaciones;
+    }
+
+    public void setHabitaciones(List<Long> habitaciones) {
+        this.habitaciones = habitaciones;
+    }
+
+    /**
+     * Comprueba que la estancia no supere {@link Reserva#MAX_NOCHES} noches.
+     * @return true si falta alguna fecha o la estancia es admisible.
+     */
+    @JsonIgnore
+    @AssertTrue(message = "La estancia no puede superar " + Reserva.MAX_NOCHES + " noches")
+    public boolean isEstanciaAdmitida() {
+        return fechaInicio == null || fechaFin == null
+                || fechaFin.toEpochDay() - fechaInicio.toEpochDay() <= Reserva.MAX_NOCHES;
+    }
+}
@@ -12,8 +12,11 @@ import java.util.List;
 import com.equipo02.hotel.domain.Empleado;
 import com.equipo02.hotel.domain.Habitacion;
 import com.equipo02.hotel.domain.Huesped;
+import com.equipo02.hotel.domain.Reserva;
+import com.equipo02.hotel.util.Fechas;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.hateoas.RepresentationModel;
@@ -95,5 +98,16 @@ public class ReservaDTO extends RepresentationModel<ReservaDTO> {
 	public void setHabitaciones(List<Habitacion> habitaciones) {
 		this.habitaciones = habitaciones;
 	}
+
+	/**
+	 * Comprueba que la estancia no supere {@link Reserva#MAX_NOCHES} noches.
+	 * @return true si falta alguna fecha o la estancia es admisible.
+	 */
+	@JsonIgnore
+	@AssertTrue(message = "la estancia no puede superar " + Reserva.MAX_NOCHES + " noches")
+	public boolean isEstanciaAdmitida() {
+		return fechaInicio == null || fechaFin == null
+				|| Fechas.aDia(fechaFin) - Fechas.aDia(fechaInicio) <= Reserva.MAX_NOCHES;
+	}
     
 }
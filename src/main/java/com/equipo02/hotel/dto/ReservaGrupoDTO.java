@@ -0,0 +1,131 @@
+/**
+ * @file: ReservaGrupoDTO.java
+ * @author: (c) 2026 MARCO
+ * @created: 18 oct. 2026 15:58:21
+ */
+package com.equipo02.hotel.dto;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.hateoas.RepresentationModel;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * DTO de una reserva de grupo: varias habitaciones en un mismo rango de fechas.
+ * Las habitaciones se indican por id o como una cantidad de habitaciones de un tipo.
+ */
+public class ReservaGrupoDTO extends RepresentationModel<ReservaGrupoDTO> {
+
+    /** Identificador de la reserva creada (solo en la respuesta). */
+    private Long idReserva;
+
+    /** Fecha de llegada. */
+    @NotNull(message = "no puede ser nula")
+    private LocalDate fechaInicio;
+
+    /** Fecha de salida. */
+    @NotNull(message = "no puede ser nula")
+    private LocalDate fechaFin;
+
+    /** Estado de la reserva. */
+    private boolean estado = true;
+
+    /** Id del huésped que hace la reserva. */
+    @NotNull(message = "no puede ser nulo")
+    private Long idHuesped;
+
+    /** Id del empleado que registra la reserva. */
+    @NotNull(message = "no puede ser nulo")
+    private Long idEmpleado;
+
+    /** Ids de las habitaciones; en la respuesta, las habitaciones asignadas. */
+    private List<Long> habitaciones = new ArrayList<>();
+
+    /** Tipo de habitación, cuando se piden habitaciones por cantidad. */
+    private String tipo;
+
+    /** Número de habitaciones del tipo indicado. */
+    @Min(1)
+    @Max(200)
+    private Integer cantidad;
+
+    /**
+     * Métodos getters y setters para acceder y modificar los atributos de la clase.
+     */
+    public Long getIdReserva() {
+        return idReserva;
+    }
+
+    public void setIdReserva(Long idReserva) {
+        this.idReserva = idReserva;
+    }
+
+    public LocalDate getFechaInicio() {
+        return fechaInicio;
+    }
+
+    public void setFechaInicio(LocalDate fechaInicio) {
+        this.fechaInicio = fechaInicio;
+    }
+
+    public LocalDate getFechaFin() {
+        return fechaFin;
+    }
+
+    public void setFechaFin(LocalDate fechaFin) {
+        this.fechaFin = fechaFin;
+    }
+
+    public boolean isEstado() {
+        return estado;
+    }
+
+    public void setEstado(boolean estado) {
+        this.estado = estado;
+    }
+
+    public Long getIdHuesped() {
+        return idHuesped;
+    }
+
+    public void setIdHuesped(Long idHuesped) {
+        this.idHuesped = idHuesped;
+    }
+
+    public Long getIdEmpleado() {
+        return idEmpleado;
+    }
+
+    public void setIdEmpleado(Long idEmpleado) {
+        this.idEmpleado = idEmpleado;
+    }
+
+    public List<Long> getHabitaciones() {
+        return habitaciones;
+    }
+
+    public void setHabitaciones(List<Long> habitaciones) {
+        this.habitaciones = habitaciones;
+    }
+
+    public String getTipo() {
+        return tipo;
+    }
+
+    public void setTipo(String tipo) {
+        this.tipo = tipo;
+    }
+
+    public Integer getCantidad() {
+        return cantidad;
+    }
+
+    public void setCantidad(Integer cantidad) {
+        this.cantidad = cantidad;
+    }
+}
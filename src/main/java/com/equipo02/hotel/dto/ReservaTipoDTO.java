@@ -0,0 +1,104 @@
+/**
+ * @file: ReservaTipoDTO.java
+ * @author: (c) 2026 MARCO
+ * @created: 18 oct. 2026 22:55:40
+ */
+package com.equipo02.hotel.dto;
+
+import java.time.LocalDate;
+
+import org.springframework.hateoas.RepresentationModel;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * DTO de una reserva hecha por tipo de habitación. La habitación concreta se asigna más tarde.
+ */
+public class ReservaTipoDTO extends RepresentationModel<ReservaTipoDTO> {
+
+    /** Identificador de la reserva creada (solo en la respuesta). */
+    private Long idReserva;
+
+    /** Fecha de llegada. */
+    @NotNull(message = "no puede ser nula")
+    private LocalDate fechaInicio;
+
+    /** Fecha de salida. */
+    @NotNull(message = "no puede ser nula")
+    private LocalDate fechaFin;
+
+    /** Estado de la reserva. */
+    private boolean estado = true;
+
+    /** Id del huésped que hace la reserva. */
+    @NotNull(message = "no puede ser nulo")
+    private Long idHuesped;
+
+    /** Id del empleado que registra la reserva. */
+    @NotNull(message = "no puede ser nulo")
+    private Long idEmpleado;
+
+    /** Tipo de habitación pedido. */
+    @NotBlank(message = "no puede estar vacío")
+    private String tipo;
+
+    /**
+     * Métodos getters y setters para acceder y modificar los atributos de la clase.
+     */
+    public Long getIdReserva() {
+        return idReserva;
+    }
+
+    public void setIdReserva(Long idReserva) {
+        this.idReserva = idReserva;
+    }
+
+    public LocalDate getFechaInicio() {
+        return fechaInicio;
+    }
+
+    public void setFechaInicio(LocalDate fechaInicio) {
+        this.fechaInicio = fechaInicio;
+    }
+
+    public LocalDate getFechaFin() {
+        return fechaFin;
+    }
+
+    public void setFechaFin(LocalDate fechaFin) {
+        this.fechaFin = fechaFin;
+    }
+
+    public boolean isEstado() {
+        return estado;
+    }
+
+    public void setEstado(boolean estado) {
+        this.estado = estado;
+    }
+
+    public Long getIdHuesped() {
+        return idHuesped;
+    }
+
+    public void setIdHuesped(Long idHuesped) {
+        this.idHuesped = idHuesped;
+    }
+
+    public Long getIdEmpleado() {
+        return idEmpleado;
+    }
+
+    public void setIdEmpleado(Long idEmpleado) {
+        this.idEmpleado = idEmpleado;
+    }
+
+    public String getTipo() {
+        return tipo;
+    }
+
+    public void setTipo(String tipo) {
+        this.tipo = tipo;
+    }
+}
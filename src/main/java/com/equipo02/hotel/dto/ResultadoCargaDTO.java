@@ -0,0 +1,93 @@
+/**
+ * @file: ResultadoCargaDTO.java
+ * @author: (c) 2026 MARCO
+ * @created: 18 oct. 2026 15:14:40
+ */
+package com.equipo02.hotel.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO con el resultado de una carga masiva: cuántas filas se recibieron, cuántas se guardaron
+ * y el motivo del rechazo de las demás.
+ */
+public class ResultadoCargaDTO {
+
+    /** Número máximo de errores que se detallan en la respuesta. */
+    public static final int ERRORES_MAXIMOS = 1000;
+
+    /** Filas leídas del cuerpo de la petición. */
+    private int recibidas;
+
+    /** Filas guardadas. */
+    private int guardadas;
+
+    /** Filas rechazadas. */
+    private int rechazadas;
+
+    /** Detalle de las primeras filas rechazadas. */
+    private List<ErrorFila> errores = new ArrayList<>();
+
+    /**
+     * Registra una fila rechazada.
+     *
+     * @param indice  Posición de la fila en el cuerpo (desde 0).
+     * @param mensaje Motivo del rechazo.
+     */
+    public void rechazar(int indice, String mensaje) {
+        rechazadas++;
+        if (errores.size() < ERRORES_MAXIMOS) {
+            errores.add(new ErrorFila(indice, mensaje));
+        }
+    }
+
+    public void sumarRecibidas(int filas) {
+        recibidas += filas;
+    }
+
+    public void sumarGuardadas(int filas) {
+        guardadas += filas;
+    }
+
+    /**
+     * Métodos getters para acceder a los atributos de la clase.
+     */
+    public int getRecibidas() {
+        return recibidas;
+    }
+
+    public int getGuardadas() {
+        return guardadas;
+    }
+
+    public int getRechazadas() {
+        return rechazadas;
+    }
+
+    public List<ErrorFila> getErrores() {
+        return errores;
+    }
+
+    /**
+     * Error de una fila de la carga.
+     */
+    public static class ErrorFila {
+
+        private final int indice;
+        private final String mensaje;
+
+        public ErrorFila(int indice, String mensaje) {
+            this.indice = indice;
+            this.mensaje = mensaje;
+        }
+
+        public int getIndice() {
+            return indice;
+        }
+
+        public String getMensaje() {
+            return mensaje;
+        }
+    }
+}
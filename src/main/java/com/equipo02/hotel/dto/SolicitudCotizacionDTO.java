@@ -0,0 +1,57 @@
+/**
+ * @file: SolicitudCotizacionDTO.java
+ * @author: (c)2026 Cueva
+ * @created: 18 oct 2026, 19:42:16
+ */
+package com.equipo02.hotel.dto;
+
+import java.time.LocalDate;
+
+/**
+ * DTO con una combinación de tipo de habitación y fechas a cotizar dentro de un lote.
+ * No lleva anotaciones de validación: las combinaciones inválidas se devuelven como filas con error.
+ */
+public class SolicitudCotizacionDTO {
+
+	/**
+     * Tipo de habitación.
+     */
+	private String tipo;
+
+	/**
+     * Fecha de llegada.
+     */
+	private LocalDate desde;
+
+	/**
+     * Fecha de salida.
+     */
+	private LocalDate hasta;
+
+	/**
+     * Métodos getters y setters para acceder y modificar los atributos de la clase.
+     */
+	public String getTipo() {
+		return tipo;
+	}
+
+	public void setTipo(String tipo) {
+		this.tipo = tipo;
+	}
+
+	public LocalDate getDesde() {
+		return desde;
+	}
+
+	public void setDesde(LocalDate desde) {
+		this.desde = desde;
+	}
+
+	public LocalDate getHasta() {
+		return hasta;
+	}
+
+	public void setHasta(LocalDate hasta) {
+		this.hasta = hasta;
+	}
+}
@@ -0,0 +1,31 @@
+/**
+ * @file: EmpleadoCambioEvent.java
+ * @author: (c)2026 Cueva
+ * @created: 21 oct 2026, 10:41:07
+ */
+package com.equipo02.hotel.events;
+
+/**
+ * Evento publicado cuando se modifican los datos de un empleado.
+ * Solo lleva el id: lo usan las cachés que guardan una copia del empleado para descartarla.
+ */
+public class EmpleadoCambioEvent {
+
+    private final Long idEmpleado;
+
+    private EmpleadoCambioEvent(Long idEmpleado) {
+        this.idEmpleado = idEmpleado;
+    }
+
+    /**
+     * @param idEmpleado El id del empleado modificado.
+     * @return El evento.
+     */
+    public static EmpleadoCambioEvent de(Long idEmpleado) {
+        return new EmpleadoCambioEvent(idEmpleado);
+    }
+
+    public Long getIdEmpleado() {
+        return idEmpleado;
+    }
+}
@@ -0,0 +1,80 @@
+/**
+ * @file: HabitacionCambioEvent.java
+ * @author: (c)2026 Cueva
+ * @created: 18 oct 2026, 09:24:31
+ */
+package com.equipo02.hotel.events;
+
+import java.math.BigDecimal;
+
+import com.equipo02.hotel.domain.Habitacion;
+
+/**
+ * Evento publicado cuando se crea, modifica o elimina una habitación.
+ * Contiene una copia inmutable de los datos de la habitación para que los
+ * índices en memoria no dependan de entidades administradas por JPA.
+ */
+public class HabitacionCambioEvent {
+
+    private final Long idHabitacion;
+    private final String tipo;
+    private final BigDecimal precio;
+    private final String descripcion;
+    private final boolean disponible;
+    private final boolean eliminada;
+
+    private HabitacionCambioEvent(Long idHabitacion, String tipo, BigDecimal precio, String descripcion,
+                                  boolean disponible, boolean eliminada) {
+        this.idHabitacion = idHabitacion;
+        this.tipo = tipo;
+        this.precio = precio;
+        this.descripcion = descripcion;
+        this.disponible = disponible;
+        this.eliminada = eliminada;
+    }
+
+    /**
+     * Construye el evento a partir del estado actual de una habitación.
+     *
+     * @param habitacion La habitación guardada o modificada.
+     * @return El evento con los datos de la habitación.
+     */
+    public static HabitacionCambioEvent de(Habitacion habitacion) {
+        return new HabitacionCambioEvent(habitacion.getIdHabitacion(), habitacion.getTipo(), habitacion.getPrecio(),
+                habitacion.getDescripcion(), habitacion.isDisponible(), false);
+    }
+
+    /**
+     * Construye el evento para una habitación eliminada.
+     *
+     * @param idHabitacion El id de la habitación eliminada.
+     * @return El evento de eliminación.
+     */
+    public static HabitacionCambioEvent eliminada(Long idHabitacion) {
+        return new HabitacionCambioEvent(idHabitacion, null, null, null, false, true);
+    }
+
+    public Long getIdHabitacion() {
+        return idHabitacion;
+    }
+
+    public String getTipo() {
+        return tipo;
+    }
+
+    public BigDecimal getPrecio() {
+        return precio;
+    }
+
+    public String getDescripcion() {
+        return descripcion;
+    }
+
+    public boolean isDisponible() {
+        return disponible;
+    }
+
+    public boolean isEliminada() {
+        return eliminada;
+    }
+}
@@ -0,0 +1,93 @@
+/**
+ * @file: HuespedCambioEvent.java
+ * @author: (c) 2026 Rodriguez
+ * @created: 19 oct. 2026 09:12:40
+ */
+package com.equipo02.hotel.events;
+
+import com.equipo02.hotel.domain.Huesped;
+
+/**
+ * Evento publicado cuando se crea, modifica o elimina un huésped.
+ * Contiene una copia de los datos del huésped y el DNI que tenía antes del cambio, para que los
+ * índices en memoria no dependan de entidades administradas por JPA.
+ */
+public class HuespedCambioEvent {
+
+    private final Long idHuesped;
+    private final String dniAnterior;
+    private final String dniHuesped;
+    private final String nombreHuesped;
+    private final String telefonoHuesped;
+    private final String correoHuesped;
+    private final Long idAval;
+    private final boolean eliminado;
+
+    private HuespedCambioEvent(Long idHuesped, String dniAnterior, String dniHuesped, String nombreHuesped,
+                               String telefonoHuesped, String correoHuesped, Long idAval, boolean eliminado) {
+        this.idHuesped = idHuesped;
+        this.dniAnterior = dniAnterior;
+        this.dniHuesped = dniHuesped;
+        this.nombreHuesped = nombreHuesped;
+        this.telefonoHuesped = telefonoHuesped;
+        this.correoHuesped = correoHuesped;
+        this.idAval = idAval;
+        this.eliminado = eliminado;
+    }
+
+    /**
+     * Construye el evento a partir del estado actual de un huésped.
+     *
+     * @param huesped     El huésped guardado.
+     * @param dniAnterior El DNI que tenía antes del cambio, o null si es nuevo.
+     * @return El evento con los datos del huésped.
+     */
+    public static HuespedCambioEvent de(Huesped huesped, String dniAnterior) {
+        return new HuespedCambioEvent(huesped.getIdHuesped(), dniAnterior, huesped.getDniHuesped(),
+                huesped.getNombreHuesped(), huesped.getTelefonoHuesped(), huesped.getCorreoHuesped(),
+                huesped.getAval() == null ? null : huesped.getAval().getIdHuesped(), false);
+    }
+
+    /**
+     * Construye el evento para un huésped eliminado.
+     *
+     * @param idHuesped El id del huésped eliminado.
+     * @param dni       El DNI que tenía.
+     * @return El evento de eliminación.
+     */
+    public static HuespedCambioEvent eliminado(Long idHuesped, String dni) {
+        return new HuespedCambioEvent(idHuesped, dni, null, null, null, null, null, true);
+    }
+
+    public Long getIdHuesped() {
+        return idHuesped;
+    }
+
+    public String getDniAnterior() {
+        return dniAnterior;
+    }
+
+    public String getDniHuesped() {
+        return dniHuesped;
+    }
+
+    public String getNombreHuesped() {
+        return nombreHuesped;
+    }
+
+    public String getTelefonoHuesped() {
+        return telefonoHuesped;
+    }
+
+    public String getCorreoHuesped() {
+        return correoHuesped;
+    }
+
+    public Long getIdAval() {
+        return idAval;
+    }
+
+    public boolean isEliminado() {
+        return eliminado;
+    }
+}
@@ -0,0 +1,155 @@
+/**
+ * @file: ReservaOcupacionEvent.java
+ * @author: (c) 2026 MARCO
+ * @created: 18 oct. 2026 09:20:05
+ */
+package com.equipo02.hotel.events;
+
+import com.equipo02.hotel.domain.Habitacion;
+import com.equipo02.hotel.domain.Reserva;
+import com.equipo02.hotel.util.Fechas;
+
+/**
+ * Evento publicado cuando cambia la ocupación de una reserva (creación, cambio de fechas,
+ * asignación o retiro de habitaciones, eliminación).
+ *
+ * Lleva el estado completo y actual de la reserva, de modo que los índices en memoria
+ * solo tienen que reemplazar lo que sabían de ella.
+ */
+public class ReservaOcupacionEvent {
+
+    private static final long[] SIN_HABITACIONES = new long[0];
+
+    /** Identificador de la reserva. */
+    private final Long idReserva;
+
+    /** Primer día ocupado (epoch day, inclusivo). */
+    private final int desde;
+
+    /** Día de salida (epoch day, exclusivo). */
+    private final int hasta;
+
+    /** Habitaciones asignadas a la reserva. */
+    private final long[] habitaciones;
+
+    /** Indica si la reserva fue eliminada. */
+    private final boolean eliminada;
+
+    /** Tipo pedido por una reserva hecha por tipo que aún no tiene habitaciones, o null. */
+    private final String tipoPendiente;
+
+    /** Huésped de la reserva, o null si no se conoce. */
+    private final Long idHuesped;
+
+    /** Indica si la reserva está activa. Una reserva inactiva no ocupa habitaciones ni cupo. */
+    private final boolean activa;
+
+    private ReservaOcupacionEvent(Long idReserva, int desde, int hasta, long[] habitaciones, boolean eliminada,
+            String tipoPendiente, Long idHuesped, boolean activa) {
+        this.idReserva = idReserva;
+        this.desde = desde;
+        this.hasta = hasta;
+        this.habitaciones = habitaciones;
+        this.eliminada = eliminada;
+        this.tipoPendiente = tipoPendiente;
+        this.idHuesped = idHuesped;
+        this.activa = activa;
+    }
+
+    /**
+     * Construye el evento a partir del estado actual de una reserva.
+     * Una reserva sin fechas no ocupa ninguna noche, y una reserva inactiva no ocupa sus habitaciones
+     * ni el cupo de su tipo.
+     *
+     * @param reserva La reserva modificada.
+     * @return El evento con la ocupación de la reserva.
+     */
+    public static ReservaOcupacionEvent de(Reserva reserva) {
+        Long idHuesped = reserva.getHuesped() == null ? null : reserva.getHuesped().getIdHuesped();
+        if (reserva.getFechaInicio() == null || reserva.getFechaFin() == null) {
+            return new ReservaOcupacionEvent(reserva.getIdReserva(), 0, 0, SIN_HABITACIONES, false, null, idHuesped,
+                    reserva.isEstado());
+        }
+        int desde = Fechas.aDia(reserva.getFechaInicio());
+        int hasta = Math.max(Fechas.aDia(reserva.getFechaFin()), desde + 1);
+        if (!reserva.isEstado()) {
+            return new ReservaOcupacionEvent(reserva.getIdReserva(), desde, hasta, SIN_HABITACIONES, false, null,
+                    idHuesped, false);
+        }
+        long[] habitaciones = reserva.getHabitaciones().stream()
+                .map(Habitacion::getIdHabitacion)
+                .mapToLong(Long::longValue)
+                .toArray();
+        String tipoPendiente = habitaciones.length == 0 ? reserva.getTipoSolicitado() : null;
+        return new ReservaOcupacionEvent(reserva.getIdReserva(), desde, hasta, habitaciones, false, tipoPendiente,
+                idHuesped, true);
+    }
+
+    /**
+     * Construye el evento a partir de datos ya convertidos a días.
+     *
+     * @param idReserva    El id de la reserva.
+     * @param desde        Primer día ocupado (inclusivo).
+     * @param hasta        Día de salida (exclusivo).
+     * @param habitaciones Las habitaciones asignadas.
+     * @return El evento con la ocupación de la reserva.
+     */
+    public static ReservaOcupacionEvent de(Long idReserva, int desde, int hasta, long[] habitaciones) {
+        return new ReservaOcupacionEvent(idReserva, desde, hasta, habitaciones, false, null, null, true);
+    }
+
+    /**
+     * Construye el evento de una reserva hecha por tipo que aún no tiene habitaciones.
+     *
+     * @param idReserva El id de la reserva.
+     * @param desde     Primer día ocupado (inclusivo).
+     * @param hasta     Día de salida (exclusivo).
+     * @param tipo      El tipo de habitación pedido.
+     * @return El evento con la ocupación de la reserva.
+     */
+    public static ReservaOcupacionEvent pendiente(Long idReserva, int desde, int hasta, String tipo) {
+        return new ReservaOcupacionEvent(idReserva, desde, hasta, SIN_HABITACIONES, false, tipo, null, true);
+    }
+
+    /**
+     * Construye el evento para una reserva eliminada.
+     *
+     * @param idReserva El id de la reserva eliminada.
+     * @return El evento de eliminación.
+     */
+    public static ReservaOcupacionEvent eliminada(Long idReserva) {
+        return new ReservaOcupacionEvent(idReserva, 0, 0, SIN_HABITACIONES, true, null, null, false);
+    }
+
+    public Long getIdReserva() {
+        return idReserva;
+    }
+
+    public int getDesde() {
+        return desde;
+    }
+
+    public int getHasta() {
+        return hasta;
+    }
+
+    public long[] getHabitaciones() {
+        return habitaciones;
+    }
+
+    public boolean isEliminada() {
+        return eliminada;
+    }
+
+    public String getTipoPendiente() {
+        return tipoPendiente;
+    }
+
+    public Long getIdHuesped() {
+        return idHuesped;
+    }
+
+    public boolean isActiva() {
+        return activa;
+    }
+}
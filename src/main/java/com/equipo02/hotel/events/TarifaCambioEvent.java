@@ -0,0 +1,35 @@
+/**
+ * @file: TarifaCambioEvent.java
+ * @author: (c)2026 Cueva
+ * @created: 18 oct 2026, 18:12:26
+ */
+package com.equipo02.hotel.events;
+
+import java.util.List;
+
+/**
+ * Evento publicado cuando se crean, modifican o eliminan reglas de tarifa.
+ * Indica los tipos de habitación cuyos calendarios de precios deben recalcularse.
+ */
+public class TarifaCambioEvent {
+
+    private final List<String> tipos;
+
+    private TarifaCambioEvent(List<String> tipos) {
+        this.tipos = tipos;
+    }
+
+    /**
+     * Construye el evento para los tipos indicados. Los nulos se ignoran.
+     *
+     * @param tipos Los tipos de habitación afectados.
+     * @return El evento.
+     */
+    public static TarifaCambioEvent de(String... tipos) {
+        return new TarifaCambioEvent(java.util.Arrays.stream(tipos).filter(t -> t != null).distinct().toList());
+    }
+
+    public List<String> getTipos() {
+        return tipos;
+    }
+}
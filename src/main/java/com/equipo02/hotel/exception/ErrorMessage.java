@@ -16,6 +16,8 @@ public class ErrorMessage {
     public static final String HABITACION_NOT_FOUND = "La habitación con el ID proporcionado no fue encontrada";
     public static final String HUESPED_NOT_FOUND = "El huésped con el ID proporcionado no fue encontrado";
     public static final String EMPLEADO_NOT_FOUND = "El empleado con el ID proporcionado no fue encontrado";
+    public static final String BLOQUEO_NOT_FOUND = "El bloqueo con el ID proporcionado no existe o ya venció";
+    public static final String REGLA_TARIFA_NOT_FOUND = "La regla de tarifa con el ID proporcionado no fue encontrada";
 
     private int status;
     private String message;
@@ -6,7 +6,6 @@
 package com.equipo02.hotel.exception;
 
 import com.equipo02.hotel.util.ApiResponse;
-import org.apache.coyote.BadRequestException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -0,0 +1,21 @@
+/**
+ * @file: ComprobacionHuesped.java
+ * @author: (c) 2026 Rodriguez
+ * @created: 18 oct. 2026 16:20:12
+ */
+package com.equipo02.hotel.repositories;
+
+/**
+ * Resultado de {@link HuespedRepository#comprobar}: conteos para validar el aval y el DNI de un huésped.
+ */
+public interface ComprobacionHuesped {
+
+	/** Huéspedes con el id del aval; 0 si el aval no existe. */
+	long getAvales();
+
+	/** Otros huéspedes que ya tienen ese aval. */
+	long getAvalados();
+
+	/** Otros huéspedes con el mismo DNI. */
+	long getDnis();
+}
@@ -7,8 +7,13 @@
  */
 package com.equipo02.hotel.repositories;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 
 import com.equipo02.hotel.domain.Empleado;
 import com.equipo02.hotel.domain.Huesped;
@@ -19,4 +24,23 @@ import com.equipo02.hotel.domain.Huesped;
  */
 public interface EmpleadoRepository extends JpaRepository<Empleado, Long> {
 	Empleado findByDniEmpleado(String dniEmpleado);
+
+	/**
+     * Lista una página de empleados con id mayor que el cursor, ordenados por id.
+     *
+     * @param cursor   Id del último empleado de la página anterior.
+     * @param pageable Tamaño de la página.
+     * @return Los empleados de la página.
+     */
+	Slice<Empleado> findByIdEmpleadoGreaterThanOrderByIdEmpleado(Long cursor, Pageable pageable);
+
+	/**
+     * Elimina un empleado sin cargarlo.
+     *
+     * @param idEmpleado El id del empleado.
+     * @return El número de empleados eliminados, 0 si no existía.
+     */
+	@Modifying
+	@Query("delete from Empleado e where e.idEmpleado = :idEmpleado")
+	int eliminarPorId(@Param("idEmpleado") Long idEmpleado);
 }
@@ -0,0 +1,26 @@
+/**
+ * @file: FilaExportHuesped.java
+ * @author: (c) 2026 Rodriguez
+ * @created: 18 oct. 2026 13:55:40
+ */
+package com.equipo02.hotel.repositories;
+
+/**
+ * Proyección de los campos simples de un huésped, usada por la exportación.
+ */
+public interface FilaExportHuesped {
+
+	Long getIdHuesped();
+
+	String getDniHuesped();
+
+	String getNombreHuesped();
+
+	String getDireccionHuesped();
+
+	String getTelefonoHuesped();
+
+	String getCorreoHuesped();
+
+	Long getIdAval();
+}
@@ -0,0 +1,29 @@
+/**
+ * @file: FilaExportReserva.java
+ * @author: (c) 2026 MARCO
+ * @created: 18 oct. 2026 13:52:16
+ */
+package com.equipo02.hotel.repositories;
+
+import java.util.Date;
+
+/**
+ * Proyección de una reserva con una de sus habitaciones, usada por la exportación.
+ * Una reserva sin habitaciones aparece una vez con idHabitacion nulo.
+ */
+public interface FilaExportReserva {
+
+	Long getIdReserva();
+
+	Date getFechaInicio();
+
+	Date getFechaFin();
+
+	Boolean getEstado();
+
+	Long getIdHuesped();
+
+	Long getIdEmpleado();
+
+	Long getIdHabitacion();
+}
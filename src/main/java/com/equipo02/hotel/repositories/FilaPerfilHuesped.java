@@ -0,0 +1,14 @@
+/**
+ * @file: FilaPerfilHuesped.java
+ * @author: (c) 2026 Rodriguez
+ * @created: 19 oct. 2026 16:21:05
+ */
+package com.equipo02.hotel.repositories;
+
+/**
+ * Proyección de un huésped con el nombre de su aval, usada por el perfil.
+ */
+public interface FilaPerfilHuesped extends FilaExportHuesped {
+
+	String getNombreAval();
+}
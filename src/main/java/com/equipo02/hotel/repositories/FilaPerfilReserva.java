@@ -0,0 +1,34 @@
+/**
+ * @file: FilaPerfilReserva.java
+ * @author: (c) 2026 Rodriguez
+ * @created: 19 oct. 2026 16:24:37
+ */
+package com.equipo02.hotel.repositories;
+
+import java.math.BigDecimal;
+import java.util.Date;
+
+/**
+ * Proyección de un par reserva-habitación de un huésped, usada por el perfil.
+ * Los campos de la habitación son null si la reserva no tiene ninguna asignada.
+ */
+public interface FilaPerfilReserva {
+
+	Long getIdReserva();
+
+	Date getFechaInicio();
+
+	Date getFechaFin();
+
+	Boolean getEstado();
+
+	String getTipoSolicitado();
+
+	Long getIdEmpleado();
+
+	Long getIdHabitacion();
+
+	String getTipo();
+
+	BigDecimal getPrecio();
+}
@@ -7,14 +7,166 @@
  */
 package com.equipo02.hotel.repositories;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 
 import com.equipo02.hotel.domain.Habitacion;
+
+import jakarta.persistence.QueryHint;
 /**
  *  Repositorio para la entidad Habitacion, proporciona operaciones CRUD básicas.
  * Extiende JpaRepository que proporciona métodos para acceder y modificar los datos de la entidad Reserva en la base de datos.
  */
 public interface HabitacionRepository extends JpaRepository<Habitacion, Long> {
 
+	/**
+	 * Condición SQL que indica si la habitación h tiene una reserva activa que ocupa la noche :hoy.
+	 * Va entre paréntesis para poder compararla y negarla también fuera de MariaDB.
+	 */
+	String OCUPADA_HOY = "(exists (select 1 from habitacion_reserva hr join reserva r on r.id_reserva = hr.id_reserva "
+			+ "where hr.id_habitacion = h.id_habitacion and r.estado = true "
+			+ "and r.fecha_inicio <= :hoy and r.fecha_fin > :hoy))";
+
+	/**
+	 * Busca una habitación solo si está asignada a la reserva indicada y, si se indica, la reserva
+	 * es del huésped indicado.
+	 *
+	 * @param idHabitacion El id de la habitación.
+	 * @param idReserva    El id de la reserva.
+	 * @param idHuesped    El id del huésped, o null para no comprobarlo.
+	 * @return La habitación, si pertenece a la reserva.
+	 */
+	@Query("select h from Reserva r join r.habitaciones h where r.idReserva = :idReserva "
+			+ "and h.idHabitacion = :idHabitacion and (:idHuesped is null or r.huesped.idHuesped = :idHuesped)")
+	Optional<Habitacion> buscarEnReserva(@Param("idHabitacion") Long idHabitacion, @Param("idReserva") Long idReserva,
+			@Param("idHuesped") Long idHuesped);
+
+	/**
+	 * Lista los campos simples de todas las habitaciones, sin cargar sus reservas.
+	 *
+	 * @return Una lista con el resumen de cada habitación.
+	 */
+	@Query("select h.idHabitacion as idHabitacion, h.tipo as tipo, h.precio as precio, "
+			+ "h.descripcion as descripcion, h.disponible as disponible from Habitacion h")
+	List<ResumenHabitacion> listarResumenes();
+
+	/**
+	 * Lista una página de habitaciones con id mayor que el cursor, ordenadas por id.
+	 * Los filtros nulos no se aplican.
+	 *
+	 * @param cursor    Id de la última habitación de la página anterior.
+	 * @param tipo      Tipo de habitación.
+	 * @param precioMin Precio mínimo por noche.
+	 * @param precioMax Precio máximo por noche.
+	 * @param pageable  Tamaño de la página.
+	 * @return Las habitaciones de la página.
+	 */
+	@Query("select h from Habitacion h where h.idHabitacion > :cursor "
+			+ "and (:tipo is null or h.tipo = :tipo) "
+			+ "and (:precioMin is null or h.precio >= :precioMin) "
+			+ "and (:precioMax is null or h.precio <= :precioMax) "
+			+ "order by h.idHabitacion")
+	Slice<Habitacion> listarPagina(@Param("cursor") Long cursor, @Param("tipo") String tipo,
+			@Param("precioMin") BigDecimal precioMin, @Param("precioMax") BigDecimal precioMax, Pageable pageable);
+
+	/**
+	 * Carga en una consulta las reservas, con su huésped y su empleado, de las habitaciones indicadas,
+	 * que ya deben estar en el contexto de persistencia. Se usa después de paginar.
+	 *
+	 * @param habitaciones Las habitaciones de la página.
+	 * @return Las mismas habitaciones, con sus reservas inicializadas.
+	 */
+	@Query("select h from Habitacion h left join fetch h.reservas r left join fetch r.huesped "
+			+ "left join fetch r.empleado where h in :habitaciones")
+	List<Habitacion> cargarReservas(@Param("habitaciones") Collection<Habitacion> habitaciones);
+
+	/**
+	 * Busca una habitación trayendo sus reservas, con su huésped y su empleado, en la misma consulta.
+	 *
+	 * @param idHabitacion El id de la habitación.
+	 * @return La habitación con sus reservas, si existe.
+	 */
+	@EntityGraph(attributePaths = { "reservas", "reservas.huesped", "reservas.empleado" })
+	@Query("select h from Habitacion h where h.idHabitacion = :idHabitacion")
+	Optional<Habitacion> buscarDetalle(@Param("idHabitacion") Long idHabitacion);
+
+	/**
+	 * Recorre los campos simples de todas las habitaciones, ordenadas por id.
+	 * Debe consumirse dentro de una transacción y cerrarse al terminar.
+	 *
+	 * @return Un stream con el resumen de cada habitación.
+	 */
+	@Query("select h.idHabitacion as idHabitacion, h.tipo as tipo, h.precio as precio, "
+			+ "h.descripcion as descripcion, h.disponible as disponible from Habitacion h order by h.idHabitacion")
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+	Stream<ResumenHabitacion> exportarHabitaciones();
+
+	/**
+	 * Elimina una habitación sin cargarla.
+	 *
+	 * @param idHabitacion El id de la habitación.
+	 * @return El número de habitaciones eliminadas, 0 si no existía.
+	 */
+	@Modifying
+	@Query("delete from Habitacion h where h.idHabitacion = :idHabitacion")
+	int eliminarPorId(@Param("idHabitacion") Long idHabitacion);
+
+	/**
+	 * Lista, entre las habitaciones indicadas, las que tienen el indicador disponible desfasado
+	 * respecto de sus reservas: disponibles con una estadía en curso o no disponibles sin ella.
+	 *
+	 * @param ids Las habitaciones a comprobar.
+	 * @param hoy El día actual.
+	 * @return Los ids de las habitaciones desfasadas.
+	 */
+	@Query(value = "select h.id_habitacion from habitacion h where h.id_habitacion in :ids "
+			+ "and h.disponible = " + OCUPADA_HOY, nativeQuery = true)
+	List<Long> listarDisponibleDesfasado(@Param("ids") Collection<Long> ids, @Param("hoy") LocalDate hoy);
+
+	/**
+	 * Lista todas las habitaciones con el indicador disponible desfasado respecto de sus reservas.
+	 *
+	 * @param hoy El día actual.
+	 * @return Los ids de las habitaciones desfasadas.
+	 */
+	@Query(value = "select h.id_habitacion from habitacion h where h.disponible = " + OCUPADA_HOY, nativeQuery = true)
+	List<Long> listarDisponibleDesfasado(@Param("hoy") LocalDate hoy);
+
+	/**
+	 * Lista las habitaciones con alguna estadía que empieza o termina en el día indicado,
+	 * las únicas cuyo indicador disponible puede cambiar al empezar ese día.
+	 *
+	 * @param hoy El día actual.
+	 * @return Los ids de las habitaciones.
+	 */
+	@Query(value = "select distinct hr.id_habitacion from habitacion_reserva hr join reserva r on r.id_reserva = hr.id_reserva "
+			+ "where r.fecha_inicio = :hoy or r.fecha_fin = :hoy", nativeQuery = true)
+	List<Long> listarConCambioDeEstadia(@Param("hoy") LocalDate hoy);
+
+	/**
+	 * Recalcula en una sola sentencia el indicador disponible de las habitaciones indicadas a partir de sus reservas.
+	 *
+	 * @param ids Las habitaciones a recalcular.
+	 * @param hoy El día actual.
+	 * @return El número de habitaciones actualizadas.
+	 */
+	@Modifying(clearAutomatically = true)
+	@Query(value = "update habitacion h set h.disponible = not " + OCUPADA_HOY + " where h.id_habitacion in :ids",
+			nativeQuery = true)
+	int recalcularDisponible(@Param("ids") Collection<Long> ids, @Param("hoy") LocalDate hoy);
 }
@@ -6,13 +6,26 @@
 
 package com.equipo02.hotel.repositories;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.equipo02.hotel.domain.Huesped;
 
+import jakarta.persistence.QueryHint;
+
 /**
  * Repositorio para la entidad Huesped, proporciona operaciones CRUD básicas y operaciones de búsqueda.
  * Extiende JpaRepository que proporciona métodos para acceder y modificar los datos de la entidad Huesped en la base de datos.
@@ -43,5 +56,121 @@ public interface HuespedRepository extends JpaRepository<Huesped, Long> {
      * @return El huésped que tiene el DNI proporcionado.
      */
 	Huesped findByDniHuesped(String dniHuesped);
+
+	/**
+     * Indica si algún huésped tiene como aval al huésped indicado.
+     *
+     * @param idAval El id del huésped que actúa como aval.
+     * @return true si ya avala a alguien.
+     */
+	boolean existsByAval_IdHuesped(Long idAval);
+
+	/**
+     * Comprueba en una sola consulta el aval y el DNI que se quieren asignar a un huésped.
+     * Los parámetros nulos no cuentan nada.
+     *
+     * @param idHuesped El id del huésped que se graba, o 0 si es nuevo.
+     * @param dni       El DNI que se quiere asignar.
+     * @param idAval    El id del aval que se quiere asignar.
+     * @return Los conteos de avales, huéspedes avalados y DNIs repetidos.
+     */
+	@Query(value = "select (select count(*) from huesped where id_huesped = :idAval) as avales, "
+			+ "(select count(*) from huesped where id_aval = :idAval and id_huesped <> :idHuesped) as avalados, "
+			+ "(select count(*) from huesped where dni_huesped = :dni and id_huesped <> :idHuesped) as dnis",
+			nativeQuery = true)
+	ComprobacionHuesped comprobar(@Param("idHuesped") Long idHuesped, @Param("dni") String dni,
+			@Param("idAval") Long idAval);
+
+	/**
+     * Elimina un huésped sin cargarlo.
+     *
+     * @param idHuesped El id del huésped.
+     * @return El número de huéspedes eliminados, 0 si no existía.
+     */
+	@Modifying
+	@Query("delete from Huesped h where h.idHuesped = :idHuesped")
+	int eliminarPorId(@Param("idHuesped") Long idHuesped);
+
+	/**
+     * Lista una página de huéspedes con id mayor que el cursor, ordenados por id.
+     *
+     * @param cursor   Id del último huésped de la página anterior.
+     * @param pageable Tamaño de la página.
+     * @return Los huéspedes de la página, con su aval ya cargado.
+     */
+	@EntityGraph(attributePaths = "aval")
+	Slice<Huesped> findByIdHuespedGreaterThanOrderByIdHuesped(Long cursor, Pageable pageable);
+
+	/**
+     * Carga en una consulta las reservas, con su empleado, de los huéspedes indicados, que ya
+     * deben estar en el contexto de persistencia. Se usa después de paginar.
+     *
+     * @param huespedes Los huéspedes de la página.
+     * @return Los mismos huéspedes, con sus reservas inicializadas.
+     */
+	@Query("select h from Huesped h left join fetch h.reservas r left join fetch r.empleado where h in :huespedes")
+	List<Huesped> cargarReservas(@Param("huespedes") Collection<Huesped> huespedes);
+
+	/**
+     * Busca un huésped trayendo su aval y sus reservas, con su empleado, en la misma consulta.
+     *
+     * @param idHuesped El id del huésped.
+     * @return El huésped con sus asociaciones, si existe.
+     */
+	@EntityGraph(attributePaths = { "aval", "reservas", "reservas.empleado" })
+	@Query("select h from Huesped h where h.idHuesped = :idHuesped")
+	Optional<Huesped> buscarDetalle(@Param("idHuesped") Long idHuesped);
+
+	/**
+     * Recorre los campos simples de todos los huéspedes, ordenados por id.
+     * Debe consumirse dentro de una transacción y cerrarse al terminar.
+     *
+     * @return Un stream con una fila por huésped.
+     */
+	@Query("select h.idHuesped as idHuesped, h.dniHuesped as dniHuesped, h.nombreHuesped as nombreHuesped, "
+			+ "h.direccionHuesped as direccionHuesped, h.telefonoHuesped as telefonoHuesped, "
+			+ "h.correoHuesped as correoHuesped, a.idHuesped as idAval "
+			+ "from Huesped h left join h.aval a order by h.idHuesped")
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+	Stream<FilaExportHuesped> exportarHuespedes();
+
+	/**
+     * Busca los campos simples de un huésped junto con el id y el nombre de su aval.
+     *
+     * @param idHuesped El id del huésped.
+     * @return El huésped, si existe.
+     */
+	@Query("select h.idHuesped as idHuesped, h.dniHuesped as dniHuesped, h.nombreHuesped as nombreHuesped, "
+			+ "h.direccionHuesped as direccionHuesped, h.telefonoHuesped as telefonoHuesped, "
+			+ "h.correoHuesped as correoHuesped, a.idHuesped as idAval, a.nombreHuesped as nombreAval "
+			+ "from Huesped h left join h.aval a where h.idHuesped = :idHuesped")
+	Optional<FilaPerfilHuesped> buscarPerfil(@Param("idHuesped") Long idHuesped);
+
+	/**
+     * Recorre los DNI de todos los huéspedes. Debe consumirse dentro de una transacción y cerrarse al terminar.
+     *
+     * @return Un stream con los DNI no nulos.
+     */
+	@Query("select h.dniHuesped from Huesped h where h.dniHuesped is not null")
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+	Stream<String> listarDnis();
+
+	/**
+     * Devuelve los DNI indicados que ya están registrados.
+     *
+     * @param dnis Los DNI a comprobar.
+     * @return Los DNI registrados, tal como están en la base de datos.
+     */
+	@Query("select h.dniHuesped from Huesped h where h.dniHuesped in :dnis")
+	List<String> buscarDnisRegistrados(@Param("dnis") Collection<String> dnis);
+
+	/**
+     * Busca el DNI de un huésped sin cargarlo.
+     *
+     * @param idHuesped El id del huésped.
+     * @return El DNI, vacío si el huésped no existe o no tiene DNI.
+     */
+	@Query("select h.dniHuesped from Huesped h where h.idHuesped = :idHuesped")
+	Optional<String> buscarDni(@Param("idHuesped") Long idHuesped);
 	
 }
@@ -0,0 +1,40 @@
+/**
+ * @file: NocheHabitacionRepository.java
+ * @author: (c) 2026 MARCO
+ * @created: 18 oct. 2026 11:12:40
+ */
+package com.equipo02.hotel.repositories;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.equipo02.hotel.domain.NocheHabitacion;
+
+/**
+ * Repositorio para la entidad NocheHabitacion, que registra qué reserva ocupa cada habitación cada noche.
+ */
+public interface NocheHabitacionRepository extends JpaRepository<NocheHabitacion, NocheHabitacion.Clave> {
+
+	/**
+	 * Libera todas las noches ocupadas por una reserva.
+	 *
+	 * @param idReserva El id de la reserva.
+	 * @return El número de noches liberadas.
+	 */
+	@Modifying
+	@Query("delete from NocheHabitacion n where n.idReserva = :idReserva")
+	int liberarReserva(@Param("idReserva") Long idReserva);
+
+	/**
+	 * Libera las noches que una reserva ocupa en una habitación.
+	 *
+	 * @param idReserva    El id de la reserva.
+	 * @param idHabitacion El id de la habitación.
+	 * @return El número de noches liberadas.
+	 */
+	@Modifying
+	@Query("delete from NocheHabitacion n where n.idReserva = :idReserva and n.idHabitacion = :idHabitacion")
+	int liberarHabitacion(@Param("idReserva") Long idReserva, @Param("idHabitacion") Long idHabitacion);
+}
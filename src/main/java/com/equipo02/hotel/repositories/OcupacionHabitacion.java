@@ -0,0 +1,23 @@
+/**
+ * @file: OcupacionHabitacion.java
+ * @author: (c) 2026 MARCO
+ * @created: 18 oct. 2026 09:40:52
+ */
+package com.equipo02.hotel.repositories;
+
+import java.util.Date;
+
+/**
+ * Proyección de una fila de la tabla habitacion_reserva junto con las fechas de la reserva.
+ * Se usa para construir los índices en memoria sin cargar las entidades completas.
+ */
+public interface OcupacionHabitacion {
+
+	Long getIdReserva();
+
+	Date getFechaInicio();
+
+	Date getFechaFin();
+
+	Long getIdHabitacion();
+}
@@ -7,6 +7,8 @@
 package com.equipo02.hotel.repositories;
 
 import com.equipo02.hotel.domain.entity.Recurso;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
@@ -26,4 +28,13 @@ public interface RecursoRepository extends CrudRepository<Recurso, Long> {
     @Modifying
     @Query("delete from RecursoProveedor rp where rp.idProveedor=?1")
     void eliminarRecursoProveedorPorId(Long id);
+
+    /**
+     * Método para listar una página de recursos con id mayor que el cursor, ordenados por id.
+     *
+     * @param cursor   El ID del último recurso de la página anterior.
+     * @param pageable El tamaño de la página.
+     * @return Los recursos de la página.
+     */
+    Slice<Recurso> findByIdRecursoGreaterThanOrderByIdRecurso(Long cursor, Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+/**
+ * @file: ReglaTarifaRepository.java
+ * @author: (c)2026 Cueva
+ * @created: 18 oct 2026, 18:09:50
+ */
+package com.equipo02.hotel.repositories;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.equipo02.hotel.domain.ReglaTarifa;
+
+/**
+ * Repositorio para la entidad ReglaTarifa.
+ */
+public interface ReglaTarifaRepository extends JpaRepository<ReglaTarifa, Long> {
+
+	/**
+     * Lista las reglas de un tipo de habitación.
+     *
+     * @param tipo El tipo de habitación, sin distinguir mayúsculas.
+     * @return Las reglas del tipo.
+     */
+	List<ReglaTarifa> findByTipoIgnoreCase(String tipo);
+
+	/**
+     * Lista todas las reglas ordenadas por tipo e id.
+     *
+     * @return Las reglas.
+     */
+	List<ReglaTarifa> findAllByOrderByTipoAscIdReglaAsc();
+}
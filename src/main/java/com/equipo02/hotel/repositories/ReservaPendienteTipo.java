@@ -0,0 +1,22 @@
+/**
+ * @file: ReservaPendienteTipo.java
+ * @author: (c) 2026 MARCO
+ * @created: 18 oct. 2026 22:41:07
+ */
+package com.equipo02.hotel.repositories;
+
+import java.util.Date;
+
+/**
+ * Proyección de una reserva hecha por tipo que todavía no tiene habitación asignada.
+ */
+public interface ReservaPendienteTipo {
+
+	Long getIdReserva();
+
+	Date getFechaInicio();
+
+	Date getFechaFin();
+
+	String getTipoSolicitado();
+}
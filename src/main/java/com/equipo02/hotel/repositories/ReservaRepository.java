@@ -5,12 +5,264 @@
  */
 package com.equipo02.hotel.repositories;
 
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
 import com.equipo02.hotel.domain.Reserva;
+
+import jakarta.persistence.QueryHint;
 /**
  * Repositorio para la entidad Reserva, proporciona operaciones CRUD básicas.
  * Extiende JpaRepository que proporciona métodos para acceder y modificar los datos de la entidad Reserva en la base de datos.
  */
 public interface ReservaRepository extends JpaRepository<Reserva, Long> {
 
+	/**
+	 * Recorre todas las asignaciones de habitaciones de las reservas activas junto con las fechas de su reserva.
+	 * Las reservas inactivas no ocupan sus habitaciones.
+	 * Debe consumirse dentro de una transacción y cerrarse al terminar.
+	 *
+	 * @return Un stream con una fila por cada par reserva-habitación.
+	 */
+	@Query("select r.idReserva as idReserva, r.fechaInicio as fechaInicio, r.fechaFin as fechaFin, h.idHabitacion as idHabitacion "
+			+ "from Reserva r join r.habitaciones h where r.estado = true")
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+	Stream<OcupacionHabitacion> listarOcupaciones();
+
+	/**
+	 * Recorre las asignaciones de habitaciones de las reservas activas que terminan después del día indicado.
+	 * Debe consumirse dentro de una transacción y cerrarse al terminar.
+	 *
+	 * @param dia El día.
+	 * @return Un stream con una fila por cada par reserva-habitación.
+	 */
+	@Query("select r.idReserva as idReserva, r.fechaInicio as fechaInicio, r.fechaFin as fechaFin, h.idHabitacion as idHabitacion "
+			+ "from Reserva r join r.habitaciones h where r.estado = true and r.fechaFin > :dia")
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+	Stream<OcupacionHabitacion> listarOcupacionesDesde(@Param("dia") Date dia);
+
+	/**
+	 * Lista las reservas activas hechas por tipo que aún no tienen habitaciones y terminan después del día indicado,
+	 * empezando por las que llegan antes.
+	 *
+	 * @param dia      El día.
+	 * @param pageable Tamaño de la página.
+	 * @return Las reservas pendientes de asignar.
+	 */
+	@Query("select r.idReserva as idReserva, r.fechaInicio as fechaInicio, r.fechaFin as fechaFin, "
+			+ "r.tipoSolicitado as tipoSolicitado from Reserva r "
+			+ "where r.estado = true and r.tipoSolicitado is not null and r.habitaciones is empty and r.fechaFin > :dia "
+			+ "order by r.fechaInicio, r.idReserva")
+	List<ReservaPendienteTipo> listarPendientesDeTipo(@Param("dia") Date dia, Pageable pageable);
+
+	/**
+	 * Lista una página de las reservas de una habitación con id mayor que el cursor, ordenadas por id.
+	 * Se resuelve sobre habitacion_reserva filtrando por habitación, así que no depende de cuántas
+	 * reservas haya tenido la habitación fuera de la página. Los filtros nulos no se aplican.
+	 *
+	 * @param idHabitacion El id de la habitación.
+	 * @param cursor       Id de la última reserva de la página anterior.
+	 * @param desde        Solo reservas que terminan después de esta fecha.
+	 * @param hasta        Solo reservas que empiezan antes de esta fecha.
+	 * @param pageable     Tamaño de la página.
+	 * @return Las reservas de la página, con el huésped y el empleado ya cargados.
+	 */
+	@EntityGraph(attributePaths = { "huesped", "empleado" })
+	@Query("select r from Reserva r join r.habitaciones h where h.idHabitacion = :idHabitacion "
+			+ "and r.idReserva > :cursor "
+			+ "and (:desde is null or r.fechaFin > :desde) "
+			+ "and (:hasta is null or r.fechaInicio < :hasta) "
+			+ "order by r.idReserva")
+	Slice<Reserva> listarPorHabitacion(@Param("idHabitacion") Long idHabitacion, @Param("cursor") Long cursor,
+			@Param("desde") Date desde, @Param("hasta") Date hasta, Pageable pageable);
+
+	/**
+	 * Igual que {@link #listarPorHabitacion}, pero en orden descendente de id: el cursor es el límite
+	 * superior y 0 indica la primera página.
+	 *
+	 * @param idHabitacion El id de la habitación.
+	 * @param cursor       Id de la última reserva de la página anterior, o 0.
+	 * @param desde        Solo reservas que terminan después de esta fecha.
+	 * @param hasta        Solo reservas que empiezan antes de esta fecha.
+	 * @param pageable     Tamaño de la página.
+	 * @return Las reservas de la página, con el huésped y el empleado ya cargados.
+	 */
+	@EntityGraph(attributePaths = { "huesped", "empleado" })
+	@Query("select r from Reserva r join r.habitaciones h where h.idHabitacion = :idHabitacion "
+			+ "and (:cursor = 0 or r.idReserva < :cursor) "
+			+ "and (:desde is null or r.fechaFin > :desde) "
+			+ "and (:hasta is null or r.fechaInicio < :hasta) "
+			+ "order by r.idReserva desc")
+	Slice<Reserva> listarPorHabitacionDesc(@Param("idHabitacion") Long idHabitacion, @Param("cursor") Long cursor,
+			@Param("desde") Date desde, @Param("hasta") Date hasta, Pageable pageable);
+
+	/**
+	 * Cuenta las reservas de una habitación con los mismos filtros de fechas que {@link #listarPorHabitacion}.
+	 *
+	 * @param idHabitacion El id de la habitación.
+	 * @param desde        Solo reservas que terminan después de esta fecha.
+	 * @param hasta        Solo reservas que empiezan antes de esta fecha.
+	 * @return El número de reservas.
+	 */
+	@Query("select count(r) from Reserva r join r.habitaciones h where h.idHabitacion = :idHabitacion "
+			+ "and (:desde is null or r.fechaFin > :desde) "
+			+ "and (:hasta is null or r.fechaInicio < :hasta)")
+	long contarPorHabitacion(@Param("idHabitacion") Long idHabitacion, @Param("desde") Date desde,
+			@Param("hasta") Date hasta);
+
+	/**
+	 * Lista las filas de habitacion_reserva de las reservas activas que ocupan la noche indicada.
+	 *
+	 * @param dia El día.
+	 * @return Una fila por habitación asignada a una reserva en curso.
+	 */
+	@Query("select r.idReserva as idReserva, r.fechaInicio as fechaInicio, r.fechaFin as fechaFin, h.idHabitacion as idHabitacion "
+			+ "from Reserva r join r.habitaciones h where r.estado = true and r.fechaInicio <= :dia and r.fechaFin > :dia")
+	List<OcupacionHabitacion> listarOcupacionesDelDia(@Param("dia") Date dia);
+
+	/**
+	 * Lista una página de reservas con id mayor que el cursor, ordenadas por id.
+	 * Los filtros nulos no se aplican.
+	 *
+	 * @param cursor   Id de la última reserva de la página anterior.
+	 * @param desde    Solo reservas que terminan después de esta fecha.
+	 * @param hasta    Solo reservas que empiezan antes de esta fecha.
+	 * @param estado   Estado de la reserva.
+	 * @param pageable Tamaño de la página.
+	 * @return Las reservas de la página, con el huésped y el empleado ya cargados.
+	 */
+	@EntityGraph(attributePaths = { "huesped", "empleado" })
+	@Query("select r from Reserva r where r.idReserva > :cursor "
+			+ "and (:desde is null or r.fechaFin > :desde) "
+			+ "and (:hasta is null or r.fechaInicio < :hasta) "
+			+ "and (:estado is null or r.estado = :estado) "
+			+ "order by r.idReserva")
+	Slice<Reserva> listarPagina(@Param("cursor") Long cursor, @Param("desde") Date desde, @Param("hasta") Date hasta,
+			@Param("estado") Boolean estado, Pageable pageable);
+
+	/**
+	 * Recorre todas las reservas con sus habitaciones, ordenadas por id de reserva.
+	 * Las filas de una misma reserva llegan consecutivas. Debe consumirse dentro de una
+	 * transacción y cerrarse al terminar.
+	 *
+	 * @return Un stream con una fila por cada par reserva-habitación.
+	 */
+	@Query("select r.idReserva as idReserva, r.fechaInicio as fechaInicio, r.fechaFin as fechaFin, r.estado as estado, "
+			+ "hu.idHuesped as idHuesped, e.idEmpleado as idEmpleado, h.idHabitacion as idHabitacion "
+			+ "from Reserva r left join r.huesped hu left join r.empleado e left join r.habitaciones h "
+			+ "order by r.idReserva")
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+	Stream<FilaExportReserva> exportarReservas();
+
+	/**
+	 * Lista las reservas de un tramo de ids con sus habitaciones, ordenadas por id de reserva.
+	 * Las filas de una misma reserva llegan consecutivas.
+	 *
+	 * @param desde Id a partir del cual se listan (exclusivo).
+	 * @param hasta Último id del tramo (inclusivo).
+	 * @return Una fila por cada par reserva-habitación.
+	 */
+	@Query("select r.idReserva as idReserva, r.fechaInicio as fechaInicio, r.fechaFin as fechaFin, r.estado as estado, "
+			+ "hu.idHuesped as idHuesped, e.idEmpleado as idEmpleado, h.idHabitacion as idHabitacion "
+			+ "from Reserva r left join r.huesped hu left join r.empleado e left join r.habitaciones h "
+			+ "where r.idReserva > :desde and r.idReserva <= :hasta order by r.idReserva")
+	List<FilaExportReserva> listarTramo(@Param("desde") Long desde, @Param("hasta") Long hasta);
+
+	/**
+	 * @return El id de reserva más alto, o null si no hay reservas.
+	 */
+	@Query("select max(r.idReserva) from Reserva r")
+	Long buscarIdMaximo();
+
+	/**
+	 * Lista las reservas de un huésped con sus habitaciones, de la más reciente a la más antigua.
+	 * Las filas de una misma reserva llegan consecutivas.
+	 *
+	 * @param idHuesped El id del huésped.
+	 * @return Una fila por cada par reserva-habitación, o una sola si la reserva no tiene habitaciones.
+	 */
+	@Query("select r.idReserva as idReserva, r.fechaInicio as fechaInicio, r.fechaFin as fechaFin, r.estado as estado, "
+			+ "r.tipoSolicitado as tipoSolicitado, e.idEmpleado as idEmpleado, "
+			+ "h.idHabitacion as idHabitacion, h.tipo as tipo, h.precio as precio "
+			+ "from Reserva r left join r.empleado e left join r.habitaciones h "
+			+ "where r.huesped.idHuesped = :idHuesped "
+			+ "order by r.fechaInicio desc, r.idReserva, h.idHabitacion")
+	List<FilaPerfilReserva> listarPerfilDeHuesped(@Param("idHuesped") Long idHuesped);
+
+	/**
+	 * Carga en una consulta las habitaciones de las reservas indicadas, que ya deben estar
+	 * en el contexto de persistencia. Se usa después de paginar, porque un fetch de la colección
+	 * en la consulta paginada obligaría a Hibernate a paginar en memoria.
+	 *
+	 * @param reservas Las reservas de la página.
+	 * @return Las mismas reservas, con sus habitaciones inicializadas.
+	 */
+	@Query("select r from Reserva r left join fetch r.habitaciones where r in :reservas")
+	List<Reserva> cargarHabitaciones(@Param("reservas") Collection<Reserva> reservas);
+
+	/**
+	 * Busca una reserva trayendo su huésped, su empleado y sus habitaciones en la misma consulta.
+	 *
+	 * @param idReserva El id de la reserva.
+	 * @return La reserva con sus asociaciones, si existe.
+	 */
+	@EntityGraph(attributePaths = { "huesped", "empleado", "habitaciones" })
+	@Query("select r from Reserva r where r.idReserva = :idReserva")
+	Optional<Reserva> buscarConHabitaciones(@Param("idReserva") Long idReserva);
+
+	/**
+	 * Busca una reserva solo si tiene asignada la habitación indicada, con sus asociaciones.
+	 *
+	 * @param idReserva    El id de la reserva.
+	 * @param idHabitacion El id de la habitación.
+	 * @return La reserva, si existe y tiene la habitación.
+	 */
+	@EntityGraph(attributePaths = { "huesped", "empleado", "habitaciones" })
+	@Query("select r from Reserva r join r.habitaciones h where r.idReserva = :idReserva and h.idHabitacion = :idHabitacion")
+	Optional<Reserva> buscarDeHabitacion(@Param("idReserva") Long idReserva, @Param("idHabitacion") Long idHabitacion);
+
+	/**
+	 * Busca una reserva solo si la registró el empleado indicado, con sus asociaciones.
+	 *
+	 * @param idReserva  El id de la reserva.
+	 * @param idEmpleado El id del empleado.
+	 * @return La reserva, si existe y es del empleado.
+	 */
+	@EntityGraph(attributePaths = { "huesped", "empleado", "habitaciones" })
+	@Query("select r from Reserva r where r.idReserva = :idReserva and r.empleado.idEmpleado = :idEmpleado")
+	Optional<Reserva> buscarDeEmpleado(@Param("idReserva") Long idReserva, @Param("idEmpleado") Long idEmpleado);
+
+	/**
+	 * Busca una reserva solo si es del huésped indicado, con sus asociaciones.
+	 *
+	 * @param idReserva El id de la reserva.
+	 * @param idHuesped El id del huésped.
+	 * @return La reserva, si existe y es del huésped.
+	 */
+	@EntityGraph(attributePaths = { "huesped", "empleado", "habitaciones" })
+	@Query("select r from Reserva r where r.idReserva = :idReserva and r.huesped.idHuesped = :idHuesped")
+	Optional<Reserva> buscarDeHuesped(@Param("idReserva") Long idReserva, @Param("idHuesped") Long idHuesped);
+
+	/**
+	 * Elimina una reserva sin cargarla. Hibernate borra antes sus filas de habitacion_reserva.
+	 *
+	 * @param idReserva El id de la reserva.
+	 * @return El número de reservas eliminadas, 0 si no existía.
+	 */
+	@Modifying
+	@Query("delete from Reserva r where r.idReserva = :idReserva")
+	int eliminarPorId(@Param("idReserva") Long idReserva);
 }
@@ -0,0 +1,26 @@
+/**
+ * 
+ * @file: ResumenHabitacion.java
+ * @author: (c)2026 Cueva
+ * @created: 18 oct 2026, 09:42:10
+ *
+ */
+package com.equipo02.hotel.repositories;
+
+import java.math.BigDecimal;
+
+/**
+ * Proyección con los campos simples de una habitación, sin sus reservas.
+ */
+public interface ResumenHabitacion {
+
+	Long getIdHabitacion();
+
+	String getTipo();
+
+	BigDecimal getPrecio();
+
+	String getDescripcion();
+
+	Boolean getDisponible();
+}
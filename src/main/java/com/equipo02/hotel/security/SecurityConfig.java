@@ -8,6 +8,7 @@ package com.equipo02.hotel.security;
 import com.equipo02.hotel.security.JWT.JwtAuthenticationFilter;
 import com.equipo02.hotel.util.ApiResponse;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationProvider;
@@ -53,6 +54,12 @@ public class SecurityConfig {
      */
     private static final String AUTH_PATH = "/auth/**";
 
+    /**
+     * Rutas públicas.
+     * Esta constante define las rutas accesibles sin autenticación.
+     */
+    private static final String PUBLIC_PATH = "/api/publico/**";
+
     /**
      * Rutas de empleado.
      * Esta constante define las rutas accesibles para los empleados.
@@ -93,7 +100,10 @@ public class SecurityConfig {
                             }))
                     .csrf(AbstractHttpConfigurer::disable)
                     .authorizeHttpRequests( authorize -> authorize
+                            // El despacho asíncrono de una respuesta en streaming ya fue autorizado en la petición original.
+                            .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                             .requestMatchers(new AntPathRequestMatcher(AUTH_PATH)).permitAll()
+                            .requestMatchers(new AntPathRequestMatcher(PUBLIC_PATH, "GET")).permitAll()
                             .requestMatchers(employeePaths).hasAnyAuthority("EMPLOYEE", "ADMIN")
                             .requestMatchers(adminPaths).hasAuthority("ADMIN")
                             .anyRequest().authenticated())
@@ -0,0 +1,18 @@
+/**
+ * @file: AsignacionTipoService.java
+ * @author: (c) 2026 MARCO
+ * @created: 18 oct. 2026 23:04:18
+ */
+package com.equipo02.hotel.services;
+
+/**
+ * Interfaz que asigna una habitación concreta a las reservas hechas por tipo.
+ */
+public interface AsignacionTipoService {
+
+	/**
+     * Asigna habitación a un lote de reservas por tipo pendientes, empezando por las que llegan antes.
+     * @return El número de reservas a las que se asignó habitación.
+     */
+	int asignarPendientes();
+}
@@ -0,0 +1,179 @@
+/**
+ * @file: AsignacionTipoServiceImp.java
+ * @author: (c) 2026 MARCO
+ * @created: 18 oct. 2026 23:09:52
+ */
+package com.equipo02.hotel.services;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.equipo02.hotel.repositories.ReservaPendienteTipo;
+import com.equipo02.hotel.repositories.ReservaRepository;
+import com.equipo02.hotel.util.AsignadorHabitaciones;
+import com.equipo02.hotel.util.Fechas;
+
+/**
+ * Implementación de la asignación diferida de habitaciones a las reservas por tipo.
+ *
+ * Cada minuto toma las reservas pendientes que llegan dentro de {@link #HORIZONTE} días, las agrupa
+ * por tipo y resuelve cada tipo con {@link AsignadorHabitaciones} sobre las noches ocupadas que
+ * tiene el índice de disponibilidad, para no dejar noches sueltas sin vender. Los tipos son
+ * independientes y se resuelven en paralelo con fork-join. El resultado se aplica en una
+ * transacción con {@link ReservaService#asignarHabitaciones}; al asignarse, el evento de cada
+ * reserva pasa su cupo de pendiente a la habitación, así que el total del tipo no cambia.
+ * Si otra reserva ocupa alguna habitación entre el cálculo y la escritura, solo la reserva afectada
+ * queda sin asignar y se reintenta en la siguiente pasada.
+ */
+@Service
+public class AsignacionTipoServiceImp implements AsignacionTipoService {
+
+	private static final Logger log = LoggerFactory.getLogger(AsignacionTipoServiceImp.class);
+
+	/** Días, a partir de hoy, en los que deben llegar las reservas que se asignan. */
+	public static final int HORIZONTE = 90;
+
+	/** Reservas pendientes que se leen en cada pasada. */
+	private static final int LOTE = 10_000;
+
+	@Autowired
+	private ReservaRepository reservaRepository;
+	@Autowired
+	private DisponibilidadService disponibilidadService;
+	@Autowired
+	private ReservaService reservaService;
+
+	/**
+     * Asigna habitación a las reservas por tipo pendientes del horizonte.
+     * @return El número de reservas asignadas.
+     */
+	@Override
+	@Scheduled(fixedDelay = 60_000, initialDelay = 60_000)
+	public int asignarPendientes() {
+		int hoy = Fechas.aDia(LocalDate.now());
+		Map<String, ProblemaTipo> problemas = new LinkedHashMap<>();
+		for (ReservaPendienteTipo pendiente : reservaRepository.listarPendientesDeTipo(Fechas.aDate(LocalDate.now()),
+				PageRequest.of(0, LOTE))) {
+			if (pendiente.getFechaInicio() == null) {
+				continue;
+			}
+			int desde = Fechas.aDia(pendiente.getFechaInicio());
+			if (desde >= hoy + HORIZONTE) {
+				break;
+			}
+			int hasta = Math.max(Fechas.aDia(pendiente.getFechaFin()), desde + 1);
+			problemas.computeIfAbsent(pendiente.getTipoSolicitado().toLowerCase(Locale.ROOT),
+					t -> new ProblemaTipo(pendiente.getTipoSolicitado())).agregar(pendiente.getIdReserva(), desde, hasta);
+		}
+		if (problemas.isEmpty()) {
+			return 0;
+		}
+		List<ProblemaTipo> tipos = new ArrayList<>(problemas.values());
+		tipos.forEach(problema -> problema.cargarOcupacion(disponibilidadService, hoy));
+		ForkJoinPool.commonPool().invoke(new ResolverTipos(tipos, 0, tipos.size()));
+		Map<Long, Long> habitacionPorReserva = new HashMap<>();
+		tipos.forEach(problema -> problema.recogerAsignaciones(habitacionPorReserva));
+		int asignadas = reservaService.asignarHabitaciones(habitacionPorReserva);
+		int sinHabitacion = tipos.stream().mapToInt(problema -> problema.reservas.size()).sum() - habitacionPorReserva.size();
+		if (sinHabitacion > 0) {
+			log.warn("{} reservas por tipo sin habitación libre", sinHabitacion);
+		}
+		if (asignadas > 0) {
+			log.info("{} reservas por tipo con habitación asignada", asignadas);
+		}
+		return asignadas;
+	}
+
+	/**
+	 * Reservas pendientes de un tipo y noches ocupadas de sus habitaciones.
+	 */
+	private static final class ProblemaTipo {
+
+		private final String tipo;
+		private final List<Long> reservas = new ArrayList<>();
+		private final List<int[]> estadias = new ArrayList<>();
+		private long[] habitaciones;
+		private long[][] ocupacion;
+		private int inicio;
+		private int dias;
+		private int[] asignacion;
+
+		private ProblemaTipo(String tipo) {
+			this.tipo = tipo;
+		}
+
+		private void agregar(Long idReserva, int desde, int hasta) {
+			reservas.add(idReserva);
+			estadias.add(new int[] { desde, hasta });
+		}
+
+		private void cargarOcupacion(DisponibilidadService disponibilidadService, int hoy) {
+			inicio = hoy;
+			int fin = estadias.stream().mapToInt(estadia -> estadia[1]).max().orElse(hoy + 1);
+			dias = fin - inicio;
+			Map<Long, long[]> porHabitacion = disponibilidadService.ocupacionPorTipo(tipo, inicio, fin);
+			habitaciones = porHabitacion.keySet().stream().mapToLong(Long::longValue).toArray();
+			ocupacion = porHabitacion.values().toArray(new long[0][]);
+		}
+
+		private void resolver() {
+			int[] desde = new int[estadias.size()];
+			int[] hasta = new int[estadias.size()];
+			for (int i = 0; i < desde.length; i++) {
+				desde[i] = Math.max(estadias.get(i)[0], inicio) - inicio;
+				hasta[i] = estadias.get(i)[1] - inicio;
+			}
+			asignacion = new AsignadorHabitaciones(ocupacion, dias, desde, hasta).resolver();
+		}
+
+		private void recogerAsignaciones(Map<Long, Long> habitacionPorReserva) {
+			for (int i = 0; i < asignacion.length; i++) {
+				if (asignacion[i] >= 0) {
+					habitacionPorReserva.put(reservas.get(i), habitaciones[asignacion[i]]);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Resuelve un rango de tipos dividiéndolo en mitades hasta llegar a un tipo.
+	 */
+	private static final class ResolverTipos extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final transient List<ProblemaTipo> tipos;
+		private final int desde;
+		private final int hasta;
+
+		private ResolverTipos(List<ProblemaTipo> tipos, int desde, int hasta) {
+			this.tipos = tipos;
+			this.desde = desde;
+			this.hasta = hasta;
+		}
+
+		@Override
+		protected void compute() {
+			if (hasta - desde == 1) {
+				tipos.get(desde).resolver();
+				return;
+			}
+			int medio = (desde + hasta) >>> 1;
+			invokeAll(new ResolverTipos(tipos, desde, medio), new ResolverTipos(tipos, medio, hasta));
+		}
+	}
+}
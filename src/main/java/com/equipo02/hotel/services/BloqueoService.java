@@ -0,0 +1,52 @@
+/**
+ * @file: BloqueoService.java
+ * @author: (c)2026 Cueva
+ * @created: 18 oct 2026, 17:28:44
+ */
+package com.equipo02.hotel.services;
+
+import java.time.LocalDate;
+
+import com.equipo02.hotel.domain.Reserva;
+import com.equipo02.hotel.dto.BloqueoDTO;
+import com.equipo02.hotel.exception.EntityNotFoundException;
+import com.equipo02.hotel.exception.IllegalOperationException;
+
+/**
+ * Interfaz para los bloqueos temporales de habitaciones. Un bloqueo reserva la habitación unos
+ * minutos mientras se completa la reserva; se guarda solo en memoria y vence solo.
+ */
+public interface BloqueoService {
+
+	/**
+     * Bloquea una habitación en el rango [desde, hasta).
+     * @param idHabitacion El id de la habitación.
+     * @param desde Fecha de llegada.
+     * @param hasta Fecha de salida.
+     * @return El bloqueo creado.
+     * @throws EntityNotFoundException si la habitación no existe.
+     * @throws IllegalOperationException si la habitación no está libre en esas fechas.
+     */
+	BloqueoDTO bloquear(Long idHabitacion, LocalDate desde, LocalDate hasta) throws EntityNotFoundException, IllegalOperationException;
+
+	/**
+     * Libera un bloqueo antes de que venza.
+     * @param idHabitacion El id de la habitación.
+     * @param idBloqueo El id del bloqueo.
+     * @throws EntityNotFoundException si el bloqueo no existe o ya venció.
+     */
+	void liberar(Long idHabitacion, long idBloqueo) throws EntityNotFoundException;
+
+	/**
+     * Convierte un bloqueo en una reserva con las mismas fechas y habitación.
+     * @param idHabitacion El id de la habitación.
+     * @param idBloqueo El id del bloqueo.
+     * @param idHuesped El id del huésped.
+     * @param idEmpleado El id del empleado.
+     * @return La reserva creada.
+     * @throws EntityNotFoundException si el bloqueo no existe o ya venció.
+     * @throws IllegalOperationException si la reserva no puede guardarse.
+     */
+	Reserva confirmar(Long idHabitacion, long idBloqueo, Long idHuesped, Long idEmpleado)
+			throws EntityNotFoundException, IllegalOperationException;
+}
@@ -0,0 +1,239 @@
+/**
+ * @file: BloqueoServiceImp.java
+ * @author: (c)2026 Cueva
+ * @created: 18 oct 2026, 17:34:15
+ */
+package com.equipo02.hotel.services;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.equipo02.hotel.domain.Empleado;
+import com.equipo02.hotel.domain.Habitacion;
+import com.equipo02.hotel.domain.Huesped;
+import com.equipo02.hotel.domain.Reserva;
+import com.equipo02.hotel.dto.BloqueoDTO;
+import com.equipo02.hotel.exception.EntityNotFoundException;
+import com.equipo02.hotel.exception.ErrorMessage;
+import com.equipo02.hotel.exception.IllegalOperationException;
+import com.equipo02.hotel.util.Fechas;
+import com.equipo02.hotel.util.RuedaTemporizadora;
+
+/**
+ * Implementación de los bloqueos temporales de habitaciones.
+ *
+ * Los bloqueos se registran en el índice de disponibilidad, así que las búsquedas y las reservas
+ * los respetan, y sus vencimientos se llevan en una rueda de temporizadores que se avanza cada
+ * segundo. Nada se escribe en la base de datos hasta que el bloqueo se confirma como reserva.
+ * Al reiniciar la aplicación los bloqueos activos se pierden.
+ */
+@Service
+public class BloqueoServiceImp implements BloqueoService {
+
+	private static final Logger log = LoggerFactory.getLogger(BloqueoServiceImp.class);
+
+	/** Tiempo que dura un bloqueo. */
+	public static final Duration DURACION = Duration.ofMinutes(10);
+
+	private static final long DURACION_TICK_MS = 1000;
+
+	/** Una vuelta de la rueda cubre algo más que la duración de un bloqueo. */
+	private static final int RANURAS = 1024;
+
+	@Autowired
+	private DisponibilidadService disponibilidadService;
+
+	@Autowired
+	private ReservaService reservaService;
+
+	private final Map<Long, Bloqueo> bloqueos = new ConcurrentHashMap<>();
+
+	private final AtomicLong secuencia = new AtomicLong();
+
+	private final RuedaTemporizadora<Long> vencimientos = new RuedaTemporizadora<>(DURACION_TICK_MS, RANURAS,
+			System.currentTimeMillis());
+
+	/**
+     * Bloquea una habitación en el rango [desde, hasta) durante {@link #DURACION}.
+     * @param idHabitacion El id de la habitación.
+     * @param desde Fecha de llegada.
+     * @param hasta Fecha de salida.
+     * @return El bloqueo creado.
+     * @throws EntityNotFoundException si la habitación no existe.
+     * @throws IllegalOperationException si la habitación no está libre en esas fechas.
+     */
+	@Override
+	public BloqueoDTO bloquear(Long idHabitacion, LocalDate desde, LocalDate hasta) throws EntityNotFoundException, IllegalOperationException {
+		if (!disponibilidadService.conoceHabitacion(idHabitacion)) {
+			throw new EntityNotFoundException(ErrorMessage.HABITACION_NOT_FOUND);
+		}
+		long idBloqueo = secuencia.incrementAndGet();
+		if (!disponibilidadService.bloquear(idBloqueo, idHabitacion, Fechas.aDia(desde), Fechas.aDia(hasta))) {
+			throw new IllegalOperationException("La habitación no está libre en esas fechas");
+		}
+		Bloqueo bloqueo = new Bloqueo(idBloqueo, idHabitacion, desde, hasta,
+				System.currentTimeMillis() + DURACION.toMillis());
+		registrar(bloqueo);
+		return bloqueo.aDTO();
+	}
+
+	/**
+     * Libera un bloqueo antes de que venza.
+     * @param idHabitacion El id de la habitación.
+     * @param idBloqueo El id del bloqueo.
+     * @throws EntityNotFoundException si el bloqueo no existe o ya venció.
+     */
+	@Override
+	public void liberar(Long idHabitacion, long idBloqueo) throws EntityNotFoundException {
+		tomar(idHabitacion, idBloqueo);
+	}
+
+	/**
+     * Convierte un bloqueo en una reserva. Mientras se guarda la reserva el bloqueo sigue en el
+     * índice, para que ninguna otra reserva ocupe la habitación, y la comprobación de la propia
+     * reserva no lo cuenta. Se retira cuando la reserva ya está confirmada; si falla, vuelve a quedar
+     * vigente hasta su vencimiento.
+     * @param idHabitacion El id de la habitación.
+     * @param idBloqueo El id del bloqueo.
+     * @param idHuesped El id del huésped.
+     * @param idEmpleado El id del empleado.
+     * @return La reserva creada.
+     * @throws EntityNotFoundException si el bloqueo no existe o ya venció.
+     * @throws IllegalOperationException si la reserva no puede guardarse.
+     */
+	@Override
+	public Reserva confirmar(Long idHabitacion, long idBloqueo, Long idHuesped, Long idEmpleado)
+			throws EntityNotFoundException, IllegalOperationException {
+		Bloqueo bloqueo = apartar(idHabitacion, idBloqueo);
+		Reserva reserva = new Reserva();
+		reserva.setFechaInicio(Fechas.aDate(bloqueo.desde));
+		reserva.setFechaFin(Fechas.aDate(bloqueo.hasta));
+		reserva.setEstado(true);
+		Huesped huesped = new Huesped();
+		huesped.setIdHuesped(idHuesped);
+		reserva.setHuesped(huesped);
+		Empleado empleado = new Empleado();
+		empleado.setIdEmpleado(idEmpleado);
+		reserva.setEmpleado(empleado);
+		Habitacion habitacion = new Habitacion();
+		habitacion.setIdHabitacion(idHabitacion);
+		reserva.setHabitaciones(new ArrayList<>(List.of(habitacion)));
+		Reserva guardada;
+		try {
+			guardada = reservaService.guardarReservaBloqueada(reserva, idBloqueo);
+		} catch (IllegalOperationException | RuntimeException e) {
+			restituir(bloqueo);
+			throw e;
+		}
+		// La reserva se guarda en su propia transacción, ya confirmada, y el índice ya la conoce.
+		quitarDelIndice(bloqueo);
+		return guardada;
+	}
+
+	/**
+	 * Retira los bloqueos vencidos.
+	 */
+	@Scheduled(fixedDelay = DURACION_TICK_MS)
+	public void vencer() {
+		List<Long> vencidos = new ArrayList<>();
+		synchronized (vencimientos) {
+			vencimientos.avanzar(System.currentTimeMillis(), vencidos::add);
+		}
+		for (Long idBloqueo : vencidos) {
+			Bloqueo bloqueo = bloqueos.remove(idBloqueo);
+			if (bloqueo != null) {
+				quitarDelIndice(bloqueo);
+			}
+		}
+		if (!vencidos.isEmpty()) {
+			log.debug("{} bloqueos vencidos", vencidos.size());
+		}
+	}
+
+	private void registrar(Bloqueo bloqueo) {
+		bloqueos.put(bloqueo.idBloqueo, bloqueo);
+		synchronized (vencimientos) {
+			bloqueo.entrada = vencimientos.programar(bloqueo.idBloqueo, bloqueo.vence);
+		}
+	}
+
+	/**
+	 * Quita un bloqueo vigente de la tabla, de la rueda y del índice.
+	 */
+	private Bloqueo tomar(Long idHabitacion, long idBloqueo) throws EntityNotFoundException {
+		Bloqueo bloqueo = apartar(idHabitacion, idBloqueo);
+		quitarDelIndice(bloqueo);
+		return bloqueo;
+	}
+
+	/**
+	 * Quita un bloqueo vigente de la tabla y de la rueda, de modo que nadie más pueda liberarlo,
+	 * confirmarlo ni vencerlo, pero lo deja en el índice. Si ya venció, lo quita también del índice.
+	 */
+	private Bloqueo apartar(Long idHabitacion, long idBloqueo) throws EntityNotFoundException {
+		Bloqueo bloqueo = bloqueos.get(idBloqueo);
+		if (bloqueo == null || !bloqueo.idHabitacion.equals(idHabitacion) || !bloqueos.remove(idBloqueo, bloqueo)) {
+			throw new EntityNotFoundException(ErrorMessage.BLOQUEO_NOT_FOUND);
+		}
+		synchronized (vencimientos) {
+			vencimientos.cancelar(bloqueo.entrada);
+		}
+		if (bloqueo.vence <= System.currentTimeMillis()) {
+			quitarDelIndice(bloqueo);
+			throw new EntityNotFoundException(ErrorMessage.BLOQUEO_NOT_FOUND);
+		}
+		return bloqueo;
+	}
+
+	/**
+	 * Devuelve a la tabla y a la rueda un bloqueo apartado, o lo retira del índice si ya venció.
+	 */
+	private void restituir(Bloqueo bloqueo) {
+		if (bloqueo.vence > System.currentTimeMillis()) {
+			registrar(bloqueo);
+		} else {
+			quitarDelIndice(bloqueo);
+		}
+	}
+
+	private void quitarDelIndice(Bloqueo bloqueo) {
+		disponibilidadService.liberarBloqueo(bloqueo.idBloqueo, bloqueo.idHabitacion, Fechas.aDia(bloqueo.desde));
+	}
+
+	/**
+	 * Bloqueo vigente.
+	 */
+	private static final class Bloqueo {
+
+		private final long idBloqueo;
+		private final Long idHabitacion;
+		private final LocalDate desde;
+		private final LocalDate hasta;
+		private final long vence;
+		private RuedaTemporizadora.Entrada<Long> entrada;
+
+		private Bloqueo(long idBloqueo, Long idHabitacion, LocalDate desde, LocalDate hasta, long vence) {
+			this.idBloqueo = idBloqueo;
+			this.idHabitacion = idHabitacion;
+			this.desde = desde;
+			this.hasta = hasta;
+			this.vence = vence;
+		}
+
+		private BloqueoDTO aDTO() {
+			return new BloqueoDTO(idBloqueo, idHabitacion, desde, hasta, Instant.ofEpochMilli(vence));
+		}
+	}
+}
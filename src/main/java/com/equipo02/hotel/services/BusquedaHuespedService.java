@@ -0,0 +1,25 @@
+/**
+ * @file: BusquedaHuespedService.java
+ * @author: (c) 2026 Rodriguez
+ * @created: 19 oct. 2026 11:58:40
+ */
+package com.equipo02.hotel.services;
+
+import java.util.List;
+
+import com.equipo02.hotel.dto.HuespedBusquedaDTO;
+
+/**
+ * Interfaz que define la búsqueda de huéspedes por nombre, teléfono, correo o DNI.
+ */
+public interface BusquedaHuespedService {
+
+	/**
+     * Busca huéspedes en el índice en memoria. Los términos del nombre se buscan como prefijo y de
+     * forma aproximada; el teléfono, el correo y el DNI, por coincidencia exacta.
+     * @param consulta El texto buscado, de al menos dos caracteres.
+     * @param limite Número máximo de resultados.
+     * @return Los huéspedes encontrados, de mayor a menor puntuación.
+     */
+	List<HuespedBusquedaDTO> buscar(String consulta, int limite);
+}
@@ -0,0 +1,115 @@
+/**
+ * @file: BusquedaHuespedServiceImp.java
+ * @author: (c) 2026 Rodriguez
+ * @created: 19 oct. 2026 12:04:09
+ */
+package com.equipo02.hotel.services;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.equipo02.hotel.dto.HuespedBusquedaDTO;
+import com.equipo02.hotel.events.HuespedCambioEvent;
+import com.equipo02.hotel.exception.BadRequestException;
+import com.equipo02.hotel.repositories.FilaExportHuesped;
+import com.equipo02.hotel.repositories.HuespedRepository;
+import com.equipo02.hotel.util.IndiceHuespedes;
+
+/**
+ * Implementación de la búsqueda de huéspedes sobre un {@link IndiceHuespedes}.
+ *
+ * El índice se carga al arrancar recorriendo los huéspedes con un stream y después se mantiene con
+ * los HuespedCambioEvent confirmados, huésped a huésped. Los cambios que llegan mientras se carga
+ * se aplican al terminar. Las búsquedas no consultan la base de datos.
+ */
+@Service
+public class BusquedaHuespedServiceImp implements BusquedaHuespedService {
+
+	private static final Logger log = LoggerFactory.getLogger(BusquedaHuespedServiceImp.class);
+
+	/** Longitud mínima de la consulta. */
+	public static final int LONGITUD_MINIMA = 2;
+
+	/** Número máximo de resultados de una búsqueda. */
+	public static final int LIMITE_MAXIMO = 100;
+
+	@Autowired
+	private HuespedRepository huespedRepository;
+
+	private volatile IndiceHuespedes indice = new IndiceHuespedes();
+
+	/** Cambios recibidos durante la carga; null fuera de ella. */
+	private volatile Queue<HuespedCambioEvent> pendientes;
+
+	/**
+     * Busca huéspedes en el índice.
+     * @param consulta El texto buscado.
+     * @param limite Número máximo de resultados, hasta LIMITE_MAXIMO.
+     * @return Los huéspedes encontrados, de mayor a menor puntuación.
+     */
+	@Override
+	public List<HuespedBusquedaDTO> buscar(String consulta, int limite) {
+		if (consulta == null || consulta.strip().length() < LONGITUD_MINIMA) {
+			throw new BadRequestException("La búsqueda debe tener al menos " + LONGITUD_MINIMA + " caracteres");
+		}
+		int tope = Math.min(Math.max(limite, 1), LIMITE_MAXIMO);
+		return indice.buscar(consulta.strip(), tope).stream()
+				.map(resultado -> new HuespedBusquedaDTO(resultado.getIdHuesped(), resultado.getDniHuesped(),
+						resultado.getNombreHuesped(), resultado.getTelefonoHuesped(), resultado.getCorreoHuesped(),
+						resultado.getPuntuacion()))
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Carga el índice con todos los huéspedes al arrancar.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional(readOnly = true)
+	public synchronized void cargar() {
+		pendientes = new ConcurrentLinkedQueue<>();
+		IndiceHuespedes nuevo = new IndiceHuespedes();
+		try (Stream<FilaExportHuesped> filas = huespedRepository.exportarHuespedes()) {
+			filas.forEach(fila -> nuevo.poner(fila.getIdHuesped(), fila.getDniHuesped(), fila.getNombreHuesped(),
+					fila.getTelefonoHuesped(), fila.getCorreoHuesped()));
+		}
+		indice = nuevo;
+		Queue<HuespedCambioEvent> recibidos = pendientes;
+		pendientes = null;
+		recibidos.forEach(evento -> aplicar(nuevo, evento));
+		log.info("Índice de búsqueda de huéspedes cargado con {} huéspedes", nuevo.tamano());
+	}
+
+	/**
+	 * Actualiza el índice con un huésped creado, modificado o eliminado.
+	 * @param evento Los datos del huésped.
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onHuespedCambio(HuespedCambioEvent evento) {
+		Queue<HuespedCambioEvent> recibidos = pendientes;
+		if (recibidos != null) {
+			recibidos.add(evento);
+		}
+		aplicar(indice, evento);
+	}
+
+	private void aplicar(IndiceHuespedes actual, HuespedCambioEvent evento) {
+		if (evento.isEliminado()) {
+			actual.quitar(evento.getIdHuesped());
+		} else {
+			actual.poner(evento.getIdHuesped(), evento.getDniHuesped(), evento.getNombreHuesped(),
+					evento.getTelefonoHuesped(), evento.getCorreoHuesped());
+		}
+	}
+}
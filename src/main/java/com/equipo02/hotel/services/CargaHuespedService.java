@@ -0,0 +1,28 @@
+/**
+ * @file: CargaHuespedService.java
+ * @author: (c) 2026 Rodriguez
+ * @created: 19 oct. 2026 10:18:26
+ */
+package com.equipo02.hotel.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.equipo02.hotel.dto.ResultadoCargaDTO;
+
+/**
+ * Interfaz que define la carga masiva de huéspedes.
+ */
+public interface CargaHuespedService {
+
+	/**
+     * Guarda los huéspedes de un CSV con cabecera. Se usan las columnas dniHuesped, nombreHuesped,
+     * direccionHuesped, telefonoHuesped y correoHuesped, las mismas que escribe la exportación; las demás se ignoran.
+     * El cuerpo se lee por partes y cada parte se guarda en su propia transacción; una fila inválida
+     * se rechaza sin detener la carga.
+     * @param cuerpo Flujo con el CSV en UTF-8.
+     * @return El resultado de la carga con los errores por fila.
+     * @throws IOException si falla la lectura del cuerpo.
+     */
+	ResultadoCargaDTO cargar(InputStream cuerpo) throws IOException;
+}
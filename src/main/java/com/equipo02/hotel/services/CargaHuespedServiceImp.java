@@ -0,0 +1,243 @@
+/**
+ * @file: CargaHuespedServiceImp.java
+ * @author: (c) 2026 Rodriguez
+ * @created: 19 oct. 2026 10:26:51
+ */
+package com.equipo02.hotel.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.equipo02.hotel.domain.Huesped;
+import com.equipo02.hotel.dto.HuespedDTO;
+import com.equipo02.hotel.dto.ResultadoCargaDTO;
+import com.equipo02.hotel.events.HuespedCambioEvent;
+import com.equipo02.hotel.exception.BadRequestException;
+import com.equipo02.hotel.repositories.HuespedRepository;
+import com.equipo02.hotel.util.LectorCsv;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Implementación de la carga masiva de huéspedes.
+ *
+ * El CSV se lee registro a registro y se procesa en lotes de TAMANO_LOTE filas. Para cada lote:
+ * <ul>
+ * <li>cada fila se valida con las mismas reglas que HuespedDTO;</li>
+ * <li>los DNI repetidos dentro del lote o ya registrados se rechazan con el índice de DNI, sin una consulta por fila;</li>
+ * <li>las válidas se insertan en una transacción que, al confirmarse, las añade al índice;</li>
+ * <li>si el lote falla en la base de datos, se repite fila por fila para aislar la que falla.</li>
+ * </ul>
+ * La restricción única del DNI sigue decidiendo si otra petición registra el mismo DNI a la vez.
+ */
+@Service
+public class CargaHuespedServiceImp implements CargaHuespedService {
+
+	static final int TAMANO_LOTE = 500;
+
+	@Autowired
+	private HuespedRepository huespedRepository;
+	@Autowired
+	private IndiceDniService indiceDni;
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+	@Autowired
+	private Validator validator;
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	/**
+     * Lee el CSV y guarda los huéspedes por lotes.
+     * @param cuerpo Flujo con el CSV.
+     * @return El resultado de la carga.
+     * @throws IOException si falla la lectura del cuerpo.
+     */
+	@Override
+	public ResultadoCargaDTO cargar(InputStream cuerpo) throws IOException {
+		ResultadoCargaDTO resultado = new ResultadoCargaDTO();
+		List<FilaCarga> lote = new ArrayList<>(TAMANO_LOTE);
+		int indice = 0;
+		try (LectorCsv lector = new LectorCsv(cuerpo)) {
+			Columnas columnas = new Columnas(lector.leer());
+			try {
+				for (List<String> campos = lector.leer(); campos != null; campos = lector.leer(), indice++) {
+					resultado.sumarRecibidas(1);
+					lote.add(new FilaCarga(indice, columnas.aDTO(campos)));
+					if (lote.size() == TAMANO_LOTE) {
+						procesarLote(lote, resultado);
+						lote.clear();
+					}
+				}
+			} catch (IllegalStateException e) {
+				resultado.rechazar(indice, "CSV mal formado, se detiene la carga: " + e.getMessage());
+			}
+		}
+		if (!lote.isEmpty()) {
+			procesarLote(lote, resultado);
+		}
+		return resultado;
+	}
+
+	private void procesarLote(List<FilaCarga> filas, ResultadoCargaDTO resultado) {
+		List<FilaCarga> validas = validar(filas, resultado);
+		if (validas.isEmpty()) {
+			return;
+		}
+		try {
+			transactionTemplate.executeWithoutResult(status -> guardar(validas));
+			resultado.sumarGuardadas(validas.size());
+		} catch (RuntimeException e) {
+			for (FilaCarga fila : validas) {
+				fila.huesped.setIdHuesped(null);
+				try {
+					transactionTemplate.executeWithoutResult(status -> guardar(List.of(fila)));
+					resultado.sumarGuardadas(1);
+				} catch (RuntimeException errorFila) {
+					resultado.rechazar(fila.indice, mensaje(errorFila));
+				}
+			}
+		}
+		// Con open-in-view el EntityManager vive toda la petición; se vacía para que no crezca entre lotes.
+		entityManager.clear();
+	}
+
+	/**
+	 * Valida las filas del lote y construye los huéspedes de las válidas.
+	 */
+	private List<FilaCarga> validar(List<FilaCarga> filas, ResultadoCargaDTO resultado) {
+		Set<String> dnis = new HashSet<>();
+		for (FilaCarga fila : filas) {
+			if (fila.datos.getDniHuesped() != null) {
+				dnis.add(fila.datos.getDniHuesped());
+			}
+		}
+		Set<String> registrados = indiceDni.registrados(dnis);
+		Set<String> enLote = new HashSet<>();
+		List<FilaCarga> validas = new ArrayList<>(filas.size());
+		for (FilaCarga fila : filas) {
+			Set<ConstraintViolation<HuespedDTO>> errores = validator.validate(fila.datos);
+			if (!errores.isEmpty()) {
+				resultado.rechazar(fila.indice, errores.stream().map(ConstraintViolation::getMessage).sorted()
+						.collect(Collectors.joining("; ")));
+				continue;
+			}
+			String dni = indiceDni.normalizar(fila.datos.getDniHuesped());
+			if (registrados.contains(dni)) {
+				resultado.rechazar(fila.indice, "El dni del huesped ya existe");
+				continue;
+			}
+			if (!enLote.add(dni)) {
+				resultado.rechazar(fila.indice, "El dni del huesped está repetido en la carga");
+				continue;
+			}
+			Huesped huesped = new Huesped();
+			huesped.setDniHuesped(fila.datos.getDniHuesped());
+			huesped.setNombreHuesped(fila.datos.getNombreHuesped());
+			huesped.setDireccionHuesped(fila.datos.getDireccionHuesped());
+			huesped.setTelefonoHuesped(fila.datos.getTelefonoHuesped());
+			huesped.setCorreoHuesped(fila.datos.getCorreoHuesped());
+			fila.huesped = huesped;
+			validas.add(fila);
+		}
+		return validas;
+	}
+
+	/**
+	 * Inserta los huéspedes. Debe ejecutarse dentro de una transacción.
+	 */
+	private void guardar(List<FilaCarga> filas) {
+		List<Huesped> huespedes = new ArrayList<>(filas.size());
+		filas.forEach(fila -> huespedes.add(fila.huesped));
+		huespedRepository.saveAll(huespedes);
+		huespedRepository.flush();
+		huespedes.forEach(huesped -> eventPublisher.publishEvent(HuespedCambioEvent.de(huesped, null)));
+	}
+
+	private String mensaje(RuntimeException e) {
+		if (e instanceof DataIntegrityViolationException) {
+			return "El dni del huesped ya existe";
+		}
+		return "No se pudo guardar el huésped: " + e.getMessage();
+	}
+
+	/**
+	 * Posición de cada columna usada según la cabecera.
+	 */
+	private static final class Columnas {
+
+		private int dni = -1;
+		private int nombre = -1;
+		private int direccion = -1;
+		private int telefono = -1;
+		private int correo = -1;
+
+		private Columnas(List<String> cabecera) {
+			if (cabecera == null) {
+				throw new BadRequestException("El CSV está vacío");
+			}
+			for (int i = 0; i < cabecera.size(); i++) {
+				String nombreColumna = cabecera.get(i) == null ? "" : cabecera.get(i).strip().toLowerCase(Locale.ROOT);
+				switch (nombreColumna) {
+				case "dnihuesped" -> dni = i;
+				case "nombrehuesped" -> nombre = i;
+				case "direccionhuesped" -> direccion = i;
+				case "telefonohuesped" -> telefono = i;
+				case "correohuesped" -> correo = i;
+				default -> { }
+				}
+			}
+			if (dni < 0 || nombre < 0) {
+				throw new BadRequestException("La cabecera del CSV debe incluir dniHuesped y nombreHuesped");
+			}
+		}
+
+		private HuespedDTO aDTO(List<String> campos) {
+			HuespedDTO dto = new HuespedDTO();
+			dto.setDniHuesped(campo(campos, dni));
+			dto.setNombreHuesped(campo(campos, nombre));
+			dto.setDireccionHuesped(campo(campos, direccion));
+			dto.setTelefonoHuesped(campo(campos, telefono));
+			dto.setCorreoHuesped(campo(campos, correo));
+			return dto;
+		}
+
+		private static String campo(List<String> campos, int posicion) {
+			if (posicion < 0 || posicion >= campos.size() || campos.get(posicion) == null) {
+				return null;
+			}
+			return campos.get(posicion).strip();
+		}
+	}
+
+	/**
+	 * Fila del CSV con su posición y, si es válida, el huésped construido.
+	 */
+	private static final class FilaCarga {
+
+		private final int indice;
+		private final HuespedDTO datos;
+		private Huesped huesped;
+
+		private FilaCarga(int indice, HuespedDTO datos) {
+			this.indice = indice;
+			this.datos = datos;
+		}
+	}
+}
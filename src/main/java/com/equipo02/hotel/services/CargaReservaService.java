@@ -0,0 +1,27 @@
+/**
+ * @file: CargaReservaService.java
+ * @author: (c) 2026 MARCO
+ * @created: 18 oct. 2026 15:20:08
+ */
+package com.equipo02.hotel.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.equipo02.hotel.dto.ResultadoCargaDTO;
+
+/**
+ * Interfaz que define la carga masiva de reservas.
+ */
+public interface CargaReservaService {
+
+	/**
+     * Guarda las reservas de un array JSON de ReservaCargaDTO.
+     * El cuerpo se lee por partes y cada parte se guarda en su propia transacción; una fila inválida
+     * se rechaza sin detener la carga.
+     * @param cuerpo Flujo con el array JSON.
+     * @return El resultado de la carga con los errores por fila.
+     * @throws IOException si falla la lectura del cuerpo.
+     */
+	ResultadoCargaDTO cargar(InputStream cuerpo) throws IOException;
+}
@@ -0,0 +1,300 @@
+/**
+ * @file: CargaReservaServiceImp.java
+ * @author: (c) 2026 MARCO
+ * @created: 18 oct. 2026 15:26:44
+ */
+package com.equipo02.hotel.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.equipo02.hotel.domain.Empleado;
+import com.equipo02.hotel.domain.Habitacion;
+import com.equipo02.hotel.domain.Huesped;
+import com.equipo02.hotel.domain.NocheHabitacion;
+import com.equipo02.hotel.domain.Reserva;
+import com.equipo02.hotel.dto.ReservaCargaDTO;
+import com.equipo02.hotel.dto.ResultadoCargaDTO;
+import com.equipo02.hotel.events.ReservaOcupacionEvent;
+import com.equipo02.hotel.exception.BadRequestException;
+import com.equipo02.hotel.exception.ErrorMessage;
+import com.equipo02.hotel.repositories.EmpleadoRepository;
+import com.equipo02.hotel.repositories.HabitacionRepository;
+import com.equipo02.hotel.repositories.HuespedRepository;
+import com.equipo02.hotel.repositories.NocheHabitacionRepository;
+import com.equipo02.hotel.repositories.ReservaRepository;
+import com.equipo02.hotel.util.Fechas;
+import com.equipo02.hotel.util.IntervalosHabitacion;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Implementación de la carga masiva de reservas.
+ *
+ * El array se lee elemento a elemento y se procesa en lotes de TAMANO_LOTE filas. Para cada lote:
+ * <ul>
+ * <li>los huéspedes, empleados y habitaciones referenciados se buscan con una consulta por tipo;</li>
+ * <li>las filas inválidas o que chocan con otra reserva se rechazan antes de escribir;</li>
+ * <li>las válidas se insertan en una transacción, en lotes JDBC gracias a la secuencia de Reserva;</li>
+ * <li>si el lote falla en la base de datos, se repite fila por fila para aislar la que falla.</li>
+ * </ul>
+ */
+@Service
+public class CargaReservaServiceImp implements CargaReservaService {
+
+	static final int TAMANO_LOTE = 500;
+
+	@Autowired
+	private ReservaRepository reservaRepository;
+	@Autowired
+	private HuespedRepository huespedRepository;
+	@Autowired
+	private EmpleadoRepository empleadoRepository;
+	@Autowired
+	private HabitacionRepository habitacionRepository;
+	@Autowired
+	private NocheHabitacionRepository nocheHabitacionRepository;
+	@Autowired
+	private DisponibilidadService disponibilidadService;
+	@Autowired
+	private Validator validator;
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+	@Autowired
+	private ObjectMapper objectMapper;
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	/**
+     * Lee el array JSON y guarda las reservas por lotes.
+     * @param cuerpo Flujo con el array JSON.
+     * @return El resultado de la carga.
+     * @throws IOException si falla la lectura del cuerpo.
+     */
+	@Override
+	public ResultadoCargaDTO cargar(InputStream cuerpo) throws IOException {
+		ResultadoCargaDTO resultado = new ResultadoCargaDTO();
+		List<FilaCarga> lote = new ArrayList<>(TAMANO_LOTE);
+		int indice = 0;
+		try (JsonParser parser = objectMapper.getFactory().createParser(cuerpo)) {
+			if (parser.nextToken() != JsonToken.START_ARRAY) {
+				throw new BadRequestException("El cuerpo debe ser un array JSON de reservas");
+			}
+			try {
+				for (JsonToken token = parser.nextToken(); token != null && token != JsonToken.END_ARRAY;
+						token = parser.nextToken(), indice++) {
+					resultado.sumarRecibidas(1);
+					JsonNode nodo = objectMapper.readTree(parser);
+					try {
+						lote.add(new FilaCarga(indice, objectMapper.treeToValue(nodo, ReservaCargaDTO.class)));
+					} catch (JsonProcessingException e) {
+						resultado.rechazar(indice, "Fila inválida: " + e.getOriginalMessage());
+					}
+					if (lote.size() == TAMANO_LOTE) {
+						procesarLote(lote, resultado);
+						lote.clear();
+					}
+				}
+			} catch (JsonProcessingException e) {
+				resultado.rechazar(indice, "JSON mal formado, se detiene la carga: " + e.getOriginalMessage());
+			}
+		}
+		if (!lote.isEmpty()) {
+			procesarLote(lote, resultado);
+		}
+		return resultado;
+	}
+
+	private void procesarLote(List<FilaCarga> filas, ResultadoCargaDTO resultado) {
+		List<FilaCarga> validas = validar(filas, resultado);
+		if (validas.isEmpty()) {
+			return;
+		}
+		try {
+			transactionTemplate.executeWithoutResult(status -> guardar(validas));
+			resultado.sumarGuardadas(validas.size());
+		} catch (RuntimeException e) {
+			for (FilaCarga fila : validas) {
+				fila.reserva.setIdReserva(null);
+				fila.reserva.setHabitaciones(new ArrayList<>(fila.reserva.getHabitaciones()));
+				try {
+					transactionTemplate.executeWithoutResult(status -> guardar(List.of(fila)));
+					resultado.sumarGuardadas(1);
+				} catch (RuntimeException errorFila) {
+					resultado.rechazar(fila.indice, "No se pudo guardar la reserva: " + mensaje(errorFila));
+				}
+			}
+		}
+		// Con open-in-view el EntityManager vive toda la petición; se vacía para que no crezca entre lotes.
+		entityManager.clear();
+	}
+
+	/**
+	 * Valida las filas del lote y construye las reservas de las válidas.
+	 */
+	private List<FilaCarga> validar(List<FilaCarga> filas, ResultadoCargaDTO resultado) {
+		Set<Long> idsHuesped = new HashSet<>();
+		Set<Long> idsEmpleado = new HashSet<>();
+		Set<Long> idsHabitacion = new HashSet<>();
+		for (FilaCarga fila : filas) {
+			if (fila.datos.getIdHuesped() != null) {
+				idsHuesped.add(fila.datos.getIdHuesped());
+			}
+			if (fila.datos.getIdEmpleado() != null) {
+				idsEmpleado.add(fila.datos.getIdEmpleado());
+			}
+			if (fila.datos.getHabitaciones() != null) {
+				fila.datos.getHabitaciones().stream().filter(id -> id != null).forEach(idsHabitacion::add);
+			}
+		}
+		Map<Long, Huesped> huespedes = huespedRepository.findAllById(idsHuesped).stream()
+				.collect(Collectors.toMap(Huesped::getIdHuesped, Function.identity()));
+		Map<Long, Empleado> empleados = empleadoRepository.findAllById(idsEmpleado).stream()
+				.collect(Collectors.toMap(Empleado::getIdEmpleado, Function.identity()));
+		Map<Long, Habitacion> habitaciones = habitacionRepository.findAllById(idsHabitacion).stream()
+				.collect(Collectors.toMap(Habitacion::getIdHabitacion, Function.identity()));
+
+		Map<Long, IntervalosHabitacion> ocupadasEnLote = new HashMap<>();
+		List<FilaCarga> validas = new ArrayList<>(filas.size());
+		for (FilaCarga fila : filas) {
+			Set<ConstraintViolation<ReservaCargaDTO>> errores = validator.validate(fila.datos);
+			if (!errores.isEmpty()) {
+				resultado.rechazar(fila.indice, errores.stream().map(ConstraintViolation::getMessage).sorted()
+						.collect(Collectors.joining("; ")));
+				continue;
+			}
+			String error = construir(fila, huespedes, empleados, habitaciones, ocupadasEnLote);
+			if (error != null) {
+				resultado.rechazar(fila.indice, error);
+			} else {
+				validas.add(fila);
+			}
+		}
+		return validas;
+	}
+
+	private String construir(FilaCarga fila, Map<Long, Huesped> huespedes, Map<Long, Empleado> empleados,
+			Map<Long, Habitacion> habitaciones, Map<Long, IntervalosHabitacion> ocupadasEnLote) {
+		ReservaCargaDTO datos = fila.datos;
+		if (!datos.getFechaFin().isAfter(datos.getFechaInicio())) {
+			return "La fecha de fin debe ser posterior a la fecha de inicio";
+		}
+		Huesped huesped = huespedes.get(datos.getIdHuesped());
+		if (huesped == null) {
+			return ErrorMessage.HUESPED_NOT_FOUND + ": " + datos.getIdHuesped();
+		}
+		Empleado empleado = empleados.get(datos.getIdEmpleado());
+		if (empleado == null) {
+			return ErrorMessage.EMPLEADO_NOT_FOUND + ": " + datos.getIdEmpleado();
+		}
+		int desde = Fechas.aDia(datos.getFechaInicio());
+		int hasta = Fechas.aDia(datos.getFechaFin());
+		boolean activa = datos.getEstado() == null || datos.getEstado();
+		Set<Long> idsHabitacion = new LinkedHashSet<>();
+		if (datos.getHabitaciones() != null) {
+			datos.getHabitaciones().stream().filter(id -> id != null).forEach(idsHabitacion::add);
+		}
+		List<Habitacion> asignadas = new ArrayList<>(idsHabitacion.size());
+		for (Long idHabitacion : idsHabitacion) {
+			Habitacion habitacion = habitaciones.get(idHabitacion);
+			if (habitacion == null) {
+				return ErrorMessage.HABITACION_NOT_FOUND + ": " + idHabitacion;
+			}
+			IntervalosHabitacion enLote = ocupadasEnLote.get(idHabitacion);
+			// Una reserva inactiva no ocupa sus habitaciones.
+			if (activa && !disponibilidadService.estaDisponible(idHabitacion, desde, hasta, null)
+					|| (enLote != null && !enLote.estaLibre(desde, hasta, -1))) {
+				return "La habitación " + idHabitacion + " ya está reservada en esas fechas";
+			}
+			asignadas.add(habitacion);
+		}
+		if (activa) {
+			for (Long idHabitacion : idsHabitacion) {
+				ocupadasEnLote.computeIfAbsent(idHabitacion, id -> new IntervalosHabitacion())
+						.agregar(fila.indice, desde, hasta);
+			}
+		}
+		Reserva reserva = new Reserva();
+		reserva.setFechaInicio(Fechas.aDate(datos.getFechaInicio()));
+		reserva.setFechaFin(Fechas.aDate(datos.getFechaFin()));
+		reserva.setEstado(activa);
+		reserva.setHuesped(huesped);
+		reserva.setEmpleado(empleado);
+		reserva.setHabitaciones(asignadas);
+		fila.reserva = reserva;
+		return null;
+	}
+
+	/**
+	 * Inserta las reservas y sus noches. Debe ejecutarse dentro de una transacción.
+	 */
+	private void guardar(List<FilaCarga> filas) {
+		List<Reserva> reservas = new ArrayList<>(filas.size());
+		filas.forEach(fila -> reservas.add(fila.reserva));
+		reservaRepository.saveAll(reservas);
+		List<NocheHabitacion> noches = new ArrayList<>();
+		for (Reserva reserva : reservas) {
+			if (!reserva.isEstado()) {
+				continue;
+			}
+			LocalDate salida = Fechas.aLocalDate(reserva.getFechaFin());
+			for (Habitacion habitacion : reserva.getHabitaciones()) {
+				for (LocalDate noche = Fechas.aLocalDate(reserva.getFechaInicio()); noche.isBefore(salida);
+						noche = noche.plusDays(1)) {
+					noches.add(new NocheHabitacion(habitacion.getIdHabitacion(), noche, reserva.getIdReserva()));
+				}
+			}
+		}
+		nocheHabitacionRepository.saveAll(noches);
+		nocheHabitacionRepository.flush();
+		reservas.forEach(reserva -> eventPublisher.publishEvent(ReservaOcupacionEvent.de(reserva)));
+	}
+
+	private String mensaje(RuntimeException e) {
+		if (e instanceof DataIntegrityViolationException) {
+			return "La habitación ya está reservada en esas fechas";
+		}
+		return e.getMessage();
+	}
+
+	/**
+	 * Fila del cuerpo con su posición y, si es válida, la reserva construida.
+	 */
+	private static final class FilaCarga {
+
+		private final int indice;
+		private final ReservaCargaDTO datos;
+		private Reserva reserva;
+
+		private FilaCarga(int indice, ReservaCargaDTO datos) {
+			this.indice = indice;
+			this.datos = datos;
+		}
+	}
+}
@@ -0,0 +1,30 @@
+/**
+ * @file: CatalogoHabitacionService.java
+ * @author: (c)2026 Cueva
+ * @created: 18 oct 2026, 20:41:12
+ */
+package com.equipo02.hotel.services;
+
+import java.math.BigDecimal;
+
+import com.equipo02.hotel.dto.BusquedaHabitacionesDTO;
+
+/**
+ * Interfaz del catálogo de habitaciones en memoria, con filtros por faceta y búsqueda en la descripción.
+ */
+public interface CatalogoHabitacionService {
+
+	/**
+     * Busca habitaciones en el catálogo. Los filtros nulos no se aplican.
+     * @param tipo Tipo de habitación, sin distinguir mayúsculas.
+     * @param precioMin Precio mínimo por noche (inclusive).
+     * @param precioMax Precio máximo por noche (inclusive).
+     * @param disponible Estado de disponibilidad.
+     * @param texto Términos que debe contener la descripción; cada uno coincide como prefijo.
+     * @param cursor Id de la última habitación de la página anterior.
+     * @param limite Tamaño de la página.
+     * @return La página de habitaciones y los conteos por faceta.
+     */
+	BusquedaHabitacionesDTO buscar(String tipo, BigDecimal precioMin, BigDecimal precioMax, Boolean disponible,
+			String texto, Long cursor, int limite);
+}
@@ -0,0 +1,176 @@
+/**
+ * @file: CatalogoHabitacionServiceImp.java
+ * @author: (c)2026 Cueva
+ * @created: 18 oct 2026, 20:46:58
+ */
+package com.equipo02.hotel.services;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.equipo02.hotel.dto.BusquedaHabitacionesDTO;
+import com.equipo02.hotel.dto.HabitacionCatalogoDTO;
+import com.equipo02.hotel.events.HabitacionCambioEvent;
+import com.equipo02.hotel.repositories.HabitacionRepository;
+import com.equipo02.hotel.repositories.ResumenHabitacion;
+import com.equipo02.hotel.util.IndiceCatalogo;
+import com.equipo02.hotel.util.Paginacion;
+
+/**
+ * Implementación del catálogo de habitaciones en memoria.
+ *
+ * Guarda una copia de los campos simples de cada habitación y un {@link IndiceCatalogo} inmutable
+ * construido a partir de ellos. Las búsquedas leen el índice vigente sin bloqueos. Cada cambio de
+ * una habitación, recibido con {@link HabitacionCambioEvent} tras confirmarse la transacción, solo
+ * actualiza su copia y marca el índice como desfasado; una tarea programada construye uno nuevo y
+ * lo publica de una vez. Así una ráfaga de cambios, como el recálculo de la disponibilidad a
+ * medianoche, produce una sola reconstrucción, y las búsquedas ven cada cambio como mucho un
+ * segundo después.
+ */
+@Service
+public class CatalogoHabitacionServiceImp implements CatalogoHabitacionService {
+
+	private static final Logger log = LoggerFactory.getLogger(CatalogoHabitacionServiceImp.class);
+
+	private static final long ESPERA_RECONSTRUCCION_MS = 1000;
+
+	@Autowired
+	private HabitacionRepository habitacionRepository;
+
+	private final Map<Long, HabitacionCatalogoDTO> habitaciones = new ConcurrentHashMap<>();
+
+	private volatile IndiceCatalogo indice = IndiceCatalogo.VACIO;
+
+	private final AtomicBoolean desfasado = new AtomicBoolean();
+
+	/**
+     * Busca habitaciones en el catálogo.
+     * @param tipo Tipo de habitación, o null.
+     * @param precioMin Precio mínimo, o null.
+     * @param precioMax Precio máximo, o null.
+     * @param disponible Estado de disponibilidad, o null.
+     * @param texto Términos de la descripción, o null.
+     * @param cursor Id de la última habitación de la página anterior.
+     * @param limite Tamaño de la página.
+     * @return La página de habitaciones y los conteos por faceta.
+     */
+	@Override
+	public BusquedaHabitacionesDTO buscar(String tipo, BigDecimal precioMin, BigDecimal precioMax, Boolean disponible,
+			String texto, Long cursor, int limite) {
+		Pageable pagina = Paginacion.pagina(limite);
+		IndiceCatalogo actual = indice;
+		BitSet filtroTipo = tipo == null ? null : actual.porTipo(tipo);
+		BitSet filtroDisponible = disponible == null ? null : actual.porDisponible(disponible);
+		BitSet comunes = actual.todas();
+		if (precioMin != null || precioMax != null) {
+			comunes.and(actual.porPrecio(precioMin == null ? Long.MIN_VALUE : IndiceCatalogo.aCentimos(precioMin),
+					precioMax == null ? Long.MAX_VALUE : IndiceCatalogo.aCentimos(precioMax)));
+		}
+		if (texto != null && !texto.isBlank()) {
+			comunes.and(actual.porTexto(texto));
+		}
+
+		BitSet sinTipo = interseccion(comunes, filtroDisponible);
+		BitSet sinDisponible = interseccion(comunes, filtroTipo);
+		BitSet resultado = interseccion(sinTipo, filtroTipo);
+
+		List<HabitacionCatalogoDTO> elementos = new ArrayList<>(limite);
+		int posicion = resultado.nextSetBit(actual.posicionTras(cursor));
+		while (posicion >= 0 && elementos.size() < limite) {
+			elementos.add(actual.habitacion(posicion));
+			posicion = resultado.nextSetBit(posicion + 1);
+		}
+		boolean haySiguiente = posicion >= 0;
+
+		long minimo = Long.MAX_VALUE;
+		long maximo = Long.MIN_VALUE;
+		for (int i = resultado.nextSetBit(0); i >= 0; i = resultado.nextSetBit(i + 1)) {
+			long precio = actual.precio(i);
+			minimo = Math.min(minimo, precio);
+			maximo = Math.max(maximo, precio);
+		}
+
+		int disponibles = actual.contarDisponibles(sinDisponible);
+		Map<Boolean, Integer> disponibilidad = new LinkedHashMap<>();
+		disponibilidad.put(true, disponibles);
+		disponibilidad.put(false, sinDisponible.cardinality() - disponibles);
+
+		BusquedaHabitacionesDTO busqueda = new BusquedaHabitacionesDTO();
+		busqueda.setTotal(resultado.cardinality());
+		busqueda.setPagina(Paginacion.aPagina(new SliceImpl<>(elementos, pagina, haySiguiente), elementos,
+				HabitacionCatalogoDTO::getIdHabitacion));
+		busqueda.setTipos(actual.contarPorTipo(sinTipo));
+		busqueda.setDisponibilidad(disponibilidad);
+		busqueda.setPrecioMin(resultado.isEmpty() ? null : BigDecimal.valueOf(minimo, 2));
+		busqueda.setPrecioMax(resultado.isEmpty() ? null : BigDecimal.valueOf(maximo, 2));
+		return busqueda;
+	}
+
+	/**
+	 * Construye el catálogo con las habitaciones existentes.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional(readOnly = true)
+	public synchronized void cargar() {
+		desfasado.set(false);
+		habitaciones.clear();
+		for (ResumenHabitacion resumen : habitacionRepository.listarResumenes()) {
+			habitaciones.put(resumen.getIdHabitacion(), new HabitacionCatalogoDTO(resumen.getIdHabitacion(),
+					resumen.getTipo(), resumen.getPrecio(), resumen.getDescripcion(),
+					Boolean.TRUE.equals(resumen.getDisponible())));
+		}
+		indice = new IndiceCatalogo(habitaciones.values());
+		log.info("Catálogo de habitaciones cargado: {} habitaciones", indice.tamano());
+	}
+
+	/**
+	 * Actualiza la copia de una habitación creada, modificada o eliminada y marca el índice como desfasado.
+	 * @param evento Los datos actuales de la habitación.
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public synchronized void onHabitacionCambio(HabitacionCambioEvent evento) {
+		if (evento.isEliminada()) {
+			habitaciones.remove(evento.getIdHabitacion());
+		} else {
+			habitaciones.put(evento.getIdHabitacion(), new HabitacionCatalogoDTO(evento.getIdHabitacion(),
+					evento.getTipo(), evento.getPrecio(), evento.getDescripcion(), evento.isDisponible()));
+		}
+		desfasado.set(true);
+	}
+
+	/**
+	 * Reconstruye el índice si alguna habitación cambió desde la última vez.
+	 */
+	@Scheduled(fixedDelay = ESPERA_RECONSTRUCCION_MS)
+	public synchronized void reconstruirSiDesfasado() {
+		if (desfasado.getAndSet(false)) {
+			indice = new IndiceCatalogo(habitaciones.values());
+		}
+	}
+
+	private static BitSet interseccion(BitSet base, BitSet filtro) {
+		BitSet resultado = (BitSet) base.clone();
+		if (filtro != null) {
+			resultado.and(filtro);
+		}
+		return resultado;
+	}
+}
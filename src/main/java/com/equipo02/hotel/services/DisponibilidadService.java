@@ -0,0 +1,98 @@
+/**
+ * @file: DisponibilidadService.java
+ * @author: (c) 2026 MARCO
+ * @created: 18 oct. 2026 09:55:02
+ */
+package com.equipo02.hotel.services;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import com.equipo02.hotel.dto.HabitacionDisponibleDTO;
+
+/**
+ * Interfaz que define las consultas de disponibilidad de habitaciones por rango de fechas.
+ * Las consultas se resuelven en memoria sobre un índice de intervalos por habitación.
+ * Los bloqueos temporales cuentan como ocupación igual que las reservas.
+ */
+public interface DisponibilidadService {
+
+	/**
+     * Busca las habitaciones libres en todas las noches del rango [desde, hasta).
+     * @param desde Fecha de llegada.
+     * @param hasta Fecha de salida.
+     * @param tipo Tipo de habitación a filtrar, o null para todos los tipos.
+     * @return Las habitaciones libres ordenadas por id.
+     */
+	List<HabitacionDisponibleDTO> buscarDisponibles(LocalDate desde, LocalDate hasta, String tipo);
+
+	/**
+     * Indica si una habitación está libre en todas las noches del rango [desde, hasta).
+     * @param idHabitacion El id de la habitación.
+     * @param desde Primer día (epoch day, inclusivo).
+     * @param hasta Día de salida (epoch day, exclusivo).
+     * @param idReservaIgnorada Reserva que no debe contarse como ocupación (la que se está modificando), o null.
+     * @return true si el índice no conoce ninguna reserva que choque. Una habitación que el índice
+     *         aún no conoce se considera libre; en ese caso decide la base de datos.
+     */
+	boolean estaDisponible(Long idHabitacion, int desde, int hasta, Long idReservaIgnorada);
+
+	/**
+     * Indica si una habitación está libre en todas las noches del rango [desde, hasta) sin contar
+     * un bloqueo, el que se está confirmando como reserva.
+     * @param idHabitacion El id de la habitación.
+     * @param desde Primer día (epoch day, inclusivo).
+     * @param hasta Día de salida (epoch day, exclusivo).
+     * @param idReservaIgnorada Reserva que no debe contarse como ocupación, o null.
+     * @param idBloqueoIgnorado Bloqueo que no debe contarse como ocupación.
+     * @return true si el índice no conoce ninguna reserva ni otro bloqueo que choque.
+     */
+	boolean estaDisponible(Long idHabitacion, int desde, int hasta, Long idReservaIgnorada, long idBloqueoIgnorado);
+
+	/**
+     * Elige habitaciones de un tipo libres en todas las noches del rango [desde, hasta).
+     * @param tipo Tipo de habitación.
+     * @param desde Primer día (epoch day, inclusivo).
+     * @param hasta Día de salida (epoch day, exclusivo).
+     * @param cantidad Número de habitaciones buscadas.
+     * @return Hasta cantidad ids de habitaciones libres, en orden de id.
+     */
+	List<Long> elegirDisponibles(String tipo, int desde, int hasta, int cantidad);
+
+	/**
+     * Devuelve las noches ocupadas de cada habitación de un tipo en el rango [desde, hasta).
+     * @param tipo Tipo de habitación.
+     * @param desde Primer día (epoch day, inclusivo).
+     * @param hasta Último día (epoch day, exclusivo).
+     * @return Por cada habitación, en orden de id, un mapa de bits donde el bit i indica que la
+     *         noche desde + i está ocupada por una reserva o un bloqueo.
+     */
+	Map<Long, long[]> ocupacionPorTipo(String tipo, int desde, int hasta);
+
+	/**
+     * Indica si el índice conoce la habitación.
+     * @param idHabitacion El id de la habitación.
+     * @return true si la habitación existe en el índice.
+     */
+	boolean conoceHabitacion(Long idHabitacion);
+
+	/**
+     * Bloquea una habitación en el rango [desde, hasta) si está libre. La comprobación y el
+     * registro son atómicos respecto de otros bloqueos de la misma habitación.
+     * @param idBloqueo El id del bloqueo.
+     * @param idHabitacion El id de la habitación.
+     * @param desde Primer día (epoch day, inclusivo).
+     * @param hasta Día de salida (epoch day, exclusivo).
+     * @return true si se registró el bloqueo; false si la habitación no existe o no está libre.
+     */
+	boolean bloquear(long idBloqueo, Long idHabitacion, int desde, int hasta);
+
+	/**
+     * Retira un bloqueo registrado con {@link #bloquear}.
+     * @param idBloqueo El id del bloqueo.
+     * @param idHabitacion El id de la habitación.
+     * @param desde Primer día del bloqueo.
+     */
+	void liberarBloqueo(long idBloqueo, Long idHabitacion, int desde);
+}
@@ -0,0 +1,343 @@
+/**
+ * @file: DisponibilidadServiceImp.java
+ * @author: (c) 2026 MARCO
+ * @created: 18 oct. 2026 10:02:44
+ */
+package com.equipo02.hotel.services;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.equipo02.hotel.dto.HabitacionDisponibleDTO;
+import com.equipo02.hotel.events.HabitacionCambioEvent;
+import com.equipo02.hotel.events.ReservaOcupacionEvent;
+import com.equipo02.hotel.repositories.HabitacionRepository;
+import com.equipo02.hotel.repositories.OcupacionHabitacion;
+import com.equipo02.hotel.repositories.ReservaRepository;
+import com.equipo02.hotel.repositories.ResumenHabitacion;
+import com.equipo02.hotel.util.Fechas;
+import com.equipo02.hotel.util.IntervalosHabitacion;
+import com.equipo02.hotel.util.OcupacionesReservas;
+
+/**
+ * Implementación del índice de disponibilidad en memoria.
+ *
+ * Se construye al iniciar la aplicación a partir de las fechas de las reservas y de la tabla
+ * habitacion_reserva, y se mantiene con los eventos que publican ReservaServiceImp y
+ * HabitacionServiceImp una vez confirmada cada transacción.
+ */
+@Service
+public class DisponibilidadServiceImp implements DisponibilidadService {
+
+	private static final Logger log = LoggerFactory.getLogger(DisponibilidadServiceImp.class);
+
+	@Autowired
+	private ReservaRepository reservaRepository;
+	@Autowired
+	private HabitacionRepository habitacionRepository;
+
+	/** Habitaciones indexadas, ordenadas por id. */
+	private final Map<Long, FichaHabitacion> habitaciones = new ConcurrentSkipListMap<>();
+
+	/** Última ocupación conocida de cada reserva, para poder reemplazarla. */
+	private final OcupacionesReservas reservas = new OcupacionesReservas();
+
+	/**
+     * Busca las habitaciones libres en el rango [desde, hasta).
+     * @param desde Fecha de llegada.
+     * @param hasta Fecha de salida.
+     * @param tipo Tipo de habitación, o null para todos.
+     * @return Las habitaciones libres ordenadas por id.
+     */
+	@Override
+	public List<HabitacionDisponibleDTO> buscarDisponibles(LocalDate desde, LocalDate hasta, String tipo) {
+		int diaDesde = Fechas.aDia(desde);
+		int diaHasta = Fechas.aDia(hasta);
+		List<HabitacionDisponibleDTO> disponibles = new ArrayList<>();
+		for (FichaHabitacion ficha : habitaciones.values()) {
+			if (tipo != null && !tipo.equalsIgnoreCase(ficha.tipo)) {
+				continue;
+			}
+			if (ficha.estaLibre(diaDesde, diaHasta, -1, -1)) {
+				disponibles.add(new HabitacionDisponibleDTO(ficha.idHabitacion, ficha.tipo, ficha.precio));
+			}
+		}
+		return disponibles;
+	}
+
+	/**
+     * Indica si una habitación está libre en el rango [desde, hasta).
+     * @param idHabitacion El id de la habitación.
+     * @param desde Primer día (epoch day).
+     * @param hasta Día de salida (epoch day).
+     * @param idReservaIgnorada Reserva a ignorar, o null.
+     * @return true si la habitación está libre.
+     */
+	@Override
+	public boolean estaDisponible(Long idHabitacion, int desde, int hasta, Long idReservaIgnorada) {
+		return estaDisponible(idHabitacion, desde, hasta, idReservaIgnorada, -1);
+	}
+
+	/**
+     * Indica si una habitación está libre en el rango [desde, hasta) sin contar un bloqueo.
+     * @param idHabitacion El id de la habitación.
+     * @param desde Primer día (epoch day).
+     * @param hasta Día de salida (epoch day).
+     * @param idReservaIgnorada Reserva a ignorar, o null.
+     * @param idBloqueoIgnorado Bloqueo a ignorar.
+     * @return true si la habitación está libre.
+     */
+	@Override
+	public boolean estaDisponible(Long idHabitacion, int desde, int hasta, Long idReservaIgnorada, long idBloqueoIgnorado) {
+		FichaHabitacion ficha = habitaciones.get(idHabitacion);
+		if (ficha == null) {
+			return true;
+		}
+		return ficha.estaLibre(desde, hasta, idReservaIgnorada == null ? -1 : idReservaIgnorada, idBloqueoIgnorado);
+	}
+
+	/**
+     * Elige las primeras habitaciones libres de un tipo en el rango [desde, hasta).
+     * @param tipo Tipo de habitación.
+     * @param desde Primer día (epoch day).
+     * @param hasta Día de salida (epoch day).
+     * @param cantidad Número de habitaciones buscadas.
+     * @return Los ids elegidos.
+     */
+	@Override
+	public List<Long> elegirDisponibles(String tipo, int desde, int hasta, int cantidad) {
+		List<Long> elegidas = new ArrayList<>(cantidad);
+		for (FichaHabitacion ficha : habitaciones.values()) {
+			if (elegidas.size() == cantidad) {
+				break;
+			}
+			if (tipo.equalsIgnoreCase(ficha.tipo) && ficha.estaLibre(desde, hasta, -1, -1)) {
+				elegidas.add(ficha.idHabitacion);
+			}
+		}
+		return elegidas;
+	}
+
+	/**
+     * Devuelve las noches ocupadas de las habitaciones de un tipo en el rango [desde, hasta).
+     * @param tipo Tipo de habitación.
+     * @param desde Primer día (epoch day).
+     * @param hasta Último día (epoch day, exclusivo).
+     * @return Un mapa de bits por habitación, en orden de id.
+     */
+	@Override
+	public Map<Long, long[]> ocupacionPorTipo(String tipo, int desde, int hasta) {
+		Map<Long, long[]> ocupacion = new LinkedHashMap<>();
+		int palabras = (Math.max(hasta - desde, 0) + 63) >>> 6;
+		for (FichaHabitacion ficha : habitaciones.values()) {
+			if (!tipo.equalsIgnoreCase(ficha.tipo)) {
+				continue;
+			}
+			long[] bits = new long[palabras];
+			synchronized (ficha.bloqueos) {
+				marcar(bits, ficha.intervalos.superpuestos(desde, hasta), desde, hasta);
+				marcar(bits, ficha.bloqueos.superpuestos(desde, hasta), desde, hasta);
+			}
+			ocupacion.put(ficha.idHabitacion, bits);
+		}
+		return ocupacion;
+	}
+
+	/**
+     * Indica si el índice conoce la habitación.
+     * @param idHabitacion El id de la habitación.
+     * @return true si la habitación está indexada.
+     */
+	@Override
+	public boolean conoceHabitacion(Long idHabitacion) {
+		return habitaciones.containsKey(idHabitacion);
+	}
+
+	/**
+     * Bloquea una habitación en el rango [desde, hasta) si está libre.
+     * @param idBloqueo El id del bloqueo.
+     * @param idHabitacion El id de la habitación.
+     * @param desde Primer día (epoch day).
+     * @param hasta Día de salida (epoch day).
+     * @return true si se registró el bloqueo.
+     */
+	@Override
+	public boolean bloquear(long idBloqueo, Long idHabitacion, int desde, int hasta) {
+		FichaHabitacion ficha = habitaciones.get(idHabitacion);
+		if (ficha == null) {
+			return false;
+		}
+		synchronized (ficha.bloqueos) {
+			if (!ficha.estaLibre(desde, hasta, -1, -1)) {
+				return false;
+			}
+			ficha.bloqueos.agregar(idBloqueo, desde, hasta);
+			return true;
+		}
+	}
+
+	/**
+     * Retira un bloqueo de la habitación.
+     * @param idBloqueo El id del bloqueo.
+     * @param idHabitacion El id de la habitación.
+     * @param desde Primer día del bloqueo.
+     */
+	@Override
+	public void liberarBloqueo(long idBloqueo, Long idHabitacion, int desde) {
+		FichaHabitacion ficha = habitaciones.get(idHabitacion);
+		if (ficha != null) {
+			synchronized (ficha.bloqueos) {
+				ficha.bloqueos.quitar(idBloqueo, desde);
+			}
+		}
+	}
+
+	/**
+	 * Construye el índice con las habitaciones y reservas existentes.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional(readOnly = true)
+	public void cargar() {
+		for (ResumenHabitacion resumen : habitacionRepository.listarResumenes()) {
+			habitaciones.put(resumen.getIdHabitacion(),
+					new FichaHabitacion(resumen.getIdHabitacion(), resumen.getTipo(), resumen.getPrecio(),
+							new IntervalosHabitacion(), new IntervalosHabitacion()));
+		}
+		int filas = 0;
+		try (Stream<OcupacionHabitacion> ocupaciones = reservaRepository.listarOcupaciones()) {
+			for (OcupacionHabitacion ocupacion : (Iterable<OcupacionHabitacion>) ocupaciones::iterator) {
+				if (ocupacion.getFechaInicio() == null || ocupacion.getFechaFin() == null) {
+					continue;
+				}
+				int desde = Fechas.aDia(ocupacion.getFechaInicio());
+				int hasta = Math.max(Fechas.aDia(ocupacion.getFechaFin()), desde + 1);
+				reservas.agregarHabitacion(ocupacion.getIdReserva(), desde, hasta, ocupacion.getIdHabitacion());
+				FichaHabitacion ficha = habitaciones.get(ocupacion.getIdHabitacion());
+				if (ficha != null) {
+					ficha.intervalos.agregar(ocupacion.getIdReserva(), desde, hasta);
+				}
+				filas++;
+			}
+		}
+		log.info("Índice de disponibilidad cargado: {} habitaciones, {} asignaciones", habitaciones.size(), filas);
+	}
+
+	/**
+	 * Actualiza el índice cuando cambia la ocupación de una reserva.
+	 * Dos eventos de la misma reserva no se mezclan, y cada habitación pasa de la ocupación anterior a la nueva bajo el mismo cerrojo
+	 * que usan bloquear y las consultas, que nunca ven la reserva quitada y todavía sin volver a poner.
+	 * @param evento El nuevo estado de la reserva.
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onReservaOcupacion(ReservaOcupacionEvent evento) {
+		reservas.reemplazar(evento, !evento.isEliminada(), (anterior, nuevo) -> {
+			Set<Long> afectadas = new LinkedHashSet<>();
+			if (anterior != null) {
+				Arrays.stream(anterior.getHabitaciones()).forEach(afectadas::add);
+			}
+			Arrays.stream(nuevo.getHabitaciones()).forEach(afectadas::add);
+			for (Long idHabitacion : afectadas) {
+				FichaHabitacion ficha = habitaciones.get(idHabitacion);
+				if (ficha != null) {
+					ficha.reemplazar(anterior, nuevo);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Actualiza el índice cuando se crea, modifica o elimina una habitación.
+	 * @param evento Los datos actuales de la habitación.
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onHabitacionCambio(HabitacionCambioEvent evento) {
+		if (evento.isEliminada()) {
+			habitaciones.remove(evento.getIdHabitacion());
+			return;
+		}
+		habitaciones.compute(evento.getIdHabitacion(), (id, ficha) -> ficha == null
+				? new FichaHabitacion(id, evento.getTipo(), evento.getPrecio(), new IntervalosHabitacion(),
+						new IntervalosHabitacion())
+				: new FichaHabitacion(id, evento.getTipo(), evento.getPrecio(), ficha.intervalos, ficha.bloqueos));
+	}
+
+	private static void marcar(long[] bits, List<IntervalosHabitacion.Intervalo> intervalos, int desde, int hasta) {
+		for (IntervalosHabitacion.Intervalo intervalo : intervalos) {
+			int fin = Math.min(intervalo.getHasta(), hasta);
+			for (int dia = Math.max(intervalo.getDesde(), desde); dia < fin; dia++) {
+				bits[(dia - desde) >>> 6] |= 1L << (dia - desde);
+			}
+		}
+	}
+
+
+	/**
+	 * Datos de una habitación dentro del índice.
+	 */
+	private static final class FichaHabitacion {
+
+		private final Long idHabitacion;
+		private final String tipo;
+		private final BigDecimal precio;
+		private final IntervalosHabitacion intervalos;
+		/** Bloqueos temporales, indexados por id de bloqueo. También es el cerrojo de la habitación. */
+		private final IntervalosHabitacion bloqueos;
+
+		private FichaHabitacion(Long idHabitacion, String tipo, BigDecimal precio, IntervalosHabitacion intervalos,
+				IntervalosHabitacion bloqueos) {
+			this.idHabitacion = idHabitacion;
+			this.tipo = tipo;
+			this.precio = precio;
+			this.intervalos = intervalos;
+			this.bloqueos = bloqueos;
+		}
+
+		private boolean estaLibre(int desde, int hasta, long reservaIgnorada, long bloqueoIgnorado) {
+			synchronized (bloqueos) {
+				return intervalos.estaLibre(desde, hasta, reservaIgnorada)
+						&& bloqueos.estaLibre(desde, hasta, bloqueoIgnorado);
+			}
+		}
+
+		/**
+		 * Sustituye en esta habitación la ocupación anterior de una reserva por la nueva.
+		 */
+		private void reemplazar(ReservaOcupacionEvent anterior, ReservaOcupacionEvent evento) {
+			synchronized (bloqueos) {
+				if (anterior != null && contiene(anterior.getHabitaciones(), idHabitacion)) {
+					intervalos.quitar(anterior.getIdReserva(), anterior.getDesde());
+				}
+				if (contiene(evento.getHabitaciones(), idHabitacion)) {
+					intervalos.agregar(evento.getIdReserva(), evento.getDesde(), evento.getHasta());
+				}
+			}
+		}
+
+		private static boolean contiene(long[] ids, long id) {
+			for (long actual : ids) {
+				if (actual == id) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+}
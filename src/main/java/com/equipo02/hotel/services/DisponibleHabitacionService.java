@@ -0,0 +1,29 @@
+/**
+ * @file: DisponibleHabitacionService.java
+ * @author: (c)2026 Cueva
+ * @created: 18 oct 2026, 21:58:14
+ */
+package com.equipo02.hotel.services;
+
+import java.util.Collection;
+
+/**
+ * Interfaz que mantiene el indicador Habitacion.disponible a partir de las reservas.
+ * Una habitación está disponible si ninguna reserva activa ocupa la noche de hoy.
+ */
+public interface DisponibleHabitacionService {
+
+	/**
+     * Recalcula el indicador de las habitaciones indicadas y publica un HabitacionCambioEvent
+     * por cada una que haya cambiado.
+     * @param idsHabitacion Las habitaciones a recalcular.
+     * @return El número de habitaciones que cambiaron.
+     */
+	int recalcular(Collection<Long> idsHabitacion);
+
+	/**
+     * Recalcula el indicador de las habitaciones con estadías que empiezan o terminan hoy.
+     * @return El número de habitaciones que cambiaron.
+     */
+	int cambiarDeDia();
+}
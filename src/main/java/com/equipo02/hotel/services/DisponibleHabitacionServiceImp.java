@@ -0,0 +1,160 @@
+/**
+ * @file: DisponibleHabitacionServiceImp.java
+ * @author: (c)2026 Cueva
+ * @created: 18 oct 2026, 22:04:51
+ */
+package com.equipo02.hotel.services;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.equipo02.hotel.domain.Habitacion;
+import com.equipo02.hotel.events.HabitacionCambioEvent;
+import com.equipo02.hotel.events.ReservaOcupacionEvent;
+import com.equipo02.hotel.repositories.HabitacionRepository;
+import com.equipo02.hotel.repositories.OcupacionHabitacion;
+import com.equipo02.hotel.repositories.ReservaRepository;
+import com.equipo02.hotel.util.Fechas;
+
+/**
+ * Implementación del indicador disponible derivado de las reservas.
+ *
+ * Solo las reservas que ocupan la noche de hoy pueden cambiar el indicador, así que el servicio
+ * guarda en memoria las habitaciones de esas reservas. Cuando una reserva cambia se recalculan
+ * las habitaciones que ocupaba hoy y las que ocupa ahora; si la reserva no toca el día de hoy
+ * no se hace nada. A medianoche se recalculan en una sola sentencia las habitaciones con estadías
+ * que empiezan o terminan ese día. Al arrancar se corrigen todas las habitaciones desfasadas.
+ */
+@Service
+public class DisponibleHabitacionServiceImp implements DisponibleHabitacionService {
+
+	private static final Logger log = LoggerFactory.getLogger(DisponibleHabitacionServiceImp.class);
+
+	@Autowired
+	private HabitacionRepository habitacionRepository;
+	@Autowired
+	private ReservaRepository reservaRepository;
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+
+	/** Habitaciones de cada reserva que ocupa la noche de {@link #dia}; protegido por this. */
+	private final Map<Long, long[]> reservasDelDia = new HashMap<>();
+
+	/** Día (epoch day) al que corresponde reservasDelDia. */
+	private int dia;
+
+	/**
+     * Recalcula el indicador de las habitaciones indicadas.
+     * @param idsHabitacion Las habitaciones a recalcular.
+     * @return El número de habitaciones que cambiaron.
+     */
+	@Override
+	@Transactional
+	public int recalcular(Collection<Long> idsHabitacion) {
+		if (idsHabitacion.isEmpty()) {
+			return 0;
+		}
+		LocalDate hoy = LocalDate.now();
+		List<Long> desfasadas = habitacionRepository.listarDisponibleDesfasado(idsHabitacion, hoy);
+		return actualizar(desfasadas, hoy);
+	}
+
+	/**
+     * Recalcula el indicador de las habitaciones con estadías que empiezan o terminan hoy.
+     * @return El número de habitaciones que cambiaron.
+     */
+	@Override
+	@Scheduled(cron = "0 0 0 * * *")
+	@Transactional
+	public int cambiarDeDia() {
+		LocalDate hoy = LocalDate.now();
+		cargarReservasDelDia(hoy);
+		List<Long> candidatas = habitacionRepository.listarConCambioDeEstadia(hoy);
+		int cambiadas = candidatas.isEmpty() ? 0
+				: actualizar(habitacionRepository.listarDisponibleDesfasado(candidatas, hoy), hoy);
+		log.info("Cambio de día {}: {} habitaciones cambiaron de disponibilidad", hoy, cambiadas);
+		return cambiadas;
+	}
+
+	/**
+	 * Carga las reservas en curso y corrige las habitaciones desfasadas.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional
+	public void cargar() {
+		LocalDate hoy = LocalDate.now();
+		cargarReservasDelDia(hoy);
+		int cambiadas = actualizar(habitacionRepository.listarDisponibleDesfasado(hoy), hoy);
+		log.info("Indicador de disponibilidad conciliado: {} habitaciones corregidas", cambiadas);
+	}
+
+	/**
+	 * Recalcula las habitaciones que la reserva ocupaba hoy y las que ocupa ahora.
+	 * Se ejecuta en una transacción propia porque la de la reserva ya terminó.
+	 * @param evento El nuevo estado de la reserva.
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public void onReservaOcupacion(ReservaOcupacionEvent evento) {
+		Set<Long> afectadas = new TreeSet<>();
+		synchronized (this) {
+			boolean ocupaHoy = !evento.isEliminada() && evento.getDesde() <= dia && evento.getHasta() > dia;
+			long[] anteriores = ocupaHoy ? reservasDelDia.put(evento.getIdReserva(), evento.getHabitaciones())
+					: reservasDelDia.remove(evento.getIdReserva());
+			if (anteriores != null) {
+				for (long idHabitacion : anteriores) {
+					afectadas.add(idHabitacion);
+				}
+			}
+			if (ocupaHoy) {
+				for (long idHabitacion : evento.getHabitaciones()) {
+					afectadas.add(idHabitacion);
+				}
+			}
+		}
+		recalcular(afectadas);
+	}
+
+	private synchronized void cargarReservasDelDia(LocalDate hoy) {
+		reservasDelDia.clear();
+		dia = Fechas.aDia(hoy);
+		Map<Long, List<Long>> porReserva = new HashMap<>();
+		for (OcupacionHabitacion fila : reservaRepository.listarOcupacionesDelDia(Fechas.aDate(hoy))) {
+			porReserva.computeIfAbsent(fila.getIdReserva(), id -> new ArrayList<>()).add(fila.getIdHabitacion());
+		}
+		porReserva.forEach((idReserva, habitaciones) -> reservasDelDia.put(idReserva,
+				habitaciones.stream().mapToLong(Long::longValue).toArray()));
+	}
+
+	/**
+	 * Recalcula el indicador de las habitaciones en una sola sentencia y avisa a los índices en memoria.
+	 */
+	private int actualizar(List<Long> ids, LocalDate hoy) {
+		if (ids.isEmpty()) {
+			return 0;
+		}
+		habitacionRepository.recalcularDisponible(ids, hoy);
+		for (Habitacion habitacion : habitacionRepository.findAllById(ids)) {
+			eventPublisher.publishEvent(HabitacionCambioEvent.de(habitacion));
+		}
+		return ids.size();
+	}
+}
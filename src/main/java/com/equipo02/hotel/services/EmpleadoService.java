@@ -7,6 +7,8 @@ package com.equipo02.hotel.services;
 
 import java.util.List;
 
+import org.springframework.data.domain.Slice;
+
 import com.equipo02.hotel.domain.Empleado;
 import com.equipo02.hotel.domain.Reserva;
 import com.equipo02.hotel.exception.EntityNotFoundException;
@@ -17,10 +19,12 @@ import com.equipo02.hotel.exception.IllegalOperationException;
  */
 public interface EmpleadoService {
 	/**
-     * Obtiene una lista de todas los empleados en el sistema.
-     * @return Una lista de objetos Empleado.
+     * Obtiene una página de empleados ordenados por id, a partir de un cursor.
+     * @param cursor Id del último empleado de la página anterior (0 para la primera).
+     * @param limite Tamaño de la página.
+     * @return Un Slice con los empleados de la página.
      */
-	List<Empleado> listarEmpleados();
+	Slice<Empleado> listarEmpleados(Long cursor, int limite);
 	
 	 /**
      * Busca un empleado por su identificador único.
@@ -64,7 +68,7 @@ public interface EmpleadoService {
      * @throws EntityNotFoundException Si el empleado con el id dado no es encontrado.
      * @throws IllegalOperationException Si el empleado es inválido.
      */
-	Empleado actualizarPorCampo(Long id, Empleado empleado) throws EntityNotFoundException;
+	Empleado actualizarPorCampo(Long id, Empleado empleado) throws EntityNotFoundException, IllegalOperationException;
 	
 	  /**
      * Método para obtener una Reserva específica asociada con un Empleado en particular.
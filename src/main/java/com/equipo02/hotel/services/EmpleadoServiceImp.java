@@ -11,15 +11,21 @@ import java.util.Optional;
 
 import com.equipo02.hotel.domain.Huesped;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.equipo02.hotel.domain.Empleado;
 import com.equipo02.hotel.domain.Reserva;
+import com.equipo02.hotel.events.EmpleadoCambioEvent;
 import com.equipo02.hotel.exception.EntityNotFoundException;
 import com.equipo02.hotel.exception.ErrorMessage;
 import com.equipo02.hotel.exception.IllegalOperationException;
 
 import com.equipo02.hotel.repositories.EmpleadoRepository;
+import com.equipo02.hotel.repositories.ReservaRepository;
+import com.equipo02.hotel.util.Paginacion;
 /**
  * Implementación de los servicios disponibles para la entidad Empleado.
  */
@@ -28,15 +34,23 @@ public class EmpleadoServiceImp implements EmpleadoService {
 
 	@Autowired
 	private EmpleadoRepository empleadoRep;
+
+	@Autowired
+	private ReservaRepository reservaRep;
+
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
 	
 	 /**
-     * Método para obtener una lista de todos los empleados.
-     * @return Una lista de objetos Empleado.
+     * Método para obtener una página de empleados a partir del cursor.
+     * @param cursor Id del último empleado de la página anterior.
+     * @param limite Tamaño de la página.
+     * @return Un Slice de objetos Empleado.
      */
 	@Override
 	@Transactional(readOnly = true)
-	public List<Empleado> listarEmpleados() {
-		return empleadoRep.findAll();
+	public Slice<Empleado> listarEmpleados(Long cursor, int limite) {
+		return empleadoRep.findByIdEmpleadoGreaterThanOrderByIdEmpleado(cursor, Paginacion.pagina(limite));
 	}
 	
 	/**
@@ -56,19 +70,15 @@ public class EmpleadoServiceImp implements EmpleadoService {
 	
 	/**
      * Método para guardar un nuevo empleado.
+     * El DNI repetido lo rechaza la restricción única de la tabla, sin consultar antes.
      * @param empleado Un objeto Empleado que representa el Empleado a guardar.
      * @return Un objeto Empleado que representa el empleado guardado.
      * @throws IllegalOperationException si ocurre un error al guardar el empleado.
      */
 	@Override
-	@Transactional
+	@Transactional(rollbackFor = IllegalOperationException.class)
 	public Empleado grabar(Empleado empleado) throws IllegalOperationException {
-		
-		Empleado empleadoDni = empleadoRep.findByDniEmpleado(empleado.getDniEmpleado());
-		if(empleadoDni != null) {
-			throw new IllegalOperationException("El dni del empleado ya existe");
-		}
-		return empleadoRep.save(empleado);
+		return guardar(empleado);
 	}
 
 	/**
@@ -80,35 +90,33 @@ public class EmpleadoServiceImp implements EmpleadoService {
      * @throws IllegalOperationException si ocurre un error al actualizar el empleado.
      */
 	@Override
-	@Transactional
+	@Transactional(rollbackFor = IllegalOperationException.class)
 	public Empleado actualizar(Long id, Empleado empleado)throws EntityNotFoundException, IllegalOperationException {
-		Optional<Empleado> empEntity = empleadoRep.findById(id);
-		if(empEntity.isEmpty())
-			throw new EntityNotFoundException(ErrorMessage.EMPLEADO_NOT_FOUND);
+		Empleado empEntity = cargar(id);
 		if(empleado.getNombreEmpleado().isBlank()) {
 			throw new IllegalOperationException("El nombre del empleado no debe estar en blanco");
 		}
-		Empleado empleadoDni = empleadoRep.findByDniEmpleado(empleado.getDniEmpleado());
-		if(empleadoDni != null && empleadoDni != empEntity.get()) {
-			throw new IllegalOperationException("El dni del empleado ya existe");
-		}
-		empleado.setIdEmpleado(id);
-		return empleadoRep.save(empleado);
+		return aplicar(empEntity, empleado);
 	}
 
 	 /**
      * Método para eliminar un empleado existente.
+     * El borrado se hace sin cargar el empleado; si tiene reservas lo impide la clave foránea.
      * @param id El ID del empleado a eliminar.
      * @throws EntityNotFoundException si no se encuentra un empleado con el ID proporcionado.
      * @throws IllegalOperationException si ocurre un error al eliminar el empleado.
      */
 	@Override
-	@Transactional
-	public void eliminar(Long id) throws EntityNotFoundException{
-		Optional<Empleado> empEntity = empleadoRep.findById(id);
-		if(empEntity.isEmpty())
+	@Transactional(rollbackFor = IllegalOperationException.class)
+	public void eliminar(Long id) throws EntityNotFoundException, IllegalOperationException {
+		int eliminados;
+		try {
+			eliminados = empleadoRep.eliminarPorId(id);
+		} catch (DataIntegrityViolationException e) {
+			throw new IllegalOperationException("No se puede eliminar, el empleado tiene reservas");
+		}
+		if(eliminados == 0)
 			throw new EntityNotFoundException(ErrorMessage.EMPLEADO_NOT_FOUND);
-		empleadoRep.deleteById(id);
 	}
 
 	/**
@@ -117,33 +125,60 @@ public class EmpleadoServiceImp implements EmpleadoService {
 	 * @param empleado Objeto DTO que contiene los campos actualizados del empleado.
 	 * @return ResponseEntity con un ApiResponse que contiene un mensaje de éxito junto con el empleado actualizado, junto con el código de estado HTTP 200 (OK) en caso de éxito.
 	 * @throws EntityNotFoundException si no se encuentra un empleado con el ID proporcionado.
+	 * @throws IllegalOperationException si el dni ya pertenece a otro empleado.
 	 */
 	@Override
-	public Empleado actualizarPorCampo(Long id, Empleado empleado) throws EntityNotFoundException {
-		Optional<Empleado> empleadoEntity = empleadoRep.findById(id);
-		if(empleadoEntity.isEmpty()) {
-			throw new EntityNotFoundException(ErrorMessage.EMPLEADO_NOT_FOUND);
-		}
-		empleado.setIdEmpleado(id);
-		
+	@Transactional(rollbackFor = IllegalOperationException.class)
+	public Empleado actualizarPorCampo(Long id, Empleado empleado) throws EntityNotFoundException, IllegalOperationException {
+		Empleado empleadoEntity = cargar(id);
 		if(empleado.getNombreEmpleado() == null) {
-			empleado.setNombreEmpleado(empleadoEntity.get().getNombreEmpleado());
+			empleado.setNombreEmpleado(empleadoEntity.getNombreEmpleado());
 		} 
 		if(empleado.getDniEmpleado() == null) {
-			empleado.setDniEmpleado(empleadoEntity.get().getDniEmpleado());
+			empleado.setDniEmpleado(empleadoEntity.getDniEmpleado());
 		}
 		if(empleado.getDireccionEmpleado() == null) {
-			empleado.setDireccionEmpleado(empleadoEntity.get().getDireccionEmpleado());
+			empleado.setDireccionEmpleado(empleadoEntity.getDireccionEmpleado());
 		}
 		if(empleado.getTelefonoEmpleado() == null) {
-			empleado.setTelefonoEmpleado(empleadoEntity.get().getTelefonoEmpleado());
+			empleado.setTelefonoEmpleado(empleadoEntity.getTelefonoEmpleado());
 		}
 		if(empleado.getCorreoEmpleado() == null) {
-			empleado.setCorreoEmpleado(empleadoEntity.get().getCorreoEmpleado());
+			empleado.setCorreoEmpleado(empleadoEntity.getCorreoEmpleado());
 		}		
-		return empleadoRep.save(empleado);
+		return aplicar(empleadoEntity, empleado);
 	}
 
+	private Empleado cargar(Long id) throws EntityNotFoundException {
+		return empleadoRep.findById(id)
+				.orElseThrow(() -> new EntityNotFoundException(ErrorMessage.EMPLEADO_NOT_FOUND));
+	}
+
+	/**
+	 * Copia los datos recibidos sobre el empleado cargado, sin pasar por merge, y avisa del cambio.
+	 */
+	private Empleado aplicar(Empleado empEntity, Empleado empleado) throws IllegalOperationException {
+		empEntity.setNombreEmpleado(empleado.getNombreEmpleado());
+		empEntity.setDniEmpleado(empleado.getDniEmpleado());
+		empEntity.setDireccionEmpleado(empleado.getDireccionEmpleado());
+		empEntity.setTelefonoEmpleado(empleado.getTelefonoEmpleado());
+		empEntity.setCorreoEmpleado(empleado.getCorreoEmpleado());
+		empleado.setIdEmpleado(empEntity.getIdEmpleado());
+		Empleado guardado = guardar(empEntity);
+		eventPublisher.publishEvent(EmpleadoCambioEvent.de(guardado.getIdEmpleado()));
+		return guardado;
+	}
+
+	/**
+	 * Escribe el empleado en el momento para traducir el DNI repetido a una operación ilegal.
+	 */
+	private Empleado guardar(Empleado empleado) throws IllegalOperationException {
+		try {
+			return empleadoRep.saveAndFlush(empleado);
+		} catch (DataIntegrityViolationException e) {
+			throw new IllegalOperationException("El dni del empleado ya existe");
+		}
+	}
 	
 	/**
 	 * Método para obtener una reserva específica de un empleado.
@@ -153,19 +188,20 @@ public class EmpleadoServiceImp implements EmpleadoService {
 	 * @return La reserva solicitada.
 	 * @throws EntityNotFoundException Si no se encuentra la reserva en el Empleado.
 	 *
-	 * Este método busca una habitación por su ID y luego busca una reserva específica dentro de las reservas de ese Empleado.
-	 * Si la reserva no se encuentra en el Empleado, se lanza una excepción.
+	 * La reserva se busca con una consulta que exige que sea del empleado, sin cargar sus reservas;
+	 * la existencia del empleado solo se consulta cuando no hay resultado, para elegir el error.
 	 */
 	@Override
+	@Transactional(readOnly = true)
 	public Reserva obtenerReservaDeEmpleado(Long idEmpleado, Long idReserva) throws EntityNotFoundException {
-		Empleado empleado= buscarPorId(idEmpleado);
-	    Optional<Reserva> optionalReserva = empleado.getReservas().stream()
-	            .filter(r -> r.getIdReserva().equals(idReserva))
-	            .findFirst();
-	    if (optionalReserva.isEmpty()) {
+	    Optional<Reserva> reserva = reservaRep.buscarDeEmpleado(idReserva, idEmpleado);
+	    if (reserva.isEmpty()) {
+	        if (!empleadoRep.existsById(idEmpleado)) {
+	            throw new EntityNotFoundException(ErrorMessage.EMPLEADO_NOT_FOUND);
+	        }
 	        throw new EntityNotFoundException("Reserva no asignada al empleado.");
 	    }
-	    return optionalReserva.get();
+	    return reserva.get();
 	}
 
 	/*@Override
@@ -0,0 +1,42 @@
+/**
+ * @file: EstadisticaHuespedService.java
+ * @author: (c) 2026 Rodriguez
+ * @created: 19 oct. 2026 18:08:15
+ */
+package com.equipo02.hotel.services;
+
+import java.util.List;
+
+import com.equipo02.hotel.dto.EstadisticaHuespedDTO;
+import com.equipo02.hotel.exception.EntityNotFoundException;
+import com.equipo02.hotel.exception.IllegalOperationException;
+
+/**
+ * Interfaz que define las estadísticas acumuladas de los huéspedes: noches, estancias, gasto y
+ * última estancia.
+ */
+public interface EstadisticaHuespedService {
+
+	/**
+     * Obtiene las estadísticas de un huésped.
+     * @param idHuesped El id del huésped.
+     * @return Sus estadísticas; todo a cero si no tiene reservas.
+     * @throws EntityNotFoundException si el huésped no existe.
+     * @throws IllegalOperationException si las estadísticas aún se están calculando.
+     */
+	EstadisticaHuespedDTO obtener(Long idHuesped) throws EntityNotFoundException, IllegalOperationException;
+
+	/**
+     * Obtiene los huéspedes con el valor más alto de un campo.
+     * @param orden "noches", "estancias", "gasto" o "ultimaEstancia".
+     * @param limite Número máximo de huéspedes.
+     * @return Los huéspedes, de mayor a menor valor.
+     * @throws IllegalOperationException si las estadísticas aún se están calculando.
+     */
+	List<EstadisticaHuespedDTO> mejores(String orden, int limite) throws IllegalOperationException;
+
+	/**
+     * Recalcula las estadísticas de todos los huéspedes a partir de las reservas.
+     */
+	void reconstruir();
+}
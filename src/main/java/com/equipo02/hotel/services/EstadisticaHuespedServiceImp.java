@@ -0,0 +1,330 @@
+/**
+ * @file: EstadisticaHuespedServiceImp.java
+ * @author: (c) 2026 Rodriguez
+ * @created: 19 oct. 2026 18:15:37
+ */
+package com.equipo02.hotel.services;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.equipo02.hotel.dto.EstadisticaHuespedDTO;
+import com.equipo02.hotel.events.HabitacionCambioEvent;
+import com.equipo02.hotel.events.ReservaOcupacionEvent;
+import com.equipo02.hotel.exception.BadRequestException;
+import com.equipo02.hotel.exception.EntityNotFoundException;
+import com.equipo02.hotel.exception.ErrorMessage;
+import com.equipo02.hotel.exception.IllegalOperationException;
+import com.equipo02.hotel.repositories.FilaExportReserva;
+import com.equipo02.hotel.repositories.HabitacionRepository;
+import com.equipo02.hotel.repositories.HuespedRepository;
+import com.equipo02.hotel.repositories.ResumenHabitacion;
+import com.equipo02.hotel.repositories.ReservaRepository;
+import com.equipo02.hotel.util.EstadisticasHuespedes;
+import com.equipo02.hotel.util.EstadisticasHuespedes.Estadistica;
+import com.equipo02.hotel.util.EstadisticasHuespedes.Orden;
+import com.equipo02.hotel.util.Fechas;
+
+/**
+ * Implementación de las estadísticas de huéspedes sobre un {@link EstadisticasHuespedes}.
+ *
+ * Cada ReservaOcupacionEvent confirmado, que publican el alta, los cambios y la baja de reservas,
+ * reemplaza el aporte de esa reserva: se resta lo que sumaba antes y se suma lo nuevo, también si
+ * cambia de huésped. Una reserva inactiva no aporta nada, ni al recibir su evento ni al reconstruir.
+ * El gasto es el precio base de las habitaciones por las noches, con los precios que se conocen al
+ * recibir el evento; un cambio de precio posterior no modifica las reservas ya contadas hasta la
+ * siguiente reconstrucción.
+ *
+ * Al arrancar y cada noche se recalcula todo desde la base de datos: las reservas se leen por tramos
+ * de ids en el ejecutor de consultas, varios a la vez, y los tramos se van sumando en orden a unas
+ * estadísticas nuevas que sustituyen a las anteriores al terminar. Los eventos que llegan mientras
+ * tanto se guardan y se aplican a las nuevas antes de publicarlas. Recibir un evento, y vaciar los
+ * guardados junto con la sustitución, se hacen con el mismo bloqueo: así ningún evento se aplica a
+ * las nuevas antes que otro anterior que aún estaba guardado.
+ */
+@Service
+public class EstadisticaHuespedServiceImp implements EstadisticaHuespedService {
+
+	private static final Logger log = LoggerFactory.getLogger(EstadisticaHuespedServiceImp.class);
+
+	/** Número máximo de huéspedes en una lista de mejores. */
+	public static final int LIMITE_MAXIMO = 100;
+
+	/** Ids de reserva que se leen en cada consulta de la reconstrucción. */
+	private static final int TAMANO_TRAMO = 20_000;
+
+	/** Tramos que se leen a la vez; menos que los hilos del ejecutor para no acapararlo. */
+	private static final int TRAMOS_EN_CURSO = 3;
+
+	@Autowired
+	private ReservaRepository reservaRepository;
+
+	@Autowired
+	private HuespedRepository huespedRepository;
+
+	@Autowired
+	private HabitacionRepository habitacionRepository;
+
+	@Autowired
+	@Qualifier("consultasExecutor")
+	private Executor consultasExecutor;
+
+	private volatile EstadisticasHuespedes estadisticas;
+
+	/** Bloqueo de la recepción de eventos y de la sustitución de las estadísticas. */
+	private final Object cambios = new Object();
+
+	/** Eventos recibidos durante una reconstrucción; null fuera de ella. Se usa con el bloqueo cambios. */
+	private Queue<Object> pendientes;
+
+	/**
+     * Obtiene las estadísticas de un huésped.
+     * @param idHuesped El id del huésped.
+     * @return Sus estadísticas; todo a cero si no tiene reservas.
+     * @throws EntityNotFoundException si el huésped no existe.
+     * @throws IllegalOperationException si las estadísticas aún se están calculando.
+     */
+	@Override
+	public EstadisticaHuespedDTO obtener(Long idHuesped) throws EntityNotFoundException, IllegalOperationException {
+		Estadistica estadistica = actuales().obtener(idHuesped);
+		if (estadistica != null) {
+			return aDTO(estadistica);
+		}
+		if (!huespedRepository.existsById(idHuesped)) {
+			throw new EntityNotFoundException(ErrorMessage.HUESPED_NOT_FOUND);
+		}
+		return new EstadisticaHuespedDTO(idHuesped, 0, 0, BigDecimal.ZERO.setScale(2), null);
+	}
+
+	/**
+     * Obtiene los huéspedes con el valor más alto de un campo.
+     * @param orden "noches", "estancias", "gasto" o "ultimaEstancia".
+     * @param limite Número máximo de huéspedes, hasta LIMITE_MAXIMO.
+     * @return Los huéspedes, de mayor a menor valor.
+     * @throws IllegalOperationException si las estadísticas aún se están calculando.
+     */
+	@Override
+	public List<EstadisticaHuespedDTO> mejores(String orden, int limite) throws IllegalOperationException {
+		Orden campo = aOrden(orden);
+		int tope = Math.min(Math.max(limite, 1), LIMITE_MAXIMO);
+		return actuales().mejores(campo, tope).stream().map(this::aDTO).collect(Collectors.toList());
+	}
+
+	/**
+	 * Calcula las estadísticas al arrancar.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void cargar() {
+		reconstruir();
+	}
+
+	/**
+	 * Recalcula las estadísticas de todos los huéspedes cada noche, por tramos de reservas en paralelo.
+	 */
+	@Override
+	@Scheduled(cron = "0 40 3 * * *")
+	public synchronized void reconstruir() {
+		synchronized (cambios) {
+			pendientes = new ArrayDeque<>();
+		}
+		EstadisticasHuespedes nuevas;
+		try {
+			nuevas = new EstadisticasHuespedes((int) reservaRepository.count(), (int) huespedRepository.count());
+			for (ResumenHabitacion habitacion : habitacionRepository.listarResumenes()) {
+				nuevas.ponerPrecio(habitacion.getIdHabitacion(), aCentimos(habitacion.getPrecio()));
+			}
+			Long maximo = reservaRepository.buscarIdMaximo();
+			Deque<CompletableFuture<Aportes>> enCurso = new ArrayDeque<>();
+			for (long desde = 0; maximo != null && desde < maximo; desde += TAMANO_TRAMO) {
+				long inicio = desde;
+				enCurso.add(CompletableFuture.supplyAsync(() -> leerTramo(nuevas, inicio, inicio + TAMANO_TRAMO), consultasExecutor));
+				if (enCurso.size() >= TRAMOS_EN_CURSO) {
+					enCurso.poll().join().sumarA(nuevas);
+				}
+			}
+			while (!enCurso.isEmpty()) {
+				enCurso.poll().join().sumarA(nuevas);
+			}
+		} catch (RuntimeException e) {
+			synchronized (cambios) {
+				pendientes = null;
+			}
+			log.error("No se pudieron recalcular las estadísticas de huéspedes", e);
+			throw e;
+		}
+		synchronized (cambios) {
+			pendientes.forEach(evento -> aplicar(nuevas, evento));
+			pendientes = null;
+			estadisticas = nuevas;
+		}
+		log.info("Estadísticas de huéspedes calculadas: {} huéspedes con {} reservas", nuevas.huespedes(), nuevas.reservas());
+	}
+
+	/**
+	 * Reemplaza el aporte de una reserva creada, modificada o eliminada.
+	 * @param evento La ocupación actual de la reserva.
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onReservaOcupacion(ReservaOcupacionEvent evento) {
+		recibir(evento);
+	}
+
+	/**
+	 * Actualiza el precio de una habitación creada, modificada o eliminada.
+	 * @param evento Los datos actuales de la habitación.
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onHabitacionCambio(HabitacionCambioEvent evento) {
+		recibir(evento);
+	}
+
+	private void recibir(Object evento) {
+		synchronized (cambios) {
+			if (pendientes != null) {
+				pendientes.add(evento);
+			}
+			EstadisticasHuespedes actual = estadisticas;
+			if (actual != null) {
+				aplicar(actual, evento);
+			}
+		}
+	}
+
+	private void aplicar(EstadisticasHuespedes actual, Object evento) {
+		if (evento instanceof HabitacionCambioEvent habitacion) {
+			if (habitacion.isEliminada()) {
+				actual.quitarPrecio(habitacion.getIdHabitacion());
+			} else {
+				actual.ponerPrecio(habitacion.getIdHabitacion(), aCentimos(habitacion.getPrecio()));
+			}
+		} else if (evento instanceof ReservaOcupacionEvent reserva) {
+			if (reserva.isEliminada() || !reserva.isActiva()) {
+				actual.quitar(reserva.getIdReserva());
+				return;
+			}
+			boolean conFechas = reserva.getHasta() > reserva.getDesde();
+			int noches = conFechas ? reserva.getHasta() - reserva.getDesde() : 0;
+			actual.poner(reserva.getIdReserva(), reserva.getIdHuesped() == null ? 0 : reserva.getIdHuesped(), noches,
+					actual.gasto(reserva.getHabitaciones(), noches), conFechas ? reserva.getDesde() : EstadisticasHuespedes.SIN_FECHA);
+		}
+	}
+
+	/**
+	 * Lee un tramo de reservas y calcula el aporte de cada una; se ejecuta en el ejecutor de consultas.
+	 */
+	private Aportes leerTramo(EstadisticasHuespedes nuevas, long desde, long hasta) {
+		List<FilaExportReserva> filas = reservaRepository.listarTramo(desde, hasta);
+		Aportes aportes = new Aportes(filas.size());
+		long[] habitaciones = new long[8];
+		int i = 0;
+		while (i < filas.size()) {
+			FilaExportReserva fila = filas.get(i);
+			int asignadas = 0;
+			for (; i < filas.size() && filas.get(i).getIdReserva().equals(fila.getIdReserva()); i++) {
+				if (filas.get(i).getIdHabitacion() != null) {
+					if (asignadas == habitaciones.length) {
+						habitaciones = Arrays.copyOf(habitaciones, asignadas * 2);
+					}
+					habitaciones[asignadas++] = filas.get(i).getIdHabitacion();
+				}
+			}
+			if (fila.getIdHuesped() == null || !Boolean.TRUE.equals(fila.getEstado())) {
+				continue;
+			}
+			int noches = 0;
+			int llegada = EstadisticasHuespedes.SIN_FECHA;
+			if (fila.getFechaInicio() != null && fila.getFechaFin() != null) {
+				llegada = Fechas.aDia(fila.getFechaInicio());
+				noches = Math.max(Fechas.aDia(fila.getFechaFin()), llegada + 1) - llegada;
+			}
+			aportes.agregar(fila.getIdReserva(), fila.getIdHuesped(), noches,
+					nuevas.gasto(Arrays.copyOf(habitaciones, asignadas), noches), llegada);
+		}
+		return aportes;
+	}
+
+	private EstadisticasHuespedes actuales() throws IllegalOperationException {
+		EstadisticasHuespedes actual = estadisticas;
+		if (actual == null) {
+			throw new IllegalOperationException("Las estadísticas de huéspedes aún se están calculando");
+		}
+		return actual;
+	}
+
+	private EstadisticaHuespedDTO aDTO(Estadistica estadistica) {
+		return new EstadisticaHuespedDTO(estadistica.getIdHuesped(), estadistica.getNoches(), estadistica.getEstancias(),
+				BigDecimal.valueOf(estadistica.getGasto(), 2),
+				estadistica.getUltimaLlegada() == EstadisticasHuespedes.SIN_FECHA ? null : Fechas.aLocalDate(estadistica.getUltimaLlegada()));
+	}
+
+	private static Orden aOrden(String orden) {
+		if ("noches".equalsIgnoreCase(orden)) {
+			return Orden.NOCHES;
+		} else if ("estancias".equalsIgnoreCase(orden)) {
+			return Orden.ESTANCIAS;
+		} else if ("gasto".equalsIgnoreCase(orden)) {
+			return Orden.GASTO;
+		} else if ("ultimaEstancia".equalsIgnoreCase(orden)) {
+			return Orden.ULTIMA_ESTANCIA;
+		}
+		throw new BadRequestException("El parámetro orden debe ser 'noches', 'estancias', 'gasto' o 'ultimaEstancia'");
+	}
+
+	private static long aCentimos(BigDecimal precio) {
+		return precio == null ? 0 : precio.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+	}
+
+	/**
+	 * Aportes de las reservas de un tramo, en el orden en que se leyeron.
+	 */
+	private static final class Aportes {
+
+		private final long[] reservas;
+		private final long[] huespedes;
+		private final int[] noches;
+		private final long[] gastos;
+		private final int[] llegadas;
+		private int tamano;
+
+		private Aportes(int capacidad) {
+			this.reservas = new long[capacidad];
+			this.huespedes = new long[capacidad];
+			this.noches = new int[capacidad];
+			this.gastos = new long[capacidad];
+			this.llegadas = new int[capacidad];
+		}
+
+		private void agregar(long idReserva, long idHuesped, int nochesReserva, long gasto, int llegada) {
+			reservas[tamano] = idReserva;
+			huespedes[tamano] = idHuesped;
+			noches[tamano] = nochesReserva;
+			gastos[tamano] = gasto;
+			llegadas[tamano] = llegada;
+			tamano++;
+		}
+
+		private void sumarA(EstadisticasHuespedes estadisticas) {
+			for (int i = 0; i < tamano; i++) {
+				estadisticas.poner(reservas[i], huespedes[i], noches[i], gastos[i], llegadas[i]);
+			}
+		}
+	}
+}
@@ -0,0 +1,22 @@
+/**
+ * @file: EstadisticasCacheService.java
+ * @author: (c)2026 Cueva
+ * @created: 18 oct 2026, 21:15:48
+ */
+package com.equipo02.hotel.services;
+
+import java.util.List;
+
+import com.equipo02.hotel.dto.EstadisticasCacheDTO;
+
+/**
+ * Interfaz que implementan los servicios con caché para publicar sus contadores.
+ */
+public interface EstadisticasCacheService {
+
+	/**
+     * Obtiene los contadores de las cachés del servicio.
+     * @return Una entrada por caché.
+     */
+	List<EstadisticasCacheDTO> estadisticasCache();
+}
@@ -0,0 +1,42 @@
+/**
+ * @file: ExportacionService.java
+ * @author: (c) 2026 MARCO
+ * @created: 18 oct. 2026 14:06:33
+ */
+package com.equipo02.hotel.services;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.equipo02.hotel.util.FormatoExportacion;
+
+/**
+ * Interfaz que define la exportación masiva de reservas, huéspedes y habitaciones.
+ * Las filas se escriben en la salida a medida que se leen de la base de datos, sin acumularlas en memoria.
+ */
+public interface ExportacionService {
+
+	/**
+     * Escribe todas las reservas, con los ids de su huésped, empleado y habitaciones.
+     * @param salida Flujo de salida; no se cierra.
+     * @param formato Formato de salida.
+     * @throws IOException si falla la escritura.
+     */
+	void exportarReservas(OutputStream salida, FormatoExportacion formato) throws IOException;
+
+	/**
+     * Escribe todos los huéspedes, con el id de su aval.
+     * @param salida Flujo de salida; no se cierra.
+     * @param formato Formato de salida.
+     * @throws IOException si falla la escritura.
+     */
+	void exportarHuespedes(OutputStream salida, FormatoExportacion formato) throws IOException;
+
+	/**
+     * Escribe todas las habitaciones.
+     * @param salida Flujo de salida; no se cierra.
+     * @param formato Formato de salida.
+     * @throws IOException si falla la escritura.
+     */
+	void exportarHabitaciones(OutputStream salida, FormatoExportacion formato) throws IOException;
+}
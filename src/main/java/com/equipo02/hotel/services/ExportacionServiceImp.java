@@ -0,0 +1,141 @@
+/**
+ * @file: ExportacionServiceImp.java
+ * @author: (c) 2026 MARCO
+ * @created: 18 oct. 2026 14:25:51
+ */
+package com.equipo02.hotel.services;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.equipo02.hotel.repositories.FilaExportHuesped;
+import com.equipo02.hotel.repositories.FilaExportReserva;
+import com.equipo02.hotel.repositories.HabitacionRepository;
+import com.equipo02.hotel.repositories.HuespedRepository;
+import com.equipo02.hotel.repositories.ReservaRepository;
+import com.equipo02.hotel.repositories.ResumenHabitacion;
+import com.equipo02.hotel.util.EscritorFilas;
+import com.equipo02.hotel.util.FormatoExportacion;
+
+/**
+ * Implementación de la exportación masiva.
+ *
+ * Cada exportación recorre un Stream de proyecciones con fetch size, de modo que el driver entrega
+ * las filas por bloques y Hibernate no guarda entidades en el contexto de persistencia. La memoria
+ * usada no depende del número de filas. La salida se vacía cada FILAS_POR_FLUSH filas.
+ */
+@Service
+public class ExportacionServiceImp implements ExportacionService {
+
+	private static final int FILAS_POR_FLUSH = 1000;
+
+	@Autowired
+	private ReservaRepository reservaRepository;
+	@Autowired
+	private HuespedRepository huespedRepository;
+	@Autowired
+	private HabitacionRepository habitacionRepository;
+
+	/**
+     * Escribe todas las reservas. Las filas de una reserva llegan consecutivas y se agrupan en una sola
+     * fila de salida con la lista de habitaciones.
+     * @param salida Flujo de salida.
+     * @param formato Formato de salida.
+     * @throws IOException si falla la escritura.
+     */
+	@Override
+	@Transactional(readOnly = true)
+	public void exportarReservas(OutputStream salida, FormatoExportacion formato) throws IOException {
+		EscritorFilas escritor = EscritorFilas.para(formato, salida, "idReserva", "fechaInicio", "fechaFin", "estado",
+				"idHuesped", "idEmpleado", "habitaciones");
+		try (Stream<FilaExportReserva> filas = reservaRepository.exportarReservas()) {
+			Iterator<FilaExportReserva> iterador = filas.iterator();
+			FilaExportReserva actual = null;
+			long[] habitaciones = new long[8];
+			int numeroHabitaciones = 0;
+			int escritas = 0;
+			while (iterador.hasNext()) {
+				FilaExportReserva fila = iterador.next();
+				if (actual != null && !actual.getIdReserva().equals(fila.getIdReserva())) {
+					escribirReserva(escritor, actual, Arrays.copyOf(habitaciones, numeroHabitaciones));
+					numeroHabitaciones = 0;
+					if (++escritas % FILAS_POR_FLUSH == 0) {
+						escritor.flush();
+					}
+				}
+				actual = fila;
+				if (fila.getIdHabitacion() != null) {
+					if (numeroHabitaciones == habitaciones.length) {
+						habitaciones = Arrays.copyOf(habitaciones, numeroHabitaciones * 2);
+					}
+					habitaciones[numeroHabitaciones++] = fila.getIdHabitacion();
+				}
+			}
+			if (actual != null) {
+				escribirReserva(escritor, actual, Arrays.copyOf(habitaciones, numeroHabitaciones));
+			}
+		}
+		escritor.flush();
+	}
+
+	/**
+     * Escribe todos los huéspedes.
+     * @param salida Flujo de salida.
+     * @param formato Formato de salida.
+     * @throws IOException si falla la escritura.
+     */
+	@Override
+	@Transactional(readOnly = true)
+	public void exportarHuespedes(OutputStream salida, FormatoExportacion formato) throws IOException {
+		EscritorFilas escritor = EscritorFilas.para(formato, salida, "idHuesped", "dniHuesped", "nombreHuesped",
+				"direccionHuesped", "telefonoHuesped", "correoHuesped", "idAval");
+		try (Stream<FilaExportHuesped> filas = huespedRepository.exportarHuespedes()) {
+			int escritas = 0;
+			for (FilaExportHuesped fila : (Iterable<FilaExportHuesped>) filas::iterator) {
+				escritor.fila(fila.getIdHuesped(), fila.getDniHuesped(), fila.getNombreHuesped(),
+						fila.getDireccionHuesped(), fila.getTelefonoHuesped(), fila.getCorreoHuesped(), fila.getIdAval());
+				if (++escritas % FILAS_POR_FLUSH == 0) {
+					escritor.flush();
+				}
+			}
+		}
+		escritor.flush();
+	}
+
+	/**
+     * Escribe todas las habitaciones.
+     * @param salida Flujo de salida.
+     * @param formato Formato de salida.
+     * @throws IOException si falla la escritura.
+     */
+	@Override
+	@Transactional(readOnly = true)
+	public void exportarHabitaciones(OutputStream salida, FormatoExportacion formato) throws IOException {
+		EscritorFilas escritor = EscritorFilas.para(formato, salida, "idHabitacion", "tipo", "precio", "descripcion",
+				"disponible");
+		try (Stream<ResumenHabitacion> filas = habitacionRepository.exportarHabitaciones()) {
+			int escritas = 0;
+			for (ResumenHabitacion fila : (Iterable<ResumenHabitacion>) filas::iterator) {
+				escritor.fila(fila.getIdHabitacion(), fila.getTipo(), fila.getPrecio(), fila.getDescripcion(),
+						fila.getDisponible());
+				if (++escritas % FILAS_POR_FLUSH == 0) {
+					escritor.flush();
+				}
+			}
+		}
+		escritor.flush();
+	}
+
+	private void escribirReserva(EscritorFilas escritor, FilaExportReserva fila, long[] habitaciones)
+			throws IOException {
+		escritor.fila(fila.getIdReserva(), fila.getFechaInicio(), fila.getFechaFin(), fila.getEstado(),
+				fila.getIdHuesped(), fila.getIdEmpleado(), habitaciones);
+	}
+}
@@ -0,0 +1,49 @@
+/**
+ * @file: GrafoAvalService.java
+ * @author: (c) 2026 Rodriguez
+ * @created: 19 oct. 2026 14:44:12
+ */
+package com.equipo02.hotel.services;
+
+import com.equipo02.hotel.dto.CadenaAvalDTO;
+import com.equipo02.hotel.exception.EntityNotFoundException;
+import com.equipo02.hotel.exception.IllegalOperationException;
+
+/**
+ * Interfaz que define el grafo en memoria de avales entre huéspedes.
+ */
+public interface GrafoAvalService {
+
+	/**
+     * Indica si el grafo ya está cargado y puede responder sin consultar la base de datos.
+     * @return true si está cargado.
+     */
+	boolean estaListo();
+
+	/**
+     * Comprueba que un huésped puede tomar un aval: que el aval existe, que no avala ya a otro
+     * huésped y que no está avalado, directa o indirectamente, por el propio huésped.
+     * Solo debe usarse con el grafo cargado.
+     * @param idHuesped El id del huésped, o 0 si todavía no existe.
+     * @param idAval El id del aval.
+     * @throws EntityNotFoundException si el aval no existe.
+     * @throws IllegalOperationException si el aval ya avala a otro huésped o se formaría un ciclo.
+     */
+	void comprobarAval(Long idHuesped, Long idAval) throws EntityNotFoundException, IllegalOperationException;
+
+	/**
+     * Indica si un huésped avala a otro. Solo debe usarse con el grafo cargado.
+     * @param idHuesped El id del huésped.
+     * @return true si es aval de alguien.
+     */
+	boolean esAval(Long idHuesped);
+
+	/**
+     * Obtiene la cadena de avales de un huésped en ambos sentidos.
+     * @param idHuesped El id del huésped.
+     * @return La cadena de avales.
+     * @throws EntityNotFoundException si el huésped no existe.
+     * @throws IllegalOperationException si el grafo aún se está cargando.
+     */
+	CadenaAvalDTO cadena(Long idHuesped) throws EntityNotFoundException, IllegalOperationException;
+}
@@ -0,0 +1,240 @@
+/**
+ * @file: GrafoAvalServiceImp.java
+ * @author: (c) 2026 Rodriguez
+ * @created: 19 oct. 2026 14:52:31
+ */
+package com.equipo02.hotel.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.equipo02.hotel.dto.CadenaAvalDTO;
+import com.equipo02.hotel.events.HuespedCambioEvent;
+import com.equipo02.hotel.exception.EntityNotFoundException;
+import com.equipo02.hotel.exception.ErrorMessage;
+import com.equipo02.hotel.exception.IllegalOperationException;
+import com.equipo02.hotel.repositories.FilaExportHuesped;
+import com.equipo02.hotel.repositories.HuespedRepository;
+import com.equipo02.hotel.util.MapaLargos;
+
+/**
+ * Implementación del grafo de avales.
+ *
+ * Cada huésped tiene como mucho un aval y cada aval avala como mucho a un huésped, así que el grafo
+ * son cadenas. Se guarda en dos {@link MapaLargos}: el aval de cada huésped (0 si no tiene), con una
+ * entrada por huésped que sirve también para saber si existe, y el avalado de cada aval. La existencia
+ * y la unicidad se comprueban con una búsqueda en cada mapa; el ciclo, recorriendo la cadena de
+ * avales del aval propuesto, que en la práctica tiene muy pocos eslabones.
+ *
+ * Se carga al arrancar y se mantiene con los HuespedCambioEvent confirmados; los que llegan durante
+ * la carga se aplican al terminar. Las restricciones de la tabla siguen rechazando un aval inexistente
+ * o repetido si dos peticiones se cruzan; un ciclo creado por dos asignaciones simultáneas no lo detecta
+ * la base de datos, pero las cadenas se recorren con un límite de pasos.
+ */
+@Service
+public class GrafoAvalServiceImp implements GrafoAvalService {
+
+	private static final Logger log = LoggerFactory.getLogger(GrafoAvalServiceImp.class);
+
+	private static final long NINGUNO = 0L;
+
+	@Autowired
+	private HuespedRepository huespedRepository;
+
+	private volatile Grafo grafo;
+
+	/** Cambios recibidos durante la carga; null fuera de ella. */
+	private volatile Queue<HuespedCambioEvent> pendientes;
+
+	@Override
+	public boolean estaListo() {
+		return grafo != null;
+	}
+
+	/**
+     * Comprueba que un huésped puede tomar un aval.
+     * @param idHuesped El id del huésped, o 0 si todavía no existe.
+     * @param idAval El id del aval.
+     * @throws EntityNotFoundException si el aval no existe.
+     * @throws IllegalOperationException si el aval ya avala a otro huésped o se formaría un ciclo.
+     */
+	@Override
+	public void comprobarAval(Long idHuesped, Long idAval) throws EntityNotFoundException, IllegalOperationException {
+		Grafo actual = grafo;
+		actual.lock.readLock().lock();
+		try {
+			if (!actual.avalDe.contiene(idAval)) {
+				throw new EntityNotFoundException("El aval con id proporcionado no fue encontrado");
+			}
+			long avalado = actual.avaladoPor.get(idAval, NINGUNO);
+			if (avalado != NINGUNO && avalado != idHuesped) {
+				throw new IllegalOperationException("El aval ya fue designado");
+			}
+			if (idHuesped != NINGUNO && actual.recorrer(idAval, actual.avalDe, null, idHuesped)) {
+				throw new IllegalOperationException("El aval no puede estar avalado, directa o indirectamente, por el huesped");
+			}
+		} finally {
+			actual.lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public boolean esAval(Long idHuesped) {
+		Grafo actual = grafo;
+		actual.lock.readLock().lock();
+		try {
+			return actual.avaladoPor.contiene(idHuesped);
+		} finally {
+			actual.lock.readLock().unlock();
+		}
+	}
+
+	/**
+     * Obtiene la cadena de avales de un huésped en ambos sentidos.
+     * @param idHuesped El id del huésped.
+     * @return La cadena de avales.
+     * @throws EntityNotFoundException si el huésped no existe.
+     * @throws IllegalOperationException si el grafo aún se está cargando.
+     */
+	@Override
+	public CadenaAvalDTO cadena(Long idHuesped) throws EntityNotFoundException, IllegalOperationException {
+		Grafo actual = grafo;
+		if (actual == null) {
+			throw new IllegalOperationException("El grafo de avales aún se está cargando");
+		}
+		actual.lock.readLock().lock();
+		try {
+			if (!actual.avalDe.contiene(idHuesped)) {
+				throw new EntityNotFoundException(ErrorMessage.HUESPED_NOT_FOUND);
+			}
+			List<Long> avales = new ArrayList<>();
+			List<Long> avalados = new ArrayList<>();
+			actual.recorrer(actual.avalDe.get(idHuesped, NINGUNO), actual.avalDe, avales, idHuesped);
+			actual.recorrer(actual.avaladoPor.get(idHuesped, NINGUNO), actual.avaladoPor, avalados, idHuesped);
+			return new CadenaAvalDTO(idHuesped, avales, avalados);
+		} finally {
+			actual.lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Carga el grafo con todos los huéspedes al arrancar.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional(readOnly = true)
+	public synchronized void cargar() {
+		pendientes = new ConcurrentLinkedQueue<>();
+		Grafo nuevo = new Grafo((int) huespedRepository.count());
+		try (Stream<FilaExportHuesped> filas = huespedRepository.exportarHuespedes()) {
+			filas.forEach(fila -> nuevo.poner(fila.getIdHuesped(), fila.getIdAval()));
+		}
+		grafo = nuevo;
+		Queue<HuespedCambioEvent> recibidos = pendientes;
+		pendientes = null;
+		recibidos.forEach(evento -> aplicar(nuevo, evento));
+		log.info("Grafo de avales cargado con {} huéspedes y {} avales", nuevo.avalDe.size(), nuevo.avaladoPor.size());
+	}
+
+	/**
+	 * Actualiza el grafo con un huésped creado, modificado o eliminado.
+	 * @param evento Los datos del huésped.
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onHuespedCambio(HuespedCambioEvent evento) {
+		Queue<HuespedCambioEvent> recibidos = pendientes;
+		if (recibidos != null) {
+			recibidos.add(evento);
+		}
+		Grafo actual = grafo;
+		if (actual != null) {
+			aplicar(actual, evento);
+		}
+	}
+
+	private void aplicar(Grafo actual, HuespedCambioEvent evento) {
+		if (evento.isEliminado()) {
+			actual.quitar(evento.getIdHuesped());
+		} else {
+			actual.poner(evento.getIdHuesped(), evento.getIdAval());
+		}
+	}
+
+	/**
+	 * Avales y avalados de todos los huéspedes.
+	 */
+	private static final class Grafo {
+
+		private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+		private final MapaLargos avalDe;
+		private final MapaLargos avaladoPor;
+
+		private Grafo(int huespedes) {
+			this.avalDe = new MapaLargos(huespedes);
+			this.avaladoPor = new MapaLargos();
+		}
+
+		private void poner(long idHuesped, Long idAval) {
+			long nuevo = idAval == null ? NINGUNO : idAval;
+			lock.writeLock().lock();
+			try {
+				long anterior = avalDe.get(idHuesped, NINGUNO);
+				if (anterior != nuevo && anterior != NINGUNO && avaladoPor.get(anterior, NINGUNO) == idHuesped) {
+					avaladoPor.remove(anterior);
+				}
+				avalDe.put(idHuesped, nuevo);
+				if (nuevo != NINGUNO) {
+					avaladoPor.put(nuevo, idHuesped);
+				}
+			} finally {
+				lock.writeLock().unlock();
+			}
+		}
+
+		private void quitar(long idHuesped) {
+			lock.writeLock().lock();
+			try {
+				long aval = avalDe.get(idHuesped, NINGUNO);
+				if (aval != NINGUNO && avaladoPor.get(aval, NINGUNO) == idHuesped) {
+					avaladoPor.remove(aval);
+				}
+				avalDe.remove(idHuesped);
+			} finally {
+				lock.writeLock().unlock();
+			}
+		}
+
+		/**
+		 * Sigue una cadena desde un eslabón hasta el final, como mucho tantos pasos como huéspedes.
+		 * @param desde Primer eslabón, o NINGUNO.
+		 * @param enlaces El mapa que lleva de un eslabón al siguiente.
+		 * @param eslabones Recibe los eslabones recorridos, si no es null.
+		 * @param buscado Eslabón en el que se detiene el recorrido.
+		 * @return true si se llegó al buscado.
+		 */
+		private boolean recorrer(long desde, MapaLargos enlaces, List<Long> eslabones, long buscado) {
+			int pasos = avalDe.size();
+			for (long eslabon = desde; eslabon != NINGUNO && pasos-- > 0; eslabon = enlaces.get(eslabon, NINGUNO)) {
+				if (eslabon == buscado) {
+					return true;
+				}
+				if (eslabones != null) {
+					eslabones.add(eslabon);
+				}
+			}
+			return false;
+		}
+	}
+}
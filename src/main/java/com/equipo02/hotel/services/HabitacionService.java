@@ -6,7 +6,10 @@
  *
  */
 package com.equipo02.hotel.services;
-import java.util.List;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import org.springframework.data.domain.Slice;
 
 import com.equipo02.hotel.domain.Habitacion;
 import com.equipo02.hotel.domain.Huesped;
@@ -21,11 +24,16 @@ import org.springframework.web.bind.annotation.PathVariable;
  * Interfaz que define los servicios disponibles para la entidad Habitacion.
  */
 public interface HabitacionService {
-/**
- * Método para obtener una lista de todas las habitaciones.
- * @return Una lista de objetos Habitacion.
- */
-	List<Habitacion> listarTodos();
+	/**
+	 * Método para obtener una página de habitaciones ordenadas por id, a partir de un cursor.
+	 * @param cursor Id de la última habitación de la página anterior (0 para la primera).
+	 * @param limite Tamaño de la página.
+	 * @param tipo Tipo de habitación, o null.
+	 * @param precioMin Precio mínimo, o null.
+	 * @param precioMax Precio máximo, o null.
+	 * @return Un Slice con las habitaciones de la página.
+	 */
+	Slice<Habitacion> listarTodos(Long cursor, int limite, String tipo, BigDecimal precioMin, BigDecimal precioMax);
 	/**
 	 * Método para buscar una habitación por su ID.
 	 * @param id El ID de la habitación a buscar.
@@ -74,6 +82,29 @@ public interface HabitacionService {
      */
     Reserva obtenerReservaDeHabitacion(Long idHabitacion, Long idReserva) throws EntityNotFoundException;
 
-    List<Reserva> obtenerReservasDeHabitaciones(Long idHabitacion)throws EntityNotFoundException;
+    /**
+     * Método para obtener una página de las reservas de una habitación, paginadas por id de reserva.
+     *
+     * @param idHabitacion El ID de la Habitación.
+     * @param cursor Id de la última reserva de la página anterior (0 para la primera).
+     * @param limite Tamaño de la página.
+     * @param desde Solo reservas que terminan después de esta fecha, o null.
+     * @param hasta Solo reservas que empiezan antes de esta fecha, o null.
+     * @param descendente Si las reservas se ordenan de la más reciente a la más antigua.
+     * @return Un Slice con las reservas de la página.
+     * @throws EntityNotFoundException Si no se encuentra una Habitación con el ID proporcionado.
+     */
+    Slice<Reserva> listarReservasDeHabitacion(Long idHabitacion, Long cursor, int limite, LocalDate desde, LocalDate hasta,
+    		boolean descendente) throws EntityNotFoundException;
+    /**
+     * Método para contar las reservas de una habitación con los mismos filtros de fechas que el listado.
+     *
+     * @param idHabitacion El ID de la Habitación.
+     * @param desde Solo reservas que terminan después de esta fecha, o null.
+     * @param hasta Solo reservas que empiezan antes de esta fecha, o null.
+     * @return El número de reservas.
+     * @throws EntityNotFoundException Si no se encuentra una Habitación con el ID proporcionado.
+     */
+    long contarReservasDeHabitacion(Long idHabitacion, LocalDate desde, LocalDate hasta) throws EntityNotFoundException;
     //Habitacion obtenerReservasPorHabitacion(@PathVariable Long id) throws EntityNotFoundException;
 }
@@ -0,0 +1,380 @@
+/**
+ * @file: HabitacionServiceCache.java
+ * @author: (c)2026 Cueva
+ * @created: 18 oct 2026, 21:22:36
+ */
+package com.equipo02.hotel.services;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.stream.LongStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.equipo02.hotel.domain.Habitacion;
+import com.equipo02.hotel.domain.Reserva;
+import com.equipo02.hotel.dto.EstadisticasCacheDTO;
+import com.equipo02.hotel.events.EmpleadoCambioEvent;
+import com.equipo02.hotel.events.HabitacionCambioEvent;
+import com.equipo02.hotel.events.HuespedCambioEvent;
+import com.equipo02.hotel.events.ReservaOcupacionEvent;
+import com.equipo02.hotel.exception.BadRequestException;
+import com.equipo02.hotel.exception.EntityNotFoundException;
+import com.equipo02.hotel.exception.ErrorMessage;
+import com.equipo02.hotel.exception.IllegalOperationException;
+import com.equipo02.hotel.util.InstantaneaHabitacion;
+import com.equipo02.hotel.util.Paginacion;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+/**
+ * Caché de lectura delante de {@link HabitacionServiceImp}.
+ *
+ * Guarda copias inmutables ({@link InstantaneaHabitacion}) de las habitaciones pedidas por id y de
+ * las páginas del listado, en dos cachés de Caffeine acotadas por tamaño, y devuelve siempre objetos
+ * nuevos construidos a partir de esas copias. Las escrituras pasan directo al servicio; la caché se
+ * invalida con los eventos que se publican al confirmar cada transacción: un cambio de habitación
+ * invalida esa habitación y solo las páginas cuyo rango de ids la contiene, un cambio de reserva
+ * invalida las habitaciones y páginas que la incluyen, y un cambio de huésped o de empleado las que
+ * guardan una copia suya en alguna reserva.
+ *
+ * Para no recorrer las copias en cada reserva, se anotan al guardar cada copia las habitaciones de
+ * cada una de sus reservas y, para cada habitación, las páginas que la incluyen. Un cambio de reserva
+ * invalida así las habitaciones que tenía antes, según esas anotaciones, y las que tiene ahora, según
+ * el evento, junto con las páginas de todas ellas. Las anotaciones de una reserva se olvidan con su
+ * cambio o cuando ya no queda guardada ninguna de sus habitaciones.
+ */
+@Service
+@Primary
+public class HabitacionServiceCache implements HabitacionService, EstadisticasCacheService {
+
+	@Autowired
+	private HabitacionServiceImp habitacionServiceImp;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	private final Cache<Long, InstantaneaHabitacion> habitaciones;
+
+	private final Cache<List<Object>, PaginaCacheada> paginas;
+
+	/** Habitaciones de cada reserva que aparece en alguna copia guardada. */
+	private final Map<Long, long[]> habitacionesPorReserva = new ConcurrentHashMap<>();
+
+	/** Claves de las páginas guardadas que incluyen cada habitación. */
+	private final Map<Long, Set<List<Object>>> paginasPorHabitacion = new ConcurrentHashMap<>();
+
+	/** Se incrementa en cada invalidación para descartar las cargas que empezaron antes. */
+	private final AtomicLong version = new AtomicLong();
+
+	private final long maximoHabitaciones;
+
+	private final long maximoPaginas;
+
+	public HabitacionServiceCache(@Value("${hotel.cache.habitaciones.maximo:10000}") long maximoHabitaciones,
+			@Value("${hotel.cache.habitaciones.paginas:1000}") long maximoPaginas) {
+		this.maximoHabitaciones = maximoHabitaciones;
+		this.maximoPaginas = maximoPaginas;
+		this.habitaciones = Caffeine.newBuilder().maximumSize(maximoHabitaciones).recordStats().executor(Runnable::run)
+				.<Long, InstantaneaHabitacion>removalListener((id, instantanea, causa) -> olvidarReservas(instantanea))
+				.build();
+		this.paginas = Caffeine.newBuilder().maximumSize(maximoPaginas).recordStats().executor(Runnable::run)
+				.<List<Object>, PaginaCacheada>removalListener((clave, pagina, causa) -> olvidarPagina(clave, pagina))
+				.build();
+	}
+
+	/**
+     * Obtiene una página de habitaciones desde la caché o, si no está, desde el servicio.
+     * @param cursor Id de la última habitación de la página anterior.
+     * @param limite Tamaño de la página.
+     * @param tipo Tipo de habitación, o null.
+     * @param precioMin Precio mínimo, o null.
+     * @param precioMax Precio máximo, o null.
+     * @return Un Slice con copias nuevas de las habitaciones.
+     */
+	@Override
+	public Slice<Habitacion> listarTodos(Long cursor, int limite, String tipo, BigDecimal precioMin, BigDecimal precioMax) {
+		List<Object> clave = Arrays.asList(cursor, limite, tipo == null ? null : tipo.toLowerCase(Locale.ROOT),
+				normalizar(precioMin), normalizar(precioMax));
+		long inicio = version.get();
+		boolean[] cargada = new boolean[1];
+		PaginaCacheada pagina = paginas.get(clave, c -> {
+			cargada[0] = true;
+			return transactionTemplate.execute(status ->
+					new PaginaCacheada(cursor, habitacionServiceImp.listarTodos(cursor, limite, tipo, precioMin, precioMax)));
+		});
+		if (cargada[0]) {
+			anotarPagina(clave, pagina);
+		}
+		if (version.get() != inicio) {
+			paginas.invalidate(clave);
+		}
+		List<Habitacion> contenido = pagina.habitaciones.stream().map(InstantaneaHabitacion::aHabitacion).toList();
+		return new SliceImpl<>(contenido, Paginacion.pagina(limite), pagina.haySiguiente);
+	}
+
+	/**
+     * Busca una habitación por su id en la caché o, si no está, en el servicio.
+     * @param id El id de la habitación.
+     * @return Una copia nueva de la habitación con sus reservas.
+     * @throws EntityNotFoundException si la habitación no existe.
+     */
+	@Override
+	public Habitacion buscarPorIdHabitacion(Long id) throws EntityNotFoundException, BadRequestException {
+		long inicio = version.get();
+		boolean[] cargada = new boolean[1];
+		InstantaneaHabitacion instantanea = habitaciones.get(id, i -> {
+			cargada[0] = true;
+			return cargar(i);
+		});
+		if (cargada[0] && instantanea != null) {
+			anotarReservas(instantanea);
+		}
+		if (version.get() != inicio) {
+			habitaciones.invalidate(id);
+		}
+		if (instantanea == null) {
+			throw new EntityNotFoundException(ErrorMessage.HABITACION_NOT_FOUND);
+		}
+		return instantanea.aHabitacion();
+	}
+
+	@Override
+	public Habitacion guardarHabitacion(Habitacion habitacion) throws IllegalOperationException {
+		return habitacionServiceImp.guardarHabitacion(habitacion);
+	}
+
+	@Override
+	public Habitacion actualizarHabitacion(Long id, Habitacion habitacion) throws EntityNotFoundException, IllegalOperationException {
+		return habitacionServiceImp.actualizarHabitacion(id, habitacion);
+	}
+
+	@Override
+	public void eliminarHabitacion(Long id) throws EntityNotFoundException, IllegalOperationException {
+		habitacionServiceImp.eliminarHabitacion(id);
+	}
+
+	@Override
+	public Habitacion actualizarCampoHabitacion(Long id, Habitacion habitacion) throws EntityNotFoundException, IllegalOperationException {
+		return habitacionServiceImp.actualizarCampoHabitacion(id, habitacion);
+	}
+
+	@Override
+	public Reserva obtenerReservaDeHabitacion(Long idHabitacion, Long idReserva) throws EntityNotFoundException {
+		return habitacionServiceImp.obtenerReservaDeHabitacion(idHabitacion, idReserva);
+	}
+
+	@Override
+	public Slice<Reserva> listarReservasDeHabitacion(Long idHabitacion, Long cursor, int limite, LocalDate desde,
+			LocalDate hasta, boolean descendente) throws EntityNotFoundException {
+		return habitacionServiceImp.listarReservasDeHabitacion(idHabitacion, cursor, limite, desde, hasta, descendente);
+	}
+
+	@Override
+	public long contarReservasDeHabitacion(Long idHabitacion, LocalDate desde, LocalDate hasta) throws EntityNotFoundException {
+		return habitacionServiceImp.contarReservasDeHabitacion(idHabitacion, desde, hasta);
+	}
+
+	/**
+     * Obtiene los contadores de las dos cachés.
+     * @return Los contadores de la caché por id y de la caché de páginas.
+     */
+	@Override
+	public List<EstadisticasCacheDTO> estadisticasCache() {
+		return List.of(estadisticas("habitaciones", habitaciones, maximoHabitaciones),
+				estadisticas("paginasHabitaciones", paginas, maximoPaginas));
+	}
+
+	/**
+	 * Invalida la habitación modificada y las páginas cuyo rango la contiene.
+	 * @param evento Los datos actuales de la habitación.
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onHabitacionCambio(HabitacionCambioEvent evento) {
+		version.incrementAndGet();
+		long idHabitacion = evento.getIdHabitacion();
+		habitaciones.invalidate(evento.getIdHabitacion());
+		paginas.asMap().values().removeIf(pagina -> pagina.cubre(idHabitacion));
+	}
+
+	/**
+	 * Invalida las habitaciones y páginas que incluyen la reserva, antes o después del cambio.
+	 * @param evento El nuevo estado de la reserva.
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onReservaOcupacion(ReservaOcupacionEvent evento) {
+		version.incrementAndGet();
+		long[] anteriores = habitacionesPorReserva.remove(evento.getIdReserva());
+		invalidarHabitaciones(evento.getHabitaciones());
+		if (anteriores != null) {
+			invalidarHabitaciones(anteriores);
+		}
+	}
+
+	/**
+	 * Invalida las habitaciones y páginas que guardan una copia del huésped en alguna reserva.
+	 * Los cambios de huésped son raros, así que se recorren las copias guardadas.
+	 * @param evento Los datos actuales del huésped.
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onHuespedCambio(HuespedCambioEvent evento) {
+		version.incrementAndGet();
+		Long idHuesped = evento.getIdHuesped();
+		habitaciones.asMap().values().removeIf(instantanea -> instantanea.contieneHuesped(idHuesped));
+		paginas.asMap().values().removeIf(pagina -> pagina.alguna(instantanea -> instantanea.contieneHuesped(idHuesped)));
+	}
+
+	/**
+	 * Invalida las habitaciones y páginas que guardan una copia del empleado en alguna reserva.
+	 * Como los de huésped, se recorren las copias guardadas.
+	 * @param evento El empleado modificado.
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onEmpleadoCambio(EmpleadoCambioEvent evento) {
+		version.incrementAndGet();
+		Long idEmpleado = evento.getIdEmpleado();
+		habitaciones.asMap().values().removeIf(instantanea -> instantanea.contieneEmpleado(idEmpleado));
+		paginas.asMap().values().removeIf(pagina -> pagina.alguna(instantanea -> instantanea.contieneEmpleado(idEmpleado)));
+	}
+
+	private void invalidarHabitaciones(long[] ids) {
+		for (long idHabitacion : ids) {
+			habitaciones.invalidate(idHabitacion);
+			Set<List<Object>> claves = paginasPorHabitacion.get(idHabitacion);
+			if (claves != null) {
+				paginas.invalidateAll(List.copyOf(claves));
+			}
+		}
+	}
+
+	/**
+	 * Anota las habitaciones de las reservas de una copia recién guardada. Se hace después de guardarla,
+	 * para que al retirar otra copia con la misma reserva se vea que esta sigue guardada.
+	 */
+	private void anotarReservas(InstantaneaHabitacion instantanea) {
+		instantanea.recorrerReservas((idReserva, ids) -> habitacionesPorReserva.merge(idReserva, ids,
+				HabitacionServiceCache::union));
+	}
+
+	private void anotarPagina(List<Object> clave, PaginaCacheada pagina) {
+		for (InstantaneaHabitacion instantanea : pagina.habitaciones) {
+			paginasPorHabitacion.computeIfAbsent(instantanea.getIdHabitacion(), id -> ConcurrentHashMap.newKeySet())
+					.add(clave);
+			anotarReservas(instantanea);
+		}
+	}
+
+	private void olvidarPagina(List<Object> clave, PaginaCacheada pagina) {
+		if (pagina == null) {
+			return;
+		}
+		for (InstantaneaHabitacion instantanea : pagina.habitaciones) {
+			paginasPorHabitacion.computeIfPresent(instantanea.getIdHabitacion(), (id, claves) -> {
+				claves.remove(clave);
+				return claves.isEmpty() ? null : claves;
+			});
+		}
+		for (InstantaneaHabitacion instantanea : pagina.habitaciones) {
+			olvidarReservas(instantanea);
+		}
+	}
+
+	/**
+	 * Olvida las reservas de una copia retirada de las que ya no queda guardada ninguna habitación,
+	 * ni por id ni dentro de una página.
+	 */
+	private void olvidarReservas(InstantaneaHabitacion instantanea) {
+		if (instantanea == null) {
+			return;
+		}
+		instantanea.recorrerReservas((idReserva, ids) -> habitacionesPorReserva.computeIfPresent(idReserva,
+				(id, anotadas) -> algunaGuardada(anotadas) ? anotadas : null));
+	}
+
+	private boolean algunaGuardada(long[] ids) {
+		for (long idHabitacion : ids) {
+			if (habitaciones.asMap().containsKey(idHabitacion) || paginasPorHabitacion.containsKey(idHabitacion)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static long[] union(long[] a, long[] b) {
+		if (Arrays.equals(a, b)) {
+			return a;
+		}
+		return LongStream.concat(Arrays.stream(a), Arrays.stream(b)).distinct().toArray();
+	}
+
+	/**
+	 * Copia la habitación dentro de una transacción, para poder leer las habitaciones de sus reservas.
+	 */
+	private InstantaneaHabitacion cargar(Long id) {
+		return transactionTemplate.execute(status -> {
+			try {
+				return InstantaneaHabitacion.de(habitacionServiceImp.buscarPorIdHabitacion(id));
+			} catch (EntityNotFoundException e) {
+				return null;
+			}
+		});
+	}
+
+	private static BigDecimal normalizar(BigDecimal valor) {
+		return valor == null ? null : valor.stripTrailingZeros();
+	}
+
+	private static EstadisticasCacheDTO estadisticas(String nombre, Cache<?, ?> cache, long maximo) {
+		CacheStats stats = cache.stats();
+		return new EstadisticasCacheDTO(nombre, cache.estimatedSize(), maximo, stats.hitCount(), stats.missCount(),
+				stats.evictionCount(), stats.hitRate());
+	}
+
+	/**
+	 * Página del listado guardada en caché, con el rango de ids que cubre.
+	 * Una página con cursor c y último id u cubre los ids (c, u], o (c, ∞) si es la última.
+	 */
+	private static final class PaginaCacheada {
+
+		private final long cursor;
+		private final long ultimoId;
+		private final boolean haySiguiente;
+		private final List<InstantaneaHabitacion> habitaciones;
+
+		private PaginaCacheada(Long cursor, Slice<Habitacion> slice) {
+			this.cursor = cursor;
+			this.haySiguiente = slice.hasNext();
+			this.habitaciones = slice.getContent().stream().map(InstantaneaHabitacion::de).toList();
+			this.ultimoId = habitaciones.isEmpty() ? cursor : habitaciones.get(habitaciones.size() - 1).getIdHabitacion();
+		}
+
+		private boolean cubre(long idHabitacion) {
+			return idHabitacion > cursor && (!haySiguiente || idHabitacion <= ultimoId);
+		}
+
+		private boolean alguna(Predicate<InstantaneaHabitacion> condicion) {
+			for (InstantaneaHabitacion habitacion : habitaciones) {
+				if (condicion.test(habitacion)) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+}
@@ -7,21 +7,30 @@
  */
 package com.equipo02.hotel.services;
 
-import java.util.List;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Date;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.equipo02.hotel.domain.Habitacion;
 import com.equipo02.hotel.domain.Reserva;
+import com.equipo02.hotel.events.HabitacionCambioEvent;
 import com.equipo02.hotel.exception.BadRequestException;
 import com.equipo02.hotel.exception.EntityNotFoundException;
 import com.equipo02.hotel.exception.ErrorMessage;
 import com.equipo02.hotel.exception.IllegalOperationException;
 import com.equipo02.hotel.repositories.HabitacionRepository;
+import com.equipo02.hotel.repositories.ReservaRepository;
+import com.equipo02.hotel.util.Fechas;
+import com.equipo02.hotel.util.Paginacion;
 import org.springframework.web.bind.annotation.PathVariable;
 
 /**
@@ -33,13 +42,27 @@ public class HabitacionServiceImp implements HabitacionService {
 
 	@Autowired
 	private HabitacionRepository habitacionRepository;
+	@Autowired
+	private ReservaRepository reservaRepository;
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
 	 /**
-     * Método para obtener una lista de todas las habitaciones.
-     * @return Una lista de objetos Habitacion.
+     * Método para obtener una página de habitaciones con los filtros aplicados en la consulta.
+     * @param cursor Id de la última habitación de la página anterior.
+     * @param limite Tamaño de la página.
+     * @param tipo Tipo de habitación, o null.
+     * @param precioMin Precio mínimo, o null.
+     * @param precioMax Precio máximo, o null.
+     * @return Un Slice de objetos Habitacion, con sus reservas cargadas.
      */
 	@Override
-	public List<Habitacion> listarTodos() {
-		return (List<Habitacion>) habitacionRepository.findAll();
+	@Transactional(readOnly = true)
+	public Slice<Habitacion> listarTodos(Long cursor, int limite, String tipo, BigDecimal precioMin, BigDecimal precioMax) {
+		Slice<Habitacion> habitaciones = habitacionRepository.listarPagina(cursor, tipo, precioMin, precioMax, Paginacion.pagina(limite));
+		if (habitaciones.hasContent()) {
+			habitacionRepository.cargarReservas(habitaciones.getContent());
+		}
+		return habitaciones;
 	}
 	/**
      * Método para buscar una habitación por su ID.
@@ -50,14 +73,14 @@ public class HabitacionServiceImp implements HabitacionService {
 	@Override
 	@Transactional(readOnly = true)
 	public Habitacion buscarPorIdHabitacion(Long idHabitacion) throws EntityNotFoundException,BadRequestException {
-		Optional<Habitacion> habitacion = habitacionRepository.findById(idHabitacion);
+		Optional<Habitacion> habitacion = habitacionRepository.buscarDetalle(idHabitacion);
 		if (habitacion.isEmpty()) {
 	        throw new EntityNotFoundException(ErrorMessage.HABITACION_NOT_FOUND);
 		}
 	        return habitacion.get();
 	}
 	/**
-     * Método para guardar una nueva habitación.
+     * Método para guardar una nueva habitación. Una habitación nueva no tiene reservas, así que se guarda disponible.
      * @param habitacion Un objeto Habitacion que representa la habitación a guardar.
      * @return Un objeto Habitacion que representa la habitación guardada.
      * @throws IllegalOperationException si ocurre un error al guardar la habitación.
@@ -65,7 +88,10 @@ public class HabitacionServiceImp implements HabitacionService {
 	@Override
 	@Transactional
 	public Habitacion guardarHabitacion(Habitacion habitacion) throws IllegalOperationException {
-		return habitacionRepository.save(habitacion);
+		habitacion.setDisponible(true);
+		Habitacion guardada = habitacionRepository.save(habitacion);
+		eventPublisher.publishEvent(HabitacionCambioEvent.de(guardada));
+		return guardada;
 	}
 	/**
      * Método para actualizar los detalles de una habitación existente.
@@ -78,32 +104,32 @@ public class HabitacionServiceImp implements HabitacionService {
 	@Override
 	@Transactional
 	public Habitacion actualizarHabitacion(Long idHabitacion, Habitacion habitacion) throws EntityNotFoundException, IllegalOperationException {
-		 Optional<Habitacion> habitacionOptional = habitacionRepository.findById(idHabitacion);
-		    if (!habitacionOptional.isPresent()) {
-		        throw new EntityNotFoundException(ErrorMessage.HABITACION_NOT_FOUND);
-		    }
+		Habitacion habitacionEntity = cargar(idHabitacion);
 		habitacion.setIdHabitacion(idHabitacion);
-		return habitacionRepository.save(habitacion);
+		Habitacion actualizada = aplicar(habitacionEntity, habitacion);
+		eventPublisher.publishEvent(HabitacionCambioEvent.de(actualizada));
+		return actualizada;
 	}
 	 /**
      * Método para eliminar una habitación existente.
+     * El borrado se hace sin cargar la habitación ni sus reservas; si tiene reservas lo impide la clave foránea.
      * @param idHabitacion El ID de la habitación a eliminar.
      * @throws EntityNotFoundException si no se encuentra una habitación con el ID proporcionado.
      * @throws IllegalOperationException si ocurre un error al eliminar la habitación.
      */
 	@Override
-	@Transactional
+	@Transactional(rollbackFor = IllegalOperationException.class)
 	public void eliminarHabitacion(Long idHabitacion) throws EntityNotFoundException, IllegalOperationException {
-		 Optional<Habitacion> habitacionOptional = habitacionRepository.findById(idHabitacion);
-		    if (!habitacionOptional.isPresent()) {
-		        throw new EntityNotFoundException(ErrorMessage.HABITACION_NOT_FOUND);
-		    }
-		    
-		    Habitacion habitacion = habitacionOptional.get();
-		    if (!habitacion.getReservas().isEmpty()) {
-		        throw new IllegalOperationException("La habitación tiene reservas asignadas");
-		    }
-		habitacionRepository.deleteById(idHabitacion);
+		int eliminadas;
+		try {
+			eliminadas = habitacionRepository.eliminarPorId(idHabitacion);
+		} catch (DataIntegrityViolationException e) {
+			throw new IllegalOperationException("La habitación tiene reservas asignadas");
+		}
+		if (eliminadas == 0) {
+			throw new EntityNotFoundException(ErrorMessage.HABITACION_NOT_FOUND);
+		}
+		eventPublisher.publishEvent(HabitacionCambioEvent.eliminada(idHabitacion));
 	}
 	/**
 	 * Método para actualizar los campos de una habitación existente.
@@ -115,25 +141,38 @@ public class HabitacionServiceImp implements HabitacionService {
 	@Override
 	@Transactional
 	public Habitacion actualizarCampoHabitacion(Long id, Habitacion habitacion) throws EntityNotFoundException,IllegalOperationException{
-	    Optional<Habitacion> habitacionEntity = habitacionRepository.findById(id);
-	    if(habitacionEntity.isEmpty()) {
-	        throw new EntityNotFoundException(ErrorMessage.HABITACION_NOT_FOUND);
-	    }
+	    Habitacion habitacionEntity = cargar(id);
 	    habitacion.setIdHabitacion(id);
 	    if(habitacion.getTipo() == null) {
-	        habitacion.setTipo(habitacionEntity.get().getTipo());
+	        habitacion.setTipo(habitacionEntity.getTipo());
 	    } 
-	    if(habitacion.isDisponible() != habitacionEntity.get().isDisponible()) {
-	        habitacion.setDisponible(habitacionEntity.get().isDisponible());
-	    }
 	    if(habitacion.getPrecio() == null) {
-	        habitacion.setPrecio(habitacionEntity.get().getPrecio());
+	        habitacion.setPrecio(habitacionEntity.getPrecio());
 	    }
 	    if(habitacion.getDescripcion() == null) {
-	        habitacion.setDescripcion(habitacionEntity.get().getDescripcion());
+	        habitacion.setDescripcion(habitacionEntity.getDescripcion());
 	    }
-	    return habitacionRepository.save(habitacion);
+	    Habitacion actualizada = aplicar(habitacionEntity, habitacion);
+	    eventPublisher.publishEvent(HabitacionCambioEvent.de(actualizada));
+	    return actualizada;
+	}
+	private Habitacion cargar(Long idHabitacion) throws EntityNotFoundException {
+		return habitacionRepository.findById(idHabitacion)
+				.orElseThrow(() -> new EntityNotFoundException(ErrorMessage.HABITACION_NOT_FOUND));
+	}
+
+	/**
+	 * Copia los datos recibidos sobre la habitación cargada. A diferencia de merge, no toca
+	 * la colección de reservas, así que no hace falta cargarla. El indicador disponible no se
+	 * copia: lo mantiene DisponibleHabitacionService a partir de las reservas.
+	 */
+	private Habitacion aplicar(Habitacion habitacionEntity, Habitacion habitacion) {
+		habitacionEntity.setTipo(habitacion.getTipo());
+		habitacionEntity.setPrecio(habitacion.getPrecio());
+		habitacionEntity.setDescripcion(habitacion.getDescripcion());
+		return habitacionRepository.save(habitacionEntity);
 	}
+
 	/**
 	 * Método para obtener una reserva específica de una habitación.
 	 *
@@ -142,27 +181,72 @@ public class HabitacionServiceImp implements HabitacionService {
 	 * @return La reserva solicitada.
 	 * @throws EntityNotFoundException Si no se encuentra la reserva en la habitación.
 	 *
-	 * Este método busca una habitación por su ID y luego busca una reserva específica dentro de las reservas de esa habitación.
-	 * Si la reserva no se encuentra en la habitación, se lanza una excepción.
+	 * La reserva se busca con una consulta que exige que tenga asignada la habitación, sin cargar
+	 * las reservas de la habitación; la existencia de la habitación solo se consulta cuando no
+	 * hay resultado, para elegir el error.
 	 */
 	@Override
 	@Transactional(readOnly = true)
 	public Reserva obtenerReservaDeHabitacion(Long idHabitacion, Long idReserva) throws EntityNotFoundException {
-		Habitacion habitacion = buscarPorIdHabitacion(idHabitacion);
-	    Optional<Reserva> optionalReserva = habitacion.getReservas().stream()
-	            .filter(r -> r.getIdReserva().equals(idReserva))
-	            .findFirst();
-	    if (optionalReserva.isEmpty()) {
+	    Optional<Reserva> reserva = reservaRepository.buscarDeHabitacion(idReserva, idHabitacion);
+	    if (reserva.isEmpty()) {
+	        comprobarExiste(idHabitacion);
 	        throw new EntityNotFoundException("Reserva no encontrada en la habitación");
 	    }
-	    return optionalReserva.get();
+	    return reserva.get();
 	}
 
+	/**
+	 * Método para obtener una página de las reservas de una habitación.
+	 * La consulta filtra habitacion_reserva por habitación y fechas y pagina por id de reserva,
+	 * sin cargar la colección de reservas de la habitación.
+	 *
+	 * @param idHabitacion El ID de la habitación.
+	 * @param cursor Id de la última reserva de la página anterior.
+	 * @param limite Tamaño de la página.
+	 * @param desde Fecha mínima de salida, o null.
+	 * @param hasta Fecha máxima de llegada, o null.
+	 * @param descendente Si se ordena de mayor a menor id.
+	 * @return Un Slice de reservas, con huésped, empleado y habitaciones cargados.
+	 * @throws EntityNotFoundException Si la habitación no existe.
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public Slice<Reserva> listarReservasDeHabitacion(Long idHabitacion, Long cursor, int limite, LocalDate desde,
+			LocalDate hasta, boolean descendente) throws EntityNotFoundException {
+		comprobarExiste(idHabitacion);
+		Date fechaDesde = desde == null ? null : Fechas.aDate(desde);
+		Date fechaHasta = hasta == null ? null : Fechas.aDate(hasta);
+		Slice<Reserva> reservas = descendente
+				? reservaRepository.listarPorHabitacionDesc(idHabitacion, cursor, fechaDesde, fechaHasta, Paginacion.pagina(limite))
+				: reservaRepository.listarPorHabitacion(idHabitacion, cursor, fechaDesde, fechaHasta, Paginacion.pagina(limite));
+		if (reservas.hasContent()) {
+			reservaRepository.cargarHabitaciones(reservas.getContent());
+		}
+		return reservas;
+	}
+
+	/**
+	 * Método para contar las reservas de una habitación.
+	 *
+	 * @param idHabitacion El ID de la habitación.
+	 * @param desde Fecha mínima de salida, o null.
+	 * @param hasta Fecha máxima de llegada, o null.
+	 * @return El número de reservas.
+	 * @throws EntityNotFoundException Si la habitación no existe.
+	 */
 	@Override
 	@Transactional(readOnly = true)
-	public List<Reserva> obtenerReservasDeHabitaciones(Long idHabitacion)throws EntityNotFoundException{
-		Habitacion habitacion = buscarPorIdHabitacion(idHabitacion);
-	return habitacion.getReservas();
+	public long contarReservasDeHabitacion(Long idHabitacion, LocalDate desde, LocalDate hasta) throws EntityNotFoundException {
+		comprobarExiste(idHabitacion);
+		return reservaRepository.contarPorHabitacion(idHabitacion, desde == null ? null : Fechas.aDate(desde),
+				hasta == null ? null : Fechas.aDate(hasta));
+	}
+
+	private void comprobarExiste(Long idHabitacion) throws EntityNotFoundException {
+		if (!habitacionRepository.existsById(idHabitacion)) {
+			throw new EntityNotFoundException(ErrorMessage.HABITACION_NOT_FOUND);
+		}
 	}
 	/*@Override
 	@Transactional(readOnly = true)
@@ -8,6 +8,8 @@ package com.equipo02.hotel.services;
 
 import java.util.List;
 
+import org.springframework.data.domain.Slice;
+
 import com.equipo02.hotel.domain.Habitacion;
 import com.equipo02.hotel.domain.Huesped;
 import com.equipo02.hotel.domain.Reserva;
@@ -23,11 +25,13 @@ import com.equipo02.hotel.exception.IllegalOperationException;
 public interface HuespedService {
 	
 	/**
-     * Lista todos los huéspedes disponibles.
+     * Lista una página de huéspedes ordenados por id, a partir de un cursor.
      * 
-     * @return Una lista de todos los huéspedes disponibles.
+     * @param cursor Id del último huésped de la página anterior (0 para la primera).
+     * @param limite Tamaño de la página.
+     * @return Un Slice con los huéspedes de la página.
      */
-	List<Huesped> listarHuespedes();
+	Slice<Huesped> listarHuespedes(Long cursor, int limite);
 	
 	/**
      * Busca un huésped por su ID.
@@ -10,24 +10,33 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.equipo02.hotel.domain.Habitacion;
 import com.equipo02.hotel.domain.Huesped;
 import com.equipo02.hotel.domain.Reserva;
+import com.equipo02.hotel.events.HuespedCambioEvent;
 import com.equipo02.hotel.exception.EntityNotFoundException;
 import com.equipo02.hotel.exception.ErrorMessage;
 import com.equipo02.hotel.exception.IllegalOperationException;
+import com.equipo02.hotel.repositories.ComprobacionHuesped;
 import com.equipo02.hotel.repositories.HabitacionRepository;
 import com.equipo02.hotel.repositories.HuespedRepository;
 import com.equipo02.hotel.repositories.ReservaRepository;
+import com.equipo02.hotel.util.Paginacion;
 
 /**
  * Implementación de la interfaz HuespedService que proporciona operaciones relacionadas con los huéspedes.
  */
 @Service
 public class HuespedServiceImp implements HuespedService {
+
+	/** Id con el que se comprueba un huésped que todavía no existe. */
+	private static final Long HUESPED_NUEVO = 0L;
 	
 	@Autowired
 	private HuespedRepository huespedRep;
@@ -38,15 +47,30 @@ public class HuespedServiceImp implements HuespedService {
 	@Autowired
 	private HabitacionRepository habitacionRep;
 	
+	@Autowired
+	private IndiceDniService indiceDni;
+	
+	@Autowired
+	private GrafoAvalService grafoAval;
+	
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+	
 	/**
-     * Lista todos los huéspedes disponibles.
+     * Lista una página de huéspedes a partir del cursor.
      * 
-     * @return Una lista de todos los huéspedes disponibles.
+     * @param cursor Id del último huésped de la página anterior.
+     * @param limite Tamaño de la página.
+     * @return Un Slice con los huéspedes de la página, con su aval y sus reservas cargados.
      */
 	@Override
-	@Transactional
-	public List<Huesped> listarHuespedes() {
-		return huespedRep.findAll();
+	@Transactional(readOnly = true)
+	public Slice<Huesped> listarHuespedes(Long cursor, int limite) {
+		Slice<Huesped> huespedes = huespedRep.findByIdHuespedGreaterThanOrderByIdHuesped(cursor, Paginacion.pagina(limite));
+		if (huespedes.hasContent()) {
+			huespedRep.cargarReservas(huespedes.getContent());
+		}
+		return huespedes;
 	}
 	
 	/**
@@ -57,9 +81,9 @@ public class HuespedServiceImp implements HuespedService {
      * @throws EntityNotFoundException Si el huésped no puede ser encontrado.
      */
 	@Override
-	@Transactional
+	@Transactional(readOnly = true)
 	public Huesped buscarPorId(Long id) throws EntityNotFoundException{
-		Optional<Huesped> huesped = huespedRep.findById(id);
+		Optional<Huesped> huesped = huespedRep.buscarDetalle(id);
 		if(huesped.isEmpty()) {
 			throw new EntityNotFoundException(ErrorMessage.HUESPED_NOT_FOUND);
 		}
@@ -68,6 +92,7 @@ public class HuespedServiceImp implements HuespedService {
 
 	/**
 	 * Graba un nuevo huésped en la base de datos.
+	 * El DNI y el aval se validan en memoria y el aval se asocia como referencia, sin cargarlo.
 	 * 
 	 * @param huesped El huésped a grabar.
 	 * @return El huésped grabado.
@@ -75,23 +100,14 @@ public class HuespedServiceImp implements HuespedService {
 	 * @throws IllegalOperationException Si hay operaciones ilegales.
 	 */
 	@Override
-	@Transactional
+	@Transactional(rollbackFor = IllegalOperationException.class)
 	public Huesped grabar(Huesped huesped) throws EntityNotFoundException, IllegalOperationException{
-		if (huesped.getAval() != null) {
-			Optional<Huesped> avalEntity = huespedRep.findById(huesped.getAval().getIdHuesped());
-			if(avalEntity.isEmpty()) {
-				throw new EntityNotFoundException("El aval con id proporcionado no fue encontrado");
-			}
-			List<Huesped> huespedesConEsteAval = huespedRep.findByAval(avalEntity.get());
-			if (!huespedesConEsteAval.isEmpty()) { 
-				throw new IllegalOperationException("El aval ya fue designado");
-			}
-		}
-		Huesped huespedDni = huespedRep.findByDniHuesped(huesped.getDniHuesped());
-		if(huespedDni != null) {
-			throw new IllegalOperationException("El dni del huesped ya existe");
+		Long idAval = huesped.getAval() == null ? null : huesped.getAval().getIdHuesped();
+		comprobar(HUESPED_NUEVO, huesped.getDniHuesped(), null, idAval);
+		if (idAval != null) {
+			huesped.setAval(huespedRep.getReferenceById(idAval));
 		}
-		return huespedRep.save(huesped);
+		return guardar(huesped, null);
 	}
 
 	/**
@@ -104,54 +120,37 @@ public class HuespedServiceImp implements HuespedService {
 	 * @throws IllegalOperationException Si hay operaciones ilegales.
 	 */
 	@Override
-	@Transactional
+	@Transactional(rollbackFor = IllegalOperationException.class)
 	public Huesped actualizar(Long id, Huesped huesped) throws EntityNotFoundException, IllegalOperationException{
-		Optional<Huesped> huespedEntity = huespedRep.findById(id);
-		if(huespedEntity.isEmpty()) {
-			throw new EntityNotFoundException(ErrorMessage.HUESPED_NOT_FOUND);
-		}
-		if (huesped.getAval() != null) {
-			Optional<Huesped> avalEntity = huespedRep.findById(huesped.getAval().getIdHuesped());
-			if(avalEntity.isEmpty()) {
-				throw new EntityNotFoundException("El aval con id proporcionado no fue encontrado");
-			}
-			if(id == avalEntity.get().getIdHuesped()) {
-				throw new IllegalOperationException("El huesped no se puede avalar asi mismo");
-			}
-			List<Huesped> huespedesConEsteAval = huespedRep.findByAval(avalEntity.get());
-			if (!huespedesConEsteAval.isEmpty()) { 
-				throw new IllegalOperationException("El aval ya fue designado");
-			}
-		}
-		Huesped huespedDni = huespedRep.findByDniHuesped(huesped.getDniHuesped());
-		if(huespedDni != null && huespedDni != huespedEntity.get()) {
-			throw new IllegalOperationException("El dni del huesped ya existe");
-		}
-		huesped.setIdHuesped(id);
-		return huespedRep.save(huesped);
+		Huesped huespedEntity = cargar(id);
+		return aplicar(huespedEntity, huesped);
 	}
 
 	/**
 	 * Elimina un huésped por su ID.
+	 * El borrado se hace sin cargar el huésped, leyendo solo su DNI para el índice; si tiene reservas lo impide la clave foránea.
 	 * 
 	 * @param id El ID del huésped a eliminar.
 	 * @throws EntityNotFoundException Si el huésped no puede ser encontrado.
 	 * @throws IllegalOperationException Si hay operaciones ilegales.
 	 */
 	@Override
-	@Transactional
+	@Transactional(rollbackFor = IllegalOperationException.class)
 	public void eliminar(Long id) throws EntityNotFoundException, IllegalOperationException{
-		Optional<Huesped> huespedEntity = huespedRep.findById(id);
-		if(huespedEntity.isEmpty()) {
-			throw new EntityNotFoundException(ErrorMessage.HUESPED_NOT_FOUND);
-		}
-
-		List<Huesped> huespedesConEsteAval = huespedRep.findByAval(huespedEntity.get());
-
-		if (!huespedesConEsteAval.isEmpty()) { 
+		if (grafoAval.estaListo() ? grafoAval.esAval(id) : huespedRep.existsByAval_IdHuesped(id)) { 
 			throw new IllegalOperationException("No se puede eliminar, el huesped es aval de un cliente");
 		}
-		huespedRep.deleteById(id);
+		String dni = huespedRep.buscarDni(id).orElse(null);
+		int eliminados;
+		try {
+			eliminados = huespedRep.eliminarPorId(id);
+		} catch (DataIntegrityViolationException e) {
+			throw new IllegalOperationException("No se puede eliminar, el huesped tiene reservas");
+		}
+		if (eliminados == 0) {
+			throw new EntityNotFoundException(ErrorMessage.HUESPED_NOT_FOUND);
+		}
+		eventPublisher.publishEvent(HuespedCambioEvent.eliminado(id, dni));
 	}
 
 	/**
@@ -164,25 +163,17 @@ public class HuespedServiceImp implements HuespedService {
 	 * @throws IllegalOperationException Si hay operaciones ilegales.
 	 */
 	@Override
-	@Transactional
+	@Transactional(rollbackFor = IllegalOperationException.class)
 	public Huesped asignarAval(Long idHuesped, Long idAval) throws EntityNotFoundException, IllegalOperationException{
-		Optional<Huesped> huespedEntity =  huespedRep.findById(idHuesped);
-		Optional<Huesped> avalEntity = huespedRep.findById(idAval);
-		if(huespedEntity.isEmpty()) {
-			throw new EntityNotFoundException(ErrorMessage.HUESPED_NOT_FOUND);
-		}
-		if(avalEntity.isEmpty()) {
-			throw new EntityNotFoundException("El aval con id proporcionado no fue encontrado");
-		}
-		if(idHuesped == idAval) {
+		Huesped huespedEntity = cargar(idHuesped);
+		if(idHuesped.equals(idAval)) {
 			throw new IllegalOperationException("El huesped no se puede avalar asi mismo");
 		}
-		List<Huesped> huespedesConEsteAval = huespedRep.findByAval(avalEntity.get());
-		if (!huespedesConEsteAval.isEmpty()) { 
-			throw new IllegalOperationException("El aval fue designado a otro huesped");
+		if (huespedEntity.getAval() == null || !idAval.equals(huespedEntity.getAval().getIdHuesped())) {
+			comprobar(idHuesped, null, null, idAval);
+			huespedEntity.setAval(huespedRep.getReferenceById(idAval));
 		}
-		huespedEntity.get().setAval(avalEntity.get());
-		return huespedRep.save(huespedEntity.get());
+		return guardar(huespedEntity, huespedEntity.getDniHuesped());
 	}
 
 	/**
@@ -196,15 +187,14 @@ public class HuespedServiceImp implements HuespedService {
 	@Override
 	@Transactional
 	public Huesped eliminarAval(Long id) throws EntityNotFoundException, IllegalOperationException{
-		Optional<Huesped> huespedEntity = huespedRep.findById(id);
-		if(huespedEntity.isEmpty()) {
-			throw new EntityNotFoundException(ErrorMessage.HUESPED_NOT_FOUND);
-		}
-		if(huespedEntity.get().getAval() == null) {
+		Huesped huespedEntity = cargar(id);
+		if(huespedEntity.getAval() == null) {
 			throw new IllegalOperationException("El huesped no tiene aval");
 		}
-		huespedEntity.get().setAval(null);
-		return huespedRep.save(huespedEntity.get());
+		huespedEntity.setAval(null);
+		Huesped guardado = huespedRep.save(huespedEntity);
+		eventPublisher.publishEvent(HuespedCambioEvent.de(guardado, guardado.getDniHuesped()));
+		return guardado;
 	}
 
 	/**
@@ -217,55 +207,124 @@ public class HuespedServiceImp implements HuespedService {
 	 * @throws IllegalOperationException Si hay operaciones ilegales, como asignar un huésped como aval de sí mismo.
 	 */
 	@Override
-	@Transactional
+	@Transactional(rollbackFor = IllegalOperationException.class)
 	public Huesped actualizarPorCampos(Long id, Huesped huesped) throws EntityNotFoundException, IllegalOperationException{
-		Optional<Huesped> huespedEntity = huespedRep.findById(id);
-		if(huespedEntity.isEmpty()) {
-			throw new EntityNotFoundException(ErrorMessage.HUESPED_NOT_FOUND);
-		}
-		huesped.setIdHuesped(id);
+		Huesped huespedEntity = cargar(id);
 		if(huesped.getNombreHuesped() == null) {
-			huesped.setNombreHuesped(huespedEntity.get().getNombreHuesped());
+			huesped.setNombreHuesped(huespedEntity.getNombreHuesped());
 		} 
 		if(huesped.getDniHuesped() == null) {
-			huesped.setDniHuesped(huespedEntity.get().getDniHuesped());
-		} else {
-			Huesped huespedDni = huespedRep.findByDniHuesped(huesped.getDniHuesped());
-			if(huespedDni != null) {
-				throw new IllegalOperationException("El dni del huesped ya existe");
-			}
+			huesped.setDniHuesped(huespedEntity.getDniHuesped());
 		}
 		if(huesped.getDireccionHuesped() == null) {
-			huesped.setDireccionHuesped(huespedEntity.get().getDireccionHuesped());
+			huesped.setDireccionHuesped(huespedEntity.getDireccionHuesped());
 		}
 		if(huesped.getTelefonoHuesped() == null) {
-			huesped.setTelefonoHuesped(huespedEntity.get().getTelefonoHuesped());
+			huesped.setTelefonoHuesped(huespedEntity.getTelefonoHuesped());
 		}
 		if(huesped.getCorreoHuesped() == null) {
-			huesped.setCorreoHuesped(huespedEntity.get().getCorreoHuesped());
+			huesped.setCorreoHuesped(huespedEntity.getCorreoHuesped());
 		}
 		if(huesped.getAval() == null) {
-			huesped.setAval(huespedEntity.get().getAval());
-		} else {
-			Optional<Huesped> avalEntity = huespedRep.findById(huesped.getAval().getIdHuesped());
-			if(avalEntity.isEmpty()) {
-				throw new EntityNotFoundException("El aval con id proporcionado no fue encontrado");
+			huesped.setAval(huespedEntity.getAval());
+		}
+		return aplicar(huespedEntity, huesped);
+	}
+
+	/**
+	 * Busca un huésped que se va a modificar.
+	 */
+	private Huesped cargar(Long id) throws EntityNotFoundException {
+		return huespedRep.findById(id)
+				.orElseThrow(() -> new EntityNotFoundException(ErrorMessage.HUESPED_NOT_FOUND));
+	}
+
+	/**
+	 * Copia los datos recibidos sobre el huésped cargado. Solo se comprueban el DNI o el aval
+	 * cuando cambian; los datos recibidos quedan con el id y el aval finales.
+	 */
+	private Huesped aplicar(Huesped huespedEntity, Huesped huesped) throws EntityNotFoundException, IllegalOperationException {
+		Long id = huespedEntity.getIdHuesped();
+		Long idAval = huesped.getAval() == null ? null : huesped.getAval().getIdHuesped();
+		if(id.equals(idAval)) {
+			throw new IllegalOperationException("El huesped no se puede avalar asi mismo");
+		}
+		Long idAvalActual = huespedEntity.getAval() == null ? null : huespedEntity.getAval().getIdHuesped();
+		boolean avalCambia = idAval != null && !idAval.equals(idAvalActual);
+		boolean dniCambia = huesped.getDniHuesped() != null && !huesped.getDniHuesped().equals(huespedEntity.getDniHuesped());
+		String dniAnterior = huespedEntity.getDniHuesped();
+		if (avalCambia || dniCambia) {
+			comprobar(id, dniCambia ? huesped.getDniHuesped() : null, dniAnterior, avalCambia ? idAval : null);
+		}
+		huespedEntity.setNombreHuesped(huesped.getNombreHuesped());
+		huespedEntity.setDniHuesped(huesped.getDniHuesped());
+		huespedEntity.setDireccionHuesped(huesped.getDireccionHuesped());
+		huespedEntity.setTelefonoHuesped(huesped.getTelefonoHuesped());
+		huespedEntity.setCorreoHuesped(huesped.getCorreoHuesped());
+		if (idAval == null) {
+			huespedEntity.setAval(null);
+		} else if (avalCambia) {
+			huespedEntity.setAval(huespedRep.getReferenceById(idAval));
+		}
+		huesped.setIdHuesped(id);
+		huesped.setAval(huespedEntity.getAval());
+		return guardar(huespedEntity, dniAnterior);
+	}
+
+	/**
+	 * Valida que el aval exista, esté libre y no forme un ciclo, y que el DNI no esté repetido.
+	 * Ambos se miran en los índices en memoria; mientras alguno se carga, lo suyo se valida con una
+	 * consulta, sin la comprobación de ciclos. Los valores nulos no se validan.
+	 */
+	private void comprobar(Long idHuesped, String dni, String dniActual, Long idAval) throws EntityNotFoundException, IllegalOperationException {
+		boolean dniRepetido = false;
+		if (dni != null && indiceDni.estaListo()) {
+			dniRepetido = indiceDni.estaRegistrado(dni, dniActual);
+			dni = null;
+		}
+		if (idAval != null && grafoAval.estaListo()) {
+			grafoAval.comprobarAval(idHuesped, idAval);
+			idAval = null;
+		}
+		if (idAval == null && dni == null) {
+			if (dniRepetido) {
+				throw new IllegalOperationException("El dni del huesped ya existe");
 			}
-			if(id == avalEntity.get().getIdHuesped()) {
-				throw new IllegalOperationException("El huesped no se puede avalar asi mismo");
+			return;
+		}
+		ComprobacionHuesped comprobacion = huespedRep.comprobar(idHuesped, dni, idAval);
+		if (idAval != null) {
+			if (comprobacion.getAvales() == 0) {
+				throw new EntityNotFoundException("El aval con id proporcionado no fue encontrado");
 			}
-			List<Huesped> huespedesConEsteAval = huespedRep.findByAval(avalEntity.get());
-			if (!huespedesConEsteAval.isEmpty()) { 
+			if (comprobacion.getAvalados() > 0) {
 				throw new IllegalOperationException("El aval ya fue designado");
 			}
 		}
-		return huespedRep.save(huesped);
+		if (dniRepetido || (dni != null && comprobacion.getDnis() > 0)) {
+			throw new IllegalOperationException("El dni del huesped ya existe");
+		}
+	}
+
+	/**
+	 * Escribe el huésped en el momento; si otra petición se adelantó con el mismo DNI o aval,
+	 * las restricciones únicas lo rechazan. El índice de DNI se actualiza al confirmar la transacción.
+	 */
+	private Huesped guardar(Huesped huesped, String dniAnterior) throws IllegalOperationException {
+		Huesped guardado;
+		try {
+			guardado = huespedRep.saveAndFlush(huesped);
+		} catch (DataIntegrityViolationException e) {
+			throw new IllegalOperationException("El dni o el aval del huesped ya están registrados");
+		}
+		eventPublisher.publishEvent(HuespedCambioEvent.de(guardado, dniAnterior));
+		return guardado;
 	}
 	
 	//Subservicios
 	
 	@Override
-	@Transactional
+	@Transactional(readOnly = true)
     public List<Reserva> obtenerReservasPorHuesped(Long idHuesped) throws EntityNotFoundException {
 		Optional<Huesped> huesped = huespedRep.findById(idHuesped);
 		if(huesped.isEmpty()) {
@@ -287,22 +346,12 @@ public class HuespedServiceImp implements HuespedService {
 	 * @param idHuesped El ID del huésped.
 	 * @param idReserva El ID de la reserva.
 	 * @return La reserva solicitada.
-	 * @throws EntityNotFoundException Si el huésped o la reserva no pueden ser encontrados.
+	 * @throws EntityNotFoundException Si el huésped no existe o la reserva no es suya.
 	 */
 	@Override
-    @Transactional
+    @Transactional(readOnly = true)
     public Reserva obtenerReservaDeHuesped(Long idHuesped, Long idReserva) throws EntityNotFoundException {
-		Optional<Huesped> huesped = huespedRep.findById(idHuesped);
-		if(huesped.isEmpty()) {
-			throw new EntityNotFoundException(ErrorMessage.HUESPED_NOT_FOUND);
-		}
-
-		Optional<Reserva> reserva = reservaRep.findById(idReserva);
-		if(reserva.isEmpty()) {
-			throw new EntityNotFoundException(ErrorMessage.RESERVA_NOT_FOUND);
-		}
-
-        return reserva.get();
+		return buscarReservaDeHuesped(idHuesped, idReserva);
     }
 	
 	/**
@@ -311,22 +360,12 @@ public class HuespedServiceImp implements HuespedService {
 	 * @param idHuesped El ID del huésped.
 	 * @param idReserva El ID de la reserva.
 	 * @return La lista de habitaciones asociadas a la reserva.
-	 * @throws EntityNotFoundException Si el huésped, la reserva o las habitaciones no pueden ser encontrados.
+	 * @throws EntityNotFoundException Si el huésped no existe, la reserva no es suya o no tiene habitaciones.
 	 */
 	@Override
-	@Transactional
+	@Transactional(readOnly = true)
 	public List<Habitacion> obtenerHabitacionesPorReserva(Long idHuesped, Long idReserva) throws EntityNotFoundException {
-		Optional<Huesped> huesped = huespedRep.findById(idHuesped);
-		if(huesped.isEmpty()) {
-			throw new EntityNotFoundException(ErrorMessage.HUESPED_NOT_FOUND);
-		}
-		
-		Optional<Reserva> reserva = reservaRep.findById(idReserva);
-		if(reserva.isEmpty()) {
-			throw new EntityNotFoundException(ErrorMessage.RESERVA_NOT_FOUND);
-		}
-		
-		List<Habitacion> habitaciones = reserva.get().getHabitaciones();
+		List<Habitacion> habitaciones = buscarReservaDeHuesped(idHuesped, idReserva).getHabitaciones();
 		if(habitaciones.isEmpty()) {
 			throw new EntityNotFoundException("No se encontraron habitaciones asociadas a la reserva");
 		}
@@ -341,26 +380,31 @@ public class HuespedServiceImp implements HuespedService {
 	 * @param idReserva El ID de la reserva.
 	 * @param idHabitacion El ID de la habitación.
 	 * @return La habitación asociada a la reserva.
-	 * @throws EntityNotFoundException Si el huésped, la reserva o la habitación no pueden ser encontrados.
+	 * @throws EntityNotFoundException Si el huésped no existe, la reserva no es suya o la habitación no está en la reserva.
 	 */
 	@Override
-    @Transactional
+    @Transactional(readOnly = true)
     public Habitacion obtenerHabitacionDeReserva(Long idHuesped, Long idReserva, Long idHabitacion) throws EntityNotFoundException {
-		Optional<Huesped> huesped = huespedRep.findById(idHuesped);
-		if(huesped.isEmpty()) {
-			throw new EntityNotFoundException(ErrorMessage.HUESPED_NOT_FOUND);
-		}
-
-		Optional<Reserva> reserva = reservaRep.findById(idReserva);
-		if(reserva.isEmpty()) {
-			throw new EntityNotFoundException(ErrorMessage.RESERVA_NOT_FOUND);
+		Optional<Habitacion> habitacion = habitacionRep.buscarEnReserva(idHabitacion, idReserva, idHuesped);
+		if (habitacion.isEmpty()) {
+			buscarReservaDeHuesped(idHuesped, idReserva);
+			throw new EntityNotFoundException("Habitación no encontrada en la reserva");
 		}
-		
-		Optional<Habitacion> habitacion = habitacionRep.findById(idHabitacion);
-		if(habitacion.isEmpty()) {
-			throw new EntityNotFoundException(ErrorMessage.HABITACION_NOT_FOUND);
-		}
-
         return habitacion.get();
     }
+
+	/**
+	 * Busca una reserva del huésped con una sola consulta que comprueba que le pertenece.
+	 * La existencia del huésped solo se consulta cuando no hay resultado, para elegir el error.
+	 */
+	private Reserva buscarReservaDeHuesped(Long idHuesped, Long idReserva) throws EntityNotFoundException {
+		Optional<Reserva> reserva = reservaRep.buscarDeHuesped(idReserva, idHuesped);
+		if (reserva.isEmpty()) {
+			if (!huespedRep.existsById(idHuesped)) {
+				throw new EntityNotFoundException(ErrorMessage.HUESPED_NOT_FOUND);
+			}
+			throw new EntityNotFoundException("Reserva no encontrada en el huésped");
+		}
+		return reserva.get();
+	}
 }
@@ -0,0 +1,44 @@
+/**
+ * @file: IndiceDniService.java
+ * @author: (c) 2026 Rodriguez
+ * @created: 19 oct. 2026 09:31:52
+ */
+package com.equipo02.hotel.services;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Interfaz que define el índice en memoria de los DNI de huéspedes registrados.
+ */
+public interface IndiceDniService {
+
+	/**
+     * Indica si el índice ya está cargado y puede responder sin consultar la base de datos.
+     * @return true si está cargado.
+     */
+	boolean estaListo();
+
+	/**
+     * Indica si un DNI pertenece a otro huésped. Solo debe usarse con el índice cargado.
+     * @param dni El DNI a comprobar.
+     * @param dniActual El DNI que ya tiene el huésped, que no cuenta; null si el huésped es nuevo.
+     * @return true si el DNI está registrado por otro huésped.
+     */
+	boolean estaRegistrado(String dni, String dniActual);
+
+	/**
+     * Devuelve cuáles de los DNI indicados están registrados. Si el índice aún no está cargado,
+     * se consulta la base de datos.
+     * @param dnis Los DNI a comprobar.
+     * @return Los DNI registrados, normalizados con {@link #normalizar}.
+     */
+	Set<String> registrados(Collection<String> dnis);
+
+	/**
+     * Normaliza un DNI como lo compara la restricción única de la tabla: sin espacios a los lados y sin distinguir mayúsculas.
+     * @param dni El DNI.
+     * @return El DNI normalizado.
+     */
+	String normalizar(String dni);
+}
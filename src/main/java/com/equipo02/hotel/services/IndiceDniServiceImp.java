@@ -0,0 +1,191 @@
+/**
+ * @file: IndiceDniServiceImp.java
+ * @author: (c) 2026 Rodriguez
+ * @created: 19 oct. 2026 09:40:17
+ */
+package com.equipo02.hotel.services;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.equipo02.hotel.events.HuespedCambioEvent;
+import com.equipo02.hotel.repositories.HuespedRepository;
+import com.equipo02.hotel.util.FiltroBloom;
+
+/**
+ * Implementación del índice de DNI de huéspedes.
+ *
+ * Un filtro de Bloom descarta sin más los DNI que no están, que son casi todos en una carga de
+ * huéspedes nuevos, y un conjunto exacto confirma los que el filtro deja pasar. Se carga al
+ * arrancar y se mantiene con los HuespedCambioEvent confirmados. Cada noche se reconstruye para
+ * dimensionar de nuevo el filtro y quitar lo que se haya cambiado fuera de la aplicación; los cambios
+ * que llegan mientras se reconstruye se aplican después sobre el índice nuevo. La restricción única
+ * de la tabla sigue siendo la que decide: el índice solo evita la consulta previa.
+ */
+@Service
+public class IndiceDniServiceImp implements IndiceDniService {
+
+	private static final Logger log = LoggerFactory.getLogger(IndiceDniServiceImp.class);
+
+	/** Capacidad mínima del filtro; se dimensiona para el doble de los DNI cargados. */
+	private static final int CAPACIDAD_MINIMA = 1 << 16;
+
+	private static final double FALSOS_POSITIVOS = 0.01;
+
+	@Autowired
+	private HuespedRepository huespedRepository;
+
+	private volatile Indice indice;
+
+	/** Cambios recibidos durante una reconstrucción; null fuera de ella. */
+	private volatile Queue<HuespedCambioEvent> pendientes;
+
+	@Override
+	public boolean estaListo() {
+		return indice != null;
+	}
+
+	/**
+     * Indica si un DNI pertenece a otro huésped.
+     * @param dni El DNI a comprobar.
+     * @param dniActual El DNI que ya tiene el huésped, que no cuenta; null si el huésped es nuevo.
+     * @return true si el DNI está registrado por otro huésped.
+     */
+	@Override
+	public boolean estaRegistrado(String dni, String dniActual) {
+		String clave = normalizar(dni);
+		if (dniActual != null && clave.equals(normalizar(dniActual))) {
+			return false;
+		}
+		return indice.contiene(clave);
+	}
+
+	/**
+     * Devuelve cuáles de los DNI indicados están registrados.
+     * @param dnis Los DNI a comprobar.
+     * @return Los DNI registrados, normalizados.
+     */
+	@Override
+	public Set<String> registrados(Collection<String> dnis) {
+		Set<String> registrados = new HashSet<>();
+		Indice actual = indice;
+		if (actual != null) {
+			for (String dni : dnis) {
+				String clave = normalizar(dni);
+				if (actual.contiene(clave)) {
+					registrados.add(clave);
+				}
+			}
+			return registrados;
+		}
+		if (!dnis.isEmpty()) {
+			huespedRepository.buscarDnisRegistrados(dnis).forEach(dni -> registrados.add(normalizar(dni)));
+		}
+		return registrados;
+	}
+
+	@Override
+	public String normalizar(String dni) {
+		return dni.strip().toUpperCase(Locale.ROOT);
+	}
+
+	/**
+	 * Carga el índice al arrancar.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional(readOnly = true)
+	public void cargar() {
+		reconstruir();
+	}
+
+	/**
+	 * Reconstruye el índice desde la base de datos.
+	 */
+	@Scheduled(cron = "0 20 3 * * *")
+	@Transactional(readOnly = true)
+	public synchronized void reconstruir() {
+		pendientes = new ConcurrentLinkedQueue<>();
+		List<String> dnis = new ArrayList<>();
+		try (Stream<String> filas = huespedRepository.listarDnis()) {
+			filas.forEach(dni -> dnis.add(normalizar(dni)));
+		}
+		Indice nuevo = new Indice(Math.max(CAPACIDAD_MINIMA, dnis.size() * 2));
+		dnis.forEach(nuevo::agregar);
+		indice = nuevo;
+		Queue<HuespedCambioEvent> recibidos = pendientes;
+		pendientes = null;
+		recibidos.forEach(evento -> aplicar(nuevo, evento));
+		log.info("Índice de DNI cargado con {} huéspedes", dnis.size());
+	}
+
+	/**
+	 * Actualiza el índice con el DNI de un huésped creado, modificado o eliminado.
+	 * @param evento Los datos del huésped.
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onHuespedCambio(HuespedCambioEvent evento) {
+		Queue<HuespedCambioEvent> recibidos = pendientes;
+		if (recibidos != null) {
+			recibidos.add(evento);
+		}
+		Indice actual = indice;
+		if (actual != null) {
+			aplicar(actual, evento);
+		}
+	}
+
+	private void aplicar(Indice actual, HuespedCambioEvent evento) {
+		String anterior = evento.getDniAnterior() == null ? null : normalizar(evento.getDniAnterior());
+		String nuevo = evento.getDniHuesped() == null ? null : normalizar(evento.getDniHuesped());
+		if (anterior != null && !anterior.equals(nuevo)) {
+			actual.quitar(anterior);
+		}
+		if (nuevo != null) {
+			actual.agregar(nuevo);
+		}
+	}
+
+	/**
+	 * Filtro y conjunto exacto de un mismo juego de DNI normalizados.
+	 */
+	private static final class Indice {
+
+		private final FiltroBloom filtro;
+		private final Set<String> dnis = ConcurrentHashMap.newKeySet();
+
+		private Indice(int capacidad) {
+			this.filtro = new FiltroBloom(capacidad, FALSOS_POSITIVOS);
+		}
+
+		private void agregar(String dni) {
+			filtro.agregar(dni);
+			dnis.add(dni);
+		}
+
+		private void quitar(String dni) {
+			dnis.remove(dni);
+		}
+
+		private boolean contiene(String dni) {
+			return filtro.puedeContener(dni) && dnis.contains(dni);
+		}
+	}
+}
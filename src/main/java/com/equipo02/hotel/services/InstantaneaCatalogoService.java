@@ -0,0 +1,20 @@
+/**
+ * @file: InstantaneaCatalogoService.java
+ * @author: (c)2026 Cueva
+ * @created: 19 oct 2026, 00:05:19
+ */
+package com.equipo02.hotel.services;
+
+import com.equipo02.hotel.util.InstantaneaCatalogo;
+
+/**
+ * Interfaz del catálogo público de habitaciones servido como bytes ya serializados.
+ */
+public interface InstantaneaCatalogoService {
+
+	/**
+     * Devuelve la última instantánea del catálogo. Si aún no se ha generado ninguna, la genera.
+     * @return La instantánea vigente.
+     */
+	InstantaneaCatalogo actual();
+}
@@ -0,0 +1,115 @@
+/**
+ * @file: InstantaneaCatalogoServiceImp.java
+ * @author: (c)2026 Cueva
+ * @created: 19 oct 2026, 00:21:36
+ */
+package com.equipo02.hotel.services;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.equipo02.hotel.dto.HabitacionCatalogoDTO;
+import com.equipo02.hotel.events.HabitacionCambioEvent;
+import com.equipo02.hotel.repositories.HabitacionRepository;
+import com.equipo02.hotel.util.ApiResponse;
+import com.equipo02.hotel.util.InstantaneaCatalogo;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Implementación del catálogo público pre-serializado.
+ *
+ * El listado de habitaciones se serializa una vez como ApiResponse, se comprime y se guarda con
+ * su ETag en una referencia volátil que las peticiones leen sin bloqueos. Los cambios de
+ * habitaciones solo marcan la instantánea como desfasada; una tarea programada la regenera fuera
+ * de las peticiones, de modo que una ráfaga de cambios produce una sola regeneración.
+ */
+@Service
+public class InstantaneaCatalogoServiceImp implements InstantaneaCatalogoService {
+
+	private static final Logger log = LoggerFactory.getLogger(InstantaneaCatalogoServiceImp.class);
+
+	private static final long ESPERA_REGENERACION_MS = 1000;
+
+	@Autowired
+	private HabitacionRepository habitacionRepository;
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private volatile InstantaneaCatalogo instantanea;
+
+	private final AtomicBoolean desfasada = new AtomicBoolean();
+
+	/**
+     * Devuelve la instantánea vigente.
+     * @return La instantánea.
+     */
+	@Override
+	public InstantaneaCatalogo actual() {
+		InstantaneaCatalogo actual = instantanea;
+		return actual != null ? actual : generarSiFalta();
+	}
+
+	/**
+	 * Genera la primera instantánea al iniciar la aplicación.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void cargar() {
+		regenerar();
+	}
+
+	/**
+	 * Marca la instantánea como desfasada cuando cambia una habitación.
+	 * @param evento Los datos actuales de la habitación.
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onHabitacionCambio(HabitacionCambioEvent evento) {
+		desfasada.set(true);
+	}
+
+	/**
+	 * Regenera la instantánea si alguna habitación cambió desde la última vez.
+	 */
+	@Scheduled(fixedDelay = ESPERA_REGENERACION_MS)
+	public void regenerarSiDesfasada() {
+		if (desfasada.getAndSet(false)) {
+			try {
+				regenerar();
+			} catch (RuntimeException e) {
+				desfasada.set(true);
+				throw e;
+			}
+		}
+	}
+
+	private synchronized InstantaneaCatalogo generarSiFalta() {
+		return instantanea != null ? instantanea : regenerar();
+	}
+
+	private synchronized InstantaneaCatalogo regenerar() {
+		List<HabitacionCatalogoDTO> habitaciones = habitacionRepository.listarResumenes().stream()
+				.map(r -> new HabitacionCatalogoDTO(r.getIdHabitacion(), r.getTipo(), r.getPrecio(), r.getDescripcion(),
+						Boolean.TRUE.equals(r.getDisponible())))
+				.toList();
+		byte[] json;
+		try {
+			json = objectMapper.writeValueAsBytes(
+					new ApiResponse<>(true, "Lista de habitaciones obtenida con éxito.", habitaciones));
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("No se pudo serializar el catálogo", e);
+		}
+		instantanea = InstantaneaCatalogo.de(json);
+		log.debug("Catálogo público regenerado: {} habitaciones, {} bytes comprimidos", habitaciones.size(),
+				instantanea.getGzip().length);
+		return instantanea;
+	}
+}
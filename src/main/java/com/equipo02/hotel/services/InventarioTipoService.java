@@ -0,0 +1,43 @@
+/**
+ * @file: InventarioTipoService.java
+ * @author: (c)2026 Cueva
+ * @created: 18 oct 2026, 22:36:50
+ */
+package com.equipo02.hotel.services;
+
+/**
+ * Interfaz del cupo vendible por tipo de habitación y noche.
+ * El cupo de una noche es el número de habitaciones del tipo menos las asignadas a reservas
+ * y menos las reservas hechas por tipo que aún no tienen habitación.
+ */
+public interface InventarioTipoService {
+
+	/**
+     * Devuelve el cupo mínimo de un tipo en las noches del rango [desde, hasta).
+     * @param tipo Tipo de habitación.
+     * @param desde Primer día (epoch day, inclusivo).
+     * @param hasta Día de salida (epoch day, exclusivo).
+     * @return Cuántas habitaciones del tipo se pueden vender en todas esas noches; 0 si el tipo
+     *         no existe o el rango cae fuera del horizonte.
+     */
+	int disponibles(String tipo, int desde, int hasta);
+
+	/**
+     * Retiene cupo de un tipo en todas las noches del rango [desde, hasta), o en ninguna.
+     * @param tipo Tipo de habitación.
+     * @param desde Primer día (epoch day, inclusivo).
+     * @param hasta Día de salida (epoch day, exclusivo).
+     * @param cantidad Habitaciones a retener por noche.
+     * @return true si se retuvo el cupo; false si alguna noche no tenía suficiente.
+     */
+	boolean retener(String tipo, int desde, int hasta, int cantidad);
+
+	/**
+     * Devuelve cupo retenido con {@link #retener}.
+     * @param tipo Tipo de habitación.
+     * @param desde Primer día (epoch day, inclusivo).
+     * @param hasta Día de salida (epoch day, exclusivo).
+     * @param cantidad Habitaciones a devolver por noche.
+     */
+	void liberar(String tipo, int desde, int hasta, int cantidad);
+}
@@ -0,0 +1,300 @@
+/**
+ * @file: InventarioTipoServiceImp.java
+ * @author: (c)2026 Cueva
+ * @created: 18 oct 2026, 22:48:13
+ */
+package com.equipo02.hotel.services;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.equipo02.hotel.events.HabitacionCambioEvent;
+import com.equipo02.hotel.events.ReservaOcupacionEvent;
+import com.equipo02.hotel.repositories.HabitacionRepository;
+import com.equipo02.hotel.repositories.OcupacionHabitacion;
+import com.equipo02.hotel.repositories.ReservaPendienteTipo;
+import com.equipo02.hotel.repositories.ReservaRepository;
+import com.equipo02.hotel.repositories.ResumenHabitacion;
+import com.equipo02.hotel.util.Fechas;
+import com.equipo02.hotel.util.OcupacionesReservas;
+
+/**
+ * Implementación del cupo por tipo de habitación con contadores atómicos.
+ *
+ * Cada tipo tiene un AtomicIntegerArray circular con una posición por noche de los próximos
+ * {@link #HORIZONTE} días. Consultar y retener cupo recorre solo las noches pedidas y retener
+ * es un compareAndSet por noche, sin bloqueos; si una noche no alcanza se devuelve lo ya retenido.
+ * Los contadores se construyen al iniciar a partir de las habitaciones y de habitacion_reserva, y
+ * se mantienen con los eventos de habitaciones y reservas; esas actualizaciones, poco frecuentes,
+ * se serializan entre sí. Cada noche la posición del día que sale del horizonte se reutiliza para
+ * el día que entra; la tabla tiene una posición de más para que nadie escriba en ella mientras cambia.
+ */
+@Service
+public class InventarioTipoServiceImp implements InventarioTipoService {
+
+	private static final Logger log = LoggerFactory.getLogger(InventarioTipoServiceImp.class);
+
+	/** Días con cupo a partir de hoy; fuera de ellos no se venden reservas por tipo. */
+	public static final int HORIZONTE = 731;
+
+	private static final int POSICIONES = HORIZONTE + 1;
+
+	@Autowired
+	private HabitacionRepository habitacionRepository;
+	@Autowired
+	private ReservaRepository reservaRepository;
+
+	/** Cupo por noche de cada tipo de habitación, en minúsculas. */
+	private final Map<String, AtomicIntegerArray> cupos = new ConcurrentHashMap<>();
+
+	/** Tipo de cada habitación, en minúsculas. Solo se usa bajo el monitor del servicio. */
+	private final Map<Long, String> tipos = new HashMap<>();
+
+	/** Última ocupación conocida de cada reserva que no ha terminado. Solo se usa bajo el monitor del servicio. */
+	private final OcupacionesReservas reservas = new OcupacionesReservas();
+
+	/** Primer día del horizonte. */
+	private volatile int origen = Fechas.aDia(LocalDate.now());
+
+	/**
+     * Devuelve el cupo mínimo de un tipo en el rango [desde, hasta).
+     * @param tipo Tipo de habitación.
+     * @param desde Primer día (epoch day).
+     * @param hasta Día de salida (epoch day).
+     * @return El cupo, nunca negativo.
+     */
+	@Override
+	public int disponibles(String tipo, int desde, int hasta) {
+		AtomicIntegerArray cupo = cupos.get(clave(tipo));
+		if (cupo == null || !dentroDelHorizonte(desde, hasta)) {
+			return 0;
+		}
+		int minimo = Integer.MAX_VALUE;
+		for (int dia = desde; dia < hasta && minimo > 0; dia++) {
+			minimo = Math.min(minimo, cupo.get(posicion(dia)));
+		}
+		return Math.max(minimo, 0);
+	}
+
+	/**
+     * Retiene cupo de un tipo en todas las noches del rango [desde, hasta).
+     * @param tipo Tipo de habitación.
+     * @param desde Primer día (epoch day).
+     * @param hasta Día de salida (epoch day).
+     * @param cantidad Habitaciones por noche.
+     * @return true si se retuvo.
+     */
+	@Override
+	public boolean retener(String tipo, int desde, int hasta, int cantidad) {
+		AtomicIntegerArray cupo = cupos.get(clave(tipo));
+		if (cupo == null || cantidad <= 0 || !dentroDelHorizonte(desde, hasta)) {
+			return false;
+		}
+		for (int dia = desde; dia < hasta; dia++) {
+			int i = posicion(dia);
+			int actual;
+			do {
+				actual = cupo.get(i);
+				if (actual < cantidad) {
+					sumar(cupo, desde, dia, cantidad);
+					return false;
+				}
+			} while (!cupo.compareAndSet(i, actual, actual - cantidad));
+		}
+		return true;
+	}
+
+	/**
+     * Devuelve cupo retenido. Las noches que ya salieron del horizonte se ignoran.
+     * @param tipo Tipo de habitación.
+     * @param desde Primer día (epoch day).
+     * @param hasta Día de salida (epoch day).
+     * @param cantidad Habitaciones por noche.
+     */
+	@Override
+	public void liberar(String tipo, int desde, int hasta, int cantidad) {
+		AtomicIntegerArray cupo = cupos.get(clave(tipo));
+		if (cupo != null) {
+			sumar(cupo, desde, hasta, cantidad);
+		}
+	}
+
+	/**
+	 * Construye los contadores con las habitaciones, sus asignaciones y las reservas por tipo pendientes.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional(readOnly = true)
+	public synchronized void cargar() {
+		int hoy = Fechas.aDia(LocalDate.now());
+		origen = hoy;
+		for (ResumenHabitacion resumen : habitacionRepository.listarResumenes()) {
+			String tipo = clave(resumen.getTipo());
+			tipos.put(resumen.getIdHabitacion(), tipo);
+			sumar(tipo, hoy, hoy + HORIZONTE, 1);
+		}
+		try (Stream<OcupacionHabitacion> ocupaciones = reservaRepository.listarOcupacionesDesde(Fechas.aDate(Fechas.aLocalDate(hoy)))) {
+			for (OcupacionHabitacion ocupacion : (Iterable<OcupacionHabitacion>) ocupaciones::iterator) {
+				if (ocupacion.getFechaInicio() == null || ocupacion.getFechaFin() == null) {
+					continue;
+				}
+				int desde = Fechas.aDia(ocupacion.getFechaInicio());
+				int hasta = Math.max(Fechas.aDia(ocupacion.getFechaFin()), desde + 1);
+				reservas.agregarHabitacion(ocupacion.getIdReserva(), desde, hasta, ocupacion.getIdHabitacion());
+			}
+		}
+		for (ReservaPendienteTipo pendiente : reservaRepository.listarPendientesDeTipo(Fechas.aDate(Fechas.aLocalDate(hoy)),
+				Pageable.unpaged())) {
+			if (pendiente.getFechaInicio() == null) {
+				continue;
+			}
+			int desde = Fechas.aDia(pendiente.getFechaInicio());
+			int hasta = Math.max(Fechas.aDia(pendiente.getFechaFin()), desde + 1);
+			reservas.poner(
+					ReservaOcupacionEvent.pendiente(pendiente.getIdReserva(), desde, hasta, pendiente.getTipoSolicitado()));
+		}
+		reservas.valores().forEach(reserva -> ocupar(reserva, -1));
+		log.info("Cupo por tipo cargado: {} tipos, {} habitaciones, {} reservas vigentes", cupos.size(), tipos.size(),
+				reservas.tamano());
+	}
+
+	/**
+	 * Desplaza el horizonte al día actual, calculando el cupo de cada noche que entra en él.
+	 */
+	@Scheduled(cron = "0 0 0 * * *")
+	public synchronized void desplazarHorizonte() {
+		int hoy = Fechas.aDia(LocalDate.now());
+		while (origen < hoy) {
+			int nueva = origen + HORIZONTE;
+			Map<String, Integer> valores = new HashMap<>();
+			tipos.values().forEach(tipo -> valores.merge(tipo, 1, Integer::sum));
+			for (ReservaOcupacionEvent reserva : reservas.valores()) {
+				if (reserva.getDesde() <= nueva && nueva < reserva.getHasta()) {
+					for (long idHabitacion : reserva.getHabitaciones()) {
+						String tipo = tipos.get(idHabitacion);
+						if (tipo != null) {
+							valores.merge(tipo, -1, Integer::sum);
+						}
+					}
+					if (reserva.getTipoPendiente() != null) {
+						valores.merge(clave(reserva.getTipoPendiente()), -1, Integer::sum);
+					}
+				}
+			}
+			int i = posicion(nueva);
+			cupos.forEach((tipo, cupo) -> cupo.set(i, valores.getOrDefault(tipo, 0)));
+			origen++;
+		}
+		reservas.quitarTerminadas(origen);
+	}
+
+	/**
+	 * Actualiza los contadores cuando cambia la ocupación de una reserva: se devuelve lo que
+	 * ocupaba antes y se descuenta lo que ocupa ahora.
+	 * @param evento El nuevo estado de la reserva.
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public synchronized void onReservaOcupacion(ReservaOcupacionEvent evento) {
+		reservas.reemplazar(evento, !evento.isEliminada() && evento.getHasta() > origen, (anterior, nuevo) -> {
+			if (anterior != null) {
+				ocupar(anterior, 1);
+			}
+			if (!nuevo.isEliminada()) {
+				ocupar(nuevo, -1);
+			}
+		});
+	}
+
+	/**
+	 * Actualiza los contadores cuando se crea, elimina o cambia de tipo una habitación.
+	 * @param evento Los datos actuales de la habitación.
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public synchronized void onHabitacionCambio(HabitacionCambioEvent evento) {
+		Long idHabitacion = evento.getIdHabitacion();
+		String nuevo = evento.isEliminada() ? null : clave(evento.getTipo());
+		String anterior = nuevo == null ? tipos.remove(idHabitacion) : tipos.put(idHabitacion, nuevo);
+		if (Objects.equals(anterior, nuevo)) {
+			return;
+		}
+		if (anterior != null) {
+			moverHabitacion(idHabitacion, anterior, -1);
+		}
+		if (nuevo != null) {
+			moverHabitacion(idHabitacion, nuevo, 1);
+		}
+	}
+
+	/**
+	 * Suma o resta una habitación al cupo de un tipo en todo el horizonte, salvo en las noches en
+	 * que ya está asignada, que no estaban contadas.
+	 */
+	private void moverHabitacion(Long idHabitacion, String tipo, int signo) {
+		sumar(tipo, origen, origen + HORIZONTE, signo);
+		for (ReservaOcupacionEvent reserva : reservas.valores()) {
+			for (long asignada : reserva.getHabitaciones()) {
+				if (asignada == idHabitacion) {
+					sumar(tipo, reserva.getDesde(), reserva.getHasta(), -signo);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Aplica al cupo las noches de una reserva: una unidad por habitación asignada, o una del tipo
+	 * pedido si aún no tiene habitaciones.
+	 */
+	private void ocupar(ReservaOcupacionEvent reserva, int signo) {
+		for (long idHabitacion : reserva.getHabitaciones()) {
+			String tipo = tipos.get(idHabitacion);
+			if (tipo != null) {
+				sumar(tipo, reserva.getDesde(), reserva.getHasta(), signo);
+			}
+		}
+		if (reserva.getTipoPendiente() != null) {
+			sumar(clave(reserva.getTipoPendiente()), reserva.getDesde(), reserva.getHasta(), signo);
+		}
+	}
+
+	private void sumar(String tipo, int desde, int hasta, int delta) {
+		sumar(cupos.computeIfAbsent(tipo, t -> new AtomicIntegerArray(POSICIONES)), desde, hasta, delta);
+	}
+
+	private void sumar(AtomicIntegerArray cupo, int desde, int hasta, int delta) {
+		int inicio = Math.max(desde, origen);
+		int fin = Math.min(hasta, origen + HORIZONTE);
+		for (int dia = inicio; dia < fin; dia++) {
+			cupo.addAndGet(posicion(dia), delta);
+		}
+	}
+
+	private boolean dentroDelHorizonte(int desde, int hasta) {
+		int inicio = origen;
+		return desde < hasta && desde >= inicio && hasta <= inicio + HORIZONTE;
+	}
+
+	private static int posicion(int dia) {
+		return Math.floorMod(dia, POSICIONES);
+	}
+
+
+	private static String clave(String tipo) {
+		return tipo == null ? "" : tipo.toLowerCase(Locale.ROOT);
+	}
+}
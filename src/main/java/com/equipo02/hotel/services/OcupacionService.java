@@ -0,0 +1,34 @@
+/**
+ * @file: OcupacionService.java
+ * @author: (c) 2026 MARCO
+ * @created: 18 oct. 2026 12:18:51
+ */
+package com.equipo02.hotel.services;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.equipo02.hotel.dto.FilaOcupacionDTO;
+
+/**
+ * Interfaz que define los reportes de ocupación del hotel.
+ * Los reportes se calculan en memoria sobre un bitmap de noches ocupadas por habitación.
+ */
+public interface OcupacionService {
+
+	/**
+     * Calcula la ocupación de cada tipo de habitación en el rango [desde, hasta).
+     * @param desde Primer día del reporte.
+     * @param hasta Día siguiente al último del reporte.
+     * @return Una fila por tipo, ordenadas por tipo.
+     */
+	List<FilaOcupacionDTO> ocupacionPorTipo(LocalDate desde, LocalDate hasta);
+
+	/**
+     * Calcula la ocupación de todo el hotel para cada día del rango [desde, hasta).
+     * @param desde Primer día del reporte.
+     * @param hasta Día siguiente al último del reporte.
+     * @return Una fila por día, en orden cronológico.
+     */
+	List<FilaOcupacionDTO> ocupacionPorDia(LocalDate desde, LocalDate hasta);
+}
@@ -0,0 +1,238 @@
+/**
+ * @file: OcupacionServiceImp.java
+ * @author: (c) 2026 MARCO
+ * @created: 18 oct. 2026 12:31:07
+ */
+package com.equipo02.hotel.services;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.equipo02.hotel.dto.FilaOcupacionDTO;
+import com.equipo02.hotel.events.HabitacionCambioEvent;
+import com.equipo02.hotel.events.ReservaOcupacionEvent;
+import com.equipo02.hotel.repositories.HabitacionRepository;
+import com.equipo02.hotel.repositories.OcupacionHabitacion;
+import com.equipo02.hotel.repositories.ReservaRepository;
+import com.equipo02.hotel.repositories.ResumenHabitacion;
+import com.equipo02.hotel.util.BitmapNoches;
+import com.equipo02.hotel.util.Fechas;
+import com.equipo02.hotel.util.IntervalosHabitacion;
+import com.equipo02.hotel.util.OcupacionesReservas;
+
+/**
+ * Implementación de los reportes de ocupación.
+ *
+ * Cada habitación tiene un BitmapNoches con sus noches ocupadas y los intervalos de reserva
+ * que lo generaron; los intervalos permiten volver a marcar las noches compartidas cuando se
+ * libera una reserva que se superponía con otra en datos antiguos. Se carga al iniciar la
+ * aplicación y se mantiene con los mismos eventos que el índice de disponibilidad.
+ */
+@Service
+public class OcupacionServiceImp implements OcupacionService {
+
+	private static final Logger log = LoggerFactory.getLogger(OcupacionServiceImp.class);
+
+	@Autowired
+	private ReservaRepository reservaRepository;
+	@Autowired
+	private HabitacionRepository habitacionRepository;
+
+	/** Habitaciones con su bitmap; protegido por lock. */
+	private final Map<Long, FichaOcupacion> habitaciones = new TreeMap<>();
+
+	/** Última ocupación conocida de cada reserva, para poder reemplazarla. */
+	private final OcupacionesReservas reservas = new OcupacionesReservas();
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+	/**
+     * Calcula la ocupación por tipo de habitación en el rango [desde, hasta).
+     * @param desde Primer día.
+     * @param hasta Día siguiente al último.
+     * @return Una fila por tipo.
+     */
+	@Override
+	public List<FilaOcupacionDTO> ocupacionPorTipo(LocalDate desde, LocalDate hasta) {
+		int diaDesde = Fechas.aDia(desde);
+		int diaHasta = Fechas.aDia(hasta);
+		int noches = diaHasta - diaDesde;
+		Map<String, long[]> totales = new TreeMap<>();
+		lock.readLock().lock();
+		try {
+			for (FichaOcupacion ficha : habitaciones.values()) {
+				long[] total = totales.computeIfAbsent(ficha.tipo == null ? "" : ficha.tipo, tipo -> new long[2]);
+				total[0]++;
+				total[1] += ficha.noches.cardinalidad(diaDesde, diaHasta);
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+		List<FilaOcupacionDTO> filas = new ArrayList<>(totales.size());
+		totales.forEach((tipo, total) -> filas
+				.add(new FilaOcupacionDTO(tipo, (int) total[0], total[0] * noches, total[1])));
+		return filas;
+	}
+
+	/**
+     * Calcula la ocupación de todo el hotel día por día en el rango [desde, hasta).
+     * @param desde Primer día.
+     * @param hasta Día siguiente al último.
+     * @return Una fila por día.
+     */
+	@Override
+	public List<FilaOcupacionDTO> ocupacionPorDia(LocalDate desde, LocalDate hasta) {
+		int diaDesde = Fechas.aDia(desde);
+		int diaHasta = Fechas.aDia(hasta);
+		int[] ocupadas = new int[diaHasta - diaDesde];
+		int total;
+		lock.readLock().lock();
+		try {
+			total = habitaciones.size();
+			for (FichaOcupacion ficha : habitaciones.values()) {
+				ficha.noches.acumularPorDia(diaDesde, diaHasta, ocupadas);
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+		List<FilaOcupacionDTO> filas = new ArrayList<>(ocupadas.length);
+		for (int i = 0; i < ocupadas.length; i++) {
+			filas.add(new FilaOcupacionDTO(Fechas.aLocalDate(diaDesde + i).toString(), total, total, ocupadas[i]));
+		}
+		return filas;
+	}
+
+	/**
+	 * Construye los bitmaps con las habitaciones y reservas existentes.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional(readOnly = true)
+	public void cargar() {
+		lock.writeLock().lock();
+		try {
+			for (ResumenHabitacion resumen : habitacionRepository.listarResumenes()) {
+				habitaciones.put(resumen.getIdHabitacion(), new FichaOcupacion(resumen.getTipo()));
+			}
+			int filas = 0;
+			try (Stream<OcupacionHabitacion> ocupaciones = reservaRepository.listarOcupaciones()) {
+				for (OcupacionHabitacion ocupacion : (Iterable<OcupacionHabitacion>) ocupaciones::iterator) {
+					if (ocupacion.getFechaInicio() == null || ocupacion.getFechaFin() == null) {
+						continue;
+					}
+					int desde = Fechas.aDia(ocupacion.getFechaInicio());
+					int hasta = Math.max(Fechas.aDia(ocupacion.getFechaFin()), desde + 1);
+					reservas.agregarHabitacion(ocupacion.getIdReserva(), desde, hasta, ocupacion.getIdHabitacion());
+					FichaOcupacion ficha = habitaciones.get(ocupacion.getIdHabitacion());
+					if (ficha != null) {
+						ficha.ocupar(ocupacion.getIdReserva(), desde, hasta);
+					}
+					filas++;
+				}
+			}
+			log.info("Bitmaps de ocupación cargados: {} habitaciones, {} asignaciones", habitaciones.size(), filas);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Actualiza los bitmaps cuando cambia la ocupación de una reserva.
+	 * @param evento El nuevo estado de la reserva.
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onReservaOcupacion(ReservaOcupacionEvent evento) {
+		lock.writeLock().lock();
+		try {
+			reservas.reemplazar(evento, !evento.isEliminada(), (anterior, nuevo) -> {
+				if (anterior != null) {
+					for (long idHabitacion : anterior.getHabitaciones()) {
+						FichaOcupacion ficha = habitaciones.get(idHabitacion);
+						if (ficha != null) {
+							ficha.liberar(anterior.getIdReserva(), anterior.getDesde(), anterior.getHasta());
+						}
+					}
+				}
+				for (long idHabitacion : nuevo.getHabitaciones()) {
+					FichaOcupacion ficha = habitaciones.get(idHabitacion);
+					if (ficha != null) {
+						ficha.ocupar(nuevo.getIdReserva(), nuevo.getDesde(), nuevo.getHasta());
+					}
+				}
+			});
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Actualiza los bitmaps cuando se crea, modifica o elimina una habitación.
+	 * @param evento Los datos actuales de la habitación.
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onHabitacionCambio(HabitacionCambioEvent evento) {
+		lock.writeLock().lock();
+		try {
+			if (evento.isEliminada()) {
+				habitaciones.remove(evento.getIdHabitacion());
+				return;
+			}
+			FichaOcupacion ficha = habitaciones.get(evento.getIdHabitacion());
+			habitaciones.put(evento.getIdHabitacion(),
+					ficha == null ? new FichaOcupacion(evento.getTipo()) : ficha.conTipo(evento.getTipo()));
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+
+	/**
+	 * Noches ocupadas de una habitación.
+	 */
+	private static final class FichaOcupacion {
+
+		private final String tipo;
+		private final BitmapNoches noches;
+		private final IntervalosHabitacion intervalos;
+
+		private FichaOcupacion(String tipo) {
+			this(tipo, new BitmapNoches(), new IntervalosHabitacion());
+		}
+
+		private FichaOcupacion(String tipo, BitmapNoches noches, IntervalosHabitacion intervalos) {
+			this.tipo = tipo;
+			this.noches = noches;
+			this.intervalos = intervalos;
+		}
+
+		private FichaOcupacion conTipo(String tipo) {
+			return new FichaOcupacion(tipo, noches, intervalos);
+		}
+
+		private void ocupar(long idReserva, int desde, int hasta) {
+			intervalos.agregar(idReserva, desde, hasta);
+			noches.marcar(desde, hasta);
+		}
+
+		private void liberar(long idReserva, int desde, int hasta) {
+			intervalos.quitar(idReserva, desde);
+			noches.limpiar(desde, hasta);
+			for (IntervalosHabitacion.Intervalo otro : intervalos.superpuestos(desde, hasta)) {
+				noches.marcar(Math.max(otro.getDesde(), desde), Math.min(otro.getHasta(), hasta));
+			}
+		}
+	}
+}
@@ -0,0 +1,23 @@
+/**
+ * @file: PerfilHuespedService.java
+ * @author: (c) 2026 Rodriguez
+ * @created: 19 oct. 2026 16:41:55
+ */
+package com.equipo02.hotel.services;
+
+import com.equipo02.hotel.dto.PerfilHuespedDTO;
+import com.equipo02.hotel.exception.EntityNotFoundException;
+
+/**
+ * Interfaz que define la obtención del perfil completo de un huésped.
+ */
+public interface PerfilHuespedService {
+
+	/**
+     * Obtiene los datos de un huésped, su aval y sus reservas con las habitaciones asignadas.
+     * @param idHuesped El id del huésped.
+     * @return El perfil del huésped.
+     * @throws EntityNotFoundException si el huésped no existe.
+     */
+	PerfilHuespedDTO obtenerPerfil(Long idHuesped) throws EntityNotFoundException;
+}
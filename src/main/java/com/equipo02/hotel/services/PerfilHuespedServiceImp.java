@@ -0,0 +1,121 @@
+/**
+ * @file: PerfilHuespedServiceImp.java
+ * @author: (c) 2026 Rodriguez
+ * @created: 19 oct. 2026 16:47:18
+ */
+package com.equipo02.hotel.services;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import com.equipo02.hotel.dto.PerfilHuespedDTO;
+import com.equipo02.hotel.dto.PerfilHuespedDTO.HabitacionPerfil;
+import com.equipo02.hotel.dto.PerfilHuespedDTO.ReservaPerfil;
+import com.equipo02.hotel.exception.EntityNotFoundException;
+import com.equipo02.hotel.exception.ErrorMessage;
+import com.equipo02.hotel.repositories.FilaPerfilHuesped;
+import com.equipo02.hotel.repositories.FilaPerfilReserva;
+import com.equipo02.hotel.repositories.HuespedRepository;
+import com.equipo02.hotel.repositories.ReservaRepository;
+import com.equipo02.hotel.util.Fechas;
+
+/**
+ * Implementación del perfil de un huésped.
+ *
+ * El perfil sale siempre de dos consultas con proyecciones, sin cargar entidades: el huésped con su
+ * aval y las reservas con sus habitaciones. Como no dependen una de otra, la de reservas se lanza en el
+ * ejecutor de consultas mientras la del huésped se hace en el hilo de la petición. Cada una usa su propia
+ * transacción de solo lectura, así que no ven exactamente el mismo instante de la base de datos; para
+ * mostrar un perfil es suficiente.
+ */
+@Service
+public class PerfilHuespedServiceImp implements PerfilHuespedService {
+
+	@Autowired
+	private HuespedRepository huespedRepository;
+
+	@Autowired
+	private ReservaRepository reservaRepository;
+
+	@Autowired
+	@Qualifier("consultasExecutor")
+	private Executor consultasExecutor;
+
+	/**
+     * Obtiene los datos de un huésped, su aval y sus reservas con las habitaciones asignadas.
+     * @param idHuesped El id del huésped.
+     * @return El perfil del huésped.
+     * @throws EntityNotFoundException si el huésped no existe.
+     */
+	@Override
+	public PerfilHuespedDTO obtenerPerfil(Long idHuesped) throws EntityNotFoundException {
+		CompletableFuture<List<FilaPerfilReserva>> reservas = CompletableFuture
+				.supplyAsync(() -> reservaRepository.listarPerfilDeHuesped(idHuesped), consultasExecutor);
+		Optional<FilaPerfilHuesped> huesped = huespedRepository.buscarPerfil(idHuesped);
+		if (huesped.isEmpty()) {
+			reservas.cancel(false);
+			throw new EntityNotFoundException(ErrorMessage.HUESPED_NOT_FOUND);
+		}
+		PerfilHuespedDTO perfil = aPerfil(huesped.get());
+		agregarReservas(perfil, esperar(reservas));
+		return perfil;
+	}
+
+	private PerfilHuespedDTO aPerfil(FilaPerfilHuesped fila) {
+		PerfilHuespedDTO perfil = new PerfilHuespedDTO();
+		perfil.setIdHuesped(fila.getIdHuesped());
+		perfil.setDniHuesped(fila.getDniHuesped());
+		perfil.setNombreHuesped(fila.getNombreHuesped());
+		perfil.setDireccionHuesped(fila.getDireccionHuesped());
+		perfil.setTelefonoHuesped(fila.getTelefonoHuesped());
+		perfil.setCorreoHuesped(fila.getCorreoHuesped());
+		if (fila.getIdAval() != null) {
+			perfil.setAval(new PerfilHuespedDTO.Aval(fila.getIdAval(), fila.getNombreAval()));
+		}
+		return perfil;
+	}
+
+	/**
+	 * Agrupa las filas en reservas; las de una misma reserva llegan consecutivas.
+	 */
+	private void agregarReservas(PerfilHuespedDTO perfil, List<FilaPerfilReserva> filas) {
+		ReservaPerfil actual = null;
+		for (FilaPerfilReserva fila : filas) {
+			if (actual == null || !actual.getIdReserva().equals(fila.getIdReserva())) {
+				actual = new ReservaPerfil();
+				actual.setIdReserva(fila.getIdReserva());
+				// Las reservas antiguas pueden no tener fechas.
+				actual.setFechaInicio(fila.getFechaInicio() == null ? null : Fechas.aLocalDate(fila.getFechaInicio()));
+				actual.setFechaFin(fila.getFechaFin() == null ? null : Fechas.aLocalDate(fila.getFechaFin()));
+				actual.setEstado(Boolean.TRUE.equals(fila.getEstado()));
+				actual.setTipoSolicitado(fila.getTipoSolicitado());
+				actual.setIdEmpleado(fila.getIdEmpleado());
+				perfil.getReservas().add(actual);
+			}
+			if (fila.getIdHabitacion() != null) {
+				actual.getHabitaciones().add(new HabitacionPerfil(fila.getIdHabitacion(), fila.getTipo(), fila.getPrecio()));
+			}
+		}
+	}
+
+	/**
+	 * Espera el resultado de una consulta lanzada en el ejecutor y relanza su excepción tal cual.
+	 */
+	private static <T> T esperar(CompletableFuture<T> consulta) {
+		try {
+			return consulta.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException causa) {
+				throw causa;
+			}
+			throw e;
+		}
+	}
+}
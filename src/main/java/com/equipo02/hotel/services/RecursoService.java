@@ -8,6 +8,7 @@ package com.equipo02.hotel.services;
 
 import com.equipo02.hotel.domain.entity.Proveedor;
 import com.equipo02.hotel.domain.entity.Recurso;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.Optional;
@@ -19,12 +20,14 @@ import java.util.Optional;
 public interface RecursoService {
 
     /**
-     * Método para listar todos los recursos.
-     * Este método devuelve una lista de todos los recursos registrados en el sistema.
+     * Método para listar una página de recursos.
+     * Este método devuelve los recursos con id mayor que el cursor, ordenados por id.
      *
-     * @return Una lista de recursos.
+     * @param cursor El ID del último recurso de la página anterior (0 para la primera).
+     * @param limite El tamaño de la página.
+     * @return Un Slice con los recursos de la página.
      */
-    List<Recurso> listar();
+    Slice<Recurso> listar(Long cursor, int limite);
 
     /**
      * Método para obtener un recurso por su ID.
@@ -11,7 +11,9 @@ import com.equipo02.hotel.domain.entity.Proveedor;
 import com.equipo02.hotel.domain.entity.Recurso;
 import com.equipo02.hotel.domain.entity.RecursoProveedor;
 import com.equipo02.hotel.repositories.RecursoRepository;
+import com.equipo02.hotel.util.Paginacion;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,15 +35,17 @@ public class RecursoServiceImp implements RecursoService{
     private ProveedorClienteRest client;
 
     /**
-     * Método para listar todos los recursos.
-     * Este método devuelve una lista de todos los recursos registrados en el sistema.
+     * Método para listar una página de recursos.
+     * Este método devuelve los recursos con id mayor que el cursor, ordenados por id.
      *
-     * @return Una lista de recursos.
+     * @param cursor El ID del último recurso de la página anterior.
+     * @param limite El tamaño de la página.
+     * @return Un Slice con los recursos de la página.
      */
     @Override
     @Transactional(readOnly = true)
-    public List<Recurso> listar() {
-        return (List<Recurso>) repository.findAll();
+    public Slice<Recurso> listar(Long cursor, int limite) {
+        return repository.findByIdRecursoGreaterThanOrderByIdRecurso(cursor, Paginacion.pagina(limite));
     }
 
     /**
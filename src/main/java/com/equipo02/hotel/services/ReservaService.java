@@ -5,10 +5,16 @@
  */
 package com.equipo02.hotel.services;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.Slice;
 
 import com.equipo02.hotel.domain.Habitacion;
 import com.equipo02.hotel.domain.Reserva;
+import com.equipo02.hotel.dto.ReservaGrupoDTO;
+import com.equipo02.hotel.dto.ReservaTipoDTO;
 import com.equipo02.hotel.exception.EntityNotFoundException;
 import com.equipo02.hotel.exception.IllegalOperationException;
 /**
@@ -18,10 +24,15 @@ import com.equipo02.hotel.exception.IllegalOperationException;
 public interface ReservaService {
     
 	/**
-     * Obtiene una lista de todas las reservas en el sistema.
-     * @return Una lista de objetos Reserva.
+     * Obtiene una página de reservas ordenadas por id, a partir de un cursor.
+     * @param cursor Id de la última reserva de la página anterior (0 para la primera).
+     * @param limite Tamaño de la página.
+     * @param desde Solo reservas que terminan después de esta fecha, o null.
+     * @param hasta Solo reservas que empiezan antes de esta fecha, o null.
+     * @param estado Estado de las reservas, o null para todos.
+     * @return Un Slice con las reservas de la página.
      */
-    List<Reserva> listarTodos();
+    Slice<Reserva> listarTodos(Long cursor, int limite, LocalDate desde, LocalDate hasta, Boolean estado);
     
     /**
      * Busca una reserva por su identificador único.
@@ -38,6 +49,33 @@ public interface ReservaService {
      * @throws IllegalOperationException Si la reserva es inválida o ya existe en el sistema.
      */
     Reserva guardarReserva(Reserva reserva) throws IllegalOperationException;
+
+	/**
+     * Guarda una nueva reserva que confirma un bloqueo temporal. El bloqueo no cuenta como ocupación
+     * de sus propias noches; quien lo confirma lo retira cuando la reserva ya está guardada.
+     * @param reserva La reserva a ser guardada.
+     * @param idBloqueo El id del bloqueo que se confirma.
+     * @return La reserva guardada.
+     * @throws IllegalOperationException Si la reserva es inválida o las habitaciones están ocupadas.
+     */
+    Reserva guardarReservaBloqueada(Reserva reserva, long idBloqueo) throws IllegalOperationException;
+
+	/**
+     * Guarda una reserva de grupo con todas sus habitaciones en una sola transacción.
+     * @param grupo Las fechas, el huésped, el empleado y las habitaciones (por id o por tipo y cantidad).
+     * @return La reserva guardada.
+     * @throws IllegalOperationException Si alguna habitación no está libre o alguna referencia no existe.
+     */
+    Reserva guardarReservaGrupo(ReservaGrupoDTO grupo) throws IllegalOperationException;
+
+	/**
+     * Guarda una reserva por tipo de habitación, sin habitación asignada. El cupo del tipo se
+     * retiene antes de escribir la reserva; la habitación la asigna después AsignacionTipoService.
+     * @param solicitud Las fechas, el huésped, el empleado y el tipo pedido.
+     * @return La reserva guardada.
+     * @throws IllegalOperationException Si no queda cupo del tipo en esas fechas o alguna referencia no existe.
+     */
+    Reserva guardarReservaTipo(ReservaTipoDTO solicitud) throws IllegalOperationException;
     
     /**
      * Actualiza una reserva existente en el sistema.
@@ -76,6 +114,15 @@ public interface ReservaService {
      * @throws IllegalOperationException Si la asignación no es válida.
      */
     Reserva asignarHabitacion(Long idReserva, Long idHabitacion) throws EntityNotFoundException, IllegalOperationException;
+
+    /**
+     * Asigna una habitación a cada una de varias reservas por tipo sin habitación, en una transacción
+     * mientras ninguna choque en la base de datos y, si alguna choca, una transacción por reserva.
+     * Se omiten las reservas que ya tienen habitación o cuya habitación propuesta ya no está libre.
+     * @param habitacionPorReserva La habitación propuesta para cada reserva.
+     * @return El número de reservas a las que se asignó habitación.
+     */
+    int asignarHabitaciones(Map<Long, Long> habitacionPorReserva);
     
     /**
      * Elimina la asignación de una habitación de una reserva existente en el sistema.
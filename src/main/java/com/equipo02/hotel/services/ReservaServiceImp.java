@@ -5,16 +5,31 @@
  */
 package com.equipo02.hotel.services;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import com.equipo02.hotel.domain.Empleado;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import com.equipo02.hotel.domain.Habitacion;
-import com.equipo02.hotel.domain.Huesped;
+import com.equipo02.hotel.domain.NocheHabitacion;
 import com.equipo02.hotel.domain.Reserva;
+import com.equipo02.hotel.dto.ReservaGrupoDTO;
+import com.equipo02.hotel.dto.ReservaTipoDTO;
+import com.equipo02.hotel.events.ReservaOcupacionEvent;
 import com.equipo02.hotel.exception.BadRequestException;
 import com.equipo02.hotel.exception.EntityNotFoundException;
 import com.equipo02.hotel.exception.ErrorMessage;
@@ -22,13 +37,18 @@ import com.equipo02.hotel.exception.IllegalOperationException;
 import com.equipo02.hotel.repositories.EmpleadoRepository;
 import com.equipo02.hotel.repositories.HabitacionRepository;
 import com.equipo02.hotel.repositories.HuespedRepository;
+import com.equipo02.hotel.repositories.NocheHabitacionRepository;
 import com.equipo02.hotel.repositories.ReservaRepository;
+import com.equipo02.hotel.util.Fechas;
+import com.equipo02.hotel.util.Paginacion;
 
 /**
  * Implementación de los servicios disponibles para la entidad Reserva.
  */
 @Service
 public class ReservaServiceImp implements ReservaService {
+
+	private static final Logger log = LoggerFactory.getLogger(ReservaServiceImp.class);
 	
 	@Autowired
 	private ReservaRepository reservaRepository;
@@ -38,29 +58,49 @@ public class ReservaServiceImp implements ReservaService {
 	private HuespedRepository huespedRepository;
 	@Autowired
 	private EmpleadoRepository empleadoRepository;
+	@Autowired
+	private NocheHabitacionRepository nocheHabitacionRepository;
+	@Autowired
+	private DisponibilidadService disponibilidadService;
+	@Autowired
+	private InventarioTipoService inventarioTipoService;
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+	@Autowired
+	private TransactionTemplate transactionTemplate;
     
 	/**
-     * Devuelve todas las reservas que hay en la base de datos.
+     * Devuelve una página de reservas a partir del cursor, con los filtros aplicados en la consulta.
      *
-     * @return Lista de entidades de tipo Reserva.
+     * @param cursor Id de la última reserva de la página anterior.
+     * @param limite Tamaño de la página.
+     * @param desde Fecha mínima de salida, o null.
+     * @param hasta Fecha máxima de llegada, o null.
+     * @param estado Estado de las reservas, o null.
+     * @return Slice de entidades de tipo Reserva, con huésped, empleado y habitaciones cargados.
      */
 	@Override
 	@Transactional(readOnly = true)
-	public List<Reserva> listarTodos() {
-		return (List<Reserva>) reservaRepository.findAll();
+	public Slice<Reserva> listarTodos(Long cursor, int limite, LocalDate desde, LocalDate hasta, Boolean estado) {
+		Slice<Reserva> reservas = reservaRepository.listarPagina(cursor, desde == null ? null : Fechas.aDate(desde),
+				hasta == null ? null : Fechas.aDate(hasta), estado, Paginacion.pagina(limite));
+		if (reservas.hasContent()) {
+			reservaRepository.cargarHabitaciones(reservas.getContent());
+		}
+		return reservas;
 	}
 	
     /**
      * Devuelve la reserva con la id proporcionada.
      *
      * @param idReseva El id de la reserva a buscar.
-     * @return La reserva encontrada.
+     * @return La reserva encontrada, con huésped, empleado y habitaciones cargados.
      * @throws EntityNotFoundException si la reserva con el id asignado no es encontrado en la persistencia.
      */
 	@Override
 	@Transactional(readOnly = true)
 	public Reserva buscarPorIdReserva(Long idReseva) throws EntityNotFoundException, BadRequestException{
-		Optional<Reserva> reservaEntity = reservaRepository.findById(idReseva);
+		Optional<Reserva> reservaEntity = reservaRepository.buscarConHabitaciones(idReseva);
 		if(reservaEntity.isEmpty())
 			throw new EntityNotFoundException(ErrorMessage.RESERVA_NOT_FOUND);
 		
@@ -69,34 +109,154 @@ public class ReservaServiceImp implements ReservaService {
 	
     /**
      * Guarda una nueva reserva.
+     * El huésped, el empleado y las habitaciones se asocian como referencias, sin cargarlos;
+     * las claves foráneas validan que existan.
      *
      * @param reserva La reserva a ser guardada.
      * @return El objeto reserva luego de persistirlo.
      * @throws IllegalOperationException si el id de la reserva es inválido o ya existe en la persistencia.
      */
 	@Override
-	@Transactional
+	@Transactional(rollbackFor = IllegalOperationException.class)
 	public Reserva guardarReserva(Reserva reserva) throws IllegalOperationException {
-	    if (reserva.getHuesped() != null && reserva.getHuesped().getIdHuesped() != null) {
-	        Huesped huesped = huespedRepository.findById(reserva.getHuesped().getIdHuesped())
-	                .orElseThrow(() -> new IllegalOperationException("El huésped especificado no existe"));
-	        reserva.setHuesped(huesped);
-	    } else {
-	        throw new IllegalOperationException("El huésped especificado no es válido");
+	    asociar(reserva, reserva);
+	    Reserva guardada = guardar(reserva);
+	    reclamarNoches(guardada, guardada.getHabitaciones());
+	    eventPublisher.publishEvent(ReservaOcupacionEvent.de(guardada));
+	    return guardada;
+	}
+
+    /**
+     * Guarda una nueva reserva que confirma un bloqueo temporal.
+     * Igual que {@link #guardarReserva}, salvo que el bloqueo no cuenta como ocupación al reclamar
+     * las noches; sigue en el índice hasta que quien lo confirma lo retira.
+     *
+     * @param reserva   La reserva a ser guardada.
+     * @param idBloqueo El id del bloqueo que se confirma.
+     * @return El objeto reserva luego de persistirlo.
+     * @throws IllegalOperationException si alguna referencia no existe o las habitaciones están ocupadas.
+     */
+	@Override
+	@Transactional(rollbackFor = IllegalOperationException.class)
+	public Reserva guardarReservaBloqueada(Reserva reserva, long idBloqueo) throws IllegalOperationException {
+	    asociar(reserva, reserva);
+	    Reserva guardada = guardar(reserva);
+	    reclamarNoches(guardada, guardada.getHabitaciones(), idBloqueo);
+	    eventPublisher.publishEvent(ReservaOcupacionEvent.de(guardada));
+	    return guardada;
+	}
+
+    /**
+     * Guarda una reserva de grupo.
+     * Las habitaciones se eligen en el índice de disponibilidad cuando se piden por tipo y cantidad;
+     * el huésped, el empleado y las habitaciones se asocian como referencias, sin cargarlos, y las
+     * claves foráneas validan que existan. La reserva, sus habitaciones y sus noches se insertan en lotes.
+     *
+     * @param grupo Los datos de la reserva de grupo.
+     * @return La reserva guardada.
+     * @throws IllegalOperationException si faltan habitaciones libres o alguna referencia no existe.
+     */
+	@Override
+	@Transactional(rollbackFor = IllegalOperationException.class)
+	public Reserva guardarReservaGrupo(ReservaGrupoDTO grupo) throws IllegalOperationException {
+	    if (!grupo.getFechaFin().isAfter(grupo.getFechaInicio())) {
+	        throw new IllegalOperationException("La fecha de fin debe ser posterior a la fecha de inicio");
 	    }
-	    if (reserva.getEmpleado() != null && reserva.getEmpleado().getIdEmpleado() != null) {
-	        Empleado empleado = empleadoRepository.findById(reserva.getEmpleado().getIdEmpleado())
-	                .orElseThrow(() -> new IllegalOperationException("El empleado especificado no existe"));
-	        reserva.setEmpleado(empleado);
-	    } else {
-	        throw new IllegalOperationException("El empleado especificado no es válido");
+	    validarEstancia(Fechas.aDia(grupo.getFechaInicio()), Fechas.aDia(grupo.getFechaFin()));
+	    Set<Long> idsHabitacion = new LinkedHashSet<>();
+	    if (grupo.getHabitaciones() != null && !grupo.getHabitaciones().isEmpty()) {
+	        grupo.getHabitaciones().stream().filter(id -> id != null).forEach(idsHabitacion::add);
+	    } else if (grupo.getTipo() != null && grupo.getCantidad() != null) {
+	        List<Long> elegidas = disponibilidadService.elegirDisponibles(grupo.getTipo(),
+	                Fechas.aDia(grupo.getFechaInicio()), Fechas.aDia(grupo.getFechaFin()), grupo.getCantidad());
+	        if (elegidas.size() < grupo.getCantidad()) {
+	            throw new IllegalOperationException("Solo hay " + elegidas.size() + " habitaciones de tipo "
+	                    + grupo.getTipo() + " libres en esas fechas");
+	        }
+	        idsHabitacion.addAll(elegidas);
+	    }
+	    if (idsHabitacion.isEmpty()) {
+	        throw new IllegalOperationException("Indique las habitaciones o el tipo y la cantidad de habitaciones");
+	    }
+	    Reserva reserva = new Reserva();
+	    reserva.setFechaInicio(Fechas.aDate(grupo.getFechaInicio()));
+	    reserva.setFechaFin(Fechas.aDate(grupo.getFechaFin()));
+	    reserva.setEstado(grupo.isEstado());
+	    reserva.setHuesped(huespedRepository.getReferenceById(grupo.getIdHuesped()));
+	    reserva.setEmpleado(empleadoRepository.getReferenceById(grupo.getIdEmpleado()));
+	    List<Habitacion> habitaciones = new ArrayList<>(idsHabitacion.size());
+	    idsHabitacion.forEach(id -> habitaciones.add(habitacionRepository.getReferenceById(id)));
+	    reserva.setHabitaciones(habitaciones);
+	    Reserva guardada;
+	    try {
+	        guardada = reservaRepository.saveAndFlush(reserva);
+	    } catch (DataIntegrityViolationException e) {
+	        throw new IllegalOperationException("El huésped, el empleado o alguna de las habitaciones no existe");
 	    }
-	    return reservaRepository.save(reserva);
+	    reclamarNoches(guardada, habitaciones);
+	    eventPublisher.publishEvent(ReservaOcupacionEvent.de(guardada));
+	    return guardada;
+	}
+
+
+    /**
+     * Guarda una reserva por tipo, sin habitación.
+     * El cupo del tipo se retiene con los contadores del inventario antes de escribir la reserva y se
+     * devuelve al terminar la transacción: si confirma, el evento de la reserva ya lo descontó como
+     * pendiente; si no, la reserva no existe. Una reserva inactiva no retiene cupo.
+     *
+     * @param solicitud Los datos de la reserva.
+     * @return La reserva guardada.
+     * @throws IllegalOperationException si no queda cupo o alguna referencia no existe.
+     */
+	@Override
+	@Transactional(rollbackFor = IllegalOperationException.class)
+	public Reserva guardarReservaTipo(ReservaTipoDTO solicitud) throws IllegalOperationException {
+	    if (!solicitud.getFechaFin().isAfter(solicitud.getFechaInicio())) {
+	        throw new IllegalOperationException("La fecha de fin debe ser posterior a la fecha de inicio");
+	    }
+	    String tipo = solicitud.getTipo();
+	    int desde = Fechas.aDia(solicitud.getFechaInicio());
+	    int hasta = Fechas.aDia(solicitud.getFechaFin());
+	    validarEstancia(desde, hasta);
+	    boolean retenida = solicitud.isEstado();
+	    if (retenida && !inventarioTipoService.retener(tipo, desde, hasta, 1)) {
+	        throw new IllegalOperationException("No quedan habitaciones de tipo " + tipo + " libres en esas fechas");
+	    }
+	    Reserva guardada;
+	    try {
+	        Reserva reserva = new Reserva();
+	        reserva.setFechaInicio(Fechas.aDate(solicitud.getFechaInicio()));
+	        reserva.setFechaFin(Fechas.aDate(solicitud.getFechaFin()));
+	        reserva.setEstado(solicitud.isEstado());
+	        reserva.setTipoSolicitado(tipo);
+	        reserva.setHuesped(huespedRepository.getReferenceById(solicitud.getIdHuesped()));
+	        reserva.setEmpleado(empleadoRepository.getReferenceById(solicitud.getIdEmpleado()));
+	        guardada = guardar(reserva);
+	        eventPublisher.publishEvent(ReservaOcupacionEvent.de(guardada));
+	    } catch (IllegalOperationException | RuntimeException e) {
+	        if (retenida) {
+	            inventarioTipoService.liberar(tipo, desde, hasta, 1);
+	        }
+	        throw e;
+	    }
+	    if (!retenida) {
+	        return guardada;
+	    }
+	    // Se registra después de publicar el evento para que se ejecute después de él al confirmar.
+	    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+	        @Override
+	        public void afterCompletion(int status) {
+	            inventarioTipoService.liberar(tipo, desde, hasta, 1);
+	        }
+	    });
+	    return guardada;
 	}
-	
 	
     /**
      * Actualiza una reserva existente.
+     * La reserva se carga una vez y se modifica directamente; el huésped, el empleado y las
+     * habitaciones nuevos se asocian como referencias.
      *
      * @param idReserva El ID de la reserva a actualizar.
      * @param reserva   La reserva con los nuevos datos.
@@ -105,27 +265,20 @@ public class ReservaServiceImp implements ReservaService {
      * @throws IllegalOperationException   Si el ID de la reserva es inválido o ya existe en la persistencia.
      */
 	@Override
-	@Transactional
+	@Transactional(rollbackFor = IllegalOperationException.class)
 	public Reserva actualizarReserva(Long idReserva, Reserva reserva) throws EntityNotFoundException, IllegalOperationException {
-	    Optional<Reserva> reservaEntity = reservaRepository.findById(idReserva);
-	    if (reservaEntity.isEmpty())
-	        throw new EntityNotFoundException(ErrorMessage.RESERVA_NOT_FOUND);
-	    if (reserva.getHuesped() != null && reserva.getHuesped().getIdHuesped() != null) {
-	        Huesped huesped = huespedRepository.findById(reserva.getHuesped().getIdHuesped())
-	                .orElseThrow(() -> new IllegalOperationException("El huésped especificado no existe"));
-	        reserva.setHuesped(huesped);
-	    } else {
-	        throw new IllegalOperationException("El huésped especificado no es válido");
-	    }
-	    if (reserva.getEmpleado() != null && reserva.getEmpleado().getIdEmpleado() != null) {
-	        Empleado empleado = empleadoRepository.findById(reserva.getEmpleado().getIdEmpleado())
-	                .orElseThrow(() -> new IllegalOperationException("El empleado especificado no existe"));
-	        reserva.setEmpleado(empleado);
-	    } else {
-	        throw new IllegalOperationException("El empleado especificado no es válido");
-	    }
+	    Reserva reservaEntity = reservaRepository.findById(idReserva)
+	            .orElseThrow(() -> new EntityNotFoundException(ErrorMessage.RESERVA_NOT_FOUND));
+	    asociar(reserva, reservaEntity);
+	    reservaEntity.setFechaInicio(reserva.getFechaInicio());
+	    reservaEntity.setFechaFin(reserva.getFechaFin());
+	    reservaEntity.setEstado(reserva.isEstado());
 	    reserva.setIdReserva(idReserva);
-	    return reservaRepository.save(reserva);
+	    Reserva actualizada = guardar(reservaEntity);
+	    nocheHabitacionRepository.liberarReserva(idReserva);
+	    reclamarNoches(actualizada, actualizada.getHabitaciones());
+	    eventPublisher.publishEvent(ReservaOcupacionEvent.de(actualizada));
+	    return actualizada;
 	}
 
 	
@@ -139,40 +292,38 @@ public class ReservaServiceImp implements ReservaService {
      * @throws IllegalOperationException   Si algún campo es inválido o no existe en la persistencia.
      */
 	@Override
-	@Transactional
+	@Transactional(rollbackFor = IllegalOperationException.class)
 	public Reserva actualizarCampoReserva(Long id, Reserva reserva) throws EntityNotFoundException, IllegalOperationException {
-	    Optional<Reserva> reservaEntity = reservaRepository.findById(id);
-	    if (reservaEntity.isEmpty()) {
-	        throw new EntityNotFoundException(ErrorMessage.RESERVA_NOT_FOUND);
-	    }
+	    Reserva reservaEntity = reservaRepository.findById(id)
+	            .orElseThrow(() -> new EntityNotFoundException(ErrorMessage.RESERVA_NOT_FOUND));
 		if (reserva.getHuesped() != null && reserva.getHuesped().getIdHuesped() != null) {
-	        Huesped huesped = huespedRepository.findById(reserva.getHuesped().getIdHuesped())
-	                .orElseThrow(() -> new IllegalOperationException("El huésped especificado no existe"));
-	        reserva.setHuesped(huesped);
-	    } else {
-	        reserva.setHuesped(reservaEntity.get().getHuesped());
+	        reservaEntity.setHuesped(huespedRepository.getReferenceById(reserva.getHuesped().getIdHuesped()));
 	    }
 		if (reserva.getEmpleado() != null && reserva.getEmpleado().getIdEmpleado() != null) {
-	        Empleado empleado = empleadoRepository.findById(reserva.getEmpleado().getIdEmpleado())
-	                .orElseThrow(() -> new IllegalOperationException("El empleado especificado no existe"));
-	        reserva.setEmpleado(empleado);
-	    } else {
-	        reserva.setEmpleado(reservaEntity.get().getEmpleado());
+	        reservaEntity.setEmpleado(empleadoRepository.getReferenceById(reserva.getEmpleado().getIdEmpleado()));
 	    }
+		reserva.setHuesped(reservaEntity.getHuesped());
+		reserva.setEmpleado(reservaEntity.getEmpleado());
 		if (reserva.getFechaInicio() != null) {
-	        reservaEntity.get().setFechaInicio(reserva.getFechaInicio());
+	        reservaEntity.setFechaInicio(reserva.getFechaInicio());
 	    }
 	    if (reserva.getFechaFin() != null) {
-	        reservaEntity.get().setFechaFin(reserva.getFechaFin());
+	        reservaEntity.setFechaFin(reserva.getFechaFin());
 	    }
 	    if (reserva.isEstado()) {
-	        reservaEntity.get().setEstado(reserva.isEstado());
+	        reservaEntity.setEstado(reserva.isEstado());
 	    }
-		return reservaRepository.save(reservaEntity.get());
+		Reserva actualizada = guardar(reservaEntity);
+		nocheHabitacionRepository.liberarReserva(id);
+		reclamarNoches(actualizada, actualizada.getHabitaciones());
+		eventPublisher.publishEvent(ReservaOcupacionEvent.de(actualizada));
+		return actualizada;
 	}
 	
     /**
      * Elimina una reserva.
+     * Se borran sus noches y la reserva con sentencias directas, sin cargarla; el borrado de la reserva
+     * quita también sus habitaciones.
      *
      * @param idReserva El id de la reserva a eliminar.
      * @throws EntityNotFoundException    si la reserva con el id asignado no es encontrado en la persistencia.
@@ -181,15 +332,17 @@ public class ReservaServiceImp implements ReservaService {
 	@Override
 	@Transactional
 	public void eliminarReserva(Long idReserva) throws EntityNotFoundException, IllegalOperationException {
-	    Optional<Reserva> reservaOptional = reservaRepository.findById(idReserva);
-	    if (!reservaOptional.isPresent()) {
+	    nocheHabitacionRepository.liberarReserva(idReserva);
+	    if (reservaRepository.eliminarPorId(idReserva) == 0) {
 	        throw new EntityNotFoundException(ErrorMessage.RESERVA_NOT_FOUND);
 	    }
-	    reservaRepository.deleteById(idReserva);
+	    eventPublisher.publishEvent(ReservaOcupacionEvent.eliminada(idReserva));
 	}
 	
     /**
      * Asigna una habitación a una reserva.
+     * La reserva se carga junto con sus habitaciones en una consulta y la habitación se asocia
+     * como referencia; si no existe, lo detecta la clave foránea.
      *
      * @param idReserva    El id de la reserva a la que se desea asignar la habitación.
      * @param idHabitacion El id de la habitación a asignar.
@@ -198,23 +351,97 @@ public class ReservaServiceImp implements ReservaService {
      * @throws IllegalOperationException si la habitación ya está asignada a la reserva.
      */
 	@Override
-	@Transactional
+	@Transactional(rollbackFor = { EntityNotFoundException.class, IllegalOperationException.class })
 	public Reserva asignarHabitacion(Long idReserva, Long idHabitacion) throws EntityNotFoundException, IllegalOperationException {
-	    Reserva reserva = buscarPorIdReserva(idReserva);
-	    Optional<Habitacion> optionalHabitacion = habitacionRepository.findById(idHabitacion);
-	    if (optionalHabitacion.isEmpty()) {
-	        throw new EntityNotFoundException(ErrorMessage.HABITACION_NOT_FOUND);
-	    }
-	    Habitacion habitacion = optionalHabitacion.get();
-	    if (reserva.getHabitaciones().contains(habitacion)) {
+	    Reserva reserva = reservaRepository.buscarConHabitaciones(idReserva)
+	            .orElseThrow(() -> new EntityNotFoundException(ErrorMessage.RESERVA_NOT_FOUND));
+	    if (reserva.getHabitaciones().stream().anyMatch(h -> h.getIdHabitacion().equals(idHabitacion))) {
 	        throw new IllegalOperationException("La habitación ya está asignada a la reserva");
 	    }
+	    Habitacion habitacion = habitacionRepository.getReferenceById(idHabitacion);
 	    reserva.getHabitaciones().add(habitacion);
-	    return reservaRepository.save(reserva);
+	    Reserva actualizada;
+	    try {
+	        actualizada = reservaRepository.saveAndFlush(reserva);
+	    } catch (DataIntegrityViolationException e) {
+	        throw new EntityNotFoundException(ErrorMessage.HABITACION_NOT_FOUND);
+	    }
+	    reclamarNoches(actualizada, List.of(habitacion));
+	    eventPublisher.publishEvent(ReservaOcupacionEvent.de(actualizada));
+	    return actualizada;
+	}
+
+    /**
+     * Asigna habitación a varias reservas por tipo con las mismas comprobaciones que
+     * {@link #asignarHabitacion}, pero cargando las reservas en una consulta y escribiendo todas
+     * sus noches en un único lote. Si el lote choca en la base de datos con noches ocupadas por otra
+     * reserva, se repite reserva por reserva, cada una en su transacción, para no perder las demás.
+     * Las reservas omitidas se registran en el log y se reintentan en la siguiente pasada.
+     *
+     * @param habitacionPorReserva La habitación propuesta para cada reserva.
+     * @return El número de reservas asignadas.
+     */
+	@Override
+	public int asignarHabitaciones(Map<Long, Long> habitacionPorReserva) {
+	    List<Long> omitidas = new ArrayList<>();
+	    int asignadas;
+	    try {
+	        asignadas = transactionTemplate.execute(status -> asignarLote(habitacionPorReserva, omitidas));
+	    } catch (DataIntegrityViolationException e) {
+	        omitidas.clear();
+	        asignadas = 0;
+	        for (Map.Entry<Long, Long> propuesta : habitacionPorReserva.entrySet()) {
+	            Map<Long, Long> una = Map.of(propuesta.getKey(), propuesta.getValue());
+	            try {
+	                asignadas += transactionTemplate.execute(status -> asignarLote(una, omitidas));
+	            } catch (DataIntegrityViolationException errorReserva) {
+	                omitidas.add(propuesta.getKey());
+	            }
+	        }
+	    }
+	    if (!omitidas.isEmpty()) {
+	        log.info("{} reservas por tipo sin asignar, su habitación ya no está libre: {}", omitidas.size(), omitidas);
+	    }
+	    return asignadas;
+	}
+
+	/**
+	 * Asigna las habitaciones propuestas y escribe sus noches. Debe ejecutarse dentro de una transacción.
+	 */
+	private int asignarLote(Map<Long, Long> habitacionPorReserva, List<Long> omitidas) {
+	    List<Reserva> asignadas = new ArrayList<>();
+	    List<NocheHabitacion> noches = new ArrayList<>();
+	    for (Reserva reserva : reservaRepository.findAllById(habitacionPorReserva.keySet())) {
+	        Long idHabitacion = habitacionPorReserva.get(reserva.getIdReserva());
+	        if (!reserva.isEstado() || !reserva.getHabitaciones().isEmpty() || reserva.getFechaInicio() == null
+	                || reserva.getFechaFin() == null) {
+	            continue;
+	        }
+	        LocalDate llegada = Fechas.aLocalDate(reserva.getFechaInicio());
+	        LocalDate salida = Fechas.aLocalDate(reserva.getFechaFin());
+	        if (!salida.isAfter(llegada)) {
+	            salida = llegada.plusDays(1);
+	        }
+	        if (!disponibilidadService.estaDisponible(idHabitacion, Fechas.aDia(llegada), Fechas.aDia(salida), reserva.getIdReserva())) {
+	            omitidas.add(reserva.getIdReserva());
+	            continue;
+	        }
+	        reserva.getHabitaciones().add(habitacionRepository.getReferenceById(idHabitacion));
+	        for (LocalDate noche = llegada; noche.isBefore(salida); noche = noche.plusDays(1)) {
+	            noches.add(new NocheHabitacion(idHabitacion, noche, reserva.getIdReserva()));
+	        }
+	        asignadas.add(reserva);
+	    }
+	    nocheHabitacionRepository.saveAll(noches);
+	    reservaRepository.flush();
+	    asignadas.forEach(reserva -> eventPublisher.publishEvent(ReservaOcupacionEvent.de(reserva)));
+	    return asignadas.size();
 	}
 	
     /**
      * Elimina una habitación de una reserva.
+     * La reserva se carga junto con sus habitaciones en una consulta; la existencia de la habitación
+     * solo se consulta cuando no está asignada, para elegir el error.
      *
      * @param idReserva    El id de la reserva de la que se desea eliminar la habitación.
      * @param idHabitacion El id de la habitación a eliminar.
@@ -225,17 +452,18 @@ public class ReservaServiceImp implements ReservaService {
 	@Override
 	@Transactional
 	public Reserva eliminarHabitacion(Long idReserva, Long idHabitacion) throws EntityNotFoundException, IllegalOperationException {
-	    Reserva reserva = buscarPorIdReserva(idReserva);
-	    Optional<Habitacion> optionalHabitacion = habitacionRepository.findById(idHabitacion);
-	    if (optionalHabitacion.isEmpty()) {
-	        throw new EntityNotFoundException(ErrorMessage.HABITACION_NOT_FOUND);
-	    }
-	    Habitacion habitacion = optionalHabitacion.get();
-	    if (!reserva.getHabitaciones().contains(habitacion)) {
+	    Reserva reserva = reservaRepository.buscarConHabitaciones(idReserva)
+	            .orElseThrow(() -> new EntityNotFoundException(ErrorMessage.RESERVA_NOT_FOUND));
+	    if (!reserva.getHabitaciones().removeIf(h -> h.getIdHabitacion().equals(idHabitacion))) {
+	        if (!habitacionRepository.existsById(idHabitacion)) {
+	            throw new EntityNotFoundException(ErrorMessage.HABITACION_NOT_FOUND);
+	        }
 	        throw new IllegalOperationException("La habitación no está asignada a la reserva");
 	    }
-	    reserva.getHabitaciones().remove(habitacion);
-	    return reservaRepository.save(reserva);
+	    Reserva actualizada = reservaRepository.save(reserva);
+	    nocheHabitacionRepository.liberarHabitacion(idReserva, idHabitacion);
+	    eventPublisher.publishEvent(ReservaOcupacionEvent.de(actualizada));
+	    return actualizada;
 	}
 	
 	
@@ -250,14 +478,14 @@ public class ReservaServiceImp implements ReservaService {
 	@Override
 	@Transactional(readOnly = true)
 	public Habitacion obtenerHabitacionDeReserva(Long idReserva, Long idHabitacion) throws EntityNotFoundException {
-	    Reserva reserva = buscarPorIdReserva(idReserva);
-	    Optional<Habitacion> optionalHabitacion = reserva.getHabitaciones().stream()
-	            .filter(h -> h.getIdHabitacion().equals(idHabitacion))
-	            .findFirst();
-	    if (optionalHabitacion.isEmpty()) {
+	    Optional<Habitacion> habitacion = habitacionRepository.buscarEnReserva(idHabitacion, idReserva, null);
+	    if (habitacion.isEmpty()) {
+	        if (!reservaRepository.existsById(idReserva)) {
+	            throw new EntityNotFoundException(ErrorMessage.RESERVA_NOT_FOUND);
+	        }
 	        throw new EntityNotFoundException("Habitación no encontrada en la reserva");
 	    }
-	    return optionalHabitacion.get();
+	    return habitacion.get();
 	}
 	
 	/**
@@ -274,10 +502,118 @@ public class ReservaServiceImp implements ReservaService {
 	    return reserva.getHabitaciones();
 	}
 
-	
-	
-	
-	
-}
+	/**
+	 * Asocia a la reserva destino el huésped, el empleado y las habitaciones indicados en los datos
+	 * como referencias, sin cargarlos, y deja las mismas referencias en los datos.
+	 *
+	 * @param datos   La reserva recibida.
+	 * @param destino La reserva que se va a escribir.
+	 * @throws IllegalOperationException si falta el huésped o el empleado.
+	 */
+	private void asociar(Reserva datos, Reserva destino) throws IllegalOperationException {
+	    if (datos.getHuesped() == null || datos.getHuesped().getIdHuesped() == null) {
+	        throw new IllegalOperationException("El huésped especificado no es válido");
+	    }
+	    if (datos.getEmpleado() == null || datos.getEmpleado().getIdEmpleado() == null) {
+	        throw new IllegalOperationException("El empleado especificado no es válido");
+	    }
+	    Set<Long> idsHabitacion = new LinkedHashSet<>();
+	    if (datos.getHabitaciones() != null) {
+	        datos.getHabitaciones().stream().filter(h -> h != null && h.getIdHabitacion() != null)
+	                .forEach(h -> idsHabitacion.add(h.getIdHabitacion()));
+	    }
+	    List<Habitacion> habitaciones = new ArrayList<>(idsHabitacion.size());
+	    idsHabitacion.forEach(id -> habitaciones.add(habitacionRepository.getReferenceById(id)));
+	    destino.setHuesped(huespedRepository.getReferenceById(datos.getHuesped().getIdHuesped()));
+	    destino.setEmpleado(empleadoRepository.getReferenceById(datos.getEmpleado().getIdEmpleado()));
+	    destino.setHabitaciones(habitaciones);
+	    datos.setHuesped(destino.getHuesped());
+	    datos.setEmpleado(destino.getEmpleado());
+	    datos.setHabitaciones(habitaciones);
+	}
+
+	/**
+	 * Escribe la reserva en el momento para traducir las claves foráneas rotas a una operación ilegal.
+	 *
+	 * @param reserva La reserva a escribir.
+	 * @return La reserva gestionada.
+	 * @throws IllegalOperationException si el huésped, el empleado o alguna habitación no existe.
+	 */
+	private Reserva guardar(Reserva reserva) throws IllegalOperationException {
+	    try {
+	        return reservaRepository.saveAndFlush(reserva);
+	    } catch (DataIntegrityViolationException e) {
+	        throw new IllegalOperationException("El huésped, el empleado o alguna de las habitaciones no existe");
+	    }
+	}
 
+	/**
+	 * Ocupa en noche_habitacion cada noche de la reserva en las habitaciones indicadas.
+	 * Una reserva inactiva no ocupa noches; al reactivarla se vuelven a reclamar.
+	 * El índice de disponibilidad descarta rápido los choques ya conocidos; la clave primaria
+	 * (habitación, noche) es la que decide cuando dos reservas se hacen a la vez, incluso desde otra instancia.
+	 *
+	 * @param reserva      La reserva ya persistida.
+	 * @param habitaciones Las habitaciones a ocupar.
+	 * @throws IllegalOperationException si la estancia es demasiado larga o alguna habitación ya está
+	 *                                   ocupada en alguna de esas noches.
+	 */
+	private void reclamarNoches(Reserva reserva, List<Habitacion> habitaciones) throws IllegalOperationException {
+	    reclamarNoches(reserva, habitaciones, -1);
+	}
+
+	/**
+	 * Como {@link #reclamarNoches(Reserva, List)}, sin contar como ocupación el bloqueo indicado.
+	 *
+	 * @param reserva      La reserva ya persistida.
+	 * @param habitaciones Las habitaciones a ocupar.
+	 * @param idBloqueo    El bloqueo que se confirma, o -1.
+	 * @throws IllegalOperationException si la estancia es demasiado larga o alguna habitación ya está
+	 *                                   ocupada en alguna de esas noches.
+	 */
+	private void reclamarNoches(Reserva reserva, List<Habitacion> habitaciones, long idBloqueo)
+	        throws IllegalOperationException {
+	    if (!reserva.isEstado() || habitaciones.isEmpty() || reserva.getFechaInicio() == null
+	            || reserva.getFechaFin() == null) {
+	        return;
+	    }
+	    LocalDate llegada = Fechas.aLocalDate(reserva.getFechaInicio());
+	    LocalDate salida = Fechas.aLocalDate(reserva.getFechaFin());
+	    if (!salida.isAfter(llegada)) {
+	        salida = llegada.plusDays(1);
+	    }
+	    int desde = Fechas.aDia(llegada);
+	    int hasta = Fechas.aDia(salida);
+	    validarEstancia(desde, hasta);
+	    Set<Long> idsHabitacion = new LinkedHashSet<>();
+	    habitaciones.forEach(h -> idsHabitacion.add(h.getIdHabitacion()));
+	    List<NocheHabitacion> noches = new ArrayList<>(idsHabitacion.size() * (hasta - desde));
+	    for (Long idHabitacion : idsHabitacion) {
+	        if (!disponibilidadService.estaDisponible(idHabitacion, desde, hasta, reserva.getIdReserva(), idBloqueo)) {
+	            throw new IllegalOperationException("La habitación " + idHabitacion + " ya está reservada en esas fechas");
+	        }
+	        for (LocalDate noche = llegada; noche.isBefore(salida); noche = noche.plusDays(1)) {
+	            noches.add(new NocheHabitacion(idHabitacion, noche, reserva.getIdReserva()));
+	        }
+	    }
+	    try {
+	        nocheHabitacionRepository.saveAll(noches);
+	        nocheHabitacionRepository.flush();
+	    } catch (DataIntegrityViolationException e) {
+	        throw new IllegalOperationException("La habitación ya está reservada en esas fechas");
+	    }
+	}
 
+	/**
+	 * Rechaza las estancias de más de {@link Reserva#MAX_NOCHES} noches antes de escribir sus noches.
+	 *
+	 * @param desde Primer día (epoch day).
+	 * @param hasta Día de salida (epoch day).
+	 * @throws IllegalOperationException si la estancia es demasiado larga.
+	 */
+	private static void validarEstancia(int desde, int hasta) throws IllegalOperationException {
+	    if (hasta - desde > Reserva.MAX_NOCHES) {
+	        throw new IllegalOperationException("La estancia no puede superar " + Reserva.MAX_NOCHES + " noches");
+	    }
+	}
+}
@@ -0,0 +1,83 @@
+/**
+ * @file: TarifaService.java
+ * @author: (c)2026 Cueva
+ * @created: 18 oct 2026, 18:44:03
+ */
+package com.equipo02.hotel.services;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.List;
+
+import com.equipo02.hotel.domain.ReglaTarifa;
+import com.equipo02.hotel.dto.CotizacionDTO;
+import com.equipo02.hotel.dto.SolicitudCotizacionDTO;
+import com.equipo02.hotel.exception.EntityNotFoundException;
+import com.equipo02.hotel.exception.IllegalOperationException;
+
+/**
+ * Interfaz que define las operaciones sobre las reglas de tarifa y la cotización de estadías.
+ * Las cotizaciones se resuelven en memoria sobre calendarios de precios precalculados por habitación.
+ */
+public interface TarifaService {
+
+	/**
+     * Lista las reglas de tarifa.
+     * @param tipo Tipo de habitación a filtrar, o null para todos.
+     * @return Las reglas.
+     */
+	List<ReglaTarifa> listarReglas(String tipo);
+
+	/**
+     * Busca una regla de tarifa por su id.
+     * @param idRegla El id de la regla.
+     * @return La regla.
+     * @throws EntityNotFoundException si la regla no existe.
+     */
+	ReglaTarifa buscarRegla(Long idRegla) throws EntityNotFoundException;
+
+	/**
+     * Guarda una nueva regla de tarifa y recalcula los calendarios de su tipo.
+     * @param regla La regla a guardar.
+     * @return La regla guardada.
+     * @throws IllegalOperationException si la regla no es coherente con su clase.
+     */
+	ReglaTarifa guardarRegla(ReglaTarifa regla) throws IllegalOperationException;
+
+	/**
+     * Actualiza una regla de tarifa y recalcula los calendarios de los tipos afectados.
+     * @param idRegla El id de la regla.
+     * @param regla Los nuevos datos.
+     * @return La regla actualizada.
+     * @throws EntityNotFoundException si la regla no existe.
+     * @throws IllegalOperationException si la regla no es coherente con su clase.
+     */
+	ReglaTarifa actualizarRegla(Long idRegla, ReglaTarifa regla) throws EntityNotFoundException, IllegalOperationException;
+
+	/**
+     * Elimina una regla de tarifa y recalcula los calendarios de su tipo.
+     * @param idRegla El id de la regla.
+     * @throws EntityNotFoundException si la regla no existe.
+     */
+	void eliminarRegla(Long idRegla) throws EntityNotFoundException;
+
+	/**
+     * Calcula el precio de una estadía de las noches [desde, hasta) en una habitación.
+     * @param idHabitacion El id de la habitación.
+     * @param desde Fecha de llegada.
+     * @param hasta Fecha de salida.
+     * @return La cotización.
+     * @throws EntityNotFoundException si la habitación no existe.
+     */
+	CotizacionDTO cotizar(Long idHabitacion, LocalDate desde, LocalDate hasta) throws EntityNotFoundException;
+
+	/**
+     * Cotiza un lote de combinaciones de tipo y fechas y escribe una fila NDJSON por combinación,
+     * en el mismo orden, con el número de habitaciones del tipo y el total más bajo y más alto.
+     * @param solicitudes Las combinaciones a cotizar.
+     * @param salida Flujo de salida; no se cierra al terminar.
+     * @throws IOException si falla la escritura.
+     */
+	void cotizarLote(List<SolicitudCotizacionDTO> solicitudes, OutputStream salida) throws IOException;
+}
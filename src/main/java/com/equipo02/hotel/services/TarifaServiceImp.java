@@ -0,0 +1,404 @@
+/**
+ * @file: TarifaServiceImp.java
+ * @author: (c)2026 Cueva
+ * @created: 18 oct 2026, 18:52:29
+ */
+package com.equipo02.hotel.services;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.equipo02.hotel.domain.ReglaTarifa;
+import com.equipo02.hotel.domain.Reserva;
+import com.equipo02.hotel.dto.CotizacionDTO;
+import com.equipo02.hotel.dto.SolicitudCotizacionDTO;
+import com.equipo02.hotel.events.HabitacionCambioEvent;
+import com.equipo02.hotel.events.TarifaCambioEvent;
+import com.equipo02.hotel.exception.EntityNotFoundException;
+import com.equipo02.hotel.exception.ErrorMessage;
+import com.equipo02.hotel.exception.IllegalOperationException;
+import com.equipo02.hotel.repositories.HabitacionRepository;
+import com.equipo02.hotel.repositories.ReglaTarifaRepository;
+import com.equipo02.hotel.repositories.ResumenHabitacion;
+import com.equipo02.hotel.util.CalendarioPrecios;
+import com.equipo02.hotel.util.EscritorFilas;
+import com.equipo02.hotel.util.Fechas;
+import com.equipo02.hotel.util.FormatoExportacion;
+import com.equipo02.hotel.util.TarifaCompilada;
+
+/**
+ * Implementación de las reglas de tarifa y de la cotización de estadías.
+ *
+ * Las reglas de cada tipo se compilan a factores por noche y, con ellos, cada habitación tiene un
+ * calendario de sumas acumuladas en céntimos para los próximos {@link #HORIZONTE} días. Cotizar
+ * es leer el calendario de la habitación y restar dos posiciones, sin bloqueos ni BigDecimal.
+ * Los calendarios se reemplazan enteros: al cambiar una habitación solo el suyo, al cambiar una
+ * regla los de las habitaciones de su tipo, y cada noche todos para desplazar el horizonte.
+ */
+@Service
+public class TarifaServiceImp implements TarifaService {
+
+	private static final Logger log = LoggerFactory.getLogger(TarifaServiceImp.class);
+
+	/** Días precalculados a partir de hoy; fuera de ellos se suma noche a noche. */
+	public static final int HORIZONTE = 731;
+
+	/** Combinaciones de un lote que se calculan en paralelo antes de escribirlas. */
+	private static final int BLOQUE_LOTE = 4096;
+
+	private static final long SIN_PRECIO = -1;
+
+	@Autowired
+	private ReglaTarifaRepository reglaTarifaRepository;
+	@Autowired
+	private HabitacionRepository habitacionRepository;
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+	@Autowired
+	@Qualifier("cotizacionesPool")
+	private ForkJoinPool cotizacionesPool;
+
+	/** Reglas compiladas por tipo de habitación, en minúsculas. */
+	private final Map<String, TarifaCompilada> tarifas = new ConcurrentHashMap<>();
+
+	/** Calendario de precios de cada habitación. */
+	private final Map<Long, CalendarioPrecios> calendarios = new ConcurrentHashMap<>();
+
+	/** Primer día del horizonte de los calendarios vigentes. */
+	private volatile int origen = Fechas.aDia(LocalDate.now());
+
+	/**
+     * Lista las reglas de tarifa.
+     * @param tipo Tipo de habitación a filtrar, o null para todos.
+     * @return Las reglas.
+     */
+	@Override
+	@Transactional(readOnly = true)
+	public List<ReglaTarifa> listarReglas(String tipo) {
+		return tipo == null ? reglaTarifaRepository.findAllByOrderByTipoAscIdReglaAsc()
+				: reglaTarifaRepository.findByTipoIgnoreCase(tipo);
+	}
+
+	/**
+     * Busca una regla de tarifa por su id.
+     * @param idRegla El id de la regla.
+     * @return La regla.
+     * @throws EntityNotFoundException si la regla no existe.
+     */
+	@Override
+	@Transactional(readOnly = true)
+	public ReglaTarifa buscarRegla(Long idRegla) throws EntityNotFoundException {
+		return reglaTarifaRepository.findById(idRegla)
+				.orElseThrow(() -> new EntityNotFoundException(ErrorMessage.REGLA_TARIFA_NOT_FOUND));
+	}
+
+	/**
+     * Guarda una nueva regla de tarifa y recalcula los calendarios de su tipo.
+     * @param regla La regla a guardar.
+     * @return La regla guardada.
+     * @throws IllegalOperationException si la regla no es coherente con su clase.
+     */
+	@Override
+	@Transactional
+	public ReglaTarifa guardarRegla(ReglaTarifa regla) throws IllegalOperationException {
+		validar(regla);
+		regla.setIdRegla(null);
+		ReglaTarifa guardada = reglaTarifaRepository.save(regla);
+		eventPublisher.publishEvent(TarifaCambioEvent.de(guardada.getTipo()));
+		return guardada;
+	}
+
+	/**
+     * Actualiza una regla de tarifa y recalcula los calendarios de los tipos afectados.
+     * @param idRegla El id de la regla.
+     * @param regla Los nuevos datos.
+     * @return La regla actualizada.
+     * @throws EntityNotFoundException si la regla no existe.
+     * @throws IllegalOperationException si la regla no es coherente con su clase.
+     */
+	@Override
+	@Transactional
+	public ReglaTarifa actualizarRegla(Long idRegla, ReglaTarifa regla) throws EntityNotFoundException, IllegalOperationException {
+		validar(regla);
+		ReglaTarifa reglaEntity = buscarRegla(idRegla);
+		String tipoAnterior = reglaEntity.getTipo();
+		reglaEntity.setTipo(regla.getTipo());
+		reglaEntity.setClase(regla.getClase());
+		reglaEntity.setFechaDesde(regla.getFechaDesde());
+		reglaEntity.setFechaHasta(regla.getFechaHasta());
+		reglaEntity.setDiaSemana(regla.getDiaSemana());
+		reglaEntity.setMinNoches(regla.getMinNoches());
+		reglaEntity.setPorcentaje(regla.getPorcentaje());
+		eventPublisher.publishEvent(TarifaCambioEvent.de(tipoAnterior, reglaEntity.getTipo()));
+		return reglaEntity;
+	}
+
+	/**
+     * Elimina una regla de tarifa y recalcula los calendarios de su tipo.
+     * @param idRegla El id de la regla.
+     * @throws EntityNotFoundException si la regla no existe.
+     */
+	@Override
+	@Transactional
+	public void eliminarRegla(Long idRegla) throws EntityNotFoundException {
+		ReglaTarifa regla = buscarRegla(idRegla);
+		reglaTarifaRepository.delete(regla);
+		eventPublisher.publishEvent(TarifaCambioEvent.de(regla.getTipo()));
+	}
+
+	/**
+     * Calcula el precio de una estadía de las noches [desde, hasta) en una habitación.
+     * @param idHabitacion El id de la habitación.
+     * @param desde Fecha de llegada.
+     * @param hasta Fecha de salida.
+     * @return La cotización.
+     * @throws EntityNotFoundException si la habitación no existe.
+     */
+	@Override
+	public CotizacionDTO cotizar(Long idHabitacion, LocalDate desde, LocalDate hasta) throws EntityNotFoundException {
+		CalendarioPrecios calendario = calendarios.get(idHabitacion);
+		if (calendario == null) {
+			throw new EntityNotFoundException(ErrorMessage.HABITACION_NOT_FOUND);
+		}
+		int diaDesde = Fechas.aDia(desde);
+		int diaHasta = Fechas.aDia(hasta);
+		int noches = diaHasta - diaDesde;
+		long subtotal = calendario.subtotal(diaDesde, diaHasta);
+		long ajuste = calendario.ajusteEstadia(subtotal, noches);
+		return new CotizacionDTO(idHabitacion, calendario.getTipo(), desde, hasta, noches, subtotal, ajuste);
+	}
+
+	/**
+     * Cotiza un lote de combinaciones de tipo y fechas.
+     *
+     * Las combinaciones se procesan en bloques: cada bloque se calcula en paralelo sobre el pool
+     * de cotizaciones, guardando los resultados en arrays, y luego se escribe en orden y se envía al
+     * cliente. Cada combinación recorre las habitaciones de su tipo con una resta de sumas acumuladas
+     * por habitación. Las combinaciones de más de {@link Reserva#MAX_NOCHES} noches se rechazan,
+     * porque fuera del horizonte el subtotal se suma noche a noche.
+     * @param solicitudes Las combinaciones a cotizar.
+     * @param salida Flujo de salida; no se cierra al terminar.
+     * @throws IOException si falla la escritura.
+     */
+	@Override
+	public void cotizarLote(List<SolicitudCotizacionDTO> solicitudes, OutputStream salida) throws IOException {
+		Map<String, CalendarioPrecios[]> porTipo = agruparPorTipo();
+		EscritorFilas escritor = EscritorFilas.para(FormatoExportacion.NDJSON, salida, "indice", "tipo", "desde",
+				"hasta", "noches", "habitaciones", "idHabitacion", "minimo", "maximo", "error");
+		int tamano = Math.min(BLOQUE_LOTE, solicitudes.size());
+		int[] habitaciones = new int[tamano];
+		CalendarioPrecios[] elegidas = new CalendarioPrecios[tamano];
+		long[] minimos = new long[tamano];
+		long[] maximos = new long[tamano];
+		for (int inicio = 0; inicio < solicitudes.size(); inicio += BLOQUE_LOTE) {
+			int base = inicio;
+			int fin = Math.min(solicitudes.size(), inicio + BLOQUE_LOTE);
+			cotizacionesPool.submit(() -> IntStream.range(base, fin).parallel().forEach(i -> {
+				SolicitudCotizacionDTO solicitud = solicitudes.get(i);
+				int j = i - base;
+				habitaciones[j] = 0;
+				elegidas[j] = null;
+				minimos[j] = SIN_PRECIO;
+				maximos[j] = SIN_PRECIO;
+				if (!esValida(solicitud)) {
+					habitaciones[j] = -1;
+					return;
+				}
+				CalendarioPrecios[] candidatas = porTipo.get(clave(solicitud.getTipo()));
+				if (candidatas == null) {
+					return;
+				}
+				int desde = Fechas.aDia(solicitud.getDesde());
+				int hasta = Fechas.aDia(solicitud.getHasta());
+				long minimo = Long.MAX_VALUE;
+				long maximo = Long.MIN_VALUE;
+				for (CalendarioPrecios calendario : candidatas) {
+					long total = calendario.total(desde, hasta);
+					if (total < minimo) {
+						minimo = total;
+						elegidas[j] = calendario;
+					}
+					maximo = Math.max(maximo, total);
+				}
+				habitaciones[j] = candidatas.length;
+				minimos[j] = minimo;
+				maximos[j] = maximo;
+			})).join();
+			for (int i = inicio; i < fin; i++) {
+				SolicitudCotizacionDTO solicitud = solicitudes.get(i);
+				int j = i - base;
+				boolean valida = habitaciones[j] >= 0;
+				escritor.fila(i, solicitud == null ? null : solicitud.getTipo(),
+						solicitud == null ? null : solicitud.getDesde(), solicitud == null ? null : solicitud.getHasta(),
+						valida ? Fechas.aDia(solicitud.getHasta()) - Fechas.aDia(solicitud.getDesde()) : null,
+						Math.max(habitaciones[j], 0), elegidas[j] == null ? null : elegidas[j].getIdHabitacion(),
+						aImporte(minimos[j]), aImporte(maximos[j]),
+						valida ? null : "Se necesitan tipo, desde y hasta, con hasta posterior a desde y como mucho "
+								+ Reserva.MAX_NOCHES + " noches");
+			}
+			escritor.flush();
+		}
+		escritor.flush();
+	}
+
+	/**
+	 * Compila todas las reglas y construye los calendarios de todas las habitaciones.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional(readOnly = true)
+	public void cargar() {
+		recompilarTodo();
+	}
+
+	/**
+	 * Desplaza el horizonte de los calendarios al día actual.
+	 */
+	@Scheduled(cron = "0 5 0 * * *")
+	public void desplazarHorizonte() {
+		recompilarTodo();
+	}
+
+	/**
+	 * Recalcula los calendarios de los tipos cuyas reglas cambiaron.
+	 * @param evento Los tipos afectados.
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public synchronized void onTarifaCambio(TarifaCambioEvent evento) {
+		for (String tipo : evento.getTipos()) {
+			TarifaCompilada tarifa = compilar(tipo, origen);
+			String clave = clave(tipo);
+			calendarios.replaceAll((id, calendario) -> clave(calendario.getTipo()).equals(clave)
+					? new CalendarioPrecios(id, calendario.getTipo(), calendario.getBase(), tarifa)
+					: calendario);
+		}
+	}
+
+	/**
+	 * Recalcula el calendario de una habitación creada, modificada o eliminada.
+	 * @param evento Los datos actuales de la habitación.
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public synchronized void onHabitacionCambio(HabitacionCambioEvent evento) {
+		if (evento.isEliminada()) {
+			calendarios.remove(evento.getIdHabitacion());
+			return;
+		}
+		TarifaCompilada tarifa = tarifas.get(clave(evento.getTipo()));
+		if (tarifa == null) {
+			tarifa = compilar(evento.getTipo(), origen);
+		}
+		calendarios.put(evento.getIdHabitacion(), new CalendarioPrecios(evento.getIdHabitacion(), evento.getTipo(), aCentimos(evento.getPrecio()), tarifa));
+	}
+
+	private synchronized void recompilarTodo() {
+		int hoy = Fechas.aDia(LocalDate.now());
+		Map<String, List<ReglaTarifa>> porTipo = new HashMap<>();
+		for (ReglaTarifa regla : reglaTarifaRepository.findAll()) {
+			porTipo.computeIfAbsent(clave(regla.getTipo()), t -> new ArrayList<>()).add(regla);
+		}
+		Map<String, TarifaCompilada> compiladas = new HashMap<>();
+		for (Map.Entry<String, List<ReglaTarifa>> entrada : porTipo.entrySet()) {
+			compiladas.put(entrada.getKey(), new TarifaCompilada(entrada.getValue(), hoy, HORIZONTE));
+		}
+		List<Long> vigentes = new ArrayList<>();
+		for (ResumenHabitacion resumen : habitacionRepository.listarResumenes()) {
+			TarifaCompilada tarifa = compiladas.computeIfAbsent(clave(resumen.getTipo()),
+					t -> new TarifaCompilada(List.of(), hoy, HORIZONTE));
+			calendarios.put(resumen.getIdHabitacion(),
+					new CalendarioPrecios(resumen.getIdHabitacion(), resumen.getTipo(), aCentimos(resumen.getPrecio()), tarifa));
+			vigentes.add(resumen.getIdHabitacion());
+		}
+		calendarios.keySet().retainAll(vigentes);
+		tarifas.putAll(compiladas);
+		tarifas.keySet().retainAll(compiladas.keySet());
+		origen = hoy;
+		log.info("Calendarios de precios construidos: {} habitaciones, {} tipos", calendarios.size(), tarifas.size());
+	}
+
+	private TarifaCompilada compilar(String tipo, int desde) {
+		TarifaCompilada tarifa = new TarifaCompilada(reglaTarifaRepository.findByTipoIgnoreCase(tipo), desde, HORIZONTE);
+		tarifas.put(clave(tipo), tarifa);
+		return tarifa;
+	}
+
+	/**
+	 * Agrupa los calendarios vigentes por tipo para todo un lote.
+	 */
+	private Map<String, CalendarioPrecios[]> agruparPorTipo() {
+		Map<String, List<CalendarioPrecios>> listas = new HashMap<>();
+		for (CalendarioPrecios calendario : calendarios.values()) {
+			listas.computeIfAbsent(clave(calendario.getTipo()), t -> new ArrayList<>()).add(calendario);
+		}
+		Map<String, CalendarioPrecios[]> porTipo = new HashMap<>();
+		listas.forEach((tipo, lista) -> porTipo.put(tipo, lista.toArray(new CalendarioPrecios[0])));
+		return porTipo;
+	}
+
+	private static boolean esValida(SolicitudCotizacionDTO solicitud) {
+		return solicitud != null && solicitud.getTipo() != null && solicitud.getDesde() != null
+				&& solicitud.getHasta() != null && solicitud.getHasta().isAfter(solicitud.getDesde())
+				&& Fechas.aDia(solicitud.getHasta()) - Fechas.aDia(solicitud.getDesde()) <= Reserva.MAX_NOCHES;
+	}
+
+	private static BigDecimal aImporte(long centimos) {
+		return centimos == SIN_PRECIO ? null : BigDecimal.valueOf(centimos, 2);
+	}
+
+	/**
+	 * Comprueba que la regla tenga los campos que exige su clase.
+	 */
+	private void validar(ReglaTarifa regla) throws IllegalOperationException {
+		if (regla.getFechaDesde() != null && regla.getFechaHasta() != null
+				&& regla.getFechaHasta().isBefore(regla.getFechaDesde())) {
+			throw new IllegalOperationException("La fecha final de la regla no puede ser anterior a la inicial");
+		}
+		switch (regla.getClase()) {
+		case TEMPORADA:
+			if (regla.getFechaDesde() == null || regla.getFechaHasta() == null) {
+				throw new IllegalOperationException("Una regla de temporada necesita fecha inicial y final");
+			}
+			break;
+		case DIA_SEMANA:
+			if (regla.getDiaSemana() == null) {
+				throw new IllegalOperationException("Una regla de día de la semana necesita el día");
+			}
+			break;
+		case ESTADIA:
+			if (regla.getMinNoches() == null) {
+				throw new IllegalOperationException("Una regla de estadía necesita el mínimo de noches");
+			}
+			break;
+		}
+	}
+
+	private static String clave(String tipo) {
+		return tipo == null ? "" : tipo.toLowerCase(Locale.ROOT);
+	}
+
+	private static long aCentimos(BigDecimal precio) {
+		return precio == null ? 0 : precio.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+	}
+}
@@ -0,0 +1,194 @@
+/**
+ * @file: AsignadorHabitaciones.java
+ * @author: (c) 2026 MARCO
+ * @created: 18 oct. 2026 23:31:26
+ */
+package com.equipo02.hotel.util;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.IntStream;
+
+/**
+ * Asigna estadías a habitaciones de un mismo tipo procurando no dejar huecos cortos en el calendario.
+ *
+ * Cada habitación es un mapa de bits de noches ocupadas sobre una ventana que empieza hoy. Colocar
+ * una estadía parte el hueco libre que la contiene en dos; el costo de colocarla es lo que
+ * penalizan esos dos trozos menos lo que penalizaba el hueco entero, y un hueco de una noche, que
+ * no se puede vender, penaliza mucho más que uno largo. El hueco que llega al final de la ventana
+ * está abierto y no penaliza. Las estadías se colocan de la más larga a la más corta en la habitación
+ * de menor costo (a igual costo, en el hueco más pequeño) y después se hacen pasadas de mejora
+ * moviendo cada estadía a la habitación donde costaría menos, hasta que ninguna mejora.
+ * No es seguro para uso concurrente; cada instancia resuelve un tipo.
+ */
+public class AsignadorHabitaciones {
+
+    /** Penalización de un hueco según su número de noches; a partir de aquí, la última. */
+    private static final int[] PENALIZACION = { 0, 100, 10, 1 };
+
+    private static final int PASADAS_MEJORA = 4;
+
+    private static final int SIN_HABITACION = -1;
+
+    private final long[][] ocupacion;
+
+    private final int dias;
+
+    private final int[] desde;
+
+    private final int[] hasta;
+
+    private final int[] asignacion;
+
+    /**
+     * @param ocupacion Noches ocupadas de cada habitación, un bit por día de la ventana; se modifica.
+     * @param dias      Longitud de la ventana.
+     * @param desde     Primer día de cada estadía, relativo al inicio de la ventana.
+     * @param hasta     Día de salida de cada estadía, relativo al inicio de la ventana.
+     */
+    public AsignadorHabitaciones(long[][] ocupacion, int dias, int[] desde, int[] hasta) {
+        this.ocupacion = ocupacion;
+        this.dias = dias;
+        this.desde = desde;
+        this.hasta = hasta;
+        this.asignacion = new int[desde.length];
+        Arrays.fill(asignacion, SIN_HABITACION);
+    }
+
+    /**
+     * Resuelve la asignación.
+     *
+     * @return Para cada estadía, la posición de su habitación, o -1 si ninguna está libre.
+     */
+    public int[] resolver() {
+        Integer[] orden = IntStream.range(0, desde.length).boxed().toArray(Integer[]::new);
+        Arrays.sort(orden, Comparator.<Integer>comparingInt(i -> desde[i] - hasta[i]).thenComparingInt(i -> desde[i]));
+        for (int estadia : orden) {
+            int habitacion = mejorHabitacion(estadia);
+            if (habitacion != SIN_HABITACION) {
+                colocar(estadia, habitacion);
+            }
+        }
+        boolean mejoro = true;
+        for (int pasada = 0; mejoro && pasada < PASADAS_MEJORA; pasada++) {
+            mejoro = mejorar(orden);
+        }
+        return asignacion;
+    }
+
+    private boolean mejorar(Integer[] orden) {
+        boolean mejoro = false;
+        for (int estadia : orden) {
+            int actual = asignacion[estadia];
+            if (actual == SIN_HABITACION) {
+                continue;
+            }
+            quitar(estadia);
+            int costoActual = costo(actual, desde[estadia], hasta[estadia]);
+            int mejor = mejorHabitacion(estadia);
+            if (mejor != actual && costo(mejor, desde[estadia], hasta[estadia]) < costoActual) {
+                colocar(estadia, mejor);
+                mejoro = true;
+            } else {
+                colocar(estadia, actual);
+            }
+        }
+        return mejoro;
+    }
+
+    private int mejorHabitacion(int estadia) {
+        int inicio = desde[estadia];
+        int fin = hasta[estadia];
+        int mejor = SIN_HABITACION;
+        int mejorCosto = Integer.MAX_VALUE;
+        int mejorHueco = Integer.MAX_VALUE;
+        for (int habitacion = 0; habitacion < ocupacion.length; habitacion++) {
+            long[] bits = ocupacion[habitacion];
+            if (siguienteOcupado(bits, inicio) < fin) {
+                continue;
+            }
+            int costo = costo(habitacion, inicio, fin);
+            int hueco = siguienteOcupado(bits, fin) - anteriorOcupado(bits, inicio);
+            if (costo < mejorCosto || (costo == mejorCosto && hueco < mejorHueco)) {
+                mejor = habitacion;
+                mejorCosto = costo;
+                mejorHueco = hueco;
+            }
+        }
+        return mejor;
+    }
+
+    /**
+     * Costo de ocupar [inicio, fin) en una habitación libre en ese rango.
+     */
+    private int costo(int habitacion, int inicio, int fin) {
+        long[] bits = ocupacion[habitacion];
+        int izquierda = inicio - anteriorOcupado(bits, inicio);
+        int limite = siguienteOcupado(bits, fin);
+        if (limite >= dias) {
+            return penalizacion(izquierda);
+        }
+        int derecha = limite - fin;
+        return penalizacion(izquierda) + penalizacion(derecha) - penalizacion(izquierda + (fin - inicio) + derecha);
+    }
+
+    private static int penalizacion(int noches) {
+        return PENALIZACION[Math.min(noches, PENALIZACION.length - 1)];
+    }
+
+    private void colocar(int estadia, int habitacion) {
+        marcar(ocupacion[habitacion], desde[estadia], hasta[estadia], true);
+        asignacion[estadia] = habitacion;
+    }
+
+    private void quitar(int estadia) {
+        marcar(ocupacion[asignacion[estadia]], desde[estadia], hasta[estadia], false);
+        asignacion[estadia] = SIN_HABITACION;
+    }
+
+    private static void marcar(long[] bits, int inicio, int fin, boolean valor) {
+        for (int dia = inicio; dia < fin; dia++) {
+            if (valor) {
+                bits[dia >>> 6] |= 1L << dia;
+            } else {
+                bits[dia >>> 6] &= ~(1L << dia);
+            }
+        }
+    }
+
+    /**
+     * Primer día ocupado en [dia, dias), o dias si no hay ninguno.
+     */
+    private int siguienteOcupado(long[] bits, int dia) {
+        if (dia >= dias) {
+            return dias;
+        }
+        int palabra = dia >>> 6;
+        long resto = bits[palabra] & (-1L << dia);
+        while (resto == 0) {
+            if (++palabra == bits.length) {
+                return dias;
+            }
+            resto = bits[palabra];
+        }
+        return Math.min((palabra << 6) + Long.numberOfTrailingZeros(resto), dias);
+    }
+
+    /**
+     * Día siguiente al último ocupado antes de dia, o 0 si no hay ninguno.
+     */
+    private static int anteriorOcupado(long[] bits, int dia) {
+        if (dia <= 0) {
+            return 0;
+        }
+        int palabra = (dia - 1) >>> 6;
+        long resto = bits[palabra] & (-1L >>> (63 - ((dia - 1) & 63)));
+        while (resto == 0) {
+            if (--palabra < 0) {
+                return 0;
+            }
+            resto = bits[palabra];
+        }
+        return (palabra << 6) + 64 - Long.numberOfLeadingZeros(resto);
+    }
+}
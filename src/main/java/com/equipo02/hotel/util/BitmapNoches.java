@@ -0,0 +1,144 @@
+/**
+ * @file: BitmapNoches.java
+ * @author: (c) 2026 MARCO
+ * @created: 18 oct. 2026 12:10:33
+ */
+package com.equipo02.hotel.util;
+
+import java.util.Arrays;
+
+/**
+ * Conjunto de noches ocupadas de una habitación, un bit por día.
+ *
+ * Solo guarda las palabras de 64 bits entre la primera y la última noche registradas,
+ * así que una habitación con un año de historia ocupa unos 48 bytes. No es seguro para
+ * uso concurrente; quien lo use debe sincronizar el acceso.
+ */
+public class BitmapNoches {
+
+    private static final long[] VACIO = new long[0];
+
+    /** Día (epoch day) del primer bit de la primera palabra; siempre múltiplo de 64. */
+    private int origen;
+
+    private long[] palabras = VACIO;
+
+    /**
+     * Marca como ocupadas las noches [desde, hasta).
+     *
+     * @param desde Primer día (inclusivo).
+     * @param hasta Último día (exclusivo).
+     */
+    public void marcar(int desde, int hasta) {
+        if (desde >= hasta) {
+            return;
+        }
+        asegurar(desde, hasta);
+        aplicar(desde, hasta, true);
+    }
+
+    /**
+     * Marca como libres las noches [desde, hasta).
+     *
+     * @param desde Primer día (inclusivo).
+     * @param hasta Último día (exclusivo).
+     */
+    public void limpiar(int desde, int hasta) {
+        int inicio = Math.max(desde, origen);
+        int fin = Math.min(hasta, limite());
+        if (inicio < fin) {
+            aplicar(inicio, fin, false);
+        }
+    }
+
+    /**
+     * Cuenta las noches ocupadas en [desde, hasta).
+     *
+     * @param desde Primer día (inclusivo).
+     * @param hasta Último día (exclusivo).
+     * @return El número de noches ocupadas.
+     */
+    public int cardinalidad(int desde, int hasta) {
+        int inicio = Math.max(desde, origen);
+        int fin = Math.min(hasta, limite());
+        if (inicio >= fin) {
+            return 0;
+        }
+        int primera = (inicio - origen) >>> 6;
+        int ultima = (fin - 1 - origen) >>> 6;
+        int total = 0;
+        for (int i = primera; i <= ultima; i++) {
+            total += Long.bitCount(palabras[i] & mascara(i, inicio, fin));
+        }
+        return total;
+    }
+
+    /**
+     * Suma 1 en conteo[dia - desde] por cada noche ocupada de [desde, hasta).
+     *
+     * @param desde  Primer día (inclusivo).
+     * @param hasta  Último día (exclusivo).
+     * @param conteo Acumulador con hasta - desde posiciones.
+     */
+    public void acumularPorDia(int desde, int hasta, int[] conteo) {
+        int inicio = Math.max(desde, origen);
+        int fin = Math.min(hasta, limite());
+        if (inicio >= fin) {
+            return;
+        }
+        int primera = (inicio - origen) >>> 6;
+        int ultima = (fin - 1 - origen) >>> 6;
+        for (int i = primera; i <= ultima; i++) {
+            long palabra = palabras[i] & mascara(i, inicio, fin);
+            int base = origen + (i << 6) - desde;
+            while (palabra != 0) {
+                conteo[base + Long.numberOfTrailingZeros(palabra)]++;
+                palabra &= palabra - 1;
+            }
+        }
+    }
+
+    private int limite() {
+        return origen + (palabras.length << 6);
+    }
+
+    private long mascara(int indice, int inicio, int fin) {
+        int primerDia = origen + (indice << 6);
+        long mascara = -1L;
+        if (inicio > primerDia) {
+            mascara &= -1L << (inicio - primerDia);
+        }
+        if (fin < primerDia + 64) {
+            mascara &= -1L >>> (64 - (fin - primerDia));
+        }
+        return mascara;
+    }
+
+    private void aplicar(int desde, int hasta, boolean valor) {
+        int primera = (desde - origen) >>> 6;
+        int ultima = (hasta - 1 - origen) >>> 6;
+        for (int i = primera; i <= ultima; i++) {
+            long mascara = mascara(i, desde, hasta);
+            palabras[i] = valor ? palabras[i] | mascara : palabras[i] & ~mascara;
+        }
+    }
+
+    private void asegurar(int desde, int hasta) {
+        if (palabras.length == 0) {
+            origen = Math.floorDiv(desde, 64) * 64;
+            palabras = new long[((hasta - 1 - origen) >>> 6) + 1];
+            return;
+        }
+        if (desde < origen) {
+            int nuevoOrigen = Math.floorDiv(desde, 64) * 64;
+            int desplazamiento = (origen - nuevoOrigen) >>> 6;
+            long[] nuevas = new long[palabras.length + desplazamiento];
+            System.arraycopy(palabras, 0, nuevas, desplazamiento, palabras.length);
+            palabras = nuevas;
+            origen = nuevoOrigen;
+        }
+        if (hasta > limite()) {
+            palabras = Arrays.copyOf(palabras, ((hasta - 1 - origen) >>> 6) + 1);
+        }
+    }
+}
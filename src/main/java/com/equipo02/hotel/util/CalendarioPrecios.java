@@ -0,0 +1,101 @@
+/**
+ * @file: CalendarioPrecios.java
+ * @author: (c)2026 Cueva
+ * @created: 18 oct 2026, 18:31:07
+ */
+package com.equipo02.hotel.util;
+
+/**
+ * Calendario de precios de una habitación en céntimos.
+ *
+ * Guarda las sumas acumuladas de los precios por noche del horizonte de su tarifa, así que el
+ * subtotal de cualquier estadía dentro del horizonte es una resta. Fuera del horizonte suma
+ * noche a noche con los factores de la tarifa. Es inmutable; cuando cambia la habitación o
+ * sus reglas se reemplaza entero.
+ */
+public final class CalendarioPrecios {
+
+    private final Long idHabitacion;
+
+    private final String tipo;
+
+    /** Precio base por noche en céntimos. */
+    private final long base;
+
+    private final TarifaCompilada tarifa;
+
+    /** acumulado[i] es la suma de las noches [origen, origen + i). */
+    private final long[] acumulado;
+
+    /**
+     * @param idHabitacion Id de la habitación.
+     * @param tipo   Tipo de la habitación.
+     * @param base   Precio base por noche en céntimos.
+     * @param tarifa Las reglas compiladas del tipo.
+     */
+    public CalendarioPrecios(Long idHabitacion, String tipo, long base, TarifaCompilada tarifa) {
+        this.idHabitacion = idHabitacion;
+        this.tipo = tipo;
+        this.base = base;
+        this.tarifa = tarifa;
+        int origen = tarifa.getOrigen();
+        this.acumulado = new long[tarifa.getHorizonte() + 1];
+        for (int i = 0; i < tarifa.getHorizonte(); i++) {
+            acumulado[i + 1] = acumulado[i] + TarifaCompilada.precioNoche(base, tarifa.factor(origen + i));
+        }
+    }
+
+    /**
+     * Suma los precios de las noches [desde, hasta).
+     *
+     * @param desde Primer día (epoch day, inclusivo).
+     * @param hasta Día de salida (epoch day, exclusivo).
+     * @return El subtotal en céntimos.
+     */
+    public long subtotal(int desde, int hasta) {
+        int origen = tarifa.getOrigen();
+        if (desde >= origen && hasta - origen < acumulado.length) {
+            return acumulado[hasta - origen] - acumulado[desde - origen];
+        }
+        long total = 0;
+        for (int dia = desde; dia < hasta; dia++) {
+            total += TarifaCompilada.precioNoche(base, tarifa.factor(dia));
+        }
+        return total;
+    }
+
+    /**
+     * Calcula el ajuste por estadía sobre un subtotal.
+     *
+     * @param subtotal El subtotal en céntimos.
+     * @param noches   Número de noches.
+     * @return El ajuste en céntimos, negativo si es un descuento.
+     */
+    public long ajusteEstadia(long subtotal, int noches) {
+        return TarifaCompilada.aplicar(subtotal, tarifa.ajusteEstadia(noches)) - subtotal;
+    }
+
+    /**
+     * Calcula el total de una estadía: subtotal más ajuste por estadía.
+     *
+     * @param desde Primer día (epoch day, inclusivo).
+     * @param hasta Día de salida (epoch day, exclusivo).
+     * @return El total en céntimos.
+     */
+    public long total(int desde, int hasta) {
+        long subtotal = subtotal(desde, hasta);
+        return subtotal + ajusteEstadia(subtotal, hasta - desde);
+    }
+
+    public Long getIdHabitacion() {
+        return idHabitacion;
+    }
+
+    public String getTipo() {
+        return tipo;
+    }
+
+    public long getBase() {
+        return base;
+    }
+}
@@ -0,0 +1,166 @@
+/**
+ * @file: EscritorFilas.java
+ * @author: (c) 2026 MARCO
+ * @created: 18 oct. 2026 14:12:48
+ */
+package com.equipo02.hotel.util;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * Escribe filas de una exportación en NDJSON o CSV directamente sobre un OutputStream.
+ *
+ * Los valores admitidos son String, Number, Boolean, Date (se escribe como fecha ISO),
+ * long[] (array JSON, o ids separados por ';' en CSV) y null.
+ */
+public abstract class EscritorFilas {
+
+    private static final JsonFactory JSON = new JsonFactory()
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+    protected final String[] columnas;
+
+    protected EscritorFilas(String[] columnas) {
+        this.columnas = columnas;
+    }
+
+    /**
+     * Crea un escritor para el formato indicado.
+     *
+     * @param formato  Formato de salida.
+     * @param salida   Flujo de salida; no se cierra al terminar.
+     * @param columnas Nombres de las columnas, en el orden de los valores de cada fila.
+     * @return El escritor.
+     * @throws IOException si falla la escritura de la cabecera.
+     */
+    public static EscritorFilas para(FormatoExportacion formato, OutputStream salida, String... columnas)
+            throws IOException {
+        return formato == FormatoExportacion.CSV ? new Csv(salida, columnas) : new NdJson(salida, columnas);
+    }
+
+    /**
+     * Escribe una fila.
+     *
+     * @param valores Un valor por columna.
+     * @throws IOException si falla la escritura.
+     */
+    public abstract void fila(Object... valores) throws IOException;
+
+    /**
+     * Envía al cliente lo escrito hasta ahora.
+     *
+     * @throws IOException si falla la escritura.
+     */
+    public abstract void flush() throws IOException;
+
+    private static final class NdJson extends EscritorFilas {
+
+        private final JsonGenerator generador;
+
+        private NdJson(OutputStream salida, String[] columnas) throws IOException {
+            super(columnas);
+            this.generador = JSON.createGenerator(salida);
+        }
+
+        @Override
+        public void fila(Object... valores) throws IOException {
+            generador.writeStartObject();
+            for (int i = 0; i < columnas.length; i++) {
+                generador.writeFieldName(columnas[i]);
+                escribir(valores[i]);
+            }
+            generador.writeEndObject();
+            generador.writeRaw('\n');
+        }
+
+        private void escribir(Object valor) throws IOException {
+            if (valor == null) {
+                generador.writeNull();
+            } else if (valor instanceof String texto) {
+                generador.writeString(texto);
+            } else if (valor instanceof BigDecimal decimal) {
+                generador.writeNumber(decimal);
+            } else if (valor instanceof Number numero) {
+                generador.writeNumber(numero.longValue());
+            } else if (valor instanceof Boolean booleano) {
+                generador.writeBoolean(booleano);
+            } else if (valor instanceof Date fecha) {
+                generador.writeString(Fechas.aLocalDate(fecha).toString());
+            } else if (valor instanceof long[] ids) {
+                generador.writeArray(ids, 0, ids.length);
+            } else {
+                generador.writeString(valor.toString());
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            generador.flush();
+        }
+    }
+
+    private static final class Csv extends EscritorFilas {
+
+        private final Writer escritor;
+
+        private Csv(OutputStream salida, String[] columnas) throws IOException {
+            super(columnas);
+            this.escritor = new BufferedWriter(new OutputStreamWriter(salida, StandardCharsets.UTF_8), 16 * 1024);
+            fila((Object[]) columnas);
+        }
+
+        @Override
+        public void fila(Object... valores) throws IOException {
+            for (int i = 0; i < valores.length; i++) {
+                if (i > 0) {
+                    escritor.write(',');
+                }
+                escribir(valores[i]);
+            }
+            escritor.write("\r\n");
+        }
+
+        private void escribir(Object valor) throws IOException {
+            if (valor == null) {
+                return;
+            }
+            if (valor instanceof Date fecha) {
+                escritor.write(Fechas.aLocalDate(fecha).toString());
+            } else if (valor instanceof BigDecimal decimal) {
+                escritor.write(decimal.toPlainString());
+            } else if (valor instanceof long[] ids) {
+                for (int i = 0; i < ids.length; i++) {
+                    if (i > 0) {
+                        escritor.write(';');
+                    }
+                    escritor.write(Long.toString(ids[i]));
+                }
+            } else {
+                String texto = valor.toString();
+                if (texto.indexOf(',') >= 0 || texto.indexOf('"') >= 0 || texto.indexOf('\n') >= 0
+                        || texto.indexOf('\r') >= 0) {
+                    escritor.write('"');
+                    escritor.write(texto.replace("\"", "\"\""));
+                    escritor.write('"');
+                } else {
+                    escritor.write(texto);
+                }
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            escritor.flush();
+        }
+    }
+}
@@ -0,0 +1,439 @@
+/**
+ * @file: EstadisticasHuespedes.java
+ * @author: (c) 2026 Rodriguez
+ * @created: 19 oct. 2026 17:36:02
+ */
+package com.equipo02.hotel.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntToLongFunction;
+
+/**
+ * Estadísticas acumuladas de cada huésped en memoria: noches, estancias, gasto y última llegada.
+ *
+ * Se guarda lo que aporta cada reserva (huésped, noches, gasto y llegada), así que un cambio en
+ * una reserva resta su aporte anterior y suma el nuevo sin mirar las demás reservas del huésped. Las
+ * reservas de un mismo huésped se encadenan en una lista doble para quitarlas sin recorrerla; solo
+ * se recorre cuando se quita la reserva con la última llegada, para buscar la siguiente.
+ *
+ * Los totales de los huéspedes se guardan en arrays densos, uno por campo, con una posición por
+ * huésped con reservas, así que leer las estadísticas de un huésped es una búsqueda en un mapa y
+ * los mejores huéspedes por un campo se eligen recorriendo un solo array. El gasto se calcula con el
+ * precio base de cada habitación, en céntimos, que también se guarda aquí.
+ *
+ * Las lecturas comparten un bloqueo de lectura; los cambios toman el de escritura.
+ */
+public class EstadisticasHuespedes {
+
+    /** Llegada de una reserva sin fechas; nunca cuenta como última estancia. */
+    public static final int SIN_FECHA = Integer.MIN_VALUE;
+
+    private static final int NINGUNA = -1;
+
+    private static final int CAPACIDAD_MINIMA = 16;
+
+    /**
+     * Campo por el que se ordenan los mejores huéspedes.
+     */
+    public enum Orden {
+        NOCHES, ESTANCIAS, GASTO, ULTIMA_ESTANCIA
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** Precio base de cada habitación, en céntimos. */
+    private final MapaLargos precios = new MapaLargos();
+
+    /** Posición de cada reserva en los arrays de reservas. */
+    private final MapaLargos posicionReserva;
+    private long[] huespedReserva;
+    private int[] nochesReserva;
+    private long[] gastoReserva;
+    private int[] llegadaReserva;
+    private int[] anterior;
+    private int[] siguiente;
+    /** Posiciones de reserva usadas alguna vez; las liberadas se encadenan en libre. */
+    private int reservasUsadas;
+    private int libre = NINGUNA;
+
+    /** Posición de cada huésped en los arrays de huéspedes. */
+    private final MapaLargos posicionHuesped;
+    private long[] idHuesped;
+    private long[] noches;
+    private int[] estancias;
+    private long[] gasto;
+    private int[] ultimaLlegada;
+    /** Primera reserva de la cadena de cada huésped. */
+    private int[] primera;
+    private int huespedes;
+
+    public EstadisticasHuespedes() {
+        this(CAPACIDAD_MINIMA, CAPACIDAD_MINIMA);
+    }
+
+    /**
+     * @param reservas   Número de reservas previsto.
+     * @param huespedes  Número de huéspedes con reservas previsto.
+     */
+    public EstadisticasHuespedes(int reservas, int huespedes) {
+        int capacidadReservas = Math.max(reservas, CAPACIDAD_MINIMA);
+        int capacidadHuespedes = Math.max(huespedes, CAPACIDAD_MINIMA);
+        this.posicionReserva = new MapaLargos(capacidadReservas);
+        this.huespedReserva = new long[capacidadReservas];
+        this.nochesReserva = new int[capacidadReservas];
+        this.gastoReserva = new long[capacidadReservas];
+        this.llegadaReserva = new int[capacidadReservas];
+        this.anterior = new int[capacidadReservas];
+        this.siguiente = new int[capacidadReservas];
+        this.posicionHuesped = new MapaLargos(capacidadHuespedes);
+        this.idHuesped = new long[capacidadHuespedes];
+        this.noches = new long[capacidadHuespedes];
+        this.estancias = new int[capacidadHuespedes];
+        this.gasto = new long[capacidadHuespedes];
+        this.ultimaLlegada = new int[capacidadHuespedes];
+        this.primera = new int[capacidadHuespedes];
+    }
+
+    /**
+     * Guarda el precio base de una habitación, que se usará en los siguientes cálculos de gasto.
+     *
+     * @param idHabitacion El id de la habitación.
+     * @param centimos     El precio por noche, en céntimos.
+     */
+    public void ponerPrecio(long idHabitacion, long centimos) {
+        lock.writeLock().lock();
+        try {
+            precios.put(idHabitacion, centimos);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @param idHabitacion El id de la habitación eliminada.
+     */
+    public void quitarPrecio(long idHabitacion) {
+        lock.writeLock().lock();
+        try {
+            precios.remove(idHabitacion);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Calcula el gasto de una estancia con el precio base actual de sus habitaciones.
+     *
+     * @param habitaciones Las habitaciones de la reserva.
+     * @param noches       El número de noches.
+     * @return El gasto en céntimos; las habitaciones sin precio conocido no suman.
+     */
+    public long gasto(long[] habitaciones, int noches) {
+        lock.readLock().lock();
+        try {
+            long total = 0;
+            for (long habitacion : habitaciones) {
+                total += precios.get(habitacion, 0);
+            }
+            return total * noches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Reemplaza el aporte de una reserva.
+     *
+     * @param idReserva El id de la reserva.
+     * @param idHuesped El id de su huésped, o 0 si no tiene; en ese caso solo se quita el aporte anterior.
+     * @param noches    Noches de la reserva.
+     * @param gasto     Gasto de la reserva, en céntimos.
+     * @param llegada   Día de llegada (epoch day), o SIN_FECHA.
+     */
+    public void poner(long idReserva, long idHuesped, int noches, long gasto, int llegada) {
+        lock.writeLock().lock();
+        try {
+            quitarReserva(idReserva);
+            if (idHuesped != 0) {
+                agregarReserva(idReserva, idHuesped, noches, gasto, llegada);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Quita el aporte de una reserva eliminada.
+     *
+     * @param idReserva El id de la reserva.
+     */
+    public void quitar(long idReserva) {
+        lock.writeLock().lock();
+        try {
+            quitarReserva(idReserva);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @param idHuesped El id del huésped.
+     * @return Sus estadísticas, o null si no tiene reservas.
+     */
+    public Estadistica obtener(long idHuesped) {
+        lock.readLock().lock();
+        try {
+            int h = (int) posicionHuesped.get(idHuesped, NINGUNA);
+            return h == NINGUNA ? null : estadistica(h);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Elige los huéspedes con el valor más alto de un campo; a igual valor, el id menor.
+     *
+     * @param orden  El campo por el que se ordena.
+     * @param limite Número máximo de huéspedes.
+     * @return Los huéspedes, de mayor a menor valor.
+     */
+    public List<Estadistica> mejores(Orden orden, int limite) {
+        lock.readLock().lock();
+        try {
+            IntToLongFunction valor = valor(orden);
+            // Montículo con el peor de los elegidos arriba; solo entra quien mejora a ese.
+            PriorityQueue<Integer> elegidos = new PriorityQueue<>(limite + 1, (a, b) -> comparar(valor, a, b));
+            for (int h = 0; h < huespedes; h++) {
+                if (elegidos.size() < limite) {
+                    elegidos.add(h);
+                } else if (comparar(valor, h, elegidos.peek()) > 0) {
+                    elegidos.poll();
+                    elegidos.add(h);
+                }
+            }
+            List<Estadistica> resultado = new ArrayList<>(elegidos.size());
+            while (!elegidos.isEmpty()) {
+                resultado.add(estadistica(elegidos.poll()));
+            }
+            Collections.reverse(resultado);
+            return resultado;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return Número de huéspedes con reservas.
+     */
+    public int huespedes() {
+        lock.readLock().lock();
+        try {
+            return huespedes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return Número de reservas con huésped.
+     */
+    public int reservas() {
+        lock.readLock().lock();
+        try {
+            return posicionReserva.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private IntToLongFunction valor(Orden orden) {
+        long[] nochesActuales = noches;
+        long[] gastoActual = gasto;
+        int[] estanciasActuales = estancias;
+        int[] llegadasActuales = ultimaLlegada;
+        switch (orden) {
+        case NOCHES:
+            return h -> nochesActuales[h];
+        case GASTO:
+            return h -> gastoActual[h];
+        case ESTANCIAS:
+            return h -> estanciasActuales[h];
+        default:
+            return h -> llegadasActuales[h];
+        }
+    }
+
+    /**
+     * @return Positivo si el huésped a va antes que b: mayor valor o, a igual valor, menor id.
+     */
+    private int comparar(IntToLongFunction valor, int a, int b) {
+        int comparacion = Long.compare(valor.applyAsLong(a), valor.applyAsLong(b));
+        return comparacion != 0 ? comparacion : Long.compare(idHuesped[b], idHuesped[a]);
+    }
+
+    private Estadistica estadistica(int h) {
+        return new Estadistica(idHuesped[h], noches[h], estancias[h], gasto[h], ultimaLlegada[h]);
+    }
+
+    private void agregarReserva(long idReserva, long id, int nochesReserva, long gastoReserva, int llegada) {
+        int r = nuevaReserva();
+        posicionReserva.put(idReserva, r);
+        this.huespedReserva[r] = id;
+        this.nochesReserva[r] = nochesReserva;
+        this.gastoReserva[r] = gastoReserva;
+        this.llegadaReserva[r] = llegada;
+        int h = (int) posicionHuesped.get(id, NINGUNA);
+        if (h == NINGUNA) {
+            h = nuevoHuesped(id);
+        }
+        noches[h] += nochesReserva;
+        estancias[h]++;
+        gasto[h] += gastoReserva;
+        ultimaLlegada[h] = Math.max(ultimaLlegada[h], llegada);
+        anterior[r] = NINGUNA;
+        siguiente[r] = primera[h];
+        if (primera[h] != NINGUNA) {
+            anterior[primera[h]] = r;
+        }
+        primera[h] = r;
+    }
+
+    private void quitarReserva(long idReserva) {
+        int r = (int) posicionReserva.get(idReserva, NINGUNA);
+        if (r == NINGUNA) {
+            return;
+        }
+        posicionReserva.remove(idReserva);
+        int h = (int) posicionHuesped.get(huespedReserva[r], NINGUNA);
+        noches[h] -= nochesReserva[r];
+        estancias[h]--;
+        gasto[h] -= gastoReserva[r];
+        if (anterior[r] != NINGUNA) {
+            siguiente[anterior[r]] = siguiente[r];
+        } else {
+            primera[h] = siguiente[r];
+        }
+        if (siguiente[r] != NINGUNA) {
+            anterior[siguiente[r]] = anterior[r];
+        }
+        if (estancias[h] == 0) {
+            quitarHuesped(h);
+        } else if (llegadaReserva[r] != SIN_FECHA && llegadaReserva[r] == ultimaLlegada[h]) {
+            int ultima = SIN_FECHA;
+            for (int otra = primera[h]; otra != NINGUNA; otra = siguiente[otra]) {
+                ultima = Math.max(ultima, llegadaReserva[otra]);
+            }
+            ultimaLlegada[h] = ultima;
+        }
+        huespedReserva[r] = 0;
+        siguiente[r] = libre;
+        libre = r;
+    }
+
+    private int nuevaReserva() {
+        if (libre != NINGUNA) {
+            int r = libre;
+            libre = siguiente[r];
+            return r;
+        }
+        if (reservasUsadas == huespedReserva.length) {
+            int capacidad = huespedReserva.length * 2;
+            huespedReserva = Arrays.copyOf(huespedReserva, capacidad);
+            nochesReserva = Arrays.copyOf(nochesReserva, capacidad);
+            gastoReserva = Arrays.copyOf(gastoReserva, capacidad);
+            llegadaReserva = Arrays.copyOf(llegadaReserva, capacidad);
+            anterior = Arrays.copyOf(anterior, capacidad);
+            siguiente = Arrays.copyOf(siguiente, capacidad);
+        }
+        return reservasUsadas++;
+    }
+
+    private int nuevoHuesped(long id) {
+        if (huespedes == idHuesped.length) {
+            int capacidad = idHuesped.length * 2;
+            idHuesped = Arrays.copyOf(idHuesped, capacidad);
+            noches = Arrays.copyOf(noches, capacidad);
+            estancias = Arrays.copyOf(estancias, capacidad);
+            gasto = Arrays.copyOf(gasto, capacidad);
+            ultimaLlegada = Arrays.copyOf(ultimaLlegada, capacidad);
+            primera = Arrays.copyOf(primera, capacidad);
+        }
+        int h = huespedes++;
+        posicionHuesped.put(id, h);
+        idHuesped[h] = id;
+        noches[h] = 0;
+        estancias[h] = 0;
+        gasto[h] = 0;
+        ultimaLlegada[h] = SIN_FECHA;
+        primera[h] = NINGUNA;
+        return h;
+    }
+
+    /**
+     * Quita un huésped sin reservas moviendo el último a su posición.
+     */
+    private void quitarHuesped(int h) {
+        posicionHuesped.remove(idHuesped[h]);
+        int ultimo = --huespedes;
+        if (h != ultimo) {
+            idHuesped[h] = idHuesped[ultimo];
+            noches[h] = noches[ultimo];
+            estancias[h] = estancias[ultimo];
+            gasto[h] = gasto[ultimo];
+            ultimaLlegada[h] = ultimaLlegada[ultimo];
+            primera[h] = primera[ultimo];
+            posicionHuesped.put(idHuesped[h], h);
+        }
+    }
+
+    /**
+     * Estadísticas de un huésped en el momento de la consulta.
+     */
+    public static final class Estadistica {
+
+        private final long idHuesped;
+        private final long noches;
+        private final int estancias;
+        private final long gasto;
+        private final int ultimaLlegada;
+
+        private Estadistica(long idHuesped, long noches, int estancias, long gasto, int ultimaLlegada) {
+            this.idHuesped = idHuesped;
+            this.noches = noches;
+            this.estancias = estancias;
+            this.gasto = gasto;
+            this.ultimaLlegada = ultimaLlegada;
+        }
+
+        public long getIdHuesped() {
+            return idHuesped;
+        }
+
+        public long getNoches() {
+            return noches;
+        }
+
+        public int getEstancias() {
+            return estancias;
+        }
+
+        /**
+         * @return El gasto en céntimos.
+         */
+        public long getGasto() {
+            return gasto;
+        }
+
+        /**
+         * @return El día de la última llegada (epoch day), o SIN_FECHA.
+         */
+        public int getUltimaLlegada() {
+            return ultimaLlegada;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/**
+ * @file: Fechas.java
+ * @author: (c) 2026 MARCO
+ * @created: 18 oct. 2026 09:12:40
+ */
+package com.equipo02.hotel.util;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+
+/**
+ * Utilidades para convertir las fechas de las reservas a días (epoch day).
+ * Los índices en memoria trabajan con enteros para no crear objetos en las búsquedas.
+ */
+public final class Fechas {
+
+    private Fechas() {
+    }
+
+    /**
+     * Convierte una fecha a su número de día desde 1970-01-01.
+     * Soporta tanto java.util.Date como java.sql.Date (el tipo que devuelve Hibernate para columnas DATE).
+     *
+     * @param fecha La fecha a convertir.
+     * @return El número de día.
+     */
+    public static int aDia(Date fecha) {
+        return (int) aLocalDate(fecha).toEpochDay();
+    }
+
+    /**
+     * Convierte una fecha local a su número de día desde 1970-01-01.
+     *
+     * @param fecha La fecha a convertir.
+     * @return El número de día.
+     */
+    public static int aDia(LocalDate fecha) {
+        return (int) fecha.toEpochDay();
+    }
+
+    /**
+     * Convierte un java.util.Date a LocalDate.
+     *
+     * @param fecha La fecha a convertir.
+     * @return La fecha local equivalente.
+     */
+    public static LocalDate aLocalDate(Date fecha) {
+        if (fecha instanceof java.sql.Date) {
+            return ((java.sql.Date) fecha).toLocalDate();
+        }
+        return fecha.toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
+    }
+
+    /**
+     * Convierte un número de día a LocalDate.
+     *
+     * @param dia El número de día desde 1970-01-01.
+     * @return La fecha local equivalente.
+     */
+    public static LocalDate aLocalDate(int dia) {
+        return LocalDate.ofEpochDay(dia);
+    }
+
+    /**
+     * Convierte un LocalDate a java.util.Date al inicio del día.
+     *
+     * @param fecha La fecha local a convertir.
+     * @return La fecha equivalente.
+     */
+    public static Date aDate(LocalDate fecha) {
+        return Date.from(fecha.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+}
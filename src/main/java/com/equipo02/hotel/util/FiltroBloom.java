@@ -0,0 +1,97 @@
+/**
+ * @file: FiltroBloom.java
+ * @author: (c) 2026 Rodriguez
+ * @created: 19 oct. 2026 09:20:05
+ */
+package com.equipo02.hotel.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom para cadenas.
+ *
+ * Responde si un valor puede estar en el conjunto: un no es seguro, un sí debe confirmarse en
+ * otro sitio. Cada valor marca {@code funciones} bits derivados de un hash de 64 bits por doble
+ * hashing. El tamaño se calcula para la capacidad y la tasa de falsos positivos pedidas; si se
+ * agregan más valores la tasa empeora, pero nunca hay falsos negativos. No admite borrados.
+ * Es seguro para uso concurrente.
+ */
+public class FiltroBloom {
+
+    private final AtomicLongArray palabras;
+
+    private final long mascara;
+
+    private final int funciones;
+
+    private final int capacidad;
+
+    /**
+     * @param capacidad          Número de valores previsto.
+     * @param probabilidadFalsos Tasa de falsos positivos buscada con esa capacidad, entre 0 y 1.
+     */
+    public FiltroBloom(int capacidad, double probabilidadFalsos) {
+        this.capacidad = Math.max(capacidad, 1);
+        double bitsNecesarios = -this.capacidad * Math.log(probabilidadFalsos) / (Math.log(2) * Math.log(2));
+        long bits = Long.highestOneBit(Math.max((long) Math.ceil(bitsNecesarios) - 1, 63)) << 1;
+        this.palabras = new AtomicLongArray((int) (bits >>> 6));
+        this.mascara = bits - 1;
+        this.funciones = Math.max(1, (int) Math.round(bits / (double) this.capacidad * Math.log(2)));
+    }
+
+    /**
+     * Agrega un valor.
+     *
+     * @param valor El valor.
+     */
+    public void agregar(String valor) {
+        long hash = hash(valor);
+        long h1 = hash;
+        long h2 = (hash >>> 32) | 1;
+        for (int i = 0; i < funciones; i++) {
+            long bit = (h1 + i * h2) & mascara;
+            int palabra = (int) (bit >>> 6);
+            long marca = 1L << bit;
+            long actual = palabras.get(palabra);
+            while ((actual & marca) == 0 && !palabras.compareAndSet(palabra, actual, actual | marca)) {
+                actual = palabras.get(palabra);
+            }
+        }
+    }
+
+    /**
+     * Indica si el valor puede haberse agregado.
+     *
+     * @param valor El valor.
+     * @return false si seguro que no se agregó.
+     */
+    public boolean puedeContener(String valor) {
+        long hash = hash(valor);
+        long h1 = hash;
+        long h2 = (hash >>> 32) | 1;
+        for (int i = 0; i < funciones; i++) {
+            long bit = (h1 + i * h2) & mascara;
+            if ((palabras.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int getCapacidad() {
+        return capacidad;
+    }
+
+    /**
+     * FNV-1a de 64 bits sobre los caracteres, con la mezcla final de MurmurHash3 para repartir los bits altos.
+     */
+    private static long hash(String valor) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < valor.length(); i++) {
+            h = (h ^ valor.charAt(i)) * 0x100000001b3L;
+        }
+        h = (h ^ (h >>> 33)) * 0xff51afd7ed558ccdL;
+        h = (h ^ (h >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return h ^ (h >>> 33);
+    }
+}
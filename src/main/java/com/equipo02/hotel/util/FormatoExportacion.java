@@ -0,0 +1,52 @@
+/**
+ * @file: FormatoExportacion.java
+ * @author: (c) 2026 MARCO
+ * @created: 18 oct. 2026 14:02:05
+ */
+package com.equipo02.hotel.util;
+
+import com.equipo02.hotel.exception.BadRequestException;
+
+/**
+ * Formatos de salida de las exportaciones.
+ */
+public enum FormatoExportacion {
+
+    /** Un objeto JSON por línea. */
+    NDJSON("application/x-ndjson", "ndjson"),
+
+    /** Valores separados por comas con una fila de cabecera. */
+    CSV("text/csv;charset=UTF-8", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    FormatoExportacion(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Obtiene el formato a partir del parámetro de la petición.
+     *
+     * @param valor "ndjson" o "csv", sin distinguir mayúsculas.
+     * @return El formato.
+     * @throws BadRequestException si el formato no existe.
+     */
+    public static FormatoExportacion de(String valor) {
+        for (FormatoExportacion formato : values()) {
+            if (formato.extension.equalsIgnoreCase(valor)) {
+                return formato;
+            }
+        }
+        throw new BadRequestException("El formato debe ser 'ndjson' o 'csv'");
+    }
+}
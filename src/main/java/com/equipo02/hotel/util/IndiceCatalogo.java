@@ -0,0 +1,262 @@
+/**
+ * @file: IndiceCatalogo.java
+ * @author: (c)2026 Cueva
+ * @created: 18 oct 2026, 20:24:05
+ */
+package com.equipo02.hotel.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import com.equipo02.hotel.dto.HabitacionCatalogoDTO;
+
+/**
+ * Índice invertido del catálogo de habitaciones.
+ *
+ * Cada habitación ocupa una posición, en orden de id, y cada faceta es un BitSet sobre esas
+ * posiciones: uno por tipo, uno para las disponibles y uno por término de la descripción.
+ * Los precios se guardan además ordenados, con su posición, para resolver un rango con dos
+ * búsquedas binarias. Es inmutable; el catálogo construye uno nuevo cuando cambia una habitación.
+ */
+public final class IndiceCatalogo {
+
+    /** Índice sin habitaciones. */
+    public static final IndiceCatalogo VACIO = new IndiceCatalogo(List.of());
+
+    private final long[] ids;
+
+    private final HabitacionCatalogoDTO[] habitaciones;
+
+    /** Bitmap de cada tipo, con la clave en minúsculas. */
+    private final Map<String, BitSet> porTipo = new LinkedHashMap<>();
+
+    /** Nombre del tipo tal como se guardó la primera vez, por clave. */
+    private final Map<String, String> nombresTipo = new LinkedHashMap<>();
+
+    private final BitSet disponibles = new BitSet();
+
+    /** Bitmap de cada término de las descripciones, ordenados para buscar por prefijo. */
+    private final NavigableMap<String, BitSet> terminos = new TreeMap<>();
+
+    /** Precios en céntimos, ordenados de menor a mayor, y la posición de cada uno. */
+    private final long[] precios;
+    private final int[] posicionesPorPrecio;
+
+    /**
+     * @param habitaciones Las habitaciones a indexar.
+     */
+    public IndiceCatalogo(Collection<HabitacionCatalogoDTO> habitaciones) {
+        this.habitaciones = habitaciones.stream().sorted(Comparator.comparing(HabitacionCatalogoDTO::getIdHabitacion))
+                .toArray(HabitacionCatalogoDTO[]::new);
+        int total = this.habitaciones.length;
+        this.ids = new long[total];
+        long[][] paresPrecio = new long[total][];
+        for (int i = 0; i < total; i++) {
+            HabitacionCatalogoDTO habitacion = this.habitaciones[i];
+            ids[i] = habitacion.getIdHabitacion();
+            String clave = clave(habitacion.getTipo());
+            porTipo.computeIfAbsent(clave, t -> new BitSet(total)).set(i);
+            nombresTipo.putIfAbsent(clave, habitacion.getTipo());
+            if (habitacion.isDisponible()) {
+                disponibles.set(i);
+            }
+            for (String termino : terminos(habitacion.getDescripcion())) {
+                terminos.computeIfAbsent(termino, t -> new BitSet(total)).set(i);
+            }
+            paresPrecio[i] = new long[] { aCentimos(habitacion.getPrecio()), i };
+        }
+        Arrays.sort(paresPrecio, Comparator.comparingLong(par -> par[0]));
+        this.precios = new long[total];
+        this.posicionesPorPrecio = new int[total];
+        for (int i = 0; i < total; i++) {
+            precios[i] = paresPrecio[i][0];
+            posicionesPorPrecio[i] = (int) paresPrecio[i][1];
+        }
+    }
+
+    /**
+     * @return Número de habitaciones indexadas.
+     */
+    public int tamano() {
+        return ids.length;
+    }
+
+    /**
+     * @return Un bitmap nuevo con todas las posiciones.
+     */
+    public BitSet todas() {
+        BitSet todas = new BitSet(ids.length);
+        todas.set(0, ids.length);
+        return todas;
+    }
+
+    /**
+     * @param tipo El tipo, sin distinguir mayúsculas.
+     * @return Un bitmap nuevo con las habitaciones del tipo.
+     */
+    public BitSet porTipo(String tipo) {
+        BitSet bitmap = porTipo.get(clave(tipo));
+        return bitmap == null ? new BitSet() : (BitSet) bitmap.clone();
+    }
+
+    /**
+     * @param disponible true para las disponibles, false para las demás.
+     * @return Un bitmap nuevo con las habitaciones pedidas.
+     */
+    public BitSet porDisponible(boolean disponible) {
+        if (disponible) {
+            return (BitSet) disponibles.clone();
+        }
+        BitSet resto = todas();
+        resto.andNot(disponibles);
+        return resto;
+    }
+
+    /**
+     * @param minimo Precio mínimo en céntimos (inclusive).
+     * @param maximo Precio máximo en céntimos (inclusive).
+     * @return Un bitmap nuevo con las habitaciones cuyo precio está en el rango.
+     */
+    public BitSet porPrecio(long minimo, long maximo) {
+        BitSet bitmap = new BitSet(ids.length);
+        for (int i = primerPrecio(minimo); i < precios.length && precios[i] <= maximo; i++) {
+            bitmap.set(posicionesPorPrecio[i]);
+        }
+        return bitmap;
+    }
+
+    /**
+     * Busca las habitaciones cuya descripción contiene todos los términos del texto.
+     * Cada término del texto coincide con cualquier término de la descripción que empiece por él.
+     *
+     * @param texto El texto buscado.
+     * @return Un bitmap nuevo con las habitaciones encontradas.
+     */
+    public BitSet porTexto(String texto) {
+        BitSet resultado = todas();
+        for (String prefijo : terminos(texto)) {
+            BitSet coincidencias = new BitSet(ids.length);
+            for (BitSet bitmap : terminos.subMap(prefijo, true, prefijo + Character.MAX_VALUE, false).values()) {
+                coincidencias.or(bitmap);
+            }
+            resultado.and(coincidencias);
+        }
+        return resultado;
+    }
+
+    /**
+     * Cuenta las habitaciones de cada tipo dentro de un conjunto.
+     *
+     * @param conjunto Las posiciones a contar.
+     * @return El número de habitaciones por tipo, en orden de aparición, sin los tipos vacíos.
+     */
+    public Map<String, Integer> contarPorTipo(BitSet conjunto) {
+        Map<String, Integer> conteo = new LinkedHashMap<>();
+        BitSet interseccion = new BitSet(ids.length);
+        for (Map.Entry<String, BitSet> entrada : porTipo.entrySet()) {
+            interseccion.clear();
+            interseccion.or(entrada.getValue());
+            interseccion.and(conjunto);
+            int cantidad = interseccion.cardinality();
+            if (cantidad > 0) {
+                conteo.put(nombresTipo.get(entrada.getKey()), cantidad);
+            }
+        }
+        return conteo;
+    }
+
+    /**
+     * Cuenta las habitaciones disponibles dentro de un conjunto.
+     *
+     * @param conjunto Las posiciones a contar.
+     * @return El número de habitaciones disponibles.
+     */
+    public int contarDisponibles(BitSet conjunto) {
+        BitSet interseccion = (BitSet) conjunto.clone();
+        interseccion.and(disponibles);
+        return interseccion.cardinality();
+    }
+
+    /**
+     * @param cursor Un id de habitación.
+     * @return La primera posición con id mayor que el cursor.
+     */
+    public int posicionTras(long cursor) {
+        int posicion = Arrays.binarySearch(ids, cursor);
+        return posicion >= 0 ? posicion + 1 : -posicion - 1;
+    }
+
+    /**
+     * @param posicion Una posición del índice.
+     * @return La habitación de esa posición.
+     */
+    public HabitacionCatalogoDTO habitacion(int posicion) {
+        return habitaciones[posicion];
+    }
+
+    /**
+     * @param posicion Una posición del índice.
+     * @return El precio de la habitación en céntimos.
+     */
+    public long precio(int posicion) {
+        return aCentimos(habitaciones[posicion].getPrecio());
+    }
+
+    /**
+     * Convierte un precio a céntimos.
+     *
+     * @param precio El precio, o null.
+     * @return Los céntimos, 0 si el precio es null.
+     */
+    public static long aCentimos(BigDecimal precio) {
+        return precio == null ? 0 : precio.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    private int primerPrecio(long minimo) {
+        int bajo = 0;
+        int alto = precios.length;
+        while (bajo < alto) {
+            int medio = (bajo + alto) >>> 1;
+            if (precios[medio] < minimo) {
+                bajo = medio + 1;
+            } else {
+                alto = medio;
+            }
+        }
+        return bajo;
+    }
+
+    private static String clave(String tipo) {
+        return tipo == null ? "" : tipo.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Separa un texto en términos en minúsculas y sin tildes.
+     */
+    private static List<String> terminos(String texto) {
+        List<String> resultado = new ArrayList<>();
+        if (texto == null) {
+            return resultado;
+        }
+        String normalizado = Normalizer.normalize(texto, Normalizer.Form.NFD).replaceAll("\\p{M}", "")
+                .toLowerCase(Locale.ROOT);
+        for (String termino : normalizado.split("[^\\p{L}\\p{N}]+")) {
+            if (!termino.isEmpty()) {
+                resultado.add(termino);
+            }
+        }
+        return resultado;
+    }
+}
@@ -0,0 +1,542 @@
+/**
+ * @file: IndiceHuespedes.java
+ * @author: (c) 2026 Rodriguez
+ * @created: 19 oct. 2026 11:08:37
+ */
+package com.equipo02.hotel.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Índice de búsqueda de huéspedes en memoria.
+ *
+ * Los nombres se separan en términos en minúsculas y sin tildes. Cada término tiene la lista de
+ * huéspedes que lo usan y los términos se guardan ordenados, así que un prefijo se resuelve con
+ * un rango. Para las búsquedas aproximadas cada término se indexa también por sus trigramas, junto
+ * con su longitud, y los candidatos se confirman con la distancia de edición; solo se buscan cuando
+ * el término de la consulta tiene pocas coincidencias por prefijo. El teléfono, el correo y el DNI se buscan
+ * por coincidencia exacta sobre su forma normalizada.
+ *
+ * En una búsqueda por nombre todos los términos de la consulta deben coincidir, como término
+ * exacto, como prefijo o de forma aproximada. Se recorren solo los huéspedes del término de la
+ * consulta con menos candidatos, empezando por su coincidencia exacta, y los demás términos se
+ * comprueban sobre cada huésped. El recorrido termina en cuanto hay bastantes resultados con la
+ * mejor puntuación posible para la consulta, o tras {@link #CANDIDATOS_MAXIMOS} huéspedes.
+ * Las búsquedas comparten un bloqueo de lectura; las altas y bajas toman el de escritura.
+ */
+public class IndiceHuespedes {
+
+    /** Huéspedes que se revisan como máximo en una búsqueda por nombre. */
+    public static final int CANDIDATOS_MAXIMOS = 10_000;
+
+    /** Dígitos con los que se compara un teléfono; se ignora el prefijo internacional. */
+    private static final int DIGITOS_TELEFONO = 9;
+
+    /** Longitud mínima de un término para buscarlo de forma aproximada. */
+    private static final int LONGITUD_APROXIMADA = 4;
+
+    private static final double PESO_EXACTO = 3;
+    private static final double PESO_PREFIJO = 2;
+    private static final double PESO_APROXIMADO = 1;
+
+    /** Mejor puntuación primero; a igual puntuación, el nombre más corto y luego el id menor. */
+    private static final Comparator<Resultado> ORDEN = Comparator.comparingDouble(Resultado::getPuntuacion).reversed()
+            .thenComparingInt(resultado -> resultado.getNombreHuesped() == null ? 0 : resultado.getNombreHuesped().length())
+            .thenComparingLong(Resultado::getIdHuesped);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Documento> documentos = new HashMap<>();
+
+    private final NavigableMap<String, Ids> terminos = new TreeMap<>();
+
+    private final Map<String, Set<String>> trigramas = new HashMap<>();
+
+    private final Map<String, Ids> telefonos = new HashMap<>();
+
+    private final Map<String, Ids> correos = new HashMap<>();
+
+    private final Map<String, Long> dnis = new HashMap<>();
+
+    /**
+     * Agrega un huésped o reemplaza sus datos.
+     *
+     * @param idHuesped El id del huésped.
+     * @param dni       Su DNI.
+     * @param nombre    Su nombre.
+     * @param telefono  Su teléfono.
+     * @param correo    Su correo.
+     */
+    public void poner(long idHuesped, String dni, String nombre, String telefono, String correo) {
+        Documento documento = new Documento(idHuesped, dni, nombre, telefono, correo);
+        lock.writeLock().lock();
+        try {
+            quitarDocumento(idHuesped);
+            documentos.put(idHuesped, documento);
+            for (String termino : documento.terminos) {
+                Ids ids = terminos.get(termino);
+                if (ids == null) {
+                    ids = new Ids();
+                    terminos.put(termino, ids);
+                    for (String trigrama : trigramas(termino)) {
+                        trigramas.computeIfAbsent(claveTrigrama(trigrama, termino.length()), t -> new HashSet<>())
+                                .add(termino);
+                    }
+                }
+                ids.agregar(idHuesped);
+            }
+            if (documento.claveTelefono != null) {
+                telefonos.computeIfAbsent(documento.claveTelefono, t -> new Ids()).agregar(idHuesped);
+            }
+            if (documento.claveCorreo != null) {
+                correos.computeIfAbsent(documento.claveCorreo, c -> new Ids()).agregar(idHuesped);
+            }
+            if (documento.claveDni != null) {
+                dnis.put(documento.claveDni, idHuesped);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Quita un huésped.
+     *
+     * @param idHuesped El id del huésped.
+     */
+    public void quitar(long idHuesped) {
+        lock.writeLock().lock();
+        try {
+            quitarDocumento(idHuesped);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return Número de huéspedes indexados.
+     */
+    public int tamano() {
+        lock.readLock().lock();
+        try {
+            return documentos.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Busca huéspedes. Una consulta con '@' se busca como correo; una que solo tiene dígitos y
+     * separadores, como teléfono o DNI; cualquier otra, por los términos del nombre.
+     *
+     * @param consulta El texto buscado.
+     * @param limite   Número máximo de resultados.
+     * @return Los huéspedes encontrados, de mayor a menor puntuación.
+     */
+    public List<Resultado> buscar(String consulta, int limite) {
+        lock.readLock().lock();
+        try {
+            if (consulta.indexOf('@') >= 0) {
+                return exactos(correos.get(claveCorreo(consulta)), null, limite);
+            }
+            String telefono = claveTelefono(consulta);
+            if (telefono != null) {
+                return exactos(telefonos.get(telefono), dnis.get(claveDni(consulta)), limite);
+            }
+            return porNombre(terminos(consulta), limite);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Resultado> exactos(Ids ids, Long idDni, int limite) {
+        List<Resultado> resultados = new ArrayList<>();
+        if (idDni != null) {
+            resultados.add(documentos.get(idDni).resultado(PESO_EXACTO));
+        }
+        for (int i = 0; ids != null && i < ids.tamano && resultados.size() < limite; i++) {
+            if (idDni == null || ids.ids[i] != idDni) {
+                resultados.add(documentos.get(ids.ids[i]).resultado(PESO_EXACTO));
+            }
+        }
+        resultados.sort(ORDEN);
+        return resultados.size() > limite ? resultados.subList(0, limite) : resultados;
+    }
+
+    private List<Resultado> porNombre(List<String> consulta, int limite) {
+        if (consulta.isEmpty()) {
+            return List.of();
+        }
+        List<Set<String>> aproximados = new ArrayList<>(consulta.size());
+        int guia = 0;
+        long menorEstimacion = Long.MAX_VALUE;
+        double maxima = 0;
+        for (int i = 0; i < consulta.size(); i++) {
+            String buscado = consulta.get(i);
+            long estimacion = estimar(buscado);
+            Set<String> parecidos = estimacion < limite ? aproximados(buscado) : Set.of();
+            aproximados.add(parecidos);
+            for (String termino : parecidos) {
+                estimacion += terminos.get(termino).tamano;
+            }
+            if (estimacion == 0) {
+                return List.of();
+            }
+            if (estimacion < menorEstimacion) {
+                menorEstimacion = estimacion;
+                guia = i;
+            }
+            String siguiente = terminos.ceilingKey(buscado);
+            maxima += buscado.equals(siguiente) ? PESO_EXACTO
+                    : siguiente != null && siguiente.startsWith(buscado) ? PESO_PREFIJO : PESO_APROXIMADO;
+        }
+        String buscadoGuia = consulta.get(guia);
+        Iterable<Ids> listasGuia = Stream.concat(
+                terminos.subMap(buscadoGuia, true, buscadoGuia + Character.MAX_VALUE, false).values().stream(),
+                aproximados.get(guia).stream().map(terminos::get))::iterator;
+
+        PriorityQueue<Resultado> mejores = new PriorityQueue<>(limite + 1, ORDEN.reversed());
+        Set<Long> vistos = new HashSet<>();
+        for (Ids ids : listasGuia) {
+            for (int i = 0; i < ids.tamano; i++) {
+                long idHuesped = ids.ids[i];
+                if (!vistos.add(idHuesped)) {
+                    continue;
+                }
+                Documento documento = documentos.get(idHuesped);
+                double puntuacion = puntuar(documento, consulta, aproximados);
+                if (puntuacion > 0 && (mejores.size() < limite || puntuacion >= mejores.peek().getPuntuacion())) {
+                    mejores.add(documento.resultado(puntuacion));
+                    if (mejores.size() > limite) {
+                        mejores.poll();
+                    }
+                }
+                if (vistos.size() >= CANDIDATOS_MAXIMOS
+                        || (mejores.size() == limite && mejores.peek().getPuntuacion() >= maxima)) {
+                    return ordenar(mejores);
+                }
+            }
+        }
+        return ordenar(mejores);
+    }
+
+    private static List<Resultado> ordenar(PriorityQueue<Resultado> mejores) {
+        List<Resultado> resultados = new ArrayList<>(mejores);
+        resultados.sort(ORDEN);
+        return resultados;
+    }
+
+    /**
+     * Suma, por cada término de la consulta, la mejor coincidencia con los términos del huésped;
+     * 0 si alguno no coincide.
+     */
+    private static double puntuar(Documento documento, List<String> consulta, List<Set<String>> aproximados) {
+        double total = 0;
+        for (int i = 0; i < consulta.size(); i++) {
+            String buscado = consulta.get(i);
+            double mejor = 0;
+            for (String termino : documento.terminos) {
+                if (termino.equals(buscado)) {
+                    mejor = PESO_EXACTO;
+                    break;
+                }
+                if (termino.startsWith(buscado)) {
+                    mejor = PESO_PREFIJO;
+                } else if (mejor < PESO_APROXIMADO && aproximados.get(i).contains(termino)) {
+                    mejor = PESO_APROXIMADO;
+                }
+            }
+            if (mejor == 0) {
+                return 0;
+            }
+            total += mejor;
+        }
+        return total;
+    }
+
+    /**
+     * Número de huéspedes cuyo nombre tiene un término que empieza por el buscado, sin pasar mucho de CANDIDATOS_MAXIMOS.
+     */
+    private long estimar(String buscado) {
+        long total = 0;
+        for (Ids ids : terminos.subMap(buscado, true, buscado + Character.MAX_VALUE, false).values()) {
+            total += ids.tamano;
+            if (total >= CANDIDATOS_MAXIMOS) {
+                return total;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Términos indexados a una distancia de edición de 1 (2 si el buscado tiene más de 5 letras)
+     * que no empiezan por el término buscado.
+     */
+    private Set<String> aproximados(String buscado) {
+        if (buscado.length() < LONGITUD_APROXIMADA) {
+            return Set.of();
+        }
+        int distancia = buscado.length() <= 5 ? 1 : 2;
+        List<String> propios = trigramas(buscado);
+        // Cada edición cambia como mucho tres trigramas.
+        int comunesMinimos = Math.max(1, propios.size() - 3 * distancia);
+        Map<String, Integer> comunes = new HashMap<>();
+        for (int longitud = Math.max(1, buscado.length() - distancia); longitud <= buscado.length() + distancia; longitud++) {
+            for (String trigrama : propios) {
+                Set<String> conTrigrama = trigramas.get(claveTrigrama(trigrama, longitud));
+                if (conTrigrama != null) {
+                    for (String termino : conTrigrama) {
+                        comunes.merge(termino, 1, Integer::sum);
+                    }
+                }
+            }
+        }
+        Set<String> parecidos = new LinkedHashSet<>();
+        for (Map.Entry<String, Integer> candidato : comunes.entrySet()) {
+            String termino = candidato.getKey();
+            if (candidato.getValue() >= comunesMinimos && !termino.startsWith(buscado)
+                    && distancia(buscado, termino, distancia) <= distancia) {
+                parecidos.add(termino);
+            }
+        }
+        return parecidos;
+    }
+
+    /**
+     * Distancia de Levenshtein; devuelve maximo + 1 en cuanto se sabe que lo supera.
+     */
+    private static int distancia(String a, String b, int maximo) {
+        int[] anterior = new int[b.length() + 1];
+        int[] actual = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            anterior[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            actual[0] = i;
+            int menorFila = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int sustitucion = anterior[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                actual[j] = Math.min(sustitucion, Math.min(anterior[j], actual[j - 1]) + 1);
+                menorFila = Math.min(menorFila, actual[j]);
+            }
+            if (menorFila > maximo) {
+                return maximo + 1;
+            }
+            int[] intercambio = anterior;
+            anterior = actual;
+            actual = intercambio;
+        }
+        return anterior[b.length()];
+    }
+
+    private void quitarDocumento(long idHuesped) {
+        Documento documento = documentos.remove(idHuesped);
+        if (documento == null) {
+            return;
+        }
+        for (String termino : documento.terminos) {
+            Ids ids = terminos.get(termino);
+            if (ids != null && ids.quitar(idHuesped) && ids.tamano == 0) {
+                terminos.remove(termino);
+                for (String trigrama : trigramas(termino)) {
+                    String clave = claveTrigrama(trigrama, termino.length());
+                    Set<String> conTrigrama = trigramas.get(clave);
+                    if (conTrigrama != null && conTrigrama.remove(termino) && conTrigrama.isEmpty()) {
+                        trigramas.remove(clave);
+                    }
+                }
+            }
+        }
+        quitarDe(telefonos, documento.claveTelefono, idHuesped);
+        quitarDe(correos, documento.claveCorreo, idHuesped);
+        if (documento.claveDni != null) {
+            dnis.remove(documento.claveDni, idHuesped);
+        }
+    }
+
+    private static void quitarDe(Map<String, Ids> mapa, String clave, long idHuesped) {
+        if (clave == null) {
+            return;
+        }
+        Ids ids = mapa.get(clave);
+        if (ids != null && ids.quitar(idHuesped) && ids.tamano == 0) {
+            mapa.remove(clave);
+        }
+    }
+
+    /**
+     * Trigramas de un término, marcando el principio y el final con '$'.
+     */
+    private static List<String> trigramas(String termino) {
+        String marcado = "$" + termino + "$";
+        List<String> resultado = new ArrayList<>(marcado.length() - 2);
+        for (int i = 0; i + 3 <= marcado.length(); i++) {
+            resultado.add(marcado.substring(i, i + 3));
+        }
+        return resultado;
+    }
+
+    private static String claveTrigrama(String trigrama, int longitud) {
+        return trigrama + (char) longitud;
+    }
+
+    /**
+     * Separa un texto en términos en minúsculas y sin tildes, sin repetidos.
+     */
+    static List<String> terminos(String texto) {
+        if (texto == null) {
+            return List.of();
+        }
+        String normalizado = Normalizer.normalize(texto, Normalizer.Form.NFD).replaceAll("\\p{M}", "")
+                .toLowerCase(Locale.ROOT);
+        Set<String> resultado = new LinkedHashSet<>();
+        for (String termino : normalizado.split("[^\\p{L}\\p{N}]+")) {
+            if (!termino.isEmpty()) {
+                resultado.add(termino);
+            }
+        }
+        return new ArrayList<>(resultado);
+    }
+
+    /**
+     * Últimos DIGITOS_TELEFONO dígitos de un texto con solo dígitos y separadores; null si tiene otra cosa.
+     */
+    static String claveTelefono(String texto) {
+        if (texto == null) {
+            return null;
+        }
+        String digitos = texto.replaceAll("[\\s\\-+().]", "");
+        if (digitos.isEmpty() || !digitos.chars().allMatch(Character::isDigit)) {
+            return null;
+        }
+        return digitos.length() > DIGITOS_TELEFONO ? digitos.substring(digitos.length() - DIGITOS_TELEFONO) : digitos;
+    }
+
+    static String claveCorreo(String texto) {
+        return texto == null || texto.isBlank() ? null : texto.strip().toLowerCase(Locale.ROOT);
+    }
+
+    static String claveDni(String texto) {
+        return texto == null || texto.isBlank() ? null : texto.strip().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Lista de ids sin orden; se quita cambiando el elemento por el último.
+     */
+    private static final class Ids {
+
+        private long[] ids = new long[2];
+        private int tamano;
+
+        private void agregar(long id) {
+            if (tamano == ids.length) {
+                ids = Arrays.copyOf(ids, tamano * 2);
+            }
+            ids[tamano++] = id;
+        }
+
+        private boolean quitar(long id) {
+            for (int i = 0; i < tamano; i++) {
+                if (ids[i] == id) {
+                    ids[i] = ids[--tamano];
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Datos indexados de un huésped.
+     */
+    private static final class Documento {
+
+        private final long idHuesped;
+        private final String dni;
+        private final String nombre;
+        private final String telefono;
+        private final String correo;
+        private final String[] terminos;
+        private final String claveTelefono;
+        private final String claveCorreo;
+        private final String claveDni;
+
+        private Documento(long idHuesped, String dni, String nombre, String telefono, String correo) {
+            this.idHuesped = idHuesped;
+            this.dni = dni;
+            this.nombre = nombre;
+            this.telefono = telefono;
+            this.correo = correo;
+            this.terminos = IndiceHuespedes.terminos(nombre).toArray(String[]::new);
+            this.claveTelefono = claveTelefono(telefono);
+            this.claveCorreo = claveCorreo(correo);
+            this.claveDni = claveDni(dni);
+        }
+
+        private Resultado resultado(double puntuacion) {
+            return new Resultado(idHuesped, dni, nombre, telefono, correo, puntuacion);
+        }
+    }
+
+    /**
+     * Huésped encontrado con su puntuación.
+     */
+    public static final class Resultado {
+
+        private final long idHuesped;
+        private final String dniHuesped;
+        private final String nombreHuesped;
+        private final String telefonoHuesped;
+        private final String correoHuesped;
+        private final double puntuacion;
+
+        private Resultado(long idHuesped, String dniHuesped, String nombreHuesped, String telefonoHuesped,
+                String correoHuesped, double puntuacion) {
+            this.idHuesped = idHuesped;
+            this.dniHuesped = dniHuesped;
+            this.nombreHuesped = nombreHuesped;
+            this.telefonoHuesped = telefonoHuesped;
+            this.correoHuesped = correoHuesped;
+            this.puntuacion = puntuacion;
+        }
+
+        public long getIdHuesped() {
+            return idHuesped;
+        }
+
+        public String getDniHuesped() {
+            return dniHuesped;
+        }
+
+        public String getNombreHuesped() {
+            return nombreHuesped;
+        }
+
+        public String getTelefonoHuesped() {
+            return telefonoHuesped;
+        }
+
+        public String getCorreoHuesped() {
+            return correoHuesped;
+        }
+
+        public double getPuntuacion() {
+            return puntuacion;
+        }
+    }
+}
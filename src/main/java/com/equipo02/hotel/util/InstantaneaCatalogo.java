@@ -0,0 +1,94 @@
+/**
+ * @file: InstantaneaCatalogo.java
+ * @author: (c)2026 Cueva
+ * @created: 19 oct 2026, 00:12:47
+ */
+package com.equipo02.hotel.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Catálogo público de habitaciones ya serializado a JSON, en claro y comprimido con gzip, con
+ * su ETag. Es inmutable: los arreglos no se copian al entregarlos, así que no deben modificarse.
+ */
+public final class InstantaneaCatalogo {
+
+    private final byte[] json;
+    private final byte[] gzip;
+    private final String etag;
+    private final Instant generada;
+
+    private InstantaneaCatalogo(byte[] json, byte[] gzip, String etag, Instant generada) {
+        this.json = json;
+        this.gzip = gzip;
+        this.etag = etag;
+        this.generada = generada;
+    }
+
+    /**
+     * Comprime el JSON y calcula su ETag fuerte a partir del SHA-256 del contenido.
+     *
+     * @param json El catálogo serializado.
+     * @return La instantánea.
+     */
+    public static InstantaneaCatalogo de(byte[] json) {
+        ByteArrayOutputStream comprimido = new ByteArrayOutputStream(Math.max(json.length / 4, 64));
+        try (GZIPOutputStream salida = new GZIPOutputStream(comprimido)) {
+            salida.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new InstantaneaCatalogo(json, comprimido.toByteArray(), "\"" + resumen(json) + "\"", Instant.now());
+    }
+
+    /**
+     * Indica si la cabecera If-None-Match de la petición coincide con esta instantánea.
+     *
+     * @param ifNoneMatch El valor de la cabecera, o null.
+     * @return true si el cliente ya tiene este contenido.
+     */
+    public boolean coincide(String ifNoneMatch) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String valor : ifNoneMatch.split(",")) {
+            String candidato = valor.trim();
+            if (candidato.equals("*") || candidato.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public byte[] getJson() {
+        return json;
+    }
+
+    public byte[] getGzip() {
+        return gzip;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public Instant getGenerada() {
+        return generada;
+    }
+
+    private static String resumen(byte[] contenido) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(contenido);
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
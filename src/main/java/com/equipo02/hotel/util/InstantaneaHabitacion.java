@@ -0,0 +1,259 @@
+/**
+ * @file: InstantaneaHabitacion.java
+ * @author: (c)2026 Cueva
+ * @created: 18 oct 2026, 21:05:31
+ */
+package com.equipo02.hotel.util;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import com.equipo02.hotel.domain.Empleado;
+import com.equipo02.hotel.domain.Habitacion;
+import com.equipo02.hotel.domain.Huesped;
+import com.equipo02.hotel.domain.Reserva;
+
+/**
+ * Copia inmutable de una habitación y de los campos simples de sus reservas, para guardarla en caché.
+ *
+ * No conserva referencias a entidades de JPA: las fechas se guardan en milisegundos, el huésped y
+ * el empleado de cada reserva con sus campos simples y las demás relaciones como ids. Cada llamada
+ * a {@link #aHabitacion()} construye objetos nuevos y desconectados, que el llamador puede modificar
+ * sin afectar a la caché; dentro de una misma llamada, un huésped, un empleado o una habitación que
+ * aparece en varias reservas es el mismo objeto, como al leerlo de la base de datos. El aval del
+ * huésped y las demás habitaciones de la reserva solo llevan su id, y las listas de reservas del
+ * huésped, del empleado y de esas habitaciones quedan vacías.
+ */
+public final class InstantaneaHabitacion {
+
+    private final Long idHabitacion;
+    private final String tipo;
+    private final BigDecimal precio;
+    private final String descripcion;
+    private final boolean disponible;
+    private final List<InstantaneaReserva> reservas;
+
+    private InstantaneaHabitacion(Habitacion habitacion) {
+        this.idHabitacion = habitacion.getIdHabitacion();
+        this.tipo = habitacion.getTipo();
+        this.precio = habitacion.getPrecio();
+        this.descripcion = habitacion.getDescripcion();
+        this.disponible = habitacion.isDisponible();
+        List<InstantaneaReserva> copia = new ArrayList<>();
+        if (habitacion.getReservas() != null) {
+            for (Reserva reserva : habitacion.getReservas()) {
+                copia.add(new InstantaneaReserva(reserva));
+            }
+        }
+        this.reservas = List.copyOf(copia);
+    }
+
+    /**
+     * Copia una habitación cargada.
+     *
+     * @param habitacion La habitación, con sus reservas accesibles.
+     * @return La copia.
+     */
+    public static InstantaneaHabitacion de(Habitacion habitacion) {
+        return new InstantaneaHabitacion(habitacion);
+    }
+
+    /**
+     * Construye una habitación nueva y desconectada con los datos de la copia.
+     *
+     * @return La habitación.
+     */
+    public Habitacion aHabitacion() {
+        Habitacion habitacion = new Habitacion();
+        habitacion.setIdHabitacion(idHabitacion);
+        habitacion.setTipo(tipo);
+        habitacion.setPrecio(precio);
+        habitacion.setDescripcion(descripcion);
+        habitacion.setDisponible(disponible);
+        Map<Long, Huesped> huespedes = new HashMap<>();
+        Map<Long, Empleado> empleados = new HashMap<>();
+        Map<Long, Habitacion> otras = new HashMap<>();
+        otras.put(idHabitacion, habitacion);
+        List<Reserva> copia = new ArrayList<>(reservas.size());
+        for (InstantaneaReserva reserva : reservas) {
+            copia.add(reserva.aReserva(huespedes, empleados, otras));
+        }
+        habitacion.setReservas(copia);
+        return habitacion;
+    }
+
+    /**
+     * Llama a la acción con el id de cada reserva de la copia y las habitaciones que tenía al copiarla.
+     * El array es el de la copia y no debe modificarse.
+     *
+     * @param accion Recibe el id de la reserva y los ids de sus habitaciones.
+     */
+    public void recorrerReservas(BiConsumer<Long, long[]> accion) {
+        for (InstantaneaReserva reserva : reservas) {
+            accion.accept(reserva.idReserva, reserva.habitaciones);
+        }
+    }
+
+    /**
+     * @param idHuesped Un id de huésped.
+     * @return true si alguna reserva de la copia es de ese huésped.
+     */
+    public boolean contieneHuesped(Long idHuesped) {
+        for (InstantaneaReserva reserva : reservas) {
+            if (reserva.huesped != null && idHuesped.equals(reserva.huesped.idHuesped)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param idEmpleado Un id de empleado.
+     * @return true si alguna reserva de la copia la gestionó ese empleado.
+     */
+    public boolean contieneEmpleado(Long idEmpleado) {
+        for (InstantaneaReserva reserva : reservas) {
+            if (reserva.empleado != null && idEmpleado.equals(reserva.empleado.idEmpleado)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public Long getIdHabitacion() {
+        return idHabitacion;
+    }
+
+    /**
+     * Campos simples de una reserva de la habitación.
+     */
+    private static final class InstantaneaReserva {
+
+        private final Long idReserva;
+        private final Long fechaInicio;
+        private final Long fechaFin;
+        private final boolean estado;
+        private final String tipoSolicitado;
+        private final InstantaneaHuesped huesped;
+        private final InstantaneaEmpleado empleado;
+        private final long[] habitaciones;
+
+        private InstantaneaReserva(Reserva reserva) {
+            this.idReserva = reserva.getIdReserva();
+            this.fechaInicio = reserva.getFechaInicio() == null ? null : reserva.getFechaInicio().getTime();
+            this.fechaFin = reserva.getFechaFin() == null ? null : reserva.getFechaFin().getTime();
+            this.estado = reserva.isEstado();
+            this.tipoSolicitado = reserva.getTipoSolicitado();
+            this.huesped = reserva.getHuesped() == null ? null : new InstantaneaHuesped(reserva.getHuesped());
+            this.empleado = reserva.getEmpleado() == null ? null : new InstantaneaEmpleado(reserva.getEmpleado());
+            this.habitaciones = reserva.getHabitaciones() == null ? new long[0]
+                    : reserva.getHabitaciones().stream().mapToLong(Habitacion::getIdHabitacion).toArray();
+        }
+
+        private Reserva aReserva(Map<Long, Huesped> huespedes, Map<Long, Empleado> empleados,
+                Map<Long, Habitacion> otras) {
+            Reserva reserva = new Reserva();
+            reserva.setIdReserva(idReserva);
+            reserva.setFechaInicio(fechaInicio == null ? null : new Date(fechaInicio));
+            reserva.setFechaFin(fechaFin == null ? null : new Date(fechaFin));
+            reserva.setEstado(estado);
+            reserva.setTipoSolicitado(tipoSolicitado);
+            if (huesped != null) {
+                reserva.setHuesped(huespedes.computeIfAbsent(huesped.idHuesped, id -> huesped.aHuesped()));
+            }
+            if (empleado != null) {
+                reserva.setEmpleado(empleados.computeIfAbsent(empleado.idEmpleado, id -> empleado.aEmpleado()));
+            }
+            List<Habitacion> deLaReserva = new ArrayList<>(habitaciones.length);
+            for (long id : habitaciones) {
+                deLaReserva.add(otras.computeIfAbsent(id, InstantaneaReserva::soloId));
+            }
+            reserva.setHabitaciones(deLaReserva);
+            return reserva;
+        }
+
+        private static Habitacion soloId(Long id) {
+            Habitacion habitacion = new Habitacion();
+            habitacion.setIdHabitacion(id);
+            return habitacion;
+        }
+    }
+
+    /**
+     * Campos simples del huésped de una reserva.
+     */
+    private static final class InstantaneaHuesped {
+
+        private final Long idHuesped;
+        private final String dniHuesped;
+        private final String nombreHuesped;
+        private final String direccionHuesped;
+        private final String telefonoHuesped;
+        private final String correoHuesped;
+        private final Long idAval;
+
+        private InstantaneaHuesped(Huesped huesped) {
+            this.idHuesped = huesped.getIdHuesped();
+            this.dniHuesped = huesped.getDniHuesped();
+            this.nombreHuesped = huesped.getNombreHuesped();
+            this.direccionHuesped = huesped.getDireccionHuesped();
+            this.telefonoHuesped = huesped.getTelefonoHuesped();
+            this.correoHuesped = huesped.getCorreoHuesped();
+            this.idAval = huesped.getAval() == null ? null : huesped.getAval().getIdHuesped();
+        }
+
+        private Huesped aHuesped() {
+            Huesped huesped = new Huesped();
+            huesped.setIdHuesped(idHuesped);
+            huesped.setDniHuesped(dniHuesped);
+            huesped.setNombreHuesped(nombreHuesped);
+            huesped.setDireccionHuesped(direccionHuesped);
+            huesped.setTelefonoHuesped(telefonoHuesped);
+            huesped.setCorreoHuesped(correoHuesped);
+            if (idAval != null) {
+                Huesped aval = new Huesped();
+                aval.setIdHuesped(idAval);
+                huesped.setAval(aval);
+            }
+            return huesped;
+        }
+    }
+
+    /**
+     * Campos simples del empleado de una reserva.
+     */
+    private static final class InstantaneaEmpleado {
+
+        private final Long idEmpleado;
+        private final String dniEmpleado;
+        private final String nombreEmpleado;
+        private final String direccionEmpleado;
+        private final String telefonoEmpleado;
+        private final String correoEmpleado;
+
+        private InstantaneaEmpleado(Empleado empleado) {
+            this.idEmpleado = empleado.getIdEmpleado();
+            this.dniEmpleado = empleado.getDniEmpleado();
+            this.nombreEmpleado = empleado.getNombreEmpleado();
+            this.direccionEmpleado = empleado.getDireccionEmpleado();
+            this.telefonoEmpleado = empleado.getTelefonoEmpleado();
+            this.correoEmpleado = empleado.getCorreoEmpleado();
+        }
+
+        private Empleado aEmpleado() {
+            Empleado empleado = new Empleado();
+            empleado.setIdEmpleado(idEmpleado);
+            empleado.setDniEmpleado(dniEmpleado);
+            empleado.setNombreEmpleado(nombreEmpleado);
+            empleado.setDireccionEmpleado(direccionEmpleado);
+            empleado.setTelefonoEmpleado(telefonoEmpleado);
+            empleado.setCorreoEmpleado(correoEmpleado);
+            return empleado;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/**
+ * @file: IntervalosHabitacion.java
+ * @author: (c) 2026 MARCO
+ * @created: 18 oct. 2026 09:31:17
+ */
+package com.equipo02.hotel.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice de intervalos de ocupación de una habitación.
+ *
+ * Los intervalos se guardan ordenados por día de inicio. Para saber si un rango [desde, hasta)
+ * choca con alguna estadía basta con recorrer los intervalos que empiezan entre
+ * desde - duracionMaxima y hasta, por lo que el costo es O(log n + k) con k muy pequeño.
+ */
+public class IntervalosHabitacion {
+
+    private final NavigableSet<Intervalo> intervalos = new TreeSet<>();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** Duración de la estadía más larga registrada; nunca disminuye. */
+    private int duracionMaxima;
+
+    /**
+     * Registra la ocupación [desde, hasta) de una reserva.
+     *
+     * @param idReserva El id de la reserva.
+     * @param desde     Primer día ocupado (inclusivo).
+     * @param hasta     Día de salida (exclusivo).
+     */
+    public void agregar(long idReserva, int desde, int hasta) {
+        lock.writeLock().lock();
+        try {
+            intervalos.add(new Intervalo(desde, hasta, idReserva));
+            duracionMaxima = Math.max(duracionMaxima, hasta - desde);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Retira la ocupación de una reserva.
+     *
+     * @param idReserva El id de la reserva.
+     * @param desde     Primer día que ocupaba la reserva.
+     */
+    public void quitar(long idReserva, int desde) {
+        lock.writeLock().lock();
+        try {
+            intervalos.remove(new Intervalo(desde, desde, idReserva));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Indica si el rango [desde, hasta) no choca con ninguna reserva.
+     *
+     * @param desde          Primer día solicitado (inclusivo).
+     * @param hasta          Día de salida solicitado (exclusivo).
+     * @param reservaIgnorada Id de una reserva que no debe considerarse (por ejemplo, la que se está modificando), o -1.
+     * @return true si la habitación está libre en todo el rango.
+     */
+    public boolean estaLibre(int desde, int hasta, long reservaIgnorada) {
+        lock.readLock().lock();
+        try {
+            for (Intervalo intervalo : candidatos(desde, hasta)) {
+                if (intervalo.hasta > desde && intervalo.idReserva != reservaIgnorada) {
+                    return false;
+                }
+            }
+            return true;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Devuelve los intervalos que se superponen con el rango [desde, hasta).
+     *
+     * @param desde Primer día del rango (inclusivo).
+     * @param hasta Último día del rango (exclusivo).
+     * @return Una copia de los intervalos encontrados, ordenados por inicio.
+     */
+    public List<Intervalo> superpuestos(int desde, int hasta) {
+        lock.readLock().lock();
+        try {
+            List<Intervalo> resultado = new ArrayList<>();
+            for (Intervalo intervalo : candidatos(desde, hasta)) {
+                if (intervalo.hasta > desde) {
+                    resultado.add(intervalo);
+                }
+            }
+            return resultado;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private NavigableSet<Intervalo> candidatos(int desde, int hasta) {
+        Intervalo inicio = new Intervalo(desde - duracionMaxima, 0, Long.MIN_VALUE);
+        Intervalo fin = new Intervalo(hasta, 0, Long.MIN_VALUE);
+        return intervalos.subSet(inicio, true, fin, false);
+    }
+
+    /**
+     * Estadía [desde, hasta) de una reserva en la habitación.
+     * Se ordena por día de inicio y luego por id de reserva.
+     */
+    public static final class Intervalo implements Comparable<Intervalo> {
+
+        private final int desde;
+        private final int hasta;
+        private final long idReserva;
+
+        Intervalo(int desde, int hasta, long idReserva) {
+            this.desde = desde;
+            this.hasta = hasta;
+            this.idReserva = idReserva;
+        }
+
+        public int getDesde() {
+            return desde;
+        }
+
+        public int getHasta() {
+            return hasta;
+        }
+
+        public long getIdReserva() {
+            return idReserva;
+        }
+
+        @Override
+        public int compareTo(Intervalo otro) {
+            int comparacion = Integer.compare(desde, otro.desde);
+            return comparacion != 0 ? comparacion : Long.compare(idReserva, otro.idReserva);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Intervalo)) {
+                return false;
+            }
+            Intervalo otro = (Intervalo) obj;
+            return desde == otro.desde && idReserva == otro.idReserva;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * desde + Long.hashCode(idReserva);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/**
+ * @file: LectorCsv.java
+ * @author: (c) 2026 Rodriguez
+ * @created: 19 oct. 2026 10:02:33
+ */
+package com.equipo02.hotel.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lee registros CSV de un flujo, uno cada vez, en el formato que escribe {@link EscritorFilas}.
+ *
+ * Los campos se separan con ',' y los registros con CRLF o LF. Un campo entre comillas puede contener
+ * comas, saltos de línea y comillas dobladas (""). Los campos vacíos se leen como null. Se ignora
+ * el BOM de UTF-8 al principio del flujo.
+ */
+public class LectorCsv implements AutoCloseable {
+
+    private final Reader lector;
+
+    private int siguiente;
+
+    /**
+     * @param entrada Flujo en UTF-8.
+     * @throws IOException si falla la lectura del primer carácter.
+     */
+    public LectorCsv(InputStream entrada) throws IOException {
+        this.lector = new BufferedReader(new InputStreamReader(entrada, StandardCharsets.UTF_8), 16 * 1024);
+        this.siguiente = lector.read();
+        if (siguiente == '\uFEFF') {
+            siguiente = lector.read();
+        }
+    }
+
+    /**
+     * Lee el siguiente registro.
+     *
+     * @return Los campos del registro, o null al final del flujo.
+     * @throws IOException si falla la lectura.
+     * @throws IllegalStateException si un campo entre comillas no se cierra.
+     */
+    public List<String> leer() throws IOException {
+        if (siguiente == -1) {
+            return null;
+        }
+        List<String> campos = new ArrayList<>();
+        StringBuilder campo = new StringBuilder();
+        boolean entreComillas = false;
+        boolean conComillas = false;
+        while (true) {
+            int c = siguiente;
+            siguiente = c == -1 ? -1 : lector.read();
+            if (entreComillas) {
+                if (c == -1) {
+                    throw new IllegalStateException("Campo entre comillas sin cerrar");
+                }
+                if (c == '"') {
+                    if (siguiente == '"') {
+                        campo.append('"');
+                        siguiente = lector.read();
+                    } else {
+                        entreComillas = false;
+                    }
+                } else {
+                    campo.append((char) c);
+                }
+            } else if (c == '"' && campo.length() == 0 && !conComillas) {
+                entreComillas = true;
+                conComillas = true;
+            } else if (c == ',') {
+                campos.add(valor(campo, conComillas));
+                campo.setLength(0);
+                conComillas = false;
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r' && siguiente == '\n') {
+                    siguiente = lector.read();
+                }
+                campos.add(valor(campo, conComillas));
+                return campos;
+            } else {
+                campo.append((char) c);
+            }
+        }
+    }
+
+    private static String valor(StringBuilder campo, boolean conComillas) {
+        return campo.length() == 0 && !conComillas ? null : campo.toString();
+    }
+
+    @Override
+    public void close() throws IOException {
+        lector.close();
+    }
+}
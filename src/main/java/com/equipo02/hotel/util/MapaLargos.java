@@ -0,0 +1,151 @@
+/**
+ * @file: MapaLargos.java
+ * @author: (c) 2026 Rodriguez
+ * @created: 19 oct. 2026 14:10:26
+ */
+package com.equipo02.hotel.util;
+
+/**
+ * Mapa de long a long con direccionamiento abierto, sin objetos por entrada.
+ *
+ * Las claves y los valores se guardan en dos arrays; las colisiones se resuelven con sondeo lineal
+ * y al borrar se desplazan las entradas siguientes, así que no quedan marcas de borrado. La clave 0
+ * está reservada para las posiciones vacías, lo que sirve para ids generados por la base de datos.
+ * Se duplica al superar tres cuartos de ocupación. No es seguro para uso concurrente; quien lo use
+ * debe sincronizar el acceso.
+ */
+public class MapaLargos {
+
+    private static final int CAPACIDAD_INICIAL = 16;
+
+    private long[] claves;
+
+    private long[] valores;
+
+    private int mascara;
+
+    private int tamano;
+
+    public MapaLargos() {
+        this(CAPACIDAD_INICIAL);
+    }
+
+    /**
+     * @param capacidad Número de entradas previsto.
+     */
+    public MapaLargos(int capacidad) {
+        int posiciones = Integer.highestOneBit(Math.max(capacidad * 4 / 3, CAPACIDAD_INICIAL) - 1) << 1;
+        this.claves = new long[posiciones];
+        this.valores = new long[posiciones];
+        this.mascara = posiciones - 1;
+    }
+
+    /**
+     * @param clave La clave, distinta de 0.
+     * @param ausente El valor que se devuelve si la clave no está.
+     * @return El valor de la clave, o ausente.
+     */
+    public long get(long clave, long ausente) {
+        for (int i = posicion(clave); claves[i] != 0; i = (i + 1) & mascara) {
+            if (claves[i] == clave) {
+                return valores[i];
+            }
+        }
+        return ausente;
+    }
+
+    /**
+     * @param clave La clave, distinta de 0.
+     * @return true si la clave está.
+     */
+    public boolean contiene(long clave) {
+        for (int i = posicion(clave); claves[i] != 0; i = (i + 1) & mascara) {
+            if (claves[i] == clave) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Guarda el valor de una clave, reemplazando el anterior.
+     *
+     * @param clave La clave, distinta de 0.
+     * @param valor El valor.
+     */
+    public void put(long clave, long valor) {
+        if (clave == 0) {
+            throw new IllegalArgumentException("La clave 0 está reservada");
+        }
+        int i = posicion(clave);
+        while (claves[i] != 0) {
+            if (claves[i] == clave) {
+                valores[i] = valor;
+                return;
+            }
+            i = (i + 1) & mascara;
+        }
+        claves[i] = clave;
+        valores[i] = valor;
+        if (++tamano > (mascara + 1) / 4 * 3) {
+            crecer();
+        }
+    }
+
+    /**
+     * Quita una clave.
+     *
+     * @param clave La clave.
+     * @return true si estaba.
+     */
+    public boolean remove(long clave) {
+        int i = posicion(clave);
+        while (claves[i] != clave) {
+            if (claves[i] == 0) {
+                return false;
+            }
+            i = (i + 1) & mascara;
+        }
+        // Desplaza hacia atrás las entradas que quedarían inalcanzables tras el hueco.
+        int hueco = i;
+        for (int j = (hueco + 1) & mascara; claves[j] != 0; j = (j + 1) & mascara) {
+            int ideal = posicion(claves[j]);
+            if (((j - ideal) & mascara) >= ((j - hueco) & mascara)) {
+                claves[hueco] = claves[j];
+                valores[hueco] = valores[j];
+                hueco = j;
+            }
+        }
+        claves[hueco] = 0;
+        valores[hueco] = 0;
+        tamano--;
+        return true;
+    }
+
+    public int size() {
+        return tamano;
+    }
+
+    private void crecer() {
+        long[] clavesAnteriores = claves;
+        long[] valoresAnteriores = valores;
+        claves = new long[clavesAnteriores.length * 2];
+        valores = new long[clavesAnteriores.length * 2];
+        mascara = claves.length - 1;
+        tamano = 0;
+        for (int i = 0; i < clavesAnteriores.length; i++) {
+            if (clavesAnteriores[i] != 0) {
+                put(clavesAnteriores[i], valoresAnteriores[i]);
+            }
+        }
+    }
+
+    /**
+     * Posición ideal de una clave: mezcla final de MurmurHash3 para que ids consecutivos no se amontonen.
+     */
+    private int posicion(long clave) {
+        long h = (clave ^ (clave >>> 33)) * 0xff51afd7ed558ccdL;
+        h = (h ^ (h >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return (int) (h ^ (h >>> 33)) & mascara;
+    }
+}
@@ -0,0 +1,94 @@
+/**
+ * @file: OcupacionesReservas.java
+ * @author: (c) 2026 MARCO
+ * @created: 18 oct. 2026 12:35:52
+ */
+package com.equipo02.hotel.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+import com.equipo02.hotel.events.ReservaOcupacionEvent;
+
+/**
+ * Última ocupación conocida de cada reserva, tal como la guardan los índices en memoria para
+ * poder reemplazarla cuando llega un evento nuevo de la misma reserva.
+ *
+ * Los cambios de una misma reserva se aplican de uno en uno; los de reservas distintas pueden
+ * ir en paralelo.
+ */
+public class OcupacionesReservas {
+
+    private static final long[] SIN_HABITACIONES = new long[0];
+
+    private final Map<Long, ReservaOcupacionEvent> reservas = new ConcurrentHashMap<>();
+
+    /**
+     * Añade una habitación a la ocupación de una reserva durante la carga inicial, que recibe
+     * una fila por cada par reserva-habitación.
+     *
+     * @param idReserva    El id de la reserva.
+     * @param desde        Primer día ocupado (inclusivo).
+     * @param hasta        Día de salida (exclusivo).
+     * @param idHabitacion La habitación asignada.
+     */
+    public void agregarHabitacion(Long idReserva, int desde, int hasta, Long idHabitacion) {
+        reservas.compute(idReserva, (id, actual) -> {
+            long[] previas = actual == null ? SIN_HABITACIONES : actual.getHabitaciones();
+            long[] habitaciones = Arrays.copyOf(previas, previas.length + 1);
+            habitaciones[previas.length] = idHabitacion;
+            return ReservaOcupacionEvent.de(id, desde, hasta, habitaciones);
+        });
+    }
+
+    /**
+     * Registra la ocupación de una reserva sin avisar de la anterior; solo para la carga inicial.
+     *
+     * @param evento La ocupación de la reserva.
+     */
+    public void poner(ReservaOcupacionEvent evento) {
+        reservas.put(evento.getIdReserva(), evento);
+    }
+
+    /**
+     * Sustituye la ocupación de una reserva por la del evento. El cambio se aplica con la ocupación
+     * anterior, o null, y la nueva antes de que otro evento de la misma reserva pueda verlas.
+     *
+     * @param evento    El nuevo estado de la reserva.
+     * @param conservar false para olvidar la reserva en lugar de guardar el evento.
+     * @param cambio    Aplica el cambio al índice que usa esta clase.
+     */
+    public void reemplazar(ReservaOcupacionEvent evento, boolean conservar,
+            BiConsumer<ReservaOcupacionEvent, ReservaOcupacionEvent> cambio) {
+        reservas.compute(evento.getIdReserva(), (id, anterior) -> {
+            cambio.accept(anterior, evento);
+            return conservar ? evento : null;
+        });
+    }
+
+    /**
+     * Olvida las reservas que terminan antes del día indicado.
+     *
+     * @param dia El día.
+     */
+    public void quitarTerminadas(int dia) {
+        reservas.values().removeIf(reserva -> reserva.getHasta() <= dia);
+    }
+
+    /**
+     * @return Las ocupaciones conocidas; es una vista, no una copia.
+     */
+    public Collection<ReservaOcupacionEvent> valores() {
+        return reservas.values();
+    }
+
+    /**
+     * @return El número de reservas conocidas.
+     */
+    public int tamano() {
+        return reservas.size();
+    }
+}
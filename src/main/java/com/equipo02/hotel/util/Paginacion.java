@@ -0,0 +1,77 @@
+/**
+ * @file: Paginacion.java
+ * @author: (c) 2026 MARCO
+ * @created: 18 oct. 2026 13:11:28
+ */
+package com.equipo02.hotel.util;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import com.equipo02.hotel.dto.PaginaDTO;
+import com.equipo02.hotel.exception.BadRequestException;
+
+/**
+ * Utilidades para la paginación por cursor (keyset) de los listados.
+ *
+ * Las consultas filtran por id mayor que el cursor y ordenan por id, de modo que cada página
+ * se resuelve con un recorrido del índice de la clave primaria, sin OFFSET ni COUNT.
+ */
+public final class Paginacion {
+
+    /** Cursor inicial: todos los ids son mayores. */
+    public static final String CURSOR_INICIAL = "0";
+
+    /** Tamaño de página por defecto. */
+    public static final String LIMITE_POR_DEFECTO = "50";
+
+    /** Tamaño de página máximo. */
+    public static final int LIMITE_MAXIMO = 500;
+
+    private Paginacion() {
+    }
+
+    /**
+     * Valida el tamaño de página y construye el Pageable de la primera página.
+     * Spring Data pide limite + 1 filas para saber si hay una página siguiente.
+     *
+     * @param limite Tamaño de página solicitado.
+     * @return El Pageable para la consulta.
+     * @throws BadRequestException si el tamaño no está entre 1 y LIMITE_MAXIMO.
+     */
+    public static Pageable pagina(int limite) {
+        if (limite < 1 || limite > LIMITE_MAXIMO) {
+            throw new BadRequestException("El parámetro limit debe estar entre 1 y " + LIMITE_MAXIMO);
+        }
+        return PageRequest.of(0, limite);
+    }
+
+    /**
+     * Convierte un Slice en una PaginaDTO con el cursor y el enlace "next" de la página siguiente.
+     * El enlace conserva los filtros de la petición actual y solo reemplaza el cursor.
+     *
+     * @param slice     Resultado de la consulta.
+     * @param elementos Elementos ya convertidos a DTO, en el mismo orden que el slice.
+     * @param id        Función que obtiene el id de cada entidad del slice.
+     * @return La página.
+     */
+    public static <E, T> PaginaDTO<T> aPagina(Slice<E> slice, List<T> elementos, Function<E, Long> id) {
+        Long siguiente = null;
+        if (slice.hasNext() && slice.hasContent()) {
+            siguiente = id.apply(slice.getContent().get(slice.getNumberOfElements() - 1));
+        }
+        PaginaDTO<T> pagina = new PaginaDTO<>(elementos, siguiente, slice.getSize());
+        if (siguiente != null) {
+            pagina.add(Link.of(ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("cursor", siguiente).toUriString(), IanaLinkRelations.NEXT));
+        }
+        return pagina;
+    }
+}
@@ -0,0 +1,121 @@
+/**
+ * @file: RuedaTemporizadora.java
+ * @author: (c)2026 Cueva
+ * @created: 18 oct 2026, 17:05:48
+ */
+package com.equipo02.hotel.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Rueda de temporizadores (hashed timer wheel) para vencimientos con precisión de un tick.
+ *
+ * Cada vencimiento se guarda en la ranura de su tick, módulo el número de ranuras, así que
+ * programar y cancelar cuestan O(1) y cada avance solo recorre las ranuras de los ticks
+ * transcurridos. La cancelación es perezosa: la entrada se descarta cuando se visita su ranura.
+ * No es segura para uso concurrente; quien la use debe sincronizar el acceso.
+ *
+ * @param <T> Tipo del valor asociado a cada vencimiento.
+ */
+public class RuedaTemporizadora<T> {
+
+    private final long duracionTick;
+
+    private final List<ArrayDeque<Entrada<T>>> ranuras;
+
+    private final int mascara;
+
+    /** Último tick procesado. */
+    private long tick;
+
+    /**
+     * @param duracionTick Duración de un tick en milisegundos.
+     * @param numeroRanuras Número de ranuras; se redondea a la siguiente potencia de dos.
+     * @param ahora Instante inicial en milisegundos.
+     */
+    public RuedaTemporizadora(long duracionTick, int numeroRanuras, long ahora) {
+        int tamano = Integer.highestOneBit(Math.max(numeroRanuras - 1, 1)) << 1;
+        this.duracionTick = duracionTick;
+        this.ranuras = new ArrayList<>(tamano);
+        for (int i = 0; i < tamano; i++) {
+            ranuras.add(new ArrayDeque<>());
+        }
+        this.mascara = tamano - 1;
+        this.tick = ahora / duracionTick;
+    }
+
+    /**
+     * Programa un vencimiento. Si el instante ya pasó, vence en el siguiente avance.
+     *
+     * @param valor El valor que se entregará al vencer.
+     * @param vence Instante de vencimiento en milisegundos.
+     * @return La entrada, para poder cancelarla.
+     */
+    public Entrada<T> programar(T valor, long vence) {
+        long objetivo = Math.max(Math.floorDiv(vence + duracionTick - 1, duracionTick), tick + 1);
+        Entrada<T> entrada = new Entrada<>(valor, objetivo);
+        ranuras.get((int) (objetivo & mascara)).add(entrada);
+        return entrada;
+    }
+
+    /**
+     * Cancela un vencimiento programado.
+     *
+     * @param entrada La entrada devuelta por {@link #programar}.
+     */
+    public void cancelar(Entrada<T> entrada) {
+        entrada.cancelada = true;
+    }
+
+    /**
+     * Avanza la rueda hasta el instante indicado y entrega los valores vencidos.
+     *
+     * @param ahora   Instante actual en milisegundos.
+     * @param alVencer Recibe cada valor vencido.
+     * @return El número de valores vencidos.
+     */
+    public int avanzar(long ahora, Consumer<T> alVencer) {
+        long destino = ahora / duracionTick;
+        int vencidos = 0;
+        for (long t = tick + 1; t <= destino && t <= tick + ranuras.size(); t++) {
+            Iterator<Entrada<T>> it = ranuras.get((int) (t & mascara)).iterator();
+            while (it.hasNext()) {
+                Entrada<T> entrada = it.next();
+                if (entrada.cancelada) {
+                    it.remove();
+                } else if (entrada.objetivo <= destino) {
+                    it.remove();
+                    alVencer.accept(entrada.valor);
+                    vencidos++;
+                }
+            }
+        }
+        tick = Math.max(tick, destino);
+        return vencidos;
+    }
+
+    /**
+     * Vencimiento programado en la rueda.
+     *
+     * @param <T> Tipo del valor asociado.
+     */
+    public static final class Entrada<T> {
+
+        private final T valor;
+        private final long objetivo;
+        private boolean cancelada;
+
+        private Entrada(T valor, long objetivo) {
+            this.valor = valor;
+            this.objetivo = objetivo;
+        }
+
+        public T getValor() {
+            return valor;
+        }
+    }
+}
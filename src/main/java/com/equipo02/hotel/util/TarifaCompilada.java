@@ -0,0 +1,163 @@
+/**
+ * @file: TarifaCompilada.java
+ * @author: (c)2026 Cueva
+ * @created: 18 oct 2026, 18:20:41
+ */
+package com.equipo02.hotel.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Comparator;
+import java.util.List;
+
+import com.equipo02.hotel.domain.ReglaTarifa;
+import com.equipo02.hotel.domain.TipoReglaTarifa;
+
+/**
+ * Reglas de tarifa de un tipo de habitación compiladas a enteros.
+ *
+ * Los ajustes de temporada y de día de la semana se resuelven de antemano en un factor por
+ * noche, en millonésimas (1.000.000 = precio base), para un horizonte de días a partir de un
+ * origen; fuera del horizonte el factor se calcula recorriendo las reglas. Los porcentajes se
+ * guardan en puntos básicos. Es inmutable y puede compartirse entre hilos.
+ */
+public final class TarifaCompilada {
+
+    /** Factor neutro: el precio base. */
+    public static final long FACTOR_BASE = 1_000_000L;
+
+    private static final long PUNTOS_BASICOS = 10_000L;
+
+    private final int origen;
+
+    /** Factor de cada noche del horizonte, en millonésimas. */
+    private final long[] factores;
+
+    /** Reglas por noche, en columnas: vigencia [desde, hasta], día de la semana (0 = todos) y ajuste. */
+    private final int[] desde;
+    private final int[] hasta;
+    private final int[] diaSemana;
+    private final int[] ajuste;
+
+    /** Reglas de estadía ordenadas por minNoches ascendente. */
+    private final int[] minNoches;
+    private final int[] ajusteEstadia;
+
+    /**
+     * Compila las reglas de un tipo.
+     *
+     * @param reglas     Las reglas del tipo.
+     * @param origen     Primer día del horizonte (epoch day).
+     * @param horizonte  Número de días precalculados.
+     */
+    public TarifaCompilada(List<ReglaTarifa> reglas, int origen, int horizonte) {
+        List<ReglaTarifa> porNoche = reglas.stream().filter(r -> r.getClase() != TipoReglaTarifa.ESTADIA)
+                .sorted(Comparator.comparing(ReglaTarifa::getIdRegla, Comparator.nullsLast(Comparator.naturalOrder())))
+                .toList();
+        List<ReglaTarifa> estadias = reglas.stream().filter(r -> r.getClase() == TipoReglaTarifa.ESTADIA)
+                .sorted(Comparator.comparing(ReglaTarifa::getMinNoches)).toList();
+        this.origen = origen;
+        this.desde = new int[porNoche.size()];
+        this.hasta = new int[porNoche.size()];
+        this.diaSemana = new int[porNoche.size()];
+        this.ajuste = new int[porNoche.size()];
+        for (int i = 0; i < porNoche.size(); i++) {
+            ReglaTarifa regla = porNoche.get(i);
+            desde[i] = regla.getFechaDesde() == null ? Integer.MIN_VALUE : Fechas.aDia(regla.getFechaDesde());
+            hasta[i] = regla.getFechaHasta() == null ? Integer.MAX_VALUE : Fechas.aDia(regla.getFechaHasta());
+            diaSemana[i] = regla.getClase() == TipoReglaTarifa.DIA_SEMANA ? regla.getDiaSemana() : 0;
+            ajuste[i] = aPuntosBasicos(regla.getPorcentaje());
+        }
+        this.minNoches = new int[estadias.size()];
+        this.ajusteEstadia = new int[estadias.size()];
+        for (int i = 0; i < estadias.size(); i++) {
+            minNoches[i] = estadias.get(i).getMinNoches();
+            ajusteEstadia[i] = aPuntosBasicos(estadias.get(i).getPorcentaje());
+        }
+        this.factores = new long[horizonte];
+        for (int i = 0; i < horizonte; i++) {
+            factores[i] = calcularFactor(origen + i);
+        }
+    }
+
+    /**
+     * Devuelve el factor de una noche.
+     *
+     * @param dia El día (epoch day).
+     * @return El factor en millonésimas.
+     */
+    public long factor(int dia) {
+        int indice = dia - origen;
+        if (indice >= 0 && indice < factores.length) {
+            return factores[indice];
+        }
+        return calcularFactor(dia);
+    }
+
+    /**
+     * Devuelve el ajuste por estadía de la regla con mayor minNoches que cumpla la estadía.
+     *
+     * @param noches Número de noches de la estadía.
+     * @return El ajuste en puntos básicos, o 0 si ninguna regla aplica.
+     */
+    public int ajusteEstadia(int noches) {
+        for (int i = minNoches.length - 1; i >= 0; i--) {
+            if (minNoches[i] <= noches) {
+                return ajusteEstadia[i];
+            }
+        }
+        return 0;
+    }
+
+    public int getOrigen() {
+        return origen;
+    }
+
+    public int getHorizonte() {
+        return factores.length;
+    }
+
+    /**
+     * Aplica un ajuste en puntos básicos a un importe, redondeando a la unidad más cercana.
+     *
+     * @param importe El importe.
+     * @param puntos  El ajuste en puntos básicos.
+     * @return El importe ajustado.
+     */
+    public static long aplicar(long importe, int puntos) {
+        return redondear(importe * (PUNTOS_BASICOS + puntos), PUNTOS_BASICOS);
+    }
+
+    /**
+     * Calcula el precio de una noche en céntimos.
+     *
+     * @param base   Precio base en céntimos.
+     * @param factor Factor en millonésimas.
+     * @return El precio de la noche en céntimos.
+     */
+    public static long precioNoche(long base, long factor) {
+        return redondear(base * factor, FACTOR_BASE);
+    }
+
+    /**
+     * Divide redondeando la mitad hacia arriba.
+     */
+    public static long redondear(long numerador, long denominador) {
+        return Math.floorDiv(numerador + denominador / 2, denominador);
+    }
+
+    private long calcularFactor(int dia) {
+        int dow = Math.floorMod(dia + 3, 7) + 1;
+        long factor = FACTOR_BASE;
+        for (int i = 0; i < ajuste.length; i++) {
+            if (dia >= desde[i] && dia <= hasta[i] && (diaSemana[i] == 0 || diaSemana[i] == dow)) {
+                factor = aplicar(factor, ajuste[i]);
+            }
+        }
+        return factor;
+    }
+
+    private static int aPuntosBasicos(BigDecimal porcentaje) {
+        return porcentaje.movePointRight(2).setScale(0, RoundingMode.HALF_UP).intValueExact();
+    }
+}
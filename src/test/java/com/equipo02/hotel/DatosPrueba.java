@@ -0,0 +1,103 @@
+/**
+ * @file: DatosPrueba.java
+ * @author: (c) 2026 MARCO
+ * @created: 20 oct. 2026 09:12:40
+ */
+package com.equipo02.hotel;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.equipo02.hotel.domain.Empleado;
+import com.equipo02.hotel.domain.Habitacion;
+import com.equipo02.hotel.domain.Huesped;
+import com.equipo02.hotel.domain.Reserva;
+import com.equipo02.hotel.exception.EntityNotFoundException;
+import com.equipo02.hotel.exception.IllegalOperationException;
+import com.equipo02.hotel.repositories.EmpleadoRepository;
+import com.equipo02.hotel.services.HabitacionService;
+import com.equipo02.hotel.services.HuespedService;
+import com.equipo02.hotel.services.ReservaService;
+import com.equipo02.hotel.util.Fechas;
+
+/**
+ * Crea los huéspedes, empleados, habitaciones y reservas que usan las pruebas de integración.
+ *
+ * Los huéspedes, las habitaciones y las reservas se guardan con los servicios, de modo que también
+ * los conocen los índices en memoria.
+ */
+@Component
+public class DatosPrueba {
+
+	/** Base de los DNI generados; cada ejecución parte de un valor distinto. */
+	private static final AtomicInteger SIGUIENTE = new AtomicInteger((int) (System.nanoTime() % 50_000_000));
+
+	@Autowired
+	private EmpleadoRepository empleadoRepository;
+	@Autowired
+	private HuespedService huespedService;
+	@Autowired
+	private HabitacionService habitacionService;
+	@Autowired
+	private ReservaService reservaService;
+
+	/**
+	 * @return Un DNI de 8 cifras que no se ha usado en esta ejecución.
+	 */
+	public static String dni() {
+		return String.format("%08d", SIGUIENTE.incrementAndGet() % 100_000_000);
+	}
+
+	/**
+	 * Guarda un huésped con el servicio, de modo que lo conocen el índice de DNI y el grafo de avales.
+	 */
+	public Huesped nuevoHuesped(Huesped aval) throws EntityNotFoundException, IllegalOperationException {
+		Huesped huesped = new Huesped();
+		huesped.setDniHuesped(dni());
+		huesped.setNombreHuesped("Huesped de prueba");
+		huesped.setTelefonoHuesped("600000000");
+		huesped.setCorreoHuesped(huesped.getDniHuesped() + "@hotel.test");
+		huesped.setAval(aval);
+		return huespedService.grabar(huesped);
+	}
+
+	public Empleado nuevoEmpleado() {
+		Empleado empleado = new Empleado();
+		empleado.setDniEmpleado(dni());
+		empleado.setNombreEmpleado("Empleado de prueba");
+		return empleadoRepository.save(empleado);
+	}
+
+	/**
+	 * Guarda una habitación con el servicio, de modo que la conocen los índices en memoria.
+	 */
+	public Habitacion nuevaHabitacion(String tipo) throws IllegalOperationException {
+		Habitacion habitacion = new Habitacion();
+		habitacion.setTipo(tipo);
+		habitacion.setPrecio(new BigDecimal("80.00"));
+		habitacion.setDescripcion("Habitación de prueba");
+		habitacion.setDisponible(true);
+		return habitacionService.guardarHabitacion(habitacion);
+	}
+
+	/**
+	 * Guarda una reserva activa con el servicio, de modo que también ocupa sus noches.
+	 */
+	public Reserva nuevaReserva(Huesped huesped, Empleado empleado, List<Habitacion> habitaciones, LocalDate llegada,
+			int noches) throws IllegalOperationException {
+		Reserva reserva = new Reserva();
+		reserva.setFechaInicio(Fechas.aDate(llegada));
+		reserva.setFechaFin(Fechas.aDate(llegada.plusDays(noches)));
+		reserva.setEstado(true);
+		reserva.setHuesped(huesped);
+		reserva.setEmpleado(empleado);
+		reserva.setHabitaciones(new ArrayList<>(habitaciones));
+		return reservaService.guardarReserva(reserva);
+	}
+}
@@ -0,0 +1,89 @@
+/**
+ * @file: ContadorSentencias.java
+ * @author: (c) 2026 MARCO
+ * @created: 18 oct. 2026 16:58:31
+ */
+package com.equipo02.hotel.controllers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Registra las sentencias SQL que Hibernate prepara en el hilo que está midiendo.
+ *
+ * Las estadísticas de Hibernate son globales y también cuentan lo que hacen a la vez las tareas
+ * programadas; este inspector solo mira el hilo de la petición, que es donde corren el servicio y
+ * los oyentes que se ejecutan al confirmar. Se registra en las propiedades de prueba.
+ */
+public class ContadorSentencias implements StatementInspector {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final ThreadLocal<List<String>> SENTENCIAS = new ThreadLocal<>();
+
+	/**
+	 * Empieza a registrar las sentencias del hilo actual.
+	 */
+	static void empezar() {
+		SENTENCIAS.set(new ArrayList<>());
+	}
+
+	/**
+	 * Deja de registrar y devuelve lo registrado desde {@link #empezar()}.
+	 */
+	static Sentencias terminar() {
+		List<String> registradas = SENTENCIAS.get();
+		SENTENCIAS.remove();
+		return new Sentencias(registradas == null ? List.of() : registradas);
+	}
+
+	@Override
+	public String inspect(String sql) {
+		List<String> registradas = SENTENCIAS.get();
+		if (registradas != null) {
+			registradas.add(sql);
+		}
+		return sql;
+	}
+
+	/**
+	 * Sentencias preparadas durante una medición, en orden.
+	 */
+	static final class Sentencias {
+
+		private final List<String> sql;
+
+		private Sentencias(List<String> sql) {
+			this.sql = sql;
+		}
+
+		/**
+		 * @return El número de sentencias preparadas.
+		 */
+		int total() {
+			return sql.size();
+		}
+
+		/**
+		 * @return Las consultas que se preparan antes de la primera escritura, o todas si no hay escrituras.
+		 */
+		int consultasAntesDeEscribir() {
+			int consultas = 0;
+			for (String sentencia : sql) {
+				if (!sentencia.trim().toLowerCase(Locale.ROOT).startsWith("select")) {
+					break;
+				}
+				consultas++;
+			}
+			return consultas;
+		}
+
+		@Override
+		public String toString() {
+			return String.join("\n", sql);
+		}
+	}
+}
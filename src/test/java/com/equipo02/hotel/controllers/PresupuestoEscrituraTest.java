@@ -0,0 +1,150 @@
+/**
+ * @file: PresupuestoEscrituraTest.java
+ * @author: (c) 2026 MARCO
+ * @created: 18 oct. 2026 16:34:48
+ */
+package com.equipo02.hotel.controllers;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.equipo02.hotel.controllers.ContadorSentencias.Sentencias;
+import com.equipo02.hotel.domain.Habitacion;
+import com.equipo02.hotel.domain.Huesped;
+import com.equipo02.hotel.domain.Reserva;
+
+/**
+ * Presupuesto de sentencias de los endpoints de escritura de huéspedes, habitaciones y reservas.
+ *
+ * Cada escritura valida contra los índices en memoria, así que como mucho carga la fila que modifica
+ * antes de escribir. El total incluye lo que lee la respuesta.
+ */
+class PresupuestoEscrituraTest extends PruebaSentencias {
+
+	@Test
+	void crearHuespedNoConsultaAntesDeInsertar() throws Exception {
+		Sentencias sentencias = medir(post("/api/huespedes").content(huespedJson(dni(), null)), status().isCreated());
+
+		assertPresupuesto(sentencias, 0, 1);
+	}
+
+	@Test
+	void crearHuespedConAvalNoConsultaAntesDeInsertar() throws Exception {
+		Huesped aval = nuevoHuesped(null);
+
+		Sentencias sentencias = medir(post("/api/huespedes").content(huespedJson(dni(), aval.getIdHuesped())),
+				status().isCreated());
+
+		assertPresupuesto(sentencias, 0, 3);
+	}
+
+	@Test
+	void actualizarHuespedSoloCargaSuFila() throws Exception {
+		Huesped huesped = nuevoHuesped(null);
+
+		Sentencias mismoDni = medir(put("/api/huespedes/" + huesped.getIdHuesped())
+				.content(huespedJson(huesped.getDniHuesped(), null)), status().isOk());
+		Sentencias otroDni = medir(put("/api/huespedes/" + huesped.getIdHuesped()).content(huespedJson(dni(), null)),
+				status().isOk());
+
+		assertPresupuesto(mismoDni, 1, 2);
+		assertPresupuesto(otroDni, 1, 2);
+	}
+
+	@Test
+	void actualizarHuespedParcialmenteSoloCargaSuFila() throws Exception {
+		Huesped huesped = nuevoHuesped(null);
+
+		Sentencias sentencias = medir(patch("/api/huespedes/" + huesped.getIdHuesped()).content(huespedJson(dni(), null)),
+				status().isOk());
+
+		assertPresupuesto(sentencias, 1, 2);
+	}
+
+	@Test
+	void asignarAvalSoloCargaElHuesped() throws Exception {
+		Huesped huesped = nuevoHuesped(null);
+		Huesped aval = nuevoHuesped(null);
+
+		Sentencias sentencias = medir(patch("/api/huespedes/" + huesped.getIdHuesped() + "/aval/" + aval.getIdHuesped()),
+				status().isOk());
+
+		assertPresupuesto(sentencias, 1, 7);
+	}
+
+	@Test
+	void eliminarHuespedSoloCargaSuDni() throws Exception {
+		Huesped huesped = nuevoHuesped(null);
+
+		Sentencias sentencias = medir(delete("/api/huespedes/" + huesped.getIdHuesped()), status().isOk());
+
+		assertPresupuesto(sentencias, 1, 2);
+	}
+
+	@Test
+	void crearHabitacionNoConsultaAntesDeInsertar() throws Exception {
+		Sentencias sentencias = medir(post("/api/habitaciones").content(habitacionJson("suite")), status().isCreated());
+
+		assertPresupuesto(sentencias, 0, 2);
+	}
+
+	@Test
+	void actualizarHabitacionSoloCargaSuFila() throws Exception {
+		Habitacion habitacion = nuevaHabitacion("doble");
+
+		Sentencias mismoTipo = medir(put("/api/habitaciones/" + habitacion.getIdHabitacion())
+				.content(habitacionJson("doble")), status().isOk());
+		Sentencias otroTipo = medir(put("/api/habitaciones/" + habitacion.getIdHabitacion())
+				.content(habitacionJson("triple")), status().isOk());
+
+		assertPresupuesto(mismoTipo, 1, 2);
+		assertPresupuesto(otroTipo, 1, 3);
+	}
+
+	@Test
+	void actualizarHabitacionParcialmenteSoloCargaSuFila() throws Exception {
+		Habitacion habitacion = nuevaHabitacion("doble");
+
+		Sentencias sentencias = medir(patch("/api/habitaciones/" + habitacion.getIdHabitacion())
+				.content("{\"precio\":95.00}"), status().isOk());
+
+		assertPresupuesto(sentencias, 1, 2);
+	}
+
+	@Test
+	void eliminarHabitacionNoConsulta() throws Exception {
+		Habitacion habitacion = nuevaHabitacion("simple");
+
+		Sentencias sentencias = medir(delete("/api/habitaciones/" + habitacion.getIdHabitacion()), status().isOk());
+
+		assertPresupuesto(sentencias, 0, 2);
+	}
+
+	@Test
+	void eliminarReservaNoConsulta() throws Exception {
+		Reserva reserva = nuevaReserva(nuevoHuesped(null), nuevoEmpleado(), List.of(nuevaHabitacion("doble")),
+				LocalDate.of(2033, 5, 1), 3);
+
+		Sentencias sentencias = medir(delete("/api/reservas/" + reserva.getIdReserva()), status().isOk());
+
+		assertPresupuesto(sentencias, 0, 3);
+	}
+
+	private static String huespedJson(String dni, Long idAval) {
+		return "{\"dniHuesped\":\"" + dni + "\",\"nombreHuesped\":\"Nombre\",\"telefonoHuesped\":\"600000000\","
+				+ "\"correoHuesped\":\"" + dni + "@hotel.test\""
+				+ (idAval == null ? "" : ",\"aval\":{\"idHuesped\":" + idAval + "}") + "}";
+	}
+
+	private static String habitacionJson(String tipo) {
+		return "{\"tipo\":\"" + tipo + "\",\"precio\":90.00,\"descripcion\":\"Prueba\",\"disponible\":true}";
+	}
+}
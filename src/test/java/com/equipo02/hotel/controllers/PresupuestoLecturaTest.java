@@ -0,0 +1,135 @@
+/**
+ * @file: PresupuestoLecturaTest.java
+ * @author: (c) 2026 MARCO
+ * @created: 18 oct. 2026 17:41:12
+ */
+package com.equipo02.hotel.controllers;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.equipo02.hotel.controllers.ContadorSentencias.Sentencias;
+import com.equipo02.hotel.domain.Habitacion;
+import com.equipo02.hotel.domain.Huesped;
+import com.equipo02.hotel.domain.Reserva;
+
+/**
+ * Comprueba que las lecturas de reservas, huéspedes y habitaciones no cuestan más sentencias con
+ * muchas filas que con una: cada asociación se carga con una consulta para todo el resultado.
+ *
+ * Las páginas empiezan justo antes de los datos de cada prueba, así que solo contienen filas que
+ * la prueba ha creado con la misma forma.
+ */
+class PresupuestoLecturaTest extends PruebaSentencias {
+
+	private static final int FILAS = 12;
+
+	@Test
+	void listarReservasNoCreceConLaPagina() throws Exception {
+		List<Reserva> reservas = nuevasReservas(LocalDate.of(2034, 1, 1));
+		long cursor = reservas.get(0).getIdReserva() - 1;
+
+		Sentencias una = medir(get("/api/reservas?cursor=" + cursor + "&limit=1"), status().isOk());
+		Sentencias todas = medir(get("/api/reservas?cursor=" + cursor + "&limit=" + FILAS), status().isOk());
+
+		assertNoCrece(una, todas);
+	}
+
+	@Test
+	void listarHuespedesNoCreceConLaPagina() throws Exception {
+		List<Reserva> reservas = nuevasReservas(LocalDate.of(2034, 3, 1));
+		long cursor = reservas.get(0).getHuesped().getIdHuesped() - 1;
+
+		Sentencias una = medir(get("/api/huespedes?cursor=" + cursor + "&limit=1"), status().isOk());
+		Sentencias todas = medir(get("/api/huespedes?cursor=" + cursor + "&limit=" + FILAS), status().isOk());
+
+		assertNoCrece(una, todas);
+	}
+
+	@Test
+	void listarHabitacionesNoCreceConLaPagina() throws Exception {
+		List<Reserva> reservas = nuevasReservas(LocalDate.of(2034, 5, 1));
+		long cursor = reservas.get(0).getHabitaciones().get(0).getIdHabitacion() - 1;
+
+		Sentencias una = medir(get("/api/habitaciones?cursor=" + cursor + "&limit=1"), status().isOk());
+		Sentencias todas = medir(get("/api/habitaciones?cursor=" + cursor + "&limit=" + FILAS), status().isOk());
+
+		assertNoCrece(una, todas);
+	}
+
+	@Test
+	void detalleDeReservaNoCreceConSusHabitaciones() throws Exception {
+		LocalDate llegada = LocalDate.of(2034, 7, 1);
+		Reserva pequena = nuevaReserva(nuevoHuesped(nuevoHuesped(null)), nuevoEmpleado(), nuevasHabitaciones(1), llegada, 2);
+		Reserva grande = nuevaReserva(nuevoHuesped(nuevoHuesped(null)), nuevoEmpleado(), nuevasHabitaciones(FILAS), llegada, 2);
+
+		Sentencias una = medir(get("/api/reservas/" + pequena.getIdReserva()), status().isOk());
+		Sentencias todas = medir(get("/api/reservas/" + grande.getIdReserva()), status().isOk());
+
+		assertNoCrece(una, todas);
+	}
+
+	@Test
+	void detalleDeHuespedNoCreceConSusReservas() throws Exception {
+		Huesped pocas = nuevoHuesped(nuevoHuesped(null));
+		Huesped muchas = nuevoHuesped(nuevoHuesped(null));
+		LocalDate llegada = LocalDate.of(2034, 9, 1);
+		nuevaReserva(pocas, nuevoEmpleado(), nuevasHabitaciones(1), llegada, 2);
+		for (int i = 0; i < FILAS; i++) {
+			nuevaReserva(muchas, nuevoEmpleado(), nuevasHabitaciones(1), llegada, 2);
+		}
+
+		Sentencias una = medir(get("/api/huespedes/" + pocas.getIdHuesped()), status().isOk());
+		Sentencias todas = medir(get("/api/huespedes/" + muchas.getIdHuesped()), status().isOk());
+
+		assertNoCrece(una, todas);
+	}
+
+	@Test
+	void detalleDeHabitacionNoCreceConSusReservas() throws Exception {
+		Habitacion pocas = nuevaHabitacion("doble");
+		Habitacion muchas = nuevaHabitacion("doble");
+		LocalDate llegada = LocalDate.of(2034, 11, 1);
+		nuevaReserva(nuevoHuesped(nuevoHuesped(null)), nuevoEmpleado(), List.of(pocas), llegada, 2);
+		for (int i = 0; i < FILAS; i++) {
+			nuevaReserva(nuevoHuesped(nuevoHuesped(null)), nuevoEmpleado(), List.of(muchas), llegada.plusDays(2 * i), 2);
+		}
+
+		Sentencias una = medir(get("/api/habitaciones/" + pocas.getIdHabitacion()), status().isOk());
+		Sentencias todas = medir(get("/api/habitaciones/" + muchas.getIdHabitacion()), status().isOk());
+
+		assertNoCrece(una, todas);
+	}
+
+	/**
+	 * Crea {@link #FILAS} reservas, cada una con su huésped avalado, su empleado y dos habitaciones propias.
+	 */
+	private List<Reserva> nuevasReservas(LocalDate llegada) throws Exception {
+		List<Reserva> reservas = new ArrayList<>(FILAS);
+		for (int i = 0; i < FILAS; i++) {
+			Huesped aval = nuevoHuesped(null);
+			reservas.add(nuevaReserva(nuevoHuesped(aval), nuevoEmpleado(), nuevasHabitaciones(2), llegada, 3));
+		}
+		return reservas;
+	}
+
+	private List<Habitacion> nuevasHabitaciones(int cantidad) throws Exception {
+		List<Habitacion> habitaciones = new ArrayList<>(cantidad);
+		for (int i = 0; i < cantidad; i++) {
+			habitaciones.add(nuevaHabitacion("doble"));
+		}
+		return habitaciones;
+	}
+
+	private static void assertNoCrece(Sentencias una, Sentencias todas) {
+		assertTrue(todas.total() <= una.total(),
+				() -> "Las sentencias crecen con el resultado.\nCon una fila:\n" + una + "\nCon todas:\n" + todas);
+	}
+}
@@ -0,0 +1,114 @@
+/**
+ * @file: PruebaSentencias.java
+ * @author: (c) 2026 MARCO
+ * @created: 18 oct. 2026 16:20:05
+ */
+package com.equipo02.hotel.controllers;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.equipo02.hotel.DatosPrueba;
+import com.equipo02.hotel.controllers.ContadorSentencias.Sentencias;
+import com.equipo02.hotel.domain.Empleado;
+import com.equipo02.hotel.domain.Habitacion;
+import com.equipo02.hotel.domain.Huesped;
+import com.equipo02.hotel.domain.Reserva;
+import com.equipo02.hotel.exception.EntityNotFoundException;
+import com.equipo02.hotel.exception.IllegalOperationException;
+import com.equipo02.hotel.repositories.EmpleadoRepository;
+import com.equipo02.hotel.repositories.HabitacionRepository;
+import com.equipo02.hotel.repositories.HuespedRepository;
+import com.equipo02.hotel.services.HabitacionService;
+import com.equipo02.hotel.services.HuespedService;
+import com.equipo02.hotel.services.ReservaService;
+
+/**
+ * Base de las pruebas que cuentan las sentencias SQL que prepara Hibernate en cada endpoint.
+ * El recuento lo lleva {@link ContadorSentencias}.
+ *
+ * Los datos se crean antes de empezar a contar; solo cuenta lo que ejecuta la petición,
+ * incluidos los oyentes que corren al confirmar su transacción.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser(authorities = "ADMIN")
+abstract class PruebaSentencias {
+
+	@Autowired
+	protected MockMvc mockMvc;
+	@Autowired
+	protected HuespedRepository huespedRepository;
+	@Autowired
+	protected EmpleadoRepository empleadoRepository;
+	@Autowired
+	protected HabitacionRepository habitacionRepository;
+	@Autowired
+	protected HuespedService huespedService;
+	@Autowired
+	protected HabitacionService habitacionService;
+	@Autowired
+	protected ReservaService reservaService;
+	@Autowired
+	protected DatosPrueba datos;
+
+	/**
+	 * Ejecuta la petición y devuelve las sentencias que preparó Hibernate en su hilo.
+	 */
+	protected Sentencias medir(MockHttpServletRequestBuilder peticion, ResultMatcher esperado) throws Exception {
+		ContadorSentencias.empezar();
+		try {
+			mockMvc.perform(peticion.header("Api-Version", "1").contentType(MediaType.APPLICATION_JSON))
+					.andExpect(esperado);
+		} catch (Exception | AssertionError e) {
+			ContadorSentencias.terminar();
+			throw e;
+		}
+		return ContadorSentencias.terminar();
+	}
+
+	/**
+	 * Comprueba que la petición no consultó más de lo previsto antes de escribir ni en total.
+	 */
+	protected static void assertPresupuesto(Sentencias sentencias, int consultasAntesDeEscribir, int total) {
+		assertTrue(sentencias.total() > 0, "No se registró ninguna sentencia; ¿está configurado el inspector?");
+		assertTrue(sentencias.consultasAntesDeEscribir() <= consultasAntesDeEscribir,
+				() -> "Demasiadas consultas antes de escribir:\n" + sentencias);
+		assertTrue(sentencias.total() <= total, () -> "Demasiadas sentencias:\n" + sentencias);
+	}
+
+	/**
+	 * @return Un DNI de 8 cifras que no se ha usado en esta ejecución.
+	 */
+	protected static String dni() {
+		return DatosPrueba.dni();
+	}
+
+	protected Huesped nuevoHuesped(Huesped aval) throws EntityNotFoundException, IllegalOperationException {
+		return datos.nuevoHuesped(aval);
+	}
+
+	protected Empleado nuevoEmpleado() {
+		return datos.nuevoEmpleado();
+	}
+
+	protected Habitacion nuevaHabitacion(String tipo) throws IllegalOperationException {
+		return datos.nuevaHabitacion(tipo);
+	}
+
+	protected Reserva nuevaReserva(Huesped huesped, Empleado empleado, List<Habitacion> habitaciones, LocalDate llegada,
+			int noches) throws IllegalOperationException {
+		return datos.nuevaReserva(huesped, empleado, habitaciones, llegada, noches);
+	}
+}
@@ -0,0 +1,100 @@
+/**
+ * @file: AsignacionHabitacionesTest.java
+ * @author: (c) 2026 MARCO
+ * @created: 19 oct. 2026 20:25:13
+ */
+package com.equipo02.hotel.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.equipo02.hotel.DatosPrueba;
+import com.equipo02.hotel.domain.Empleado;
+import com.equipo02.hotel.domain.Habitacion;
+import com.equipo02.hotel.domain.Huesped;
+import com.equipo02.hotel.domain.Reserva;
+import com.equipo02.hotel.repositories.HabitacionRepository;
+import com.equipo02.hotel.repositories.ReservaRepository;
+import com.equipo02.hotel.util.Fechas;
+
+/**
+ * Comprueba que una reserva por tipo que choca con la clave primaria de noche_habitacion no impide
+ * asignar las demás del lote.
+ *
+ * Las habitaciones y la noche ocupada se crean sin pasar por el índice de disponibilidad, así que la
+ * comprobación en memoria deja pasar las dos reservas y el choque solo aparece al escribir.
+ */
+@SpringBootTest
+class AsignacionHabitacionesTest {
+
+	private static final LocalDate LLEGADA = LocalDate.of(2033, 5, 10);
+
+	@Autowired
+	private ReservaService reservaService;
+	@Autowired
+	private ReservaRepository reservaRepository;
+	@Autowired
+	private DatosPrueba datos;
+	@Autowired
+	private HabitacionRepository habitacionRepository;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void unChoqueSoloDejaSinAsignarSuReserva() throws Exception {
+		Huesped huesped = datos.nuevoHuesped(null);
+		Empleado empleado = datos.nuevoEmpleado();
+		Long ocupada = nuevaHabitacion();
+		Long libre = nuevaHabitacion();
+		Long ajena = nuevaReserva(huesped, empleado);
+		Long chocara = nuevaReserva(huesped, empleado);
+		Long asignable = nuevaReserva(huesped, empleado);
+		jdbcTemplate.update("insert into noche_habitacion (id_habitacion, noche, id_reserva) values (?, ?, ?)",
+				ocupada, Date.valueOf(LLEGADA.plusDays(1)), ajena);
+		Map<Long, Long> habitacionPorReserva = new LinkedHashMap<>();
+		habitacionPorReserva.put(chocara, ocupada);
+		habitacionPorReserva.put(asignable, libre);
+
+		int asignadas = reservaService.asignarHabitaciones(habitacionPorReserva);
+
+		assertEquals(1, asignadas);
+		assertEquals(0, habitacionesDe(chocara));
+		assertEquals(1, habitacionesDe(asignable));
+		assertEquals(3, jdbcTemplate.queryForObject(
+				"select count(*) from noche_habitacion where id_reserva = ?", Long.class, asignable));
+	}
+
+	private long habitacionesDe(Long idReserva) {
+		return jdbcTemplate.queryForObject("select count(*) from habitacion_reserva where id_reserva = ?", Long.class,
+				idReserva);
+	}
+
+	private Long nuevaHabitacion() {
+		Habitacion habitacion = new Habitacion();
+		habitacion.setTipo("asignacion");
+		habitacion.setPrecio(BigDecimal.TEN);
+		habitacion.setDisponible(true);
+		return habitacionRepository.save(habitacion).getIdHabitacion();
+	}
+
+	private Long nuevaReserva(Huesped huesped, Empleado empleado) {
+		Reserva reserva = new Reserva();
+		reserva.setFechaInicio(Fechas.aDate(LLEGADA));
+		reserva.setFechaFin(Fechas.aDate(LLEGADA.plusDays(3)));
+		reserva.setEstado(true);
+		reserva.setTipoSolicitado("asignacion");
+		reserva.setHuesped(huesped);
+		reserva.setEmpleado(empleado);
+		return reservaRepository.save(reserva).getIdReserva();
+	}
+}
@@ -0,0 +1,76 @@
+/**
+ * @file: BloqueoServiceTest.java
+ * @author: (c)2026 Cueva
+ * @created: 20 oct 2026, 10:04:51
+ */
+package com.equipo02.hotel.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.equipo02.hotel.DatosPrueba;
+import com.equipo02.hotel.domain.Empleado;
+import com.equipo02.hotel.domain.Habitacion;
+import com.equipo02.hotel.domain.Huesped;
+import com.equipo02.hotel.domain.Reserva;
+import com.equipo02.hotel.dto.BloqueoDTO;
+import com.equipo02.hotel.exception.EntityNotFoundException;
+import com.equipo02.hotel.exception.IllegalOperationException;
+import com.equipo02.hotel.util.Fechas;
+
+/**
+ * Comprueba que confirmar un bloqueo no choca con el propio bloqueo y que, mientras no se confirma,
+ * el bloqueo sigue impidiendo otras reservas de la habitación, también si la confirmación falla.
+ */
+@SpringBootTest
+class BloqueoServiceTest {
+
+	private static final LocalDate LLEGADA = LocalDate.of(2035, 4, 7);
+
+	private static final LocalDate SALIDA = LLEGADA.plusDays(3);
+
+	@Autowired
+	private BloqueoService bloqueoService;
+	@Autowired
+	private DatosPrueba datos;
+
+	@Test
+	void confirmarGuardaLaReservaYRetiraElBloqueo() throws Exception {
+		Huesped huesped = datos.nuevoHuesped(null);
+		Empleado empleado = datos.nuevoEmpleado();
+		Habitacion habitacion = datos.nuevaHabitacion("bloqueo");
+		BloqueoDTO bloqueo = bloqueoService.bloquear(habitacion.getIdHabitacion(), LLEGADA, SALIDA);
+
+		Reserva reserva = bloqueoService.confirmar(habitacion.getIdHabitacion(), bloqueo.getIdBloqueo(),
+				huesped.getIdHuesped(), empleado.getIdEmpleado());
+
+		assertEquals(LLEGADA, Fechas.aLocalDate(reserva.getFechaInicio()));
+		assertThrows(EntityNotFoundException.class,
+				() -> bloqueoService.liberar(habitacion.getIdHabitacion(), bloqueo.getIdBloqueo()));
+		assertThrows(IllegalOperationException.class,
+				() -> bloqueoService.bloquear(habitacion.getIdHabitacion(), LLEGADA, SALIDA));
+	}
+
+	@Test
+	void unaConfirmacionFallidaNoLiberaLaHabitacion() throws Exception {
+		Huesped huesped = datos.nuevoHuesped(null);
+		Empleado empleado = datos.nuevoEmpleado();
+		Habitacion habitacion = datos.nuevaHabitacion("bloqueo");
+		BloqueoDTO bloqueo = bloqueoService.bloquear(habitacion.getIdHabitacion(), LLEGADA, SALIDA);
+
+		assertThrows(IllegalOperationException.class, () -> bloqueoService.confirmar(habitacion.getIdHabitacion(),
+				bloqueo.getIdBloqueo(), -1L, empleado.getIdEmpleado()));
+
+		assertThrows(IllegalOperationException.class,
+				() -> datos.nuevaReserva(huesped, empleado, List.of(habitacion), LLEGADA.plusDays(1), 1));
+		bloqueoService.confirmar(habitacion.getIdHabitacion(), bloqueo.getIdBloqueo(), huesped.getIdHuesped(),
+				empleado.getIdEmpleado());
+	}
+}
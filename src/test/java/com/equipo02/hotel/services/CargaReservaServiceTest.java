@@ -0,0 +1,80 @@
+/**
+ * @file: CargaReservaServiceTest.java
+ * @author: (c) 2026 MARCO
+ * @created: 18 oct. 2026 15:48:20
+ */
+package com.equipo02.hotel.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.equipo02.hotel.DatosPrueba;
+import com.equipo02.hotel.domain.Reserva;
+import com.equipo02.hotel.dto.ResultadoCargaDTO;
+
+/**
+ * Comprueba que la carga masiva rechaza las reservas sin huésped o sin empleado, o con una estancia
+ * demasiado larga.
+ */
+@SpringBootTest
+class CargaReservaServiceTest {
+
+	@Autowired
+	private CargaReservaService cargaReservaService;
+	@Autowired
+	private DatosPrueba datos;
+
+	private Long idHuesped;
+
+	private Long idEmpleado;
+
+	@BeforeEach
+	void crearHuespedYEmpleado() throws Exception {
+		idHuesped = datos.nuevoHuesped(null).getIdHuesped();
+		idEmpleado = datos.nuevoEmpleado().getIdEmpleado();
+	}
+
+	@Test
+	void rechazaFilasSinHuespedOSinEmpleado() throws Exception {
+		String cuerpo = "["
+				+ "{\"fechaInicio\":\"2032-01-10\",\"fechaFin\":\"2032-01-12\",\"idHuesped\":" + idHuesped
+				+ ",\"idEmpleado\":" + idEmpleado + "},"
+				+ "{\"fechaInicio\":\"2032-01-10\",\"fechaFin\":\"2032-01-12\",\"idEmpleado\":" + idEmpleado + "},"
+				+ "{\"fechaInicio\":\"2032-01-10\",\"fechaFin\":\"2032-01-12\",\"idHuesped\":" + idHuesped + "}"
+				+ "]";
+
+		ResultadoCargaDTO resultado = cargaReservaService
+				.cargar(new ByteArrayInputStream(cuerpo.getBytes(StandardCharsets.UTF_8)));
+
+		assertEquals(3, resultado.getRecibidas());
+		assertEquals(1, resultado.getGuardadas());
+		assertEquals(2, resultado.getRechazadas());
+		assertEquals(1, resultado.getErrores().get(0).getIndice());
+		assertEquals("El huésped es obligatorio", resultado.getErrores().get(0).getMensaje());
+		assertEquals(2, resultado.getErrores().get(1).getIndice());
+		assertEquals("El empleado es obligatorio", resultado.getErrores().get(1).getMensaje());
+	}
+
+	@Test
+	void rechazaEstanciasDeMasNochesQueElMaximo() throws Exception {
+		String cuerpo = "["
+				+ "{\"fechaInicio\":\"2032-02-01\",\"fechaFin\":\"2999-02-01\",\"idHuesped\":" + idHuesped
+				+ ",\"idEmpleado\":" + idEmpleado + "}"
+				+ "]";
+
+		ResultadoCargaDTO resultado = cargaReservaService
+				.cargar(new ByteArrayInputStream(cuerpo.getBytes(StandardCharsets.UTF_8)));
+
+		assertEquals(0, resultado.getGuardadas());
+		assertEquals(1, resultado.getRechazadas());
+		assertEquals("La estancia no puede superar " + Reserva.MAX_NOCHES + " noches",
+				resultado.getErrores().get(0).getMensaje());
+	}
+}
@@ -0,0 +1,57 @@
+/**
+ * @file: CatalogoHabitacionServiceTest.java
+ * @author: (c)2026 Cueva
+ * @created: 21 oct 2026, 12:47:09
+ */
+package com.equipo02.hotel.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.equipo02.hotel.DatosPrueba;
+import com.equipo02.hotel.domain.Habitacion;
+import com.equipo02.hotel.dto.BusquedaHabitacionesDTO;
+import com.equipo02.hotel.dto.HabitacionCatalogoDTO;
+
+/**
+ * Comprueba que una ráfaga de cambios de habitaciones llega al catálogo en la siguiente reconstrucción.
+ */
+@SpringBootTest
+class CatalogoHabitacionServiceTest {
+
+	private static final int HABITACIONES = 20;
+
+	@Autowired
+	private CatalogoHabitacionServiceImp catalogoHabitacionService;
+	@Autowired
+	private HabitacionService habitacionService;
+	@Autowired
+	private DatosPrueba datos;
+
+	@Test
+	void losCambiosSeVenTrasReconstruir() throws Exception {
+		String tipo = "catalogo" + DatosPrueba.dni();
+		List<Long> ids = new ArrayList<>();
+		for (int i = 0; i < HABITACIONES; i++) {
+			ids.add(datos.nuevaHabitacion(tipo).getIdHabitacion());
+		}
+		Habitacion cambio = new Habitacion();
+		cambio.setDescripcion("Vista al jardín");
+		habitacionService.actualizarCampoHabitacion(ids.get(3), cambio);
+		habitacionService.eliminarHabitacion(ids.get(5));
+
+		catalogoHabitacionService.reconstruirSiDesfasado();
+
+		BusquedaHabitacionesDTO porTipo = catalogoHabitacionService.buscar(tipo, null, null, null, null, 0L, 50);
+		assertEquals(HABITACIONES - 1, porTipo.getTotal());
+		BusquedaHabitacionesDTO porTexto = catalogoHabitacionService.buscar(tipo, null, null, null, "jardin", 0L, 50);
+		assertEquals(List.of(ids.get(3)), porTexto.getPagina().getElementos().stream()
+				.map(HabitacionCatalogoDTO::getIdHabitacion).toList());
+	}
+}
@@ -0,0 +1,182 @@
+/**
+ * @file: EstadisticaHuespedConcurrenciaTest.java
+ * @author: (c) 2026 Rodriguez
+ * @created: 19 oct. 2026 21:02:44
+ */
+package com.equipo02.hotel.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.equipo02.hotel.DatosPrueba;
+import com.equipo02.hotel.domain.Empleado;
+import com.equipo02.hotel.domain.Huesped;
+import com.equipo02.hotel.domain.Reserva;
+import com.equipo02.hotel.dto.EstadisticaHuespedDTO;
+import com.equipo02.hotel.events.ReservaOcupacionEvent;
+import com.equipo02.hotel.util.Fechas;
+
+/**
+ * Comprueba que las estadísticas de huéspedes coinciden con las reservas escritas cuando las
+ * reservas cambian mientras se reconstruyen.
+ *
+ * Varios hilos cambian al azar el huésped y las fechas de sus reservas mientras otro reconstruye las
+ * estadísticas una y otra vez. Cada cambio se escribe con una sentencia directa y su evento se
+ * entrega al servicio como lo haría el listener al confirmar, para que lleguen muchos eventos durante
+ * cada reconstrucción, también mientras se aplican los guardados. Tras cada reconstrucción se detienen
+ * los cambios y las estadísticas de cada huésped deben ser las del último estado escrito de cada reserva.
+ */
+@SpringBootTest
+class EstadisticaHuespedConcurrenciaTest {
+
+	private static final int ESCRITORES = 4;
+
+	private static final int RESERVAS_POR_ESCRITOR = 50;
+
+	private static final int RECONSTRUCCIONES = 100;
+
+	private static final int HUESPEDES = 6;
+
+	private static final LocalDate ORIGEN = LocalDate.of(2034, 1, 1);
+
+	@Autowired
+	private EstadisticaHuespedServiceImp estadisticaHuespedService;
+	@Autowired
+	private ReservaService reservaService;
+	@Autowired
+	private DatosPrueba datos;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void losEventosDuranteUnaReconstruccionNoSePierdenNiSeDesordenan() throws Exception {
+		List<Long> huespedes = new ArrayList<>();
+		for (int i = 0; i < HUESPEDES; i++) {
+			huespedes.add(datos.nuevoHuesped(null).getIdHuesped());
+		}
+		Empleado empleado = datos.nuevoEmpleado();
+		List<List<Long>> propias = new ArrayList<>();
+		for (int i = 0; i < ESCRITORES; i++) {
+			List<Long> ids = new ArrayList<>();
+			for (int j = 0; j < RESERVAS_POR_ESCRITOR; j++) {
+				Reserva reserva = reserva(null, huespedes.get(0), ORIGEN, ORIGEN.plusDays(1));
+				reserva.setEmpleado(empleado);
+				ids.add(reservaService.guardarReserva(reserva).getIdReserva());
+			}
+			propias.add(ids);
+		}
+
+		Map<Long, long[]> reservas = new ConcurrentHashMap<>();
+		propias.forEach(ids -> ids.forEach(idReserva -> reservas.put(idReserva,
+				new long[] { huespedes.get(0), Fechas.aDia(ORIGEN), Fechas.aDia(ORIGEN) + 1 })));
+		// Los escritores toman la parte de lectura en cada cambio; la comprobación, la de escritura.
+		ReadWriteLock pausa = new ReentrantReadWriteLock();
+		AtomicBoolean reconstruyendo = new AtomicBoolean(true);
+		ExecutorService hilos = Executors.newFixedThreadPool(ESCRITORES + 1);
+		try {
+			List<Future<?>> escritores = new ArrayList<>();
+			for (int i = 0; i < ESCRITORES; i++) {
+				Random azar = new Random(i);
+				List<Long> ids = propias.get(i);
+				escritores.add(hilos.submit(() -> escribir(azar, ids, huespedes, reservas, pausa, reconstruyendo)));
+			}
+			Future<?> reconstrucciones = hilos.submit(() -> {
+				try {
+					for (int i = 0; i < RECONSTRUCCIONES; i++) {
+						estadisticaHuespedService.reconstruir();
+						pausa.writeLock().lock();
+						try {
+							comprobar(huespedes, reservas);
+						} finally {
+							pausa.writeLock().unlock();
+						}
+					}
+				} finally {
+					reconstruyendo.set(false);
+				}
+				return null;
+			});
+			reconstrucciones.get(5, TimeUnit.MINUTES);
+			for (Future<?> escritor : escritores) {
+				escritor.get(1, TimeUnit.MINUTES);
+			}
+		} finally {
+			reconstruyendo.set(false);
+			hilos.shutdownNow();
+		}
+	}
+
+	/**
+	 * Cambia al azar las reservas propias mientras duran las reconstrucciones y anota su último estado
+	 * escrito: huésped, llegada y salida (epoch day).
+	 */
+	private void escribir(Random azar, List<Long> ids, List<Long> huespedes, Map<Long, long[]> reservas,
+			ReadWriteLock pausa, AtomicBoolean reconstruyendo) {
+		while (reconstruyendo.get()) {
+			Long idReserva = ids.get(azar.nextInt(ids.size()));
+			Long idHuesped = huespedes.get(azar.nextInt(huespedes.size()));
+			LocalDate llegada = ORIGEN.plusDays(azar.nextInt(300));
+			LocalDate salida = llegada.plusDays(1 + azar.nextInt(6));
+			pausa.readLock().lock();
+			try {
+				jdbcTemplate.update("update reserva set huesped_id_huesped = ?, fecha_inicio = ?, fecha_fin = ? where id_reserva = ?",
+						idHuesped, Date.valueOf(llegada), Date.valueOf(salida), idReserva);
+				estadisticaHuespedService.onReservaOcupacion(ReservaOcupacionEvent.de(reserva(idReserva, idHuesped, llegada, salida)));
+				reservas.put(idReserva, new long[] { idHuesped, Fechas.aDia(llegada), Fechas.aDia(salida) });
+			} finally {
+				pausa.readLock().unlock();
+			}
+		}
+	}
+
+	private void comprobar(List<Long> huespedes, Map<Long, long[]> reservas) throws Exception {
+		for (Long idHuesped : huespedes) {
+			long noches = 0;
+			int estancias = 0;
+			long ultima = Long.MIN_VALUE;
+			for (long[] reserva : reservas.values()) {
+				if (reserva[0] == idHuesped) {
+					noches += reserva[2] - reserva[1];
+					estancias++;
+					ultima = Math.max(ultima, reserva[1]);
+				}
+			}
+			EstadisticaHuespedDTO estadistica = estadisticaHuespedService.obtener(idHuesped);
+			assertEquals(noches, estadistica.getNoches(), "Noches del huésped " + idHuesped);
+			assertEquals(estancias, estadistica.getEstancias(), "Estancias del huésped " + idHuesped);
+			assertEquals(estancias == 0 ? null : Fechas.aLocalDate((int) ultima), estadistica.getUltimaEstancia(),
+					"Última estancia del huésped " + idHuesped);
+		}
+	}
+
+	private static Reserva reserva(Long idReserva, Long idHuesped, LocalDate llegada, LocalDate salida) {
+		Huesped huesped = new Huesped();
+		huesped.setIdHuesped(idHuesped);
+		Reserva reserva = new Reserva();
+		reserva.setIdReserva(idReserva);
+		reserva.setFechaInicio(Fechas.aDate(llegada));
+		reserva.setFechaFin(Fechas.aDate(salida));
+		reserva.setEstado(true);
+		reserva.setHuesped(huesped);
+		return reserva;
+	}
+}
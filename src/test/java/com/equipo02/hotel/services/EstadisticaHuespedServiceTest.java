@@ -0,0 +1,65 @@
+/**
+ * @file: EstadisticaHuespedServiceTest.java
+ * @author: (c) 2026 Rodriguez
+ * @created: 21 oct. 2026 09:37:15
+ */
+package com.equipo02.hotel.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.equipo02.hotel.DatosPrueba;
+import com.equipo02.hotel.domain.Empleado;
+import com.equipo02.hotel.domain.Habitacion;
+import com.equipo02.hotel.domain.Huesped;
+import com.equipo02.hotel.domain.Reserva;
+import com.equipo02.hotel.dto.EstadisticaHuespedDTO;
+
+/**
+ * Comprueba que una reserva cancelada deja de contar en las estadísticas de su huésped, tanto al
+ * recibir su evento como al reconstruir las estadísticas desde la base de datos.
+ */
+@SpringBootTest
+class EstadisticaHuespedServiceTest {
+
+	private static final LocalDate LLEGADA = LocalDate.of(2037, 5, 11);
+
+	@Autowired
+	private EstadisticaHuespedService estadisticaHuespedService;
+	@Autowired
+	private ReservaService reservaService;
+	@Autowired
+	private DatosPrueba datos;
+
+	@Test
+	void unaReservaCanceladaNoCuenta() throws Exception {
+		estadisticaHuespedService.reconstruir();
+		Huesped huesped = datos.nuevoHuesped(null);
+		Empleado empleado = datos.nuevoEmpleado();
+		Habitacion habitacion = datos.nuevaHabitacion("estadistica");
+		datos.nuevaReserva(huesped, empleado, List.of(habitacion), LLEGADA, 2);
+		Reserva cancelada = datos.nuevaReserva(huesped, empleado, List.of(habitacion), LLEGADA.plusDays(10), 3);
+		assertEquals(2, estadisticaHuespedService.obtener(huesped.getIdHuesped()).getEstancias());
+
+		cancelada.setEstado(false);
+		reservaService.actualizarReserva(cancelada.getIdReserva(), cancelada);
+
+		comprobarSoloLaActiva(estadisticaHuespedService.obtener(huesped.getIdHuesped()));
+		estadisticaHuespedService.reconstruir();
+		comprobarSoloLaActiva(estadisticaHuespedService.obtener(huesped.getIdHuesped()));
+	}
+
+	private static void comprobarSoloLaActiva(EstadisticaHuespedDTO estadistica) {
+		assertEquals(1, estadistica.getEstancias());
+		assertEquals(2, estadistica.getNoches());
+		assertEquals(new BigDecimal("160.00"), estadistica.getGasto());
+		assertEquals(LLEGADA, estadistica.getUltimaEstancia());
+	}
+}
@@ -0,0 +1,68 @@
+/**
+ * @file: HabitacionServiceCacheTest.java
+ * @author: (c)2026 Cueva
+ * @created: 21 oct 2026, 11:58:20
+ */
+package com.equipo02.hotel.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.equipo02.hotel.DatosPrueba;
+import com.equipo02.hotel.domain.Empleado;
+import com.equipo02.hotel.domain.Habitacion;
+import com.equipo02.hotel.domain.Huesped;
+import com.equipo02.hotel.domain.Reserva;
+
+/**
+ * Comprueba que la caché de habitaciones deja de servir una reserva en la habitación que tenía
+ * antes de cambiarla a otra, tanto por id como dentro de una página del listado.
+ */
+@SpringBootTest
+class HabitacionServiceCacheTest {
+
+	@Autowired
+	private HabitacionService habitacionService;
+	@Autowired
+	private ReservaService reservaService;
+	@Autowired
+	private DatosPrueba datos;
+
+	@Test
+	void moverUnaReservaInvalidaLaHabitacionAnteriorYLaNueva() throws Exception {
+		String tipo = "cache" + DatosPrueba.dni();
+		Huesped huesped = datos.nuevoHuesped(null);
+		Empleado empleado = datos.nuevoEmpleado();
+		Habitacion origen = datos.nuevaHabitacion(tipo);
+		Habitacion destino = datos.nuevaHabitacion(tipo);
+		Reserva reserva = datos.nuevaReserva(huesped, empleado, List.of(origen), LocalDate.of(2038, 9, 14), 2);
+		assertEquals(List.of(reserva.getIdReserva()), idsReservas(habitacionService.buscarPorIdHabitacion(origen.getIdHabitacion())));
+		assertEquals(List.of(), idsReservas(habitacionService.buscarPorIdHabitacion(destino.getIdHabitacion())));
+		assertEquals(List.of(1, 0), reservasPorHabitacion(tipo));
+
+		reservaService.asignarHabitacion(reserva.getIdReserva(), destino.getIdHabitacion());
+		assertEquals(List.of(reserva.getIdReserva()), idsReservas(habitacionService.buscarPorIdHabitacion(origen.getIdHabitacion())));
+		assertEquals(List.of(1, 1), reservasPorHabitacion(tipo));
+		// El evento de quitar la habitación solo trae la habitación que le queda a la reserva.
+		reservaService.eliminarHabitacion(reserva.getIdReserva(), origen.getIdHabitacion());
+
+		assertEquals(List.of(), idsReservas(habitacionService.buscarPorIdHabitacion(origen.getIdHabitacion())));
+		assertEquals(List.of(reserva.getIdReserva()), idsReservas(habitacionService.buscarPorIdHabitacion(destino.getIdHabitacion())));
+		assertEquals(List.of(0, 1), reservasPorHabitacion(tipo));
+	}
+
+	private List<Integer> reservasPorHabitacion(String tipo) {
+		return habitacionService.listarTodos(0L, 10, tipo, null, null).getContent().stream()
+				.map(habitacion -> habitacion.getReservas().size()).toList();
+	}
+
+	private static List<Long> idsReservas(Habitacion habitacion) {
+		return habitacion.getReservas().stream().map(Reserva::getIdReserva).toList();
+	}
+}
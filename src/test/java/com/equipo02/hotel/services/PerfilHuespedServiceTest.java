@@ -0,0 +1,65 @@
+/**
+ * @file: PerfilHuespedServiceTest.java
+ * @author: (c) 2026 Rodriguez
+ * @created: 20 oct. 2026 11:26:08
+ */
+package com.equipo02.hotel.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.equipo02.hotel.DatosPrueba;
+import com.equipo02.hotel.domain.Empleado;
+import com.equipo02.hotel.domain.Habitacion;
+import com.equipo02.hotel.domain.Huesped;
+import com.equipo02.hotel.domain.Reserva;
+import com.equipo02.hotel.dto.PerfilHuespedDTO;
+import com.equipo02.hotel.dto.PerfilHuespedDTO.ReservaPerfil;
+
+/**
+ * Comprueba que el perfil de un huésped incluye las reservas sin fechas, con las fechas vacías.
+ */
+@SpringBootTest
+class PerfilHuespedServiceTest {
+
+	@Autowired
+	private PerfilHuespedService perfilHuespedService;
+	@Autowired
+	private DatosPrueba datos;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void unaReservaSinFechasApareceConLasFechasVacias() throws Exception {
+		Huesped huesped = datos.nuevoHuesped(null);
+		Empleado empleado = datos.nuevoEmpleado();
+		Habitacion habitacion = datos.nuevaHabitacion("perfil");
+		LocalDate llegada = LocalDate.of(2036, 2, 3);
+		Reserva conFechas = datos.nuevaReserva(huesped, empleado, List.of(habitacion), llegada, 2);
+		Reserva sinFechas = datos.nuevaReserva(huesped, empleado, List.of(habitacion), llegada.plusDays(5), 2);
+		jdbcTemplate.update("update reserva set fecha_inicio = null, fecha_fin = null where id_reserva = ?",
+				sinFechas.getIdReserva());
+
+		PerfilHuespedDTO perfil = perfilHuespedService.obtenerPerfil(huesped.getIdHuesped());
+
+		assertEquals(2, perfil.getReservas().size());
+		for (ReservaPerfil reserva : perfil.getReservas()) {
+			if (reserva.getIdReserva().equals(conFechas.getIdReserva())) {
+				assertEquals(llegada, reserva.getFechaInicio());
+				assertEquals(llegada.plusDays(2), reserva.getFechaFin());
+			} else {
+				assertNull(reserva.getFechaInicio());
+				assertNull(reserva.getFechaFin());
+			}
+			assertEquals(1, reserva.getHabitaciones().size());
+		}
+	}
+}
@@ -0,0 +1,115 @@
+/**
+ * @file: ReservaConcurrenciaTest.java
+ * @author: (c) 2026 MARCO
+ * @created: 18 oct. 2026 12:10:37
+ */
+package com.equipo02.hotel.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.equipo02.hotel.DatosPrueba;
+import com.equipo02.hotel.domain.Empleado;
+import com.equipo02.hotel.domain.Habitacion;
+import com.equipo02.hotel.domain.Huesped;
+import com.equipo02.hotel.domain.Reserva;
+import com.equipo02.hotel.exception.IllegalOperationException;
+import com.equipo02.hotel.repositories.HabitacionRepository;
+import com.equipo02.hotel.util.Fechas;
+
+/**
+ * Comprueba que dos reservas no pueden ocupar la misma habitación la misma noche aunque se guarden a la vez.
+ *
+ * La habitación se crea directamente en el repositorio, sin pasar por el índice de disponibilidad, de modo
+ * que ninguna petición se descarta en memoria y la única que decide es la clave primaria de noche_habitacion.
+ */
+@SpringBootTest
+class ReservaConcurrenciaTest {
+
+	private static final int PETICIONES = 64;
+
+	@Autowired
+	private ReservaService reservaService;
+	@Autowired
+	private DatosPrueba datos;
+	@Autowired
+	private HabitacionRepository habitacionRepository;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void soloUnaReservaConcurrenteOcupaLasMismasNoches() throws Exception {
+		Long idHuesped = datos.nuevoHuesped(null).getIdHuesped();
+		Long idEmpleado = datos.nuevoEmpleado().getIdEmpleado();
+		Habitacion habitacion = new Habitacion();
+		habitacion.setTipo("concurrencia");
+		habitacion.setPrecio(BigDecimal.TEN);
+		habitacion.setDisponible(true);
+		Long idHabitacion = habitacionRepository.save(habitacion).getIdHabitacion();
+		LocalDate llegada = LocalDate.of(2031, 3, 10);
+		LocalDate salida = llegada.plusDays(4);
+
+		CountDownLatch salidaComun = new CountDownLatch(1);
+		ExecutorService hilos = Executors.newFixedThreadPool(PETICIONES);
+		List<Future<Boolean>> resultados = new ArrayList<>(PETICIONES);
+		try {
+			for (int i = 0; i < PETICIONES; i++) {
+				resultados.add(hilos.submit(() -> {
+					salidaComun.await();
+					try {
+						reservaService.guardarReserva(nuevaReserva(idHuesped, idEmpleado, idHabitacion, llegada, salida));
+						return true;
+					} catch (IllegalOperationException e) {
+						return false;
+					}
+				}));
+			}
+			salidaComun.countDown();
+			int ganadoras = 0;
+			for (Future<Boolean> resultado : resultados) {
+				if (resultado.get(60, TimeUnit.SECONDS)) {
+					ganadoras++;
+				}
+			}
+			assertEquals(1, ganadoras);
+		} finally {
+			hilos.shutdownNow();
+		}
+		assertEquals(4, jdbcTemplate.queryForObject(
+				"select count(*) from noche_habitacion where id_habitacion = ?", Long.class, idHabitacion));
+		assertEquals(1, jdbcTemplate.queryForObject(
+				"select count(*) from habitacion_reserva where id_habitacion = ?", Long.class, idHabitacion));
+	}
+
+	private static Reserva nuevaReserva(Long idHuesped, Long idEmpleado, Long idHabitacion, LocalDate llegada,
+			LocalDate salida) {
+		Huesped huesped = new Huesped();
+		huesped.setIdHuesped(idHuesped);
+		Empleado empleado = new Empleado();
+		empleado.setIdEmpleado(idEmpleado);
+		Habitacion habitacion = new Habitacion();
+		habitacion.setIdHabitacion(idHabitacion);
+		Reserva reserva = new Reserva();
+		reserva.setFechaInicio(Fechas.aDate(llegada));
+		reserva.setFechaFin(Fechas.aDate(salida));
+		reserva.setEstado(true);
+		reserva.setHuesped(huesped);
+		reserva.setEmpleado(empleado);
+		reserva.setHabitaciones(new ArrayList<>(List.of(habitacion)));
+		return reserva;
+	}
+}
@@ -0,0 +1,92 @@
+/**
+ * @file: AsignadorHabitacionesTest.java
+ * @author: (c) 2026 MARCO
+ * @created: 19 oct. 2026 20:41:37
+ */
+package com.equipo02.hotel.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Comprueba que AsignadorHabitaciones rellena los huecos de una noche y que un tipo del tamaño
+ * de un hotel grande, 500 habitaciones y 90 noches, se resuelve en pocos segundos sin solapes.
+ */
+class AsignadorHabitacionesTest {
+
+	private static final int HABITACIONES = 500;
+
+	private static final int DIAS = 90;
+
+	@Test
+	void prefiereRellenarUnHuecoDeUnaNoche() {
+		long[][] ocupacion = new long[2][1];
+		marcar(ocupacion[0], 0, 3);
+		marcar(ocupacion[0], 4, 10);
+
+		int[] asignacion = new AsignadorHabitaciones(ocupacion, 10, new int[] { 3 }, new int[] { 4 }).resolver();
+
+		assertArrayEquals(new int[] { 0 }, asignacion);
+	}
+
+	@Test
+	void resuelveQuinientasHabitacionesANoventaNochesEnPocosSegundos() {
+		Random azar = new Random(17);
+		long[][] ocupacion = new long[HABITACIONES][(DIAS + 63) / 64];
+		// Un tercio de las noches ya está vendido con habitación.
+		for (long[] bits : ocupacion) {
+			for (int dia = azar.nextInt(4); dia < DIAS; dia += 3 + azar.nextInt(6)) {
+				marcar(bits, dia, Math.min(DIAS, dia + 1 + azar.nextInt(3)));
+			}
+		}
+		long[][] inicial = new long[HABITACIONES][];
+		for (int h = 0; h < HABITACIONES; h++) {
+			inicial[h] = ocupacion[h].clone();
+		}
+		List<int[]> estadias = new ArrayList<>();
+		for (int i = 0; i < HABITACIONES * DIAS / 5; i++) {
+			int desde = azar.nextInt(DIAS - 1);
+			estadias.add(new int[] { desde, Math.min(DIAS, desde + 1 + azar.nextInt(6)) });
+		}
+		int[] desde = estadias.stream().mapToInt(e -> e[0]).toArray();
+		int[] hasta = estadias.stream().mapToInt(e -> e[1]).toArray();
+
+		int[] asignacion = assertTimeoutPreemptively(Duration.ofSeconds(10),
+				() -> new AsignadorHabitaciones(ocupacion, DIAS, desde, hasta).resolver());
+
+		boolean[][] usadas = new boolean[HABITACIONES][DIAS];
+		int asignadas = 0;
+		for (int i = 0; i < asignacion.length; i++) {
+			if (asignacion[i] < 0) {
+				continue;
+			}
+			asignadas++;
+			for (int dia = desde[i]; dia < hasta[i]; dia++) {
+				assertFalse(ocupada(inicial[asignacion[i]], dia), "Noche ya vendida");
+				assertFalse(usadas[asignacion[i]][dia], "Dos estadías en la misma noche");
+				usadas[asignacion[i]][dia] = true;
+				assertTrue(ocupada(ocupacion[asignacion[i]], dia));
+			}
+		}
+		assertTrue(asignadas > 0);
+	}
+
+	private static void marcar(long[] bits, int desde, int hasta) {
+		for (int dia = desde; dia < hasta; dia++) {
+			bits[dia >>> 6] |= 1L << dia;
+		}
+	}
+
+	private static boolean ocupada(long[] bits, int dia) {
+		return (bits[dia >>> 6] & (1L << dia)) != 0;
+	}
+}
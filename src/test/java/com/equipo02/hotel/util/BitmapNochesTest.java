@@ -0,0 +1,91 @@
+/**
+ * @file: BitmapNochesTest.java
+ * @author: (c) 2026 MARCO
+ * @created: 18 oct. 2026 18:22:40
+ */
+package com.equipo02.hotel.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compara BitmapNoches con un BitSet desplazado para rangos que cruzan palabras y amplían el origen.
+ */
+class BitmapNochesTest {
+
+	/** Desplazamiento del modelo para que admita días negativos. */
+	private static final int CERO = 1_000;
+
+	@Test
+	void cuentaLasNochesDeUnRangoQueCruzaPalabras() {
+		BitmapNoches noches = new BitmapNoches();
+		noches.marcar(60, 70);
+		noches.marcar(127, 130);
+
+		assertEquals(13, noches.cardinalidad(0, 200));
+		assertEquals(4, noches.cardinalidad(60, 64));
+		assertEquals(6, noches.cardinalidad(64, 70));
+		assertEquals(2, noches.cardinalidad(128, 130));
+		assertEquals(0, noches.cardinalidad(70, 127));
+	}
+
+	@Test
+	void limpiarFueraDeLoRegistradoNoHaceNada() {
+		BitmapNoches noches = new BitmapNoches();
+		noches.limpiar(0, 500);
+		noches.marcar(200, 203);
+		noches.limpiar(-300, 100);
+		noches.limpiar(300, 900);
+
+		assertEquals(3, noches.cardinalidad(-1_000, 1_000));
+	}
+
+	@Test
+	void coincideConUnBitSetEnOperacionesAleatorias() {
+		Random azar = new Random(12);
+		BitmapNoches noches = new BitmapNoches();
+		BitSet modelo = new BitSet();
+		for (int i = 0; i < 5_000; i++) {
+			int desde = azar.nextInt(800) - 400;
+			int hasta = desde + azar.nextInt(150);
+			if (azar.nextInt(3) == 0) {
+				noches.limpiar(desde, hasta);
+				modelo.clear(desde + CERO, hasta + CERO);
+			} else {
+				noches.marcar(desde, hasta);
+				modelo.set(desde + CERO, hasta + CERO);
+			}
+			int consultaDesde = azar.nextInt(900) - 450;
+			int consultaHasta = consultaDesde + azar.nextInt(200);
+			assertEquals(modelo.get(consultaDesde + CERO, consultaHasta + CERO).cardinality(),
+					noches.cardinalidad(consultaDesde, consultaHasta));
+		}
+
+		int[] conteo = new int[900];
+		noches.acumularPorDia(-450, 450, conteo);
+		int[] esperado = new int[900];
+		for (int dia = -450; dia < 450; dia++) {
+			esperado[dia + 450] = modelo.get(dia + CERO) ? 1 : 0;
+		}
+		assertArrayEquals(esperado, conteo);
+	}
+
+	@Test
+	void acumulaSobreElConteoDeOtrasHabitaciones() {
+		BitmapNoches primera = new BitmapNoches();
+		BitmapNoches segunda = new BitmapNoches();
+		primera.marcar(10, 14);
+		segunda.marcar(12, 16);
+		int[] conteo = new int[8];
+
+		primera.acumularPorDia(10, 18, conteo);
+		segunda.acumularPorDia(10, 18, conteo);
+
+		assertArrayEquals(new int[] { 1, 1, 2, 2, 1, 1, 0, 0 }, conteo);
+	}
+}
@@ -0,0 +1,114 @@
+/**
+ * @file: CotizacionLoteBenchmark.java
+ * @author: (c)2026 Cueva
+ * @created: 20 oct 2026, 12:18:33
+ */
+package com.equipo02.hotel.util;
+
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Mide cuántas combinaciones de un lote de cotización se calculan por segundo en un núcleo.
+ *
+ * Cada combinación hace lo mismo que TarifaServiceImp.cotizarLote: recorre los calendarios de las
+ * habitaciones de su tipo y se queda con el total mínimo y el máximo. Un hilo por medición, así que
+ * el resultado es por núcleo. Una de cada diez combinaciones cae fuera del horizonte y se suma
+ * noche a noche.
+ *
+ * No se ejecuta con las pruebas. Para lanzarlo:
+ * <pre>
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt -Dmdep.includeScope=test
+ * java -cp target/classes:target/test-classes:$(cat target/cp.txt) com.equipo02.hotel.util.CotizacionLoteBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(1)
+public class CotizacionLoteBenchmark {
+
+	/** Combinaciones por invocación, las de un bloque de cotizarLote. */
+	private static final int COMBINACIONES = 4096;
+
+	private static final int TIPOS = 4;
+
+	private static final int HABITACIONES_POR_TIPO = 25;
+
+	private static final int HORIZONTE = 731;
+
+	private CalendarioPrecios[][] porTipo;
+
+	private int[] tipos;
+
+	private int[] desdes;
+
+	private int[] hastas;
+
+	@Setup
+	public void preparar() {
+		int origen = Fechas.aDia(LocalDate.of(2026, 6, 1));
+		TarifaCompilada tarifa = new TarifaCompilada(TarifaCompiladaTest.REGLAS, origen, HORIZONTE);
+		Random azar = new Random(12);
+		porTipo = new CalendarioPrecios[TIPOS][HABITACIONES_POR_TIPO];
+		long idHabitacion = 1;
+		for (int t = 0; t < TIPOS; t++) {
+			for (int h = 0; h < HABITACIONES_POR_TIPO; h++) {
+				porTipo[t][h] = new CalendarioPrecios(idHabitacion++, "DOBLE", 6_000 + azar.nextInt(10_000), tarifa);
+			}
+		}
+		tipos = new int[COMBINACIONES];
+		desdes = new int[COMBINACIONES];
+		hastas = new int[COMBINACIONES];
+		for (int i = 0; i < COMBINACIONES; i++) {
+			tipos[i] = azar.nextInt(TIPOS);
+			int fuera = azar.nextInt(10) == 0 ? HORIZONTE : 0;
+			desdes[i] = origen + fuera + azar.nextInt(HORIZONTE - 30);
+			hastas[i] = desdes[i] + 1 + azar.nextInt(14);
+		}
+	}
+
+	/**
+	 * Cotiza un bloque entero; JMH reparte el tiempo entre sus combinaciones.
+	 */
+	@Benchmark
+	@OperationsPerInvocation(COMBINACIONES)
+	public long cotizarBloque() {
+		long suma = 0;
+		for (int i = 0; i < COMBINACIONES; i++) {
+			long minimo = Long.MAX_VALUE;
+			long maximo = Long.MIN_VALUE;
+			for (CalendarioPrecios calendario : porTipo[tipos[i]]) {
+				long total = calendario.total(desdes[i], hastas[i]);
+				minimo = Math.min(minimo, total);
+				maximo = Math.max(maximo, total);
+			}
+			suma += minimo + maximo;
+		}
+		return suma;
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(CotizacionLoteBenchmark.class.getSimpleName()).build()).run();
+	}
+}
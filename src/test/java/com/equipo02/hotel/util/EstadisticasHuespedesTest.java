@@ -0,0 +1,145 @@
+/**
+ * @file: EstadisticasHuespedesTest.java
+ * @author: (c) 2026 Rodriguez
+ * @created: 19 oct. 2026 19:58:50
+ */
+package com.equipo02.hotel.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.equipo02.hotel.util.EstadisticasHuespedes.Estadistica;
+import com.equipo02.hotel.util.EstadisticasHuespedes.Orden;
+
+/**
+ * Compara EstadisticasHuespedes con los totales recalculados desde las reservas, y comprueba el
+ * cálculo del gasto y el desempate de los mejores huéspedes.
+ */
+class EstadisticasHuespedesTest {
+
+	@Test
+	void quitarLaUltimaLlegadaBuscaLaSiguiente() {
+		EstadisticasHuespedes estadisticas = new EstadisticasHuespedes();
+		estadisticas.poner(1, 7, 2, 100, 10);
+		estadisticas.poner(2, 7, 3, 200, 30);
+		estadisticas.poner(3, 7, 1, 50, EstadisticasHuespedes.SIN_FECHA);
+
+		estadisticas.quitar(2);
+
+		Estadistica estadistica = estadisticas.obtener(7);
+		assertEquals(3, estadistica.getNoches());
+		assertEquals(2, estadistica.getEstancias());
+		assertEquals(150, estadistica.getGasto());
+		assertEquals(10, estadistica.getUltimaLlegada());
+	}
+
+	@Test
+	void ponerSinHuespedQuitaElAporteAnterior() {
+		EstadisticasHuespedes estadisticas = new EstadisticasHuespedes();
+		estadisticas.poner(1, 7, 2, 100, 10);
+
+		estadisticas.poner(1, 0, 2, 100, 10);
+
+		assertNull(estadisticas.obtener(7));
+		assertEquals(0, estadisticas.huespedes());
+		assertEquals(0, estadisticas.reservas());
+	}
+
+	@Test
+	void elGastoUsaElPrecioActualDeCadaHabitacion() {
+		EstadisticasHuespedes estadisticas = new EstadisticasHuespedes();
+		estadisticas.ponerPrecio(1, 5_000);
+		estadisticas.ponerPrecio(2, 8_000);
+		estadisticas.ponerPrecio(2, 9_000);
+		estadisticas.ponerPrecio(3, 1_000);
+		estadisticas.quitarPrecio(3);
+
+		assertEquals(42_000, estadisticas.gasto(new long[] { 1, 2, 3 }, 3));
+	}
+
+	@Test
+	void aIgualValorElMejorEsElIdMenor() {
+		EstadisticasHuespedes estadisticas = new EstadisticasHuespedes();
+		estadisticas.poner(1, 30, 4, 100, 10);
+		estadisticas.poner(2, 10, 4, 100, 10);
+		estadisticas.poner(3, 20, 5, 100, 10);
+
+		assertEquals(List.of(20L, 10L), ids(estadisticas.mejores(Orden.NOCHES, 2)));
+		assertEquals(List.of(10L, 20L, 30L), ids(estadisticas.mejores(Orden.GASTO, 5)));
+	}
+
+	@Test
+	void coincideConLosTotalesRecalculadosEnOperacionesAleatorias() {
+		Random azar = new Random(7);
+		EstadisticasHuespedes estadisticas = new EstadisticasHuespedes();
+		Map<Long, long[]> reservas = new HashMap<>();
+		for (int i = 0; i < 200_000; i++) {
+			long idReserva = 1 + azar.nextInt(3_000);
+			if (azar.nextInt(4) == 0) {
+				estadisticas.quitar(idReserva);
+				reservas.remove(idReserva);
+			} else {
+				long idHuesped = azar.nextInt(10) == 0 ? 0 : 1 + azar.nextInt(300);
+				int noches = azar.nextInt(10);
+				long gasto = azar.nextInt(100_000);
+				int llegada = azar.nextInt(8) == 0 ? EstadisticasHuespedes.SIN_FECHA : azar.nextInt(50);
+				estadisticas.poner(idReserva, idHuesped, noches, gasto, llegada);
+				if (idHuesped == 0) {
+					reservas.remove(idReserva);
+				} else {
+					reservas.put(idReserva, new long[] { idHuesped, noches, gasto, llegada });
+				}
+			}
+			if (i % 5_000 == 0) {
+				comprobar(estadisticas, reservas);
+			}
+		}
+		comprobar(estadisticas, reservas);
+	}
+
+	private static void comprobar(EstadisticasHuespedes estadisticas, Map<Long, long[]> reservas) {
+		Map<Long, long[]> totales = new HashMap<>();
+		for (long[] reserva : reservas.values()) {
+			long[] total = totales.computeIfAbsent(reserva[0], h -> new long[] { 0, 0, 0, EstadisticasHuespedes.SIN_FECHA });
+			total[0] += reserva[1];
+			total[1]++;
+			total[2] += reserva[2];
+			total[3] = Math.max(total[3], reserva[3]);
+		}
+		assertEquals(totales.size(), estadisticas.huespedes());
+		assertEquals(reservas.size(), estadisticas.reservas());
+		for (long idHuesped = 1; idHuesped <= 300; idHuesped++) {
+			long[] total = totales.get(idHuesped);
+			Estadistica estadistica = estadisticas.obtener(idHuesped);
+			if (total == null) {
+				assertNull(estadistica);
+			} else {
+				assertEquals(total[0], estadistica.getNoches());
+				assertEquals(total[1], estadistica.getEstancias());
+				assertEquals(total[2], estadistica.getGasto());
+				assertEquals(total[3], estadistica.getUltimaLlegada());
+			}
+		}
+		List<Long> esperados = totales.entrySet().stream()
+				.sorted((a, b) -> a.getValue()[2] != b.getValue()[2] ? Long.compare(b.getValue()[2], a.getValue()[2])
+						: Long.compare(a.getKey(), b.getKey()))
+				.limit(10).map(Map.Entry::getKey).toList();
+		assertEquals(esperados, ids(estadisticas.mejores(Orden.GASTO, 10)));
+	}
+
+	private static List<Long> ids(List<Estadistica> estadisticas) {
+		List<Long> ids = new ArrayList<>();
+		for (Estadistica estadistica : estadisticas) {
+			ids.add(estadistica.getIdHuesped());
+		}
+		return ids;
+	}
+}
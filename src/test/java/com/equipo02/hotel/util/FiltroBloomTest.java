@@ -0,0 +1,50 @@
+/**
+ * @file: FiltroBloomTest.java
+ * @author: (c) 2026 Rodriguez
+ * @created: 19 oct. 2026 18:52:31
+ */
+package com.equipo02.hotel.util;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Comprueba que FiltroBloom no da falsos negativos y que los falsos positivos rondan la tasa pedida.
+ */
+class FiltroBloomTest {
+
+	private static final int CAPACIDAD = 100_000;
+
+	@Test
+	void todoLoAgregadoPuedeEstar() {
+		FiltroBloom filtro = new FiltroBloom(CAPACIDAD, 0.01);
+		for (int i = 0; i < CAPACIDAD; i++) {
+			filtro.agregar(dni(i));
+		}
+
+		for (int i = 0; i < CAPACIDAD; i++) {
+			assertTrue(filtro.puedeContener(dni(i)), dni(i));
+		}
+	}
+
+	@Test
+	void losFalsosPositivosNoSuperanElDobleDeLaTasaPedida() {
+		FiltroBloom filtro = new FiltroBloom(CAPACIDAD, 0.01);
+		for (int i = 0; i < CAPACIDAD; i++) {
+			filtro.agregar(dni(i));
+		}
+
+		int falsos = 0;
+		for (int i = CAPACIDAD; i < 2 * CAPACIDAD; i++) {
+			if (filtro.puedeContener(dni(i))) {
+				falsos++;
+			}
+		}
+		assertTrue(falsos < CAPACIDAD * 0.02, "Falsos positivos: " + falsos);
+	}
+
+	private static String dni(int i) {
+		return String.format("%08d", i * 7919L % 100_000_000);
+	}
+}
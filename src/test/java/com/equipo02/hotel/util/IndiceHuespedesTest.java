@@ -0,0 +1,157 @@
+/**
+ * @file: IndiceHuespedesTest.java
+ * @author: (c) 2026 Rodriguez
+ * @created: 19 oct. 2026 19:41:26
+ */
+package com.equipo02.hotel.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.equipo02.hotel.util.IndiceHuespedes.Resultado;
+
+/**
+ * Comprueba las búsquedas de IndiceHuespedes por nombre, teléfono, correo y DNI, y compara las
+ * puntuaciones de las búsquedas por prefijo con un recorrido de todos los huéspedes.
+ */
+class IndiceHuespedesTest {
+
+	private static final String[] PALABRAS = { "ana", "andres", "anabel", "luis", "luisa", "maria", "mario",
+			"garcia", "garces", "perez", "pereira", "lopez", "lozano", "ruiz", "rubio" };
+
+	@Test
+	void laCoincidenciaExactaVaAntesQueElPrefijoEIgnoraLasTildes() {
+		IndiceHuespedes indice = indice();
+
+		assertEquals(List.of(1L, 2L), ids(indice.buscar("JOSE", 10)));
+		assertEquals(List.of(1L), ids(indice.buscar("garcía jo", 10)));
+	}
+
+	@Test
+	void encuentraNombresMalEscritos() {
+		IndiceHuespedes indice = indice();
+
+		List<Resultado> resultados = indice.buscar("gracia", 10);
+
+		assertEquals(List.of(1L, 4L), ids(resultados));
+		assertEquals(1.0, resultados.get(0).getPuntuacion());
+	}
+
+	@Test
+	void buscaPorTelefonoCorreoYDni() {
+		IndiceHuespedes indice = indice();
+
+		assertEquals(List.of(1L), ids(indice.buscar("600-123-456", 10)));
+		assertEquals(List.of(2L), ids(indice.buscar(" Josefina@Correo.ES", 10)));
+		assertEquals(List.of(4L), ids(indice.buscar("44444444", 10)));
+	}
+
+	@Test
+	void quitarYReemplazarActualizanTodasLasClaves() {
+		IndiceHuespedes indice = indice();
+
+		indice.quitar(1);
+		indice.poner(2, "22222222", "Marta Pérez", "611000000", "marta@correo.es");
+
+		assertEquals(3, indice.tamano());
+		assertTrue(indice.buscar("jose", 10).isEmpty());
+		assertTrue(indice.buscar("600123456", 10).isEmpty());
+		assertTrue(indice.buscar("josefina@correo.es", 10).isEmpty());
+		assertEquals(List.of(2L), ids(indice.buscar("marta", 10)));
+	}
+
+	@Test
+	void coincideConUnRecorridoCompletoEnBusquedasPorPrefijo() {
+		Random azar = new Random(4);
+		IndiceHuespedes indice = new IndiceHuespedes();
+		Map<Long, String> nombres = new HashMap<>();
+		for (int i = 0; i < 5_000; i++) {
+			long idHuesped = 1 + azar.nextInt(800);
+			if (azar.nextInt(4) == 0) {
+				indice.quitar(idHuesped);
+				nombres.remove(idHuesped);
+			} else {
+				String nombre = palabra(azar) + " " + palabra(azar) + (azar.nextBoolean() ? " " + palabra(azar) : "");
+				indice.poner(idHuesped, null, nombre, null, null);
+				nombres.put(idHuesped, nombre);
+			}
+		}
+
+		for (int i = 0; i < 500; i++) {
+			// Términos de hasta tres letras, que no se buscan de forma aproximada.
+			String consulta = prefijo(azar) + (azar.nextBoolean() ? " " + prefijo(azar) : "");
+			int limite = 1 + azar.nextInt(15);
+			Map<Long, Double> esperadas = puntuar(nombres, consulta);
+			List<Resultado> resultados = indice.buscar(consulta, limite);
+			assertEquals(Math.min(limite, esperadas.size()), resultados.size(), consulta);
+			List<Double> mejores = esperadas.values().stream().sorted(Comparator.reverseOrder()).limit(limite).toList();
+			List<Double> obtenidas = new ArrayList<>();
+			for (Resultado resultado : resultados) {
+				assertEquals(esperadas.get(resultado.getIdHuesped()), resultado.getPuntuacion(), consulta);
+				obtenidas.add(resultado.getPuntuacion());
+			}
+			assertEquals(mejores, obtenidas, consulta);
+		}
+	}
+
+	private static IndiceHuespedes indice() {
+		IndiceHuespedes indice = new IndiceHuespedes();
+		indice.poner(1, "11111111", "José García", "+34 600 123 456", "jose@correo.es");
+		indice.poner(2, "22222222", "Josefina Pérez", "611 222 333", "josefina@correo.es");
+		indice.poner(3, "33333333", "Ana López", "622 333 444", "ana@correo.es");
+		indice.poner(4, "44444444", "Juan García", "633 444 555", "juan@correo.es");
+		return indice;
+	}
+
+	/**
+	 * Puntúa cada huésped con 3 por término exacto y 2 por prefijo. A igual puntuación el índice
+	 * puede parar antes de ver a todos, así que solo se comparan las puntuaciones.
+	 */
+	private static Map<Long, Double> puntuar(Map<Long, String> nombres, String consulta) {
+		List<String> buscados = IndiceHuespedes.terminos(consulta);
+		Map<Long, Double> puntuaciones = new HashMap<>();
+		for (Map.Entry<Long, String> huesped : nombres.entrySet()) {
+			List<String> propios = IndiceHuespedes.terminos(huesped.getValue());
+			double total = 0;
+			for (String buscado : buscados) {
+				double mejor = propios.contains(buscado) ? 3
+						: propios.stream().anyMatch(t -> t.startsWith(buscado)) ? 2 : 0;
+				if (mejor == 0) {
+					total = 0;
+					break;
+				}
+				total += mejor;
+			}
+			if (total > 0) {
+				puntuaciones.put(huesped.getKey(), total);
+			}
+		}
+		return puntuaciones;
+	}
+
+	private static String palabra(Random azar) {
+		return PALABRAS[azar.nextInt(PALABRAS.length)];
+	}
+
+	private static String prefijo(Random azar) {
+		String palabra = palabra(azar);
+		return palabra.substring(0, Math.min(palabra.length(), 1 + azar.nextInt(3)));
+	}
+
+	private static List<Long> ids(List<Resultado> resultados) {
+		List<Long> ids = new ArrayList<>();
+		for (Resultado resultado : resultados) {
+			ids.add(resultado.getIdHuesped());
+		}
+		return ids;
+	}
+}
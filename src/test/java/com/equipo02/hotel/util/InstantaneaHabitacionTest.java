@@ -0,0 +1,95 @@
+/**
+ * @file: InstantaneaHabitacionTest.java
+ * @author: (c)2026 Cueva
+ * @created: 21 oct 2026, 10:22:48
+ */
+package com.equipo02.hotel.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.equipo02.hotel.domain.Empleado;
+import com.equipo02.hotel.domain.Habitacion;
+import com.equipo02.hotel.domain.Huesped;
+import com.equipo02.hotel.domain.Reserva;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Comprueba que la copia de una habitación conserva el huésped y el empleado de sus reservas y que
+ * se serializa igual que la habitación original.
+ */
+class InstantaneaHabitacionTest {
+
+	@Test
+	void conservaElHuespedYElEmpleadoDeLasReservas() throws Exception {
+		Habitacion habitacion = habitacion(1L);
+		Huesped aval = new Huesped();
+		aval.setIdHuesped(9L);
+		Huesped huesped = new Huesped();
+		huesped.setIdHuesped(3L);
+		huesped.setDniHuesped("12345678");
+		huesped.setNombreHuesped("Ana");
+		huesped.setDireccionHuesped("Calle Mayor 1");
+		huesped.setTelefonoHuesped("600000000");
+		huesped.setCorreoHuesped("ana@hotel.test");
+		huesped.setAval(aval);
+		Empleado empleado = new Empleado();
+		empleado.setIdEmpleado(5L);
+		empleado.setDniEmpleado("87654321");
+		empleado.setNombreEmpleado("Luis");
+		empleado.setCorreoEmpleado("luis@hotel.test");
+		// Las demás habitaciones de una reserva solo se copian con su id.
+		Habitacion otra = new Habitacion();
+		otra.setIdHabitacion(2L);
+		Reserva primera = reserva(10L, huesped, empleado, LocalDate.of(2036, 3, 1), habitacion, otra);
+		Reserva segunda = reserva(11L, huesped, empleado, LocalDate.of(2036, 4, 1), habitacion);
+		segunda.setTipoSolicitado("DOBLE");
+		habitacion.setReservas(new ArrayList<>(List.of(primera, segunda)));
+
+		Habitacion copia = InstantaneaHabitacion.de(habitacion).aHabitacion();
+
+		Reserva primeraCopia = copia.getReservas().get(0);
+		Reserva segundaCopia = copia.getReservas().get(1);
+		assertNotSame(huesped, primeraCopia.getHuesped());
+		assertEquals("Ana", primeraCopia.getHuesped().getNombreHuesped());
+		assertEquals("ana@hotel.test", primeraCopia.getHuesped().getCorreoHuesped());
+		assertEquals(9L, primeraCopia.getHuesped().getAval().getIdHuesped());
+		assertEquals("Luis", primeraCopia.getEmpleado().getNombreEmpleado());
+		assertSame(primeraCopia.getHuesped(), segundaCopia.getHuesped());
+		assertSame(primeraCopia.getEmpleado(), segundaCopia.getEmpleado());
+		assertSame(copia, segundaCopia.getHabitaciones().get(0));
+		assertEquals("DOBLE", segundaCopia.getTipoSolicitado());
+		ObjectMapper json = new ObjectMapper();
+		assertEquals(json.writeValueAsString(habitacion), json.writeValueAsString(copia));
+	}
+
+	private static Habitacion habitacion(Long id) {
+		Habitacion habitacion = new Habitacion();
+		habitacion.setIdHabitacion(id);
+		habitacion.setTipo("DOBLE");
+		habitacion.setPrecio(new BigDecimal("80.00"));
+		habitacion.setDescripcion("Habitación de prueba");
+		return habitacion;
+	}
+
+	private static Reserva reserva(Long id, Huesped huesped, Empleado empleado, LocalDate llegada,
+			Habitacion... habitaciones) {
+		Reserva reserva = new Reserva();
+		reserva.setIdReserva(id);
+		reserva.setFechaInicio(Fechas.aDate(llegada));
+		reserva.setFechaFin(Fechas.aDate(llegada.plusDays(2)));
+		reserva.setEstado(true);
+		reserva.setHuesped(huesped);
+		reserva.setEmpleado(empleado);
+		reserva.setHabitaciones(new ArrayList<>(List.of(habitaciones)));
+		return reserva;
+	}
+}
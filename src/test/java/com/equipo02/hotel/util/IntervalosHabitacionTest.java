@@ -0,0 +1,103 @@
+/**
+ * @file: IntervalosHabitacionTest.java
+ * @author: (c) 2026 MARCO
+ * @created: 18 oct. 2026 18:31:05
+ */
+package com.equipo02.hotel.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.equipo02.hotel.util.IntervalosHabitacion.Intervalo;
+
+/**
+ * Comprueba los choques de IntervalosHabitacion, incluida una estadía larga que empieza mucho antes del rango.
+ */
+class IntervalosHabitacionTest {
+
+	@Test
+	void laSalidaDeUnaReservaEsLibreParaLaSiguiente() {
+		IntervalosHabitacion intervalos = new IntervalosHabitacion();
+		intervalos.agregar(1, 10, 13);
+
+		assertTrue(intervalos.estaLibre(13, 15, -1));
+		assertTrue(intervalos.estaLibre(7, 10, -1));
+		assertFalse(intervalos.estaLibre(12, 14, -1));
+		assertFalse(intervalos.estaLibre(9, 11, -1));
+	}
+
+	@Test
+	void unaEstadiaLargaChocaConRangosLejosDeSuLlegada() {
+		IntervalosHabitacion intervalos = new IntervalosHabitacion();
+		intervalos.agregar(1, 0, 90);
+		intervalos.agregar(2, 100, 102);
+
+		assertFalse(intervalos.estaLibre(80, 81, -1));
+		assertEquals(List.of(1L), ids(intervalos.superpuestos(80, 81)));
+		assertEquals(List.of(1L, 2L), ids(intervalos.superpuestos(85, 101)));
+	}
+
+	@Test
+	void ignoraLaReservaQueSeEstaModificando() {
+		IntervalosHabitacion intervalos = new IntervalosHabitacion();
+		intervalos.agregar(1, 10, 13);
+
+		assertTrue(intervalos.estaLibre(11, 15, 1));
+		assertFalse(intervalos.estaLibre(11, 15, 2));
+	}
+
+	@Test
+	void quitarSoloNecesitaLaReservaYSuLlegada() {
+		IntervalosHabitacion intervalos = new IntervalosHabitacion();
+		intervalos.agregar(1, 10, 13);
+		intervalos.agregar(2, 10, 12);
+
+		intervalos.quitar(1, 10);
+
+		assertEquals(List.of(2L), ids(intervalos.superpuestos(0, 100)));
+		assertTrue(intervalos.estaLibre(12, 13, -1));
+	}
+
+	@Test
+	void coincideConUnRecorridoCompletoEnOperacionesAleatorias() {
+		Random azar = new Random(3);
+		IntervalosHabitacion intervalos = new IntervalosHabitacion();
+		Map<Long, int[]> modelo = new HashMap<>();
+		for (int i = 0; i < 3_000; i++) {
+			long idReserva = 1 + azar.nextInt(200);
+			int[] anterior = modelo.remove(idReserva);
+			if (anterior != null) {
+				intervalos.quitar(idReserva, anterior[0]);
+			}
+			if (azar.nextBoolean()) {
+				int desde = azar.nextInt(1_000);
+				int hasta = desde + 1 + (azar.nextInt(20) == 0 ? azar.nextInt(120) : azar.nextInt(7));
+				intervalos.agregar(idReserva, desde, hasta);
+				modelo.put(idReserva, new int[] { desde, hasta });
+			}
+			int desde = azar.nextInt(1_000);
+			int hasta = desde + 1 + azar.nextInt(10);
+			long ignorada = azar.nextBoolean() ? -1 : 1 + azar.nextInt(200);
+			boolean libre = modelo.entrySet().stream().noneMatch(e -> e.getKey() != ignorada
+					&& e.getValue()[0] < hasta && e.getValue()[1] > desde);
+			assertEquals(libre, intervalos.estaLibre(desde, hasta, ignorada));
+		}
+	}
+
+	private static List<Long> ids(List<Intervalo> intervalos) {
+		List<Long> ids = new ArrayList<>();
+		for (Intervalo intervalo : intervalos) {
+			ids.add(intervalo.getIdReserva());
+		}
+		return ids;
+	}
+}
@@ -0,0 +1,80 @@
+/**
+ * @file: LectorCsvTest.java
+ * @author: (c) 2026 Rodriguez
+ * @created: 19 oct. 2026 19:04:48
+ */
+package com.equipo02.hotel.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Comprueba que LectorCsv lee lo que escribe EscritorFilas y los casos del formato que no escribe él.
+ */
+class LectorCsvTest {
+
+	@Test
+	void leeLoQueEscribeElEscritor() throws IOException {
+		List<List<String>> filas = List.of(
+				Arrays.asList("dniHuesped", "nombreHuesped", "direccionHuesped"),
+				Arrays.asList("12345678", "Núñez, José", "Calle \"Mayor\" 1"),
+				Arrays.asList("87654321", "Ana\r\nMaría", null),
+				Arrays.asList("11111111", null, "Sin nombre"));
+		ByteArrayOutputStream salida = new ByteArrayOutputStream();
+		EscritorFilas escritor = EscritorFilas.para(FormatoExportacion.CSV, salida, filas.get(0).toArray(new String[0]));
+		for (List<String> fila : filas.subList(1, filas.size())) {
+			escritor.fila(fila.toArray());
+		}
+		escritor.flush();
+
+		assertEquals(filas, leerTodo(salida.toString(StandardCharsets.UTF_8)));
+	}
+
+	@Test
+	void aceptaBomFinalesLfYUltimaLineaSinSalto() throws IOException {
+		List<List<String>> filas = leerTodo("﻿a,b\nc,d\r\ne,f");
+
+		assertEquals(List.of(List.of("a", "b"), List.of("c", "d"), List.of("e", "f")), filas);
+	}
+
+	@Test
+	void distingueCampoVacioDeComillasVacias() throws IOException {
+		List<String> fila = leerTodo("a,,\"\"\r\n").get(0);
+
+		assertEquals("a", fila.get(0));
+		assertNull(fila.get(1));
+		assertEquals("", fila.get(2));
+	}
+
+	@Test
+	void rechazaComillasSinCerrar() throws IOException {
+		try (LectorCsv lector = lector("a,\"sin cerrar\r\n")) {
+			assertThrows(IllegalStateException.class, lector::leer);
+		}
+	}
+
+	private static List<List<String>> leerTodo(String csv) throws IOException {
+		List<List<String>> filas = new ArrayList<>();
+		try (LectorCsv lector = lector(csv)) {
+			for (List<String> fila = lector.leer(); fila != null; fila = lector.leer()) {
+				filas.add(fila);
+			}
+		}
+		return filas;
+	}
+
+	private static LectorCsv lector(String csv) throws IOException {
+		return new LectorCsv(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+	}
+}
@@ -0,0 +1,76 @@
+/**
+ * @file: MapaLargosTest.java
+ * @author: (c) 2026 Rodriguez
+ * @created: 19 oct. 2026 18:40:12
+ */
+package com.equipo02.hotel.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compara MapaLargos con un HashMap, con claves que chocan en la misma posición y borrados que
+ * obligan a desplazar las entradas siguientes.
+ */
+class MapaLargosTest {
+
+	@Test
+	void devuelveElValorAusenteSiLaClaveNoEsta() {
+		MapaLargos mapa = new MapaLargos();
+		mapa.put(7, 70);
+
+		assertEquals(70, mapa.get(7, -1));
+		assertEquals(-1, mapa.get(8, -1));
+		assertTrue(mapa.contiene(7));
+		assertFalse(mapa.contiene(8));
+	}
+
+	@Test
+	void reemplazarNoCambiaElTamano() {
+		MapaLargos mapa = new MapaLargos();
+		mapa.put(7, 70);
+		mapa.put(7, 71);
+
+		assertEquals(1, mapa.size());
+		assertEquals(71, mapa.get(7, -1));
+	}
+
+	@Test
+	void rechazaLaClaveCero() {
+		MapaLargos mapa = new MapaLargos();
+
+		assertThrows(IllegalArgumentException.class, () -> mapa.put(0, 1));
+	}
+
+	@Test
+	void coincideConUnHashMapEnOperacionesAleatorias() {
+		Random azar = new Random(5);
+		MapaLargos mapa = new MapaLargos(4);
+		Map<Long, Long> modelo = new HashMap<>();
+		for (int i = 0; i < 200_000; i++) {
+			// Múltiplos de 1024 para que muchas claves compartan posición.
+			long clave = azar.nextBoolean() ? 1 + azar.nextInt(5_000) : 1024L * (1 + azar.nextInt(300));
+			if (azar.nextInt(3) == 0) {
+				assertEquals(modelo.remove(clave) != null, mapa.remove(clave));
+			} else {
+				long valor = azar.nextLong();
+				mapa.put(clave, valor);
+				modelo.put(clave, valor);
+			}
+		}
+
+		assertEquals(modelo.size(), mapa.size());
+		for (long clave = 1; clave <= 1024L * 300; clave++) {
+			Long esperado = modelo.get(clave);
+			assertEquals(esperado == null ? Long.MIN_VALUE : esperado, mapa.get(clave, Long.MIN_VALUE));
+		}
+	}
+}
@@ -0,0 +1,109 @@
+/**
+ * @file: TarifaCompiladaTest.java
+ * @author: (c)2026 Cueva
+ * @created: 19 oct 2026, 19:20:14
+ */
+package com.equipo02.hotel.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.equipo02.hotel.domain.ReglaTarifa;
+import com.equipo02.hotel.domain.TipoReglaTarifa;
+
+/**
+ * Comprueba los factores de TarifaCompilada y que CalendarioPrecios da lo mismo dentro y fuera
+ * del horizonte precalculado.
+ */
+class TarifaCompiladaTest {
+
+	private static final int ORIGEN = Fechas.aDia(LocalDate.of(2026, 6, 1));
+
+	/** Verano +20 %, sábados +10 %, 3 noches -5 % y 7 noches -10 %. */
+	static final List<ReglaTarifa> REGLAS = List.of(
+			regla(1L, TipoReglaTarifa.TEMPORADA, LocalDate.of(2026, 7, 1), LocalDate.of(2026, 8, 31), null, null, "20"),
+			regla(2L, TipoReglaTarifa.DIA_SEMANA, null, null, 6, null, "10"),
+			regla(3L, TipoReglaTarifa.ESTADIA, null, null, null, 3, "-5"),
+			regla(4L, TipoReglaTarifa.ESTADIA, null, null, null, 7, "-10"));
+
+	@Test
+	void combinaTemporadaYDiaDeLaSemana() {
+		TarifaCompilada tarifa = new TarifaCompilada(REGLAS, ORIGEN, 120);
+
+		assertEquals(1_000_000, tarifa.factor(dia(2026, 6, 30)));
+		assertEquals(1_100_000, tarifa.factor(dia(2026, 6, 27)));
+		assertEquals(1_200_000, tarifa.factor(dia(2026, 7, 3)));
+		assertEquals(1_320_000, tarifa.factor(dia(2026, 7, 4)));
+		assertEquals(1_100_000, tarifa.factor(dia(2026, 9, 5)));
+	}
+
+	@Test
+	void aplicaLaReglaDeEstadiaConMasNochesQueSeCumpla() {
+		TarifaCompilada tarifa = new TarifaCompilada(REGLAS, ORIGEN, 120);
+
+		assertEquals(0, tarifa.ajusteEstadia(2));
+		assertEquals(-500, tarifa.ajusteEstadia(3));
+		assertEquals(-500, tarifa.ajusteEstadia(6));
+		assertEquals(-1_000, tarifa.ajusteEstadia(30));
+	}
+
+	@Test
+	void elFactorPrecalculadoCoincideConElCalculado() {
+		TarifaCompilada precalculada = new TarifaCompilada(REGLAS, ORIGEN, 120);
+		TarifaCompilada sinHorizonte = new TarifaCompilada(REGLAS, ORIGEN, 0);
+
+		for (int dia = ORIGEN - 30; dia < ORIGEN + 150; dia++) {
+			assertEquals(sinHorizonte.factor(dia), precalculada.factor(dia), Fechas.aLocalDate(dia).toString());
+		}
+	}
+
+	@Test
+	void totalDeUnaEstadiaConDescuento() {
+		CalendarioPrecios calendario = new CalendarioPrecios(1L, "DOBLE", 10_000, new TarifaCompilada(REGLAS, ORIGEN, 120));
+
+		// Jueves y viernes a 120 €, sábado a 132 €, menos un 5 % por tres noches.
+		assertEquals(37_200, calendario.subtotal(dia(2026, 7, 2), dia(2026, 7, 5)));
+		assertEquals(-1_860, calendario.ajusteEstadia(37_200, 3));
+		assertEquals(35_340, calendario.total(dia(2026, 7, 2), dia(2026, 7, 5)));
+	}
+
+	@Test
+	void elSubtotalCoincideNocheANocheDentroYFueraDelHorizonte() {
+		TarifaCompilada tarifa = new TarifaCompilada(REGLAS, ORIGEN, 120);
+		CalendarioPrecios calendario = new CalendarioPrecios(1L, "DOBLE", 8_999, tarifa);
+		Random azar = new Random(8);
+		for (int i = 0; i < 2_000; i++) {
+			int desde = ORIGEN - 20 + azar.nextInt(170);
+			int hasta = desde + 1 + azar.nextInt(30);
+			long esperado = 0;
+			for (int dia = desde; dia < hasta; dia++) {
+				esperado += TarifaCompilada.precioNoche(8_999, tarifa.factor(dia));
+			}
+			assertEquals(esperado, calendario.subtotal(desde, hasta));
+		}
+	}
+
+	private static int dia(int anio, int mes, int dia) {
+		return Fechas.aDia(LocalDate.of(anio, mes, dia));
+	}
+
+	private static ReglaTarifa regla(Long id, TipoReglaTarifa clase, LocalDate desde, LocalDate hasta,
+			Integer diaSemana, Integer minNoches, String porcentaje) {
+		ReglaTarifa regla = new ReglaTarifa();
+		regla.setIdRegla(id);
+		regla.setTipo("DOBLE");
+		regla.setClase(clase);
+		regla.setFechaDesde(desde);
+		regla.setFechaHasta(hasta);
+		regla.setDiaSemana(diaSemana);
+		regla.setMinNoches(minNoches);
+		regla.setPorcentaje(new BigDecimal(porcentaje));
+		return regla;
+	}
+}